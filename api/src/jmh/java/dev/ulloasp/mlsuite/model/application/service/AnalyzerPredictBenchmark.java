@@ -0,0 +1,78 @@
+package dev.ulloasp.mlsuite.model.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import dev.ulloasp.mlsuite.model.domain.model.Model;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Non-resident prediction: the model binary and the JSON row are encoded into a multipart body and written to an
+ * in-memory request, so the number covers body construction and encoding without any network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnalyzerPredictBenchmark {
+
+    private static final byte[] RESPONSE = "{\"prediction\":[1],\"probabilities\":[[0.27,0.73]]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({ "65536", "4194304" })
+    public int modelBytes;
+
+    private AnalyzerServiceImpl service;
+    private Model model;
+    private Map<String, Object> row;
+
+    @Setup
+    public void setUp() {
+        RestTemplate restTemplate = new RestTemplate((uri, method) -> {
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            MockClientHttpResponse response = new MockClientHttpResponse(RESPONSE, HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.setResponse(response);
+            return request;
+        });
+        PredictionCache disabledCache = new PredictionCache(null, null, new SimpleMeterRegistry(), false, 0,
+                Duration.ZERO, false, Duration.ZERO);
+        service = new AnalyzerServiceImpl(restTemplate, null, null, null, null,
+                Jackson2ObjectMapperBuilder.json().build(), null, disabledCache);
+        ReflectionTestUtils.setField(service, "analyzerUrl", "http://analyzer.local");
+
+        byte[] binary = new byte[modelBytes];
+        new Random(7).nextBytes(binary);
+        model = new Model();
+        model.setModelFile(binary);
+
+        row = new LinkedHashMap<>();
+        for (int i = 0; i < 30; i++) {
+            row.put("feature_" + i, i % 3 == 0 ? "category_" + i : i * 1.25);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> predictMultipart() {
+        return service.predict(model, row);
+    }
+}
@@ -0,0 +1,49 @@
+package dev.ulloasp.mlsuite.plugin.application.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Descriptor detection over plugin sources of growing size; every source is scanned once whatever its type. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PluginDescriptorBenchmark {
+
+    private static final String HELPER = """
+            function clamp(value: number, min: number, max: number): number {
+                return Math.min(Math.max(value, min), max);
+            }
+            const format = (value: number) => new Intl.NumberFormat("en", { maximumFractionDigits: 2 }).format(value);
+            """;
+
+    @Param({ "field", "report", "invalid" })
+    public String type;
+
+    @Param({ "1", "64" })
+    public int helpers;
+
+    private String source;
+
+    @Setup
+    public void setUp() {
+        String definition = switch (type) {
+            case "field" -> "export default defineFieldKind({ kind: \"risk-slider\", render: (props) => props });\n";
+            case "report" -> "export default defineReportKind({ kind: \"risk-summary\", render: (props) => props });\n";
+            default -> "export default { kind: \"not-a-plugin\" };\n";
+        };
+        source = HELPER.repeat(helpers) + definition;
+    }
+
+    @Benchmark
+    public PluginDescriptor describe() {
+        return PluginDescriptorScanner.scan(source);
+    }
+}
@@ -0,0 +1,71 @@
+package dev.ulloasp.mlsuite.schema.application.dto;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionResultStatus;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionRunStatus;
+
+/** JSON round trip of a prediction run with one result per model, using Spring Boot's default Jackson setup. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PredictionRunDtoJsonBenchmark {
+
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.of(2025, 6, 1, 10, 30, 0, 0, ZoneOffset.UTC);
+
+    @Param({ "1", "20" })
+    public int models;
+
+    private ObjectMapper objectMapper;
+    private PredictionRunDto run;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Map<String, Object> input = new LinkedHashMap<>();
+        for (int i = 0; i < 30; i++) {
+            input.put("feature_" + i, i % 3 == 0 ? "category_" + i : i * 1.25);
+        }
+        List<PredictionResultDto> results = new ArrayList<>();
+        for (long modelId = 1; modelId <= models; modelId++) {
+            Map<String, Object> output = Map.of(
+                    "prediction", List.of(modelId % 2),
+                    "probabilities", List.of(List.of(0.27, 0.73)),
+                    "classes", List.of(0, 1));
+            results.add(new PredictionResultDto(modelId, 500L, modelId, input, output,
+                    PredictionResultStatus.SUCCESS, null, null, CREATED_AT));
+        }
+        run = new PredictionRunDto(500L, 12L, "Nightly scoring", input, PredictionRunStatus.SUCCESS, results,
+                CREATED_AT, CREATED_AT);
+        json = objectMapper.writeValueAsBytes(run);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(run);
+    }
+
+    @Benchmark
+    public PredictionRunDto deserialize() throws Exception {
+        return objectMapper.readValue(json, PredictionRunDto.class);
+    }
+}
@@ -0,0 +1,57 @@
+package dev.ulloasp.mlsuite.schema.review.application.service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.env.MockEnvironment;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchemaReviewLinkTokenBenchmark {
+
+    private static final OffsetDateTime EXPIRES = OffsetDateTime.of(2030, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private SchemaReviewLinkTokenService service;
+    private SchemaReviewLinkTokenPayload linkPayload;
+    private SchemaReviewRunTokenPayload runPayload;
+    private String linkToken;
+    private String runToken;
+
+    @Setup
+    public void setUp() {
+        service = new SchemaReviewLinkTokenService(new MockEnvironment());
+        linkPayload = new SchemaReviewLinkTokenPayload(1, 42L, 7L, 13L, 99L, EXPIRES, "3f1c2a9b8d7e6f50");
+        runPayload = new SchemaReviewRunTokenPayload(1, 42L, 1234L, EXPIRES);
+        linkToken = service.encrypt(linkPayload);
+        runToken = service.encrypt(runPayload);
+    }
+
+    @Benchmark
+    public String encryptLink() {
+        return service.encrypt(linkPayload);
+    }
+
+    @Benchmark
+    public SchemaReviewLinkTokenPayload decryptLink() {
+        return service.decrypt(linkToken);
+    }
+
+    @Benchmark
+    public String encryptRun() {
+        return service.encrypt(runPayload);
+    }
+
+    @Benchmark
+    public SchemaReviewRunTokenPayload decryptRun() {
+        return service.decryptRun(runToken);
+    }
+}
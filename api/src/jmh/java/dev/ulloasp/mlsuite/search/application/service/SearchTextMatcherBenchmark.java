@@ -0,0 +1,47 @@
+package dev.ulloasp.mlsuite.search.application.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dev.ulloasp.mlsuite.search.application.service.SearchTextMatcher.SearchTextQuery;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchTextMatcherBenchmark {
+
+    @Param({ "credit", "Crédit Risk scoring", "xgbClassifierV2" })
+    public String raw;
+
+    private SearchTextQuery query;
+
+    @Setup
+    public void setUp() {
+        query = SearchTextMatcher.parse(raw);
+    }
+
+    @Benchmark
+    public SearchTextQuery parse() {
+        return SearchTextMatcher.parse(raw);
+    }
+
+    @Benchmark
+    public int scoreHit() {
+        return SearchTextMatcher.score(query, "CreditRiskScoringModel", "credit-risk",
+                "Gradient boosted classifier for crédit risk scoring (xgbClassifierV2)");
+    }
+
+    @Benchmark
+    public int scoreMiss() {
+        return SearchTextMatcher.score(query, "ChurnForecast", "churn-forecast",
+                "Weekly churn forecast for the retail portfolio");
+    }
+}
@@ -0,0 +1,154 @@
+package dev.ulloasp.mlsuite.workspace.application.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
+import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationMembershipRepository;
+import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationRepository;
+import dev.ulloasp.mlsuite.organization.domain.model.MembershipStatus;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.organization.domain.model.OrganizationMembership;
+import dev.ulloasp.mlsuite.organization.domain.model.OrganizationRole;
+import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleDefinitionRepository;
+import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleSeedStateRepository;
+import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleTemplateRepository;
+import dev.ulloasp.mlsuite.role.application.service.LegacyRolePermissionMapper;
+import dev.ulloasp.mlsuite.role.application.service.RoleSeedService;
+import dev.ulloasp.mlsuite.role.domain.model.RoleDefinition;
+import dev.ulloasp.mlsuite.role.domain.model.RoleScope;
+import dev.ulloasp.mlsuite.security.identity.CurrentUserResolver;
+import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamMembershipRepository;
+import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamRepository;
+import dev.ulloasp.mlsuite.user.adapter.out.persistence.repository.UserRepository;
+import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
+import dev.ulloasp.mlsuite.user.domain.model.SystemRole;
+import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.workspace.application.dto.WorkspacePermissionsDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The real authorization graph (access, bootstrap and role seeding services) over stub repositories, so the number
+ * is the in-JVM work of one permission check. Every stubbed repository call stands for a database round trip in
+ * production, which this benchmark deliberately leaves out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkspaceAuthorizationBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final long ORGANIZATION_ID = 10L;
+
+    @Param({ "roleDefinition", "legacyRole" })
+    public String membership;
+
+    @Param({ "20" })
+    public int members;
+
+    /** "cold" disables the shared store, so every call runs the full lookup. */
+    @Param({ "cold", "cached" })
+    public String cache;
+
+    private WorkspaceAuthorizationService service;
+
+    @Setup
+    public void setUp() {
+        UserRepository userRepository = stub(UserRepository.class);
+        OrganizationRepository organizationRepository = stub(OrganizationRepository.class);
+        OrganizationMembershipRepository membershipRepository = stub(OrganizationMembershipRepository.class);
+        TeamRepository teamRepository = stub(TeamRepository.class);
+        TeamMembershipRepository teamMembershipRepository = stub(TeamMembershipRepository.class);
+        RoleDefinitionRepository roleDefinitionRepository = stub(RoleDefinitionRepository.class);
+        RoleTemplateRepository roleTemplateRepository = stub(RoleTemplateRepository.class);
+        RoleSeedStateRepository seedStateRepository = stub(RoleSeedStateRepository.class);
+        ModelRepository modelRepository = stub(ModelRepository.class);
+        LegacyRolePermissionMapper mapper = new LegacyRolePermissionMapper();
+        PermissionCache permissionCache = new PermissionCache(new SimpleMeterRegistry(),
+                "cached".equals(cache) ? 10_000 : 0, Duration.ofMinutes(5));
+
+        User user = user(USER_ID);
+        Organization organization = new Organization("acme", "Acme", "", null, user);
+        organization.setId(ORGANIZATION_ID);
+        user.setCurrentOrganization(organization);
+
+        for (OrganizationRole role : OrganizationRole.values()) {
+            RoleDefinition definition = new RoleDefinition(organization, null, RoleScope.ORGANIZATION, role.name(),
+                    role.name().toLowerCase(), role.name());
+            definition.setPermissions(mapper.organization(role));
+            when(roleDefinitionRepository.findByOrganizationIdAndSystemKey(ORGANIZATION_ID, role.name()))
+                    .thenReturn(Optional.of(definition));
+        }
+
+        OrganizationMembership current = new OrganizationMembership(organization, user, OrganizationRole.ADMIN,
+                MembershipStatus.ACTIVE);
+        if ("roleDefinition".equals(membership)) {
+            current.setRoleDefinition(roleDefinitionRepository
+                    .findByOrganizationIdAndSystemKey(ORGANIZATION_ID, OrganizationRole.ADMIN.name())
+                    .orElseThrow());
+        }
+        List<OrganizationMembership> active = new ArrayList<>(List.of(current));
+        for (long id = 2; id <= members; id++) {
+            OrganizationMembership other = new OrganizationMembership(organization, user(id),
+                    OrganizationRole.MEMBER, MembershipStatus.ACTIVE);
+            other.setRoleDefinition(current.getRoleDefinition());
+            active.add(other);
+        }
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(membershipRepository.findByOrganizationIdAndUserId(eq(ORGANIZATION_ID), eq(USER_ID)))
+                .thenReturn(Optional.of(current));
+        when(membershipRepository.findByOrganizationIdAndStatusOrderByCreatedAtAsc(ORGANIZATION_ID,
+                MembershipStatus.ACTIVE)).thenReturn(active);
+        when(roleDefinitionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        RoleSeedService roleSeedService = new RoleSeedService(organizationRepository, teamRepository,
+                membershipRepository, teamMembershipRepository, roleDefinitionRepository, roleTemplateRepository,
+                seedStateRepository, mapper, event -> {
+                });
+        WorkspaceBootstrapService bootstrapService = new WorkspaceBootstrapService(organizationRepository,
+                membershipRepository, userRepository, modelRepository, roleSeedService, event -> {
+                });
+        WorkspaceAccessService accessService = new WorkspaceAccessService(new UserLookupService(userRepository),
+                bootstrapService, organizationRepository, membershipRepository, teamRepository,
+                new CurrentUserResolver(new UserLookupService(userRepository)),
+                new UserContextVersions(Duration.ofMinutes(5)));
+        service = new WorkspaceAuthorizationService(accessService, membershipRepository, teamMembershipRepository,
+                roleDefinitionRepository, mapper, permissionCache);
+    }
+
+    @Benchmark
+    public WorkspacePermissionsDto workspacePermissions() {
+        return service.workspacePermissions(USER_ID, ORGANIZATION_ID);
+    }
+
+    private static User user(long id) {
+        User user = new User(
+                "user" + id, "user" + id + "@example.com", null, "User " + id, SystemRole.USER);
+        user.setId(id);
+        return user;
+    }
+
+    /** Stub-only mocks keep no invocation history, so millions of benchmark calls do not pile up in memory. */
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
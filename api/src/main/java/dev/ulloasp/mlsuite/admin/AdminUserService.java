@@ -2,6 +2,7 @@ package dev.ulloasp.mlsuite.admin;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +12,7 @@ import dev.ulloasp.mlsuite.user.domain.exception.UserAlreadyExistsException;
 import dev.ulloasp.mlsuite.user.domain.exception.UserDoesNotExistException;
 import dev.ulloasp.mlsuite.user.domain.model.SystemRole;
 import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceBootstrapService;
 
 @Service
@@ -20,14 +22,17 @@ public class AdminUserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final WorkspaceBootstrapService workspaceBootstrapService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AdminUserService(
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
-            WorkspaceBootstrapService workspaceBootstrapService) {
+            WorkspaceBootstrapService workspaceBootstrapService,
+            ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.workspaceBootstrapService = workspaceBootstrapService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<AdminUserDto> list() {
@@ -62,6 +67,9 @@ public class AdminUserService {
         if (request.username() != null && !request.username().isBlank()) {
             user.setUsername(request.username().trim());
         }
+        if (nextRole != user.getSystemRole()) {
+            eventPublisher.publishEvent(PermissionsChangedEvent.user(id));
+        }
         user.setSystemRole(nextRole);
         user.setEnabled(nextEnabled);
         return AdminUserDto.from(user);
@@ -0,0 +1,128 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Latency-driven concurrency limit in the style of TCP Vegas. The limit grows by one while the analyzer answers
+ * close to its best observed latency, shrinks by one when latency shows requests queueing inside it, and is cut
+ * multiplicatively when calls fail or time out. The limit never exceeds the lane's bulkhead.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    /** Share of in-flight calls estimated to be queueing below which the limit grows... */
+    private static final double ALPHA = 0.2;
+    /** ...and above which it shrinks. */
+    private static final double BETA = 0.5;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int MIN_RTT_WINDOW = 250;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private long minRttNanos = Long.MAX_VALUE;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.maxLimit = Math.max(maxLimit, 1);
+        this.minLimit = Math.max(Math.min(minLimit, this.maxLimit), 1);
+        this.limit = Math.max(Math.min(initialLimit, this.maxLimit), this.minLimit);
+    }
+
+    /** Takes a slot, waiting up to {@code maxWaitNanos}; false when the lane is saturated. */
+    boolean acquire(long maxWaitNanos) {
+        lock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = slotFreed.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Frees a slot without feeding a sample to the limit (the call never happened). */
+    void cancel() {
+        lock.lock();
+        try {
+            inFlight--;
+            slotFreed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(long rttNanos, boolean dropped) {
+        lock.lock();
+        try {
+            int wasInFlight = inFlight--;
+            if (dropped) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            } else {
+                update(rttNanos, wasInFlight);
+            }
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(long rttNanos, int wasInFlight) {
+        long rtt = Math.max(rttNanos, 1);
+        trackMinRtt(rtt);
+        // Vegas estimates the queue as limit * (1 - minRtt / rtt); comparing the share rather than the absolute
+        // count keeps the thresholds meaningful for the small limits analyzer lanes run with.
+        double queued = 1 - (double) minRttNanos / rtt;
+        if (queued >= BETA) {
+            limit = Math.max(minLimit, limit - 1);
+        } else if (queued <= ALPHA && wasInFlight * 2 >= limit) {
+            // Only grow when the current limit is actually being used.
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    /**
+     * The baseline is re-learned every {@value #MIN_RTT_WINDOW} samples so a permanently faster or slower analyzer
+     * (new hardware, bigger models) does not leave the limit anchored to stale latencies.
+     */
+    private void trackMinRtt(long rtt) {
+        minRttNanos = Math.min(minRttNanos, rtt);
+        windowMinRttNanos = Math.min(windowMinRttNanos, rtt);
+        if (++windowSamples >= MIN_RTT_WINDOW) {
+            minRttNanos = windowMinRttNanos;
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+    }
+}
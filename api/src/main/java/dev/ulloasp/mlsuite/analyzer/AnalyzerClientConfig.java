@@ -0,0 +1,53 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+@Configuration
+@EnableConfigurationProperties({ AnalyzerClientProperties.class, AnalyzerResilienceProperties.class })
+public class AnalyzerClientConfig {
+
+    public static final String REST_TEMPLATE = "analyzerRestTemplate";
+
+    @Bean(REST_TEMPLATE)
+    RestTemplate analyzerRestTemplate(RestTemplateBuilder builder, AnalyzerClientProperties properties,
+            AnalyzerResilience resilience, MeterRegistry meterRegistry) {
+        ConnectionPool pool = new ConnectionPool(properties.getMaxIdleConnections(),
+                properties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
+        OkHttpClient.Builder client = new OkHttpClient.Builder()
+                .connectionPool(pool)
+                .connectTimeout(properties.getConnectTimeout())
+                .readTimeout(properties.getReadTimeout())
+                .writeTimeout(properties.getWriteTimeout())
+                .retryOnConnectionFailure(true);
+        if (properties.isHttp2PriorKnowledge()) {
+            client.protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+        }
+
+        Gauge.builder("mlsuite.analyzer.client.connections", pool,
+                p -> p.connectionCount() - p.idleConnectionCount())
+                .tag("state", "active")
+                .register(meterRegistry);
+        Gauge.builder("mlsuite.analyzer.client.connections", pool, ConnectionPool::idleConnectionCount)
+                .tag("state", "idle")
+                .register(meterRegistry);
+
+        OkHttpRequestFactory requestFactory = new OkHttpRequestFactory(client.build(),
+                properties.getEndpointReadTimeouts(), resilience);
+        return builder
+                .requestFactory(() -> requestFactory)
+                .build();
+    }
+}
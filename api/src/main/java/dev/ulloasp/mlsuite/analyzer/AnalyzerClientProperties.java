@@ -0,0 +1,81 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "analyzer.client")
+public class AnalyzerClientProperties {
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    private Duration writeTimeout = Duration.ofSeconds(60);
+    private int maxIdleConnections = 16;
+    private Duration keepAlive = Duration.ofMinutes(5);
+    private boolean http2PriorKnowledge;
+    private final Map<String, Duration> endpointReadTimeouts = new LinkedHashMap<>(Map.of(
+            "explain", Duration.ofMinutes(5),
+            "build_schema", Duration.ofMinutes(2),
+            "match_artifacts", Duration.ofMinutes(2),
+            "inspect_artifact", Duration.ofMinutes(1),
+            "metadata", Duration.ofMinutes(1),
+            "models", Duration.ofMinutes(2)));
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Duration getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    public void setWriteTimeout(Duration writeTimeout) {
+        this.writeTimeout = writeTimeout;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(Duration keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public boolean isHttp2PriorKnowledge() {
+        return http2PriorKnowledge;
+    }
+
+    public void setHttp2PriorKnowledge(boolean http2PriorKnowledge) {
+        this.http2PriorKnowledge = http2PriorKnowledge;
+    }
+
+    /**
+     * Read timeouts keyed by analyzer endpoint (last path segment, or "models" for model registration). Endpoints
+     * not listed use {@link #getReadTimeout()}.
+     */
+    public Map<String, Duration> getEndpointReadTimeouts() {
+        return endpointReadTimeouts;
+    }
+}
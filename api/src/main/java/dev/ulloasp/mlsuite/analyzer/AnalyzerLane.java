@@ -0,0 +1,134 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/** One kind of analyzer traffic, guarded by its own circuit breaker, bulkhead and adaptive concurrency limit. */
+final class AnalyzerLane {
+
+    static final class Rejected extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long retryAfterSeconds;
+
+        Rejected(String message, long retryAfterSeconds) {
+            super(message, null, false, false);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        long retryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
+    /** A granted slot; exactly one of {@link #complete(int)} or {@link #fail()} takes effect. */
+    final class Permit {
+
+        private final CircuitBreaker.Admission admission;
+        private final long startedAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(CircuitBreaker.Admission admission, long startedAt) {
+            this.admission = admission;
+            this.startedAt = startedAt;
+        }
+
+        void complete(int status) {
+            release(status < 500);
+        }
+
+        void fail() {
+            release(false);
+        }
+
+        private void release(boolean success) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            long now = clock.getAsLong();
+            limiter.release(now - startedAt, !success);
+            breaker.record(admission, success, now);
+        }
+    }
+
+    private final String name;
+    private final CircuitBreaker breaker;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final long openSeconds;
+    private final LongSupplier clock;
+    private final Counter circuitRejections;
+    private final Counter limitRejections;
+
+    AnalyzerLane(String name, AnalyzerResilienceProperties.Lane config, MeterRegistry meterRegistry,
+            LongSupplier clock) {
+        this.name = name;
+        this.maxConcurrent = Math.max(config.getMaxConcurrent(), 1);
+        this.breaker = new CircuitBreaker(config.getFailureRateThreshold(), config.getSlidingWindowSize(),
+                config.getMinimumCalls(), config.getOpenDuration().toNanos(), config.getHalfOpenCalls());
+        this.limiter = new AdaptiveConcurrencyLimiter(config.getInitialLimit(), config.getMinLimit(),
+                maxConcurrent);
+        this.maxWaitNanos = config.getMaxWait().toNanos();
+        this.openSeconds = Math.max(config.getOpenDuration().toSeconds(), 1);
+        this.clock = clock;
+        this.circuitRejections = rejections(meterRegistry, "circuit_open");
+        this.limitRejections = rejections(meterRegistry, "limit");
+        Gauge.builder("mlsuite.analyzer.lane.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .tag("lane", name)
+                .register(meterRegistry);
+        Gauge.builder("mlsuite.analyzer.lane.inflight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .tag("lane", name)
+                .register(meterRegistry);
+        Gauge.builder("mlsuite.analyzer.lane.circuit", this, lane -> lane.circuitState().ordinal())
+                .tag("lane", name)
+                .description("0 closed, 1 half-open, 2 open")
+                .register(meterRegistry);
+    }
+
+    Permit acquire() throws Rejected {
+        CircuitBreaker.Admission admission = breaker.tryAcquire(clock.getAsLong());
+        if (admission == CircuitBreaker.Admission.REJECTED) {
+            circuitRejections.increment();
+            throw new Rejected("Analyzer " + name + " traffic is failing; circuit is open", openSeconds);
+        }
+        if (!limiter.acquire(maxWaitNanos)) {
+            breaker.cancel(admission);
+            limitRejections.increment();
+            throw new Rejected("Analyzer " + name + " traffic is at its concurrency limit", 1);
+        }
+        return new Permit(admission, clock.getAsLong());
+    }
+
+    String name() {
+        return name;
+    }
+
+    CircuitBreaker.State circuitState() {
+        return breaker.state(clock.getAsLong());
+    }
+
+    int limit() {
+        return limiter.limit();
+    }
+
+    int inFlight() {
+        return limiter.inFlight();
+    }
+
+    int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    private Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("mlsuite.analyzer.lane.rejected")
+                .tag("lane", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Resilience lanes for analyzer traffic. Uploads, schema builds, predictions and explanations each get their own
+ * lane, so a slow or failing kind of call is shed quickly without taking the others (or every Tomcat thread) with
+ * it.
+ */
+@Component
+public class AnalyzerResilience {
+
+    public record LaneState(String name, String circuit, int limit, int inFlight, int maxConcurrent) {
+    }
+
+    private final boolean enabled;
+    private final Map<String, String> endpointLanes;
+    private final Map<String, AnalyzerLane> lanes = new LinkedHashMap<>();
+
+    @Autowired
+    public AnalyzerResilience(AnalyzerResilienceProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    AnalyzerResilience(AnalyzerResilienceProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.enabled = properties.isEnabled();
+        this.endpointLanes = Map.copyOf(properties.getEndpointLanes());
+        for (String lane : properties.getLanes().keySet()) {
+            lanes.put(lane, new AnalyzerLane(lane, properties.lane(lane), meterRegistry, clock));
+        }
+        for (String lane : endpointLanes.values()) {
+            lanes.computeIfAbsent(lane, name -> new AnalyzerLane(name, properties.lane(name), meterRegistry, clock));
+        }
+        lanes.computeIfAbsent(AnalyzerResilienceProperties.DEFAULT_LANE,
+                name -> new AnalyzerLane(name, properties.lane(name), meterRegistry, clock));
+    }
+
+    /** Lane guarding an endpoint key (see {@link OkHttpRequestFactory#endpointKey}), or null when disabled. */
+    AnalyzerLane laneFor(String endpoint) {
+        if (!enabled) {
+            return null;
+        }
+        return lanes.get(endpointLanes.getOrDefault(endpoint, AnalyzerResilienceProperties.DEFAULT_LANE));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<LaneState> lanes() {
+        return lanes.values().stream()
+                .map(lane -> new LaneState(lane.name(), lane.circuitState().name().toLowerCase(), lane.limit(),
+                        lane.inFlight(), lane.maxConcurrent()))
+                .toList();
+    }
+}
@@ -0,0 +1,149 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "analyzer.resilience")
+public class AnalyzerResilienceProperties {
+
+    public static final String DEFAULT_LANE = "default";
+
+    private boolean enabled = true;
+    private final Map<String, String> endpointLanes = new LinkedHashMap<>(Map.of(
+            "predict", "predict",
+            "predict_batch", "predict",
+            "models", "upload",
+            "explain", "explain",
+            "build_schema", "schema",
+            "match_artifacts", "schema",
+            "inspect_artifact", "schema",
+            "metadata", "upload"));
+    private final Map<String, Lane> lanes = new LinkedHashMap<>(Map.of(
+            "predict", new Lane(32),
+            "explain", new Lane(4),
+            "schema", new Lane(8),
+            "upload", new Lane(8),
+            DEFAULT_LANE, new Lane(16)));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Lane of each analyzer endpoint (same keys as the per-endpoint read timeouts). Each lane has its own bulkhead,
+     * concurrency limit and circuit breaker, so one slow kind of traffic cannot starve the others. Endpoints not
+     * listed share the {@value #DEFAULT_LANE} lane.
+     */
+    public Map<String, String> getEndpointLanes() {
+        return endpointLanes;
+    }
+
+    public Map<String, Lane> getLanes() {
+        return lanes;
+    }
+
+    public Lane lane(String name) {
+        return lanes.getOrDefault(name, lanes.getOrDefault(DEFAULT_LANE, new Lane()));
+    }
+
+    public static class Lane {
+
+        /** Hard bulkhead: calls in flight never exceed this, whatever the adaptive limit says. */
+        private int maxConcurrent = 16;
+        private int initialLimit = 4;
+        private int minLimit = 1;
+        /** How long a call may wait for a slot before it is shed. */
+        private Duration maxWait = Duration.ofMillis(500);
+        private double failureRateThreshold = 0.5;
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+
+        public Lane() {
+        }
+
+        Lane(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public double getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public int getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public int getHalfOpenCalls() {
+            return halfOpenCalls;
+        }
+
+        public void setHalfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+/**
+ * Count-based circuit breaker. Opens when the failure rate over the last calls crosses the threshold, rejects
+ * everything while open, then lets a few probe calls through; the circuit closes only if all of them succeed.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    /** Outcome of {@link #tryAcquire(long)}. */
+    enum Admission {
+        REJECTED, ADMITTED, PROBE
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final boolean[] window;
+    private int windowIndex;
+    private int recorded;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(double failureRateThreshold, int slidingWindowSize, int minimumCalls, long openNanos,
+            int halfOpenCalls) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[Math.max(slidingWindowSize, 1)];
+        this.minimumCalls = Math.max(Math.min(minimumCalls, window.length), 1);
+        this.openNanos = openNanos;
+        this.halfOpenCalls = Math.max(halfOpenCalls, 1);
+    }
+
+    synchronized Admission tryAcquire(long now) {
+        if (state == State.OPEN) {
+            if (now - openedAt < openNanos) {
+                return Admission.REJECTED;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenCalls) {
+                return Admission.REJECTED;
+            }
+            probesInFlight++;
+            return Admission.PROBE;
+        }
+        return Admission.ADMITTED;
+    }
+
+    /** Gives back an admission that never turned into a call. */
+    synchronized void cancel(Admission admission) {
+        if (admission == Admission.PROBE && state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    synchronized void record(Admission admission, boolean success, long now) {
+        if (admission == Admission.PROBE) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            probesInFlight--;
+            if (!success) {
+                open(now);
+            } else if (++probeSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            // Calls admitted before the circuit opened carry no new information.
+            return;
+        }
+        if (recorded == window.length && window[windowIndex]) {
+            failures--;
+        }
+        window[windowIndex] = !success;
+        if (!success) {
+            failures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+        recorded = Math.min(recorded + 1, window.length);
+        if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+            open(now);
+        }
+    }
+
+    synchronized State state(long now) {
+        if (state == State.OPEN && now - openedAt >= openNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openedAt = now;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        failures = 0;
+        windowIndex = 0;
+    }
+}
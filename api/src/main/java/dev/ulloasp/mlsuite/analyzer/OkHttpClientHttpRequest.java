@@ -0,0 +1,156 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+/**
+ * Streams the body straight into the connection when the message converter supports it (multipart and resources
+ * do), so uploads are never copied into memory. Converters that only write to {@link #getBody()} are buffered.
+ * When the endpoint has a resilience lane, the call holds one of its permits until the response is closed.
+ */
+class OkHttpClientHttpRequest implements ClientHttpRequest, StreamingHttpOutputMessage {
+
+    private final OkHttpClient client;
+    private final AnalyzerLane lane;
+    private final HttpMethod method;
+    private final URI uri;
+    private final HttpHeaders headers = new HttpHeaders();
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private ByteArrayOutputStream bufferedBody;
+    private Body streamingBody;
+
+    OkHttpClientHttpRequest(OkHttpClient client, AnalyzerLane lane, HttpMethod method, URI uri) {
+        this.client = client;
+        this.lane = lane;
+        this.method = method;
+        this.uri = uri;
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    @Override
+    public URI getURI() {
+        return uri;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public OutputStream getBody() {
+        if (bufferedBody == null) {
+            bufferedBody = new ByteArrayOutputStream(1024);
+        }
+        return bufferedBody;
+    }
+
+    @Override
+    public void setBody(Body body) {
+        this.streamingBody = body;
+    }
+
+    @Override
+    public ClientHttpResponse execute() throws IOException {
+        Request.Builder request = new Request.Builder().url(uri.toURL());
+        headers.forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                values.forEach(value -> request.addHeader(name, value));
+            }
+        });
+        request.method(method.name(), requestBody());
+        if (lane == null) {
+            return new OkHttpClientHttpResponse(client.newCall(request.build()).execute(), null);
+        }
+
+        AnalyzerLane.Permit permit;
+        try {
+            permit = lane.acquire();
+        } catch (AnalyzerLane.Rejected rejection) {
+            return new RejectedClientHttpResponse(rejection);
+        }
+        try {
+            return new OkHttpClientHttpResponse(client.newCall(request.build()).execute(), permit);
+        } catch (IOException | RuntimeException ex) {
+            permit.fail();
+            throw ex;
+        }
+    }
+
+    private RequestBody requestBody() {
+        MediaType contentType = headers.getContentType() == null
+                ? null
+                : MediaType.parse(headers.getContentType().toString());
+        if (streamingBody != null) {
+            return new StreamingRequestBody(streamingBody, contentType, headers.getContentLength());
+        }
+        if (bufferedBody != null) {
+            return RequestBody.create(bufferedBody.toByteArray(), contentType);
+        }
+        return requiresBody() ? RequestBody.create(new byte[0], contentType) : null;
+    }
+
+    private boolean requiresBody() {
+        return List.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH).contains(method);
+    }
+
+    private static final class StreamingRequestBody extends RequestBody {
+
+        private final Body body;
+        private final MediaType contentType;
+        private final long contentLength;
+
+        StreamingRequestBody(Body body, MediaType contentType, long contentLength) {
+            this.body = body;
+            this.contentType = contentType;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return contentType;
+        }
+
+        @Override
+        public long contentLength() {
+            return contentLength;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return !body.repeatable();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            body.writeTo(StreamUtils.nonClosing(sink.outputStream()));
+        }
+    }
+}
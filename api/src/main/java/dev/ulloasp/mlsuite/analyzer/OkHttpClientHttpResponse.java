@@ -0,0 +1,54 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+import okhttp3.Response;
+
+class OkHttpClientHttpResponse implements ClientHttpResponse {
+
+    private final Response response;
+    private final AnalyzerLane.Permit permit;
+    private HttpHeaders headers;
+
+    OkHttpClientHttpResponse(Response response, AnalyzerLane.Permit permit) {
+        this.response = response;
+        this.permit = permit;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return HttpStatusCode.valueOf(response.code());
+    }
+
+    @Override
+    public String getStatusText() {
+        return response.message();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        if (headers == null) {
+            HttpHeaders copy = new HttpHeaders();
+            response.headers().forEach(header -> copy.add(header.getFirst(), header.getSecond()));
+            headers = HttpHeaders.readOnlyHttpHeaders(copy);
+        }
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+        return response.body().byteStream();
+    }
+
+    @Override
+    public void close() {
+        response.close();
+        if (permit != null) {
+            permit.complete(response.code());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import okhttp3.OkHttpClient;
+
+/**
+ * {@link ClientHttpRequestFactory} on a shared OkHttp client. Every endpoint with its own read timeout gets a
+ * derived client, which still shares the connection pool and dispatcher of the base one; calls go through the
+ * endpoint's {@link AnalyzerResilience} lane.
+ */
+class OkHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final OkHttpClient client;
+    private final Map<String, Duration> endpointReadTimeouts;
+    private final AnalyzerResilience resilience;
+    private final ConcurrentHashMap<String, OkHttpClient> endpointClients = new ConcurrentHashMap<>();
+
+    OkHttpRequestFactory(OkHttpClient client, Map<String, Duration> endpointReadTimeouts,
+            AnalyzerResilience resilience) {
+        this.client = client;
+        this.endpointReadTimeouts = Map.copyOf(endpointReadTimeouts);
+        this.resilience = resilience;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new OkHttpClientHttpRequest(clientFor(uri), resilience.laneFor(endpointKey(uri)), httpMethod, uri);
+    }
+
+    OkHttpClient clientFor(URI uri) {
+        String endpoint = endpointKey(uri);
+        Duration readTimeout = endpointReadTimeouts.get(endpoint);
+        if (readTimeout == null) {
+            return client;
+        }
+        return endpointClients.computeIfAbsent(endpoint,
+                key -> client.newBuilder().readTimeout(readTimeout).build());
+    }
+
+    /** "/explain" and "/models/{handle}/explain" map to "explain"; "/models/{handle}" maps to "models". */
+    static String endpointKey(URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath();
+        String[] segments = path.replaceAll("^/+|/+$", "").split("/+");
+        int last = segments.length - 1;
+        if (last >= 1 && "models".equals(segments[last - 1])) {
+            return "models";
+        }
+        return segments[last];
+    }
+}
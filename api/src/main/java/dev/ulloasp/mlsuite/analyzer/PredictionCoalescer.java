@@ -0,0 +1,195 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import dev.ulloasp.mlsuite.model.domain.exception.AnalyzerServiceException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Coalesces concurrent single-row predictions for the same model into one vectorized analyzer call. Rows are
+ * collected for a short window or until the batch is full, then the batch is sent and each caller gets its own row
+ * back. Rows the batch could not answer, and every row of a batch that failed on a bad row or an inference error,
+ * are retried alone so callers still see their own error; when the whole batch is refused for reasons that are not
+ * about its rows (unreachable analyzer, overload, a lane shedding the call) every row fails with that error instead,
+ * so an overload is never multiplied into one call per row.
+ */
+@Component
+public class PredictionCoalescer {
+
+    @FunctionalInterface
+    public interface BatchCall {
+        /** Returns one result per payload, in order; a null entry means the row must be retried alone. */
+        List<Map<String, Object>> predict(List<String> payloads);
+    }
+
+    @FunctionalInterface
+    public interface SingleCall {
+        Map<String, Object> predict(String payload);
+    }
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSizes;
+    private final Map<String, Batch> open = new HashMap<>();
+    private final ScheduledExecutorService timer;
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PredictionCoalescer(
+            @Value("${analyzer.coalescing.enabled:true}") boolean enabled,
+            @Value("${analyzer.coalescing.window:3ms}") Duration window,
+            @Value("${analyzer.coalescing.max-batch-size:64}") int maxBatchSize,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled && maxBatchSize > 1;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizes = DistributionSummary.builder("mlsuite.analyzer.coalescer.batch.size")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("prediction-coalescer")
+                .daemon()
+                .factory());
+    }
+
+    public Map<String, Object> submit(String key, String payload, BatchCall batchCall, SingleCall singleCall) {
+        if (!enabled) {
+            return singleCall.predict(payload);
+        }
+
+        Pending pending = new Pending(payload);
+        Batch full = null;
+        synchronized (open) {
+            Batch batch = open.get(key);
+            if (batch == null) {
+                batch = new Batch(batchCall, singleCall);
+                open.put(key, batch);
+                Batch scheduled = batch;
+                timer.schedule(() -> flush(key, scheduled), windowNanos, TimeUnit.NANOSECONDS);
+            }
+            batch.rows.add(pending);
+            if (batch.rows.size() >= maxBatchSize) {
+                open.remove(key);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return await(pending.result);
+    }
+
+    private void flush(String key, Batch batch) {
+        synchronized (open) {
+            if (!open.remove(key, batch)) {
+                return;
+            }
+        }
+        dispatcher.execute(() -> dispatch(batch));
+    }
+
+    private void dispatch(Batch batch) {
+        List<Pending> rows = batch.rows;
+        batchSizes.record(rows.size());
+        if (rows.size() == 1) {
+            predictAlone(batch, rows.getFirst());
+            return;
+        }
+
+        List<Map<String, Object>> results;
+        try {
+            results = batch.batchCall.predict(rows.stream().map(Pending::payload).toList());
+        } catch (AnalyzerServiceException ex) {
+            if (!isRowSpecific(ex)) {
+                rows.forEach(row -> row.result.completeExceptionally(ex));
+                return;
+            }
+            results = null;
+        } catch (RuntimeException ex) {
+            results = null;
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, Object> result = results != null && i < results.size() ? results.get(i) : null;
+            if (result != null) {
+                rows.get(i).result.complete(result);
+            } else {
+                predictAlone(batch, rows.get(i));
+            }
+        }
+    }
+
+    /**
+     * Whether one bad row may have caused the failure. Client errors may, and so may a 500: the analyzer answers
+     * "Error during inference" when the values of a single row break the model. An unreachable analyzer (0), a
+     * timeout (408, 504), overload (429) and the gateway errors (502, 503, the latter also what a lane answers
+     * locally when it sheds a call) are about the call rather than its rows.
+     */
+    private static boolean isRowSpecific(AnalyzerServiceException ex) {
+        return switch (ex.getStatus()) {
+            case 0, 408, 429, 502, 503, 504 -> false;
+            default -> ex.getStatus() >= 400;
+        };
+    }
+
+    private void predictAlone(Batch batch, Pending row) {
+        try {
+            row.result.complete(batch.singleCall.predict(row.payload));
+        } catch (RuntimeException ex) {
+            row.result.completeExceptionally(ex);
+        }
+    }
+
+    private Map<String, Object> await(CompletableFuture<Map<String, Object>> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(ex.getCause());
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        timer.shutdownNow();
+        dispatcher.close();
+    }
+
+    private record Pending(String payload, CompletableFuture<Map<String, Object>> result) {
+        Pending(String payload) {
+            this(payload, new CompletableFuture<>());
+        }
+    }
+
+    private static final class Batch {
+        private final BatchCall batchCall;
+        private final SingleCall singleCall;
+        private final List<Pending> rows = new ArrayList<>();
+
+        private Batch(BatchCall batchCall, SingleCall singleCall) {
+            this.batchCall = batchCall;
+            this.singleCall = singleCall;
+        }
+    }
+}
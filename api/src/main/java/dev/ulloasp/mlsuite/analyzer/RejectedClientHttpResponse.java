@@ -0,0 +1,57 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+/**
+ * 503 answered locally when a lane sheds a call. It is shaped like a FastAPI error so callers surface it through
+ * the usual {@code AnalyzerServiceException} path, with the lane's reason as the detail.
+ */
+final class RejectedClientHttpResponse implements ClientHttpResponse {
+
+    private final HttpHeaders headers = new HttpHeaders();
+    private final byte[] body;
+
+    RejectedClientHttpResponse(AnalyzerLane.Rejected rejection) {
+        this.body = JsonNodeFactory.instance.objectNode()
+                .put("detail", rejection.getMessage())
+                .toString()
+                .getBytes(StandardCharsets.UTF_8);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(body.length);
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(rejection.retryAfterSeconds()));
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+
+    @Override
+    public String getStatusText() {
+        return HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    @Override
+    public InputStream getBody() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -7,9 +7,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import dev.ulloasp.mlsuite.audit.application.dto.AuditEventDto;
+import dev.ulloasp.mlsuite.audit.application.dto.AuditEventPageDto;
 import dev.ulloasp.mlsuite.audit.application.port.in.AuditLogUseCase;
 import dev.ulloasp.mlsuite.security.identity.CurrentUserResolver;
 
@@ -31,4 +33,19 @@ public class AuditLogController {
                 currentUserResolver.resolve(authentication).userId(),
                 organizationId));
     }
+
+    @GetMapping("/page")
+    ResponseEntity<AuditEventPageDto> page(
+            Authentication authentication,
+            @PathVariable Long organizationId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "50") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(auditLogUseCase.page(
+                currentUserResolver.resolve(authentication).userId(),
+                organizationId,
+                cursor,
+                size,
+                includeTotal));
+    }
 }
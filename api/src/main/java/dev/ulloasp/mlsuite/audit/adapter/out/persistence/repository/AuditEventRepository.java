@@ -1,8 +1,11 @@
 package dev.ulloasp.mlsuite.audit.adapter.out.persistence.repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import dev.ulloasp.mlsuite.audit.domain.model.AuditEvent;
@@ -11,4 +14,32 @@ import dev.ulloasp.mlsuite.audit.domain.model.AuditEvent;
 public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
 
     List<AuditEvent> findTop20ByOrganizationIdOrderByCreatedAtDesc(Long organizationId);
+
+    /** Keyset page, newest first, with the actor fetched in the same row. */
+    @Query("""
+            SELECT e FROM AuditEvent e
+            JOIN FETCH e.actor
+            WHERE e.organization.id = :organizationId
+            ORDER BY e.createdAt DESC, e.id DESC
+            """)
+    List<AuditEvent> findPageByOrganizationId(
+            Long organizationId,
+            Pageable limit);
+
+    /** The page after the row at {@code (afterCreatedAt, afterId)}; the row-value seek is an index bound. */
+    @Query("""
+            SELECT e FROM AuditEvent e
+            JOIN FETCH e.actor
+            WHERE e.organization.id = :organizationId
+            AND (e.createdAt, e.id) < (:afterCreatedAt, :afterId)
+            ORDER BY e.createdAt DESC, e.id DESC
+            """)
+    List<AuditEvent> findPageByOrganizationIdAfter(
+            Long organizationId,
+            OffsetDateTime afterCreatedAt,
+            Long afterId,
+            Pageable limit);
+
+    @Query("SELECT count(e) FROM AuditEvent e WHERE e.organization.id = :organizationId")
+    long countByOrganizationId(Long organizationId);
 }
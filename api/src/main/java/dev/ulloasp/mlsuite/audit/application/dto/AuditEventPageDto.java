@@ -0,0 +1,11 @@
+package dev.ulloasp.mlsuite.audit.application.dto;
+
+import java.util.List;
+
+public record AuditEventPageDto(
+        List<AuditEventDto> items,
+        int size,
+        Long totalItems,
+        boolean hasNext,
+        String nextCursor) {
+}
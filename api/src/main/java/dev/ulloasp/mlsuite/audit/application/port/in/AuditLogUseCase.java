@@ -3,8 +3,11 @@ package dev.ulloasp.mlsuite.audit.application.port.in;
 import java.util.List;
 
 import dev.ulloasp.mlsuite.audit.application.dto.AuditEventDto;
+import dev.ulloasp.mlsuite.audit.application.dto.AuditEventPageDto;
 
 public interface AuditLogUseCase {
 
     List<AuditEventDto> list(Long userId, Long organizationId);
+
+    AuditEventPageDto page(Long userId, Long organizationId, String cursor, int size, boolean includeTotal);
 }
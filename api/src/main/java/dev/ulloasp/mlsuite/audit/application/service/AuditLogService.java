@@ -2,15 +2,18 @@ package dev.ulloasp.mlsuite.audit.application.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import dev.ulloasp.mlsuite.audit.adapter.out.persistence.repository.AuditEventRepository;
 import dev.ulloasp.mlsuite.audit.application.dto.AuditEventDto;
+import dev.ulloasp.mlsuite.audit.application.dto.AuditEventPageDto;
 import dev.ulloasp.mlsuite.audit.application.port.in.AuditLogUseCase;
 import dev.ulloasp.mlsuite.audit.domain.model.AuditEvent;
 import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.util.KeysetCursor;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
 
@@ -45,4 +48,26 @@ public class AuditLogService implements AuditLogUseCase {
                 .map(AuditEventDto::from)
                 .toList();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AuditEventPageDto page(Long userId, Long organizationId, String cursor, int size, boolean includeTotal) {
+        authorizationService.requireOrganizationRead(userId, organizationId);
+        workspaceAccessService.requireUser(userId);
+        KeysetCursor after = KeysetCursor.decode(cursor, "created");
+        int pageSize = size <= 0 ? 50 : Math.min(size, 200);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<AuditEvent> rows = after == null
+                ? auditEventRepository.findPageByOrganizationId(organizationId, limit)
+                : auditEventRepository.findPageByOrganizationIdAfter(organizationId, after.timestampKey(), after.longId(),
+                        limit);
+        boolean hasNext = rows.size() > pageSize;
+        List<AuditEvent> items = hasNext ? rows.subList(0, pageSize) : rows;
+        return new AuditEventPageDto(
+                items.stream().map(AuditEventDto::from).toList(),
+                pageSize,
+                includeTotal ? auditEventRepository.countByOrganizationId(organizationId) : null,
+                hasNext,
+                hasNext ? KeysetCursor.after("created", items.getLast().getCreatedAt(), items.getLast().getId()).encode() : null);
+    }
 }
@@ -12,6 +12,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,9 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "audit_event")
+@Table(name = "audit_event", indexes = {
+        @Index(name = "idx_audit_event_org_created", columnList = "organization_id, created_at, id")
+})
 public class AuditEvent {
 
     public AuditEvent(Organization organization, User actor, String action, String targetType, String targetId, String metadata) {
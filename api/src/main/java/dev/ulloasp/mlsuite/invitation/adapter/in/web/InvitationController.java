@@ -9,11 +9,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import dev.ulloasp.mlsuite.invitation.application.dto.CreateInvitationRequest;
 import dev.ulloasp.mlsuite.invitation.application.dto.BulkInvitationRequest;
 import dev.ulloasp.mlsuite.invitation.application.dto.InvitationCandidateDto;
 import dev.ulloasp.mlsuite.invitation.application.dto.InvitationDto;
+import dev.ulloasp.mlsuite.invitation.application.dto.InvitationPageDto;
 import jakarta.validation.Valid;
 
 public interface InvitationController {
@@ -21,6 +23,14 @@ public interface InvitationController {
     @GetMapping("/api/organizations/{organizationId}/invitations")
     ResponseEntity<List<InvitationDto>> listInvitations(Authentication authentication, @PathVariable Long organizationId);
 
+    @GetMapping("/api/organizations/{organizationId}/invitations/page")
+    ResponseEntity<InvitationPageDto> getInvitationPage(
+            Authentication authentication,
+            @PathVariable Long organizationId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "50") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal);
+
     @GetMapping("/api/organizations/{organizationId}/invitation-candidates")
     ResponseEntity<List<InvitationCandidateDto>> listInvitationCandidates(
             Authentication authentication,
@@ -11,6 +11,7 @@ import dev.ulloasp.mlsuite.invitation.application.dto.CreateInvitationRequest;
 import dev.ulloasp.mlsuite.invitation.application.dto.BulkInvitationRequest;
 import dev.ulloasp.mlsuite.invitation.application.dto.InvitationCandidateDto;
 import dev.ulloasp.mlsuite.invitation.application.dto.InvitationDto;
+import dev.ulloasp.mlsuite.invitation.application.dto.InvitationPageDto;
 import dev.ulloasp.mlsuite.invitation.application.port.in.InvitationManagementUseCase;
 import dev.ulloasp.mlsuite.security.identity.CurrentUserResolver;
 
@@ -32,6 +33,21 @@ public class InvitationControllerImpl implements InvitationController {
         return ResponseEntity.ok(invitationManagementUseCase.listInvitations(currentUserResolver.resolve(authentication).userId(), organizationId));
     }
 
+    @Override
+    public ResponseEntity<InvitationPageDto> getInvitationPage(
+            Authentication authentication,
+            Long organizationId,
+            String cursor,
+            int size,
+            boolean includeTotal) {
+        return ResponseEntity.ok(invitationManagementUseCase.getInvitationPage(
+                currentUserResolver.resolve(authentication).userId(),
+                organizationId,
+                cursor,
+                size,
+                includeTotal));
+    }
+
     @Override
     public ResponseEntity<List<InvitationCandidateDto>> listInvitationCandidates(Authentication authentication, Long organizationId) {
         return ResponseEntity.ok(invitationManagementUseCase.listInvitationCandidates(
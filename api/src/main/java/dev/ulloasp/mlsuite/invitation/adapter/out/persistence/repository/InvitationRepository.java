@@ -1,9 +1,12 @@
 package dev.ulloasp.mlsuite.invitation.adapter.out.persistence.repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import dev.ulloasp.mlsuite.invitation.domain.model.Invitation;
@@ -14,6 +17,34 @@ public interface InvitationRepository extends JpaRepository<Invitation, Long> {
 
     List<Invitation> findByOrganizationIdOrderByCreatedAtDesc(Long organizationId);
 
+    List<Invitation> findByOrganizationIdOrderByCreatedAtDesc(Long organizationId, Pageable pageable);
+
+    /** Keyset page, newest first. */
+    @Query("""
+            SELECT i FROM Invitation i
+            WHERE i.organization.id = :organizationId
+            ORDER BY i.createdAt DESC, i.id DESC
+            """)
+    List<Invitation> findPageByOrganizationId(
+            Long organizationId,
+            Pageable limit);
+
+    /** The page after the row at {@code (afterCreatedAt, afterId)}; the row-value seek is an index bound. */
+    @Query("""
+            SELECT i FROM Invitation i
+            WHERE i.organization.id = :organizationId
+            AND (i.createdAt, i.id) < (:afterCreatedAt, :afterId)
+            ORDER BY i.createdAt DESC, i.id DESC
+            """)
+    List<Invitation> findPageByOrganizationIdAfter(
+            Long organizationId,
+            OffsetDateTime afterCreatedAt,
+            Long afterId,
+            Pageable limit);
+
+    @Query("SELECT count(i) FROM Invitation i WHERE i.organization.id = :organizationId")
+    long countByOrganizationId(Long organizationId);
+
     Optional<Invitation> findByToken(String token);
 
     List<Invitation> findByOrganizationIdAndStatus(Long organizationId, InvitationStatus status);
@@ -0,0 +1,11 @@
+package dev.ulloasp.mlsuite.invitation.application.dto;
+
+import java.util.List;
+
+public record InvitationPageDto(
+        List<InvitationDto> items,
+        int size,
+        Long totalItems,
+        boolean hasNext,
+        String nextCursor) {
+}
@@ -5,11 +5,14 @@ import java.util.List;
 import dev.ulloasp.mlsuite.invitation.application.dto.CreateInvitationRequest;
 import dev.ulloasp.mlsuite.invitation.application.dto.InvitationCandidateDto;
 import dev.ulloasp.mlsuite.invitation.application.dto.InvitationDto;
+import dev.ulloasp.mlsuite.invitation.application.dto.InvitationPageDto;
 
 public interface InvitationManagementUseCase {
 
     List<InvitationDto> listInvitations(Long userId, Long organizationId);
 
+    InvitationPageDto getInvitationPage(Long userId, Long organizationId, String cursor, int size, boolean includeTotal);
+
     List<InvitationCandidateDto> listInvitationCandidates(Long userId, Long organizationId);
 
     InvitationDto createInvitation(Long userId, Long organizationId, CreateInvitationRequest request);
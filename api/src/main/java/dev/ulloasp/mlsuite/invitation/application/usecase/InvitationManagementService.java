@@ -5,6 +5,8 @@ import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +14,7 @@ import dev.ulloasp.mlsuite.invitation.adapter.out.persistence.repository.Invitat
 import dev.ulloasp.mlsuite.invitation.application.dto.CreateInvitationRequest;
 import dev.ulloasp.mlsuite.invitation.application.dto.InvitationCandidateDto;
 import dev.ulloasp.mlsuite.invitation.application.dto.InvitationDto;
+import dev.ulloasp.mlsuite.invitation.application.dto.InvitationPageDto;
 import dev.ulloasp.mlsuite.invitation.application.port.in.InvitationManagementUseCase;
 import dev.ulloasp.mlsuite.invitation.domain.exception.InvitationNotFoundException;
 import dev.ulloasp.mlsuite.invitation.domain.model.Invitation;
@@ -21,6 +24,7 @@ import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleDefinitio
 import dev.ulloasp.mlsuite.role.application.service.RoleSeedService;
 import dev.ulloasp.mlsuite.role.domain.model.OrganizationSystemRole;
 import dev.ulloasp.mlsuite.role.domain.model.RoleDefinition;
+import dev.ulloasp.mlsuite.organization.application.event.OrganizationStatsChangedEvent;
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationMembershipRepository;
 import dev.ulloasp.mlsuite.organization.domain.model.MembershipStatus;
 import dev.ulloasp.mlsuite.organization.domain.model.Organization;
@@ -35,6 +39,8 @@ import dev.ulloasp.mlsuite.user.adapter.out.persistence.repository.UserRepositor
 import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
 import dev.ulloasp.mlsuite.user.domain.model.SystemRole;
 import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.util.KeysetCursor;
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
 
@@ -53,6 +59,7 @@ public class InvitationManagementService implements InvitationManagementUseCase
     private final RoleSeedService roleSeedService;
     private final RoleDefinitionRepository roleDefinitionRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public InvitationManagementService(
             WorkspaceAccessService workspaceAccessService,
@@ -65,7 +72,8 @@ public class InvitationManagementService implements InvitationManagementUseCase
             AuditLogService auditLogService,
             RoleSeedService roleSeedService,
             RoleDefinitionRepository roleDefinitionRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.workspaceAccessService = workspaceAccessService;
         this.invitationRepository = invitationRepository;
         this.teamRepository = teamRepository;
@@ -77,6 +85,7 @@ public class InvitationManagementService implements InvitationManagementUseCase
         this.roleSeedService = roleSeedService;
         this.roleDefinitionRepository = roleDefinitionRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -87,6 +96,27 @@ public class InvitationManagementService implements InvitationManagementUseCase
                 .toList();
     }
 
+    @Override
+    public InvitationPageDto getInvitationPage(Long userId, Long organizationId, String cursor, int size,
+            boolean includeTotal) {
+        workspaceAuthorizationService.requireInvitationManagement(userId, organizationId);
+        KeysetCursor after = KeysetCursor.decode(cursor, "created");
+        int pageSize = normalizePageSize(size);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Invitation> rows = after == null
+                ? invitationRepository.findPageByOrganizationId(organizationId, limit)
+                : invitationRepository.findPageByOrganizationIdAfter(organizationId, after.timestampKey(), after.longId(),
+                        limit);
+        boolean hasNext = rows.size() > pageSize;
+        List<Invitation> items = hasNext ? rows.subList(0, pageSize) : rows;
+        return new InvitationPageDto(
+                items.stream().map(InvitationDto::from).toList(),
+                pageSize,
+                includeTotal ? invitationRepository.countByOrganizationId(organizationId) : null,
+                hasNext,
+                hasNext ? KeysetCursor.after("created", items.getLast().getCreatedAt(), items.getLast().getId()).encode() : null);
+    }
+
     @Override
     public List<InvitationCandidateDto> listInvitationCandidates(Long userId, Long organizationId) {
         workspaceAuthorizationService.requireInvitationManagement(userId, organizationId);
@@ -126,6 +156,7 @@ public class InvitationManagementService implements InvitationManagementUseCase
                     .orElseThrow(() -> new IllegalArgumentException("Invited user does not exist."));
             acceptPendingInvitation(saved, invitee);
         }
+        eventPublisher.publishEvent(new OrganizationStatsChangedEvent(organizationId));
         auditLogService.record(organization, user, "INVITATION_CREATE", "INVITATION", saved.getId().toString(), saved.getEmail());
         return InvitationDto.from(saved);
     }
@@ -142,6 +173,7 @@ public class InvitationManagementService implements InvitationManagementUseCase
         invitation.setStatus(InvitationStatus.PENDING);
         invitation.setExpiresAt(OffsetDateTime.now(ZoneOffset.UTC).plusDays(7));
         Invitation saved = invitationRepository.save(invitation);
+        eventPublisher.publishEvent(new OrganizationStatsChangedEvent(organizationId));
         auditLogService.record(saved.getOrganization(), user, "INVITATION_RESEND", "INVITATION", saved.getId().toString(), saved.getEmail());
         return InvitationDto.from(saved);
     }
@@ -156,6 +188,7 @@ public class InvitationManagementService implements InvitationManagementUseCase
         }
         invitation.setStatus(InvitationStatus.REVOKED);
         invitationRepository.save(invitation);
+        eventPublisher.publishEvent(new OrganizationStatsChangedEvent(organizationId));
         auditLogService.record(
                 invitation.getOrganization(),
                 workspaceAccessService.requireUser(userId),
@@ -183,6 +216,7 @@ public class InvitationManagementService implements InvitationManagementUseCase
         if (invitation.getExpiresAt().isBefore(OffsetDateTime.now(ZoneOffset.UTC))) {
             invitation.setStatus(InvitationStatus.EXPIRED);
             invitationRepository.save(invitation);
+            eventPublisher.publishEvent(new OrganizationStatsChangedEvent(invitation.getOrganization().getId()));
             throw new IllegalArgumentException("Invitation expired.");
         }
         if (!user.getEmail().equalsIgnoreCase(invitation.getEmail())) {
@@ -200,6 +234,7 @@ public class InvitationManagementService implements InvitationManagementUseCase
                 .orElseThrow(() -> new InvitationNotFoundException(token));
         invitation.setStatus(InvitationStatus.REVOKED);
         invitationRepository.save(invitation);
+        eventPublisher.publishEvent(new OrganizationStatsChangedEvent(invitation.getOrganization().getId()));
     }
 
     @Override
@@ -232,6 +267,8 @@ public class InvitationManagementService implements InvitationManagementUseCase
                         return teamMembershipRepository.save(membership);
                     });
         }
+        eventPublisher.publishEvent(PermissionsChangedEvent.member(invitation.getOrganization().getId(), user.getId()));
+        eventPublisher.publishEvent(new OrganizationStatsChangedEvent(invitation.getOrganization().getId()));
         user.setCurrentOrganization(invitation.getOrganization());
         invitation.setStatus(InvitationStatus.ACCEPTED);
         invitationRepository.save(invitation);
@@ -269,4 +306,11 @@ public class InvitationManagementService implements InvitationManagementUseCase
         }
         return invitation;
     }
+
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return 50;
+        }
+        return Math.min(size, 200);
+    }
 }
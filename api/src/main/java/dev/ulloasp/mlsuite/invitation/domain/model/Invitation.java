@@ -18,6 +18,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -32,6 +33,8 @@ import lombok.Setter;
 @NoArgsConstructor
 @Table(name = "invitation", uniqueConstraints = {
         @UniqueConstraint(name = "uq_invitation_token", columnNames = "token")
+}, indexes = {
+        @Index(name = "idx_invitation_org_created", columnList = "organization_id, created_at, id")
 })
 public class Invitation {
 
@@ -46,7 +46,8 @@ public interface AnalyzerController {
         public ResponseEntity<Map<String, Object>> predict(
                         Authentication authentication,
                         @RequestParam Long modelId,
-                        @RequestPart("data") Map<String, Object> data);
+                        @RequestPart("data") Map<String, Object> data,
+                        @RequestParam(defaultValue = "false") boolean bypassCache);
 
         @PostMapping("/explanations")
         public ResponseEntity<Map<String, Object>> explain(
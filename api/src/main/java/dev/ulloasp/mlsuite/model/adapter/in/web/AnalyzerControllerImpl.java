@@ -73,11 +73,13 @@ public class AnalyzerControllerImpl implements AnalyzerController {
     public ResponseEntity<Map<String, Object>> predict(
             Authentication authentication,
             @RequestParam Long modelId,
-            @RequestPart("data") Map<String, Object> data) {
+            @RequestPart("data") Map<String, Object> data,
+            @RequestParam(defaultValue = "false") boolean bypassCache) {
         Map<String, Object> prediction = analyzerUseCase.predict(
                 currentUserResolver.resolve(authentication).userId(),
                 modelId,
-                data);
+                data,
+                bypassCache);
         return ResponseEntity.ok(prediction);
     }
 
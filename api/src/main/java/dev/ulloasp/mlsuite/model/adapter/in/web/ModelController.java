@@ -39,7 +39,9 @@ public interface ModelController {
             @RequestParam(name = "size", defaultValue = "24") int size,
             @RequestParam(name = "search", defaultValue = "") String search,
             @RequestParam(name = "sort", defaultValue = "updated") String sort,
-            @RequestParam(name = "status", defaultValue = "active") String status);
+            @RequestParam(name = "status", defaultValue = "active") String status,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "includeTotal", defaultValue = "true") boolean includeTotal);
 
     @GetMapping("/all")
     public ResponseEntity<List<ModelDto>> getAllModels(Authentication authentication);
@@ -64,14 +64,18 @@ public class ModelControllerImpl implements ModelController {
             int size,
             String search,
             String sort,
-            String status) {
+            String status,
+            String cursor,
+            boolean includeTotal) {
         return ResponseEntity.ok(modelCatalogUseCase.getModelPage(
                 currentUserResolver.resolve(authentication).userId(),
                 page,
                 size,
                 search,
                 sort,
-                status));
+                status,
+                cursor,
+                includeTotal));
     }
 
     @Override
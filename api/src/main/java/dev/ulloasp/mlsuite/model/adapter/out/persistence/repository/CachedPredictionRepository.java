@@ -0,0 +1,28 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+package dev.ulloasp.mlsuite.model.adapter.out.persistence.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.ulloasp.mlsuite.model.domain.model.CachedPrediction;
+
+@Repository
+public interface CachedPredictionRepository extends JpaRepository<CachedPrediction, String> {
+
+    Optional<CachedPrediction> findByCacheKeyAndExpiresAtAfter(String cacheKey, OffsetDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CachedPrediction c WHERE c.expiresAt < :now")
+    int deleteExpired(OffsetDateTime now);
+}
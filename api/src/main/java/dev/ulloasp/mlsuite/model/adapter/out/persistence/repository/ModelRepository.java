@@ -5,16 +5,20 @@ Copyright (c) 2025 Pablo Ulloa Santin
 
 package dev.ulloasp.mlsuite.model.adapter.out.persistence.repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import dev.ulloasp.mlsuite.model.domain.model.Model;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 
 @Repository
 public interface ModelRepository extends JpaRepository<Model, Long> {
@@ -56,7 +60,134 @@ public interface ModelRepository extends JpaRepository<Model, Long> {
             boolean archivedOnly,
             Pageable pageable);
 
-    List<Model> findByUserIdAndOrganizationIdIsNull(Long userId);
+    /** Keyset page by most recently updated. */
+    @Query("""
+            SELECT m FROM Model m
+            WHERE m.organization.id = :organizationId
+            AND (:includeArchived = true OR m.archivedAt IS NULL)
+            AND (:archivedOnly = false OR m.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(m.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.type) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.specificType) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.fileName) LIKE lower(concat('%', :search, '%'))
+            )
+            ORDER BY m.updatedAt DESC, m.id DESC
+            """)
+    List<Model> findCatalogByUpdated(
+            Long organizationId,
+            String search,
+            boolean includeArchived,
+            boolean archivedOnly,
+            Pageable limit);
+
+    /** The page after the row at {@code (afterUpdatedAt, afterId)}; the row-value seek is an index bound. */
+    @Query("""
+            SELECT m FROM Model m
+            WHERE m.organization.id = :organizationId
+            AND (:includeArchived = true OR m.archivedAt IS NULL)
+            AND (:archivedOnly = false OR m.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(m.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.type) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.specificType) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.fileName) LIKE lower(concat('%', :search, '%'))
+            )
+            AND (m.updatedAt, m.id) < (:afterUpdatedAt, :afterId)
+            ORDER BY m.updatedAt DESC, m.id DESC
+            """)
+    List<Model> findCatalogByUpdatedAfter(
+            Long organizationId,
+            String search,
+            boolean includeArchived,
+            boolean archivedOnly,
+            OffsetDateTime afterUpdatedAt,
+            Long afterId,
+            Pageable limit);
+
+    /** Keyset page by case-insensitive name. */
+    @Query("""
+            SELECT m FROM Model m
+            WHERE m.organization.id = :organizationId
+            AND (:includeArchived = true OR m.archivedAt IS NULL)
+            AND (:archivedOnly = false OR m.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(m.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.type) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.specificType) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.fileName) LIKE lower(concat('%', :search, '%'))
+            )
+            ORDER BY lower(m.name) ASC, m.id ASC
+            """)
+    List<Model> findCatalogByName(
+            Long organizationId,
+            String search,
+            boolean includeArchived,
+            boolean archivedOnly,
+            Pageable limit);
+
+    /** The page after the row at {@code (afterName, afterId)}; the row-value seek is an index bound. */
+    @Query("""
+            SELECT m FROM Model m
+            WHERE m.organization.id = :organizationId
+            AND (:includeArchived = true OR m.archivedAt IS NULL)
+            AND (:archivedOnly = false OR m.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(m.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.type) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.specificType) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.fileName) LIKE lower(concat('%', :search, '%'))
+            )
+            AND (lower(m.name), m.id) > (:afterName, :afterId)
+            ORDER BY lower(m.name) ASC, m.id ASC
+            """)
+    List<Model> findCatalogByNameAfter(
+            Long organizationId,
+            String search,
+            boolean includeArchived,
+            boolean archivedOnly,
+            String afterName,
+            Long afterId,
+            Pageable limit);
+
+    @Query("""
+            SELECT count(m) FROM Model m
+            WHERE m.organization.id = :organizationId
+            AND (:includeArchived = true OR m.archivedAt IS NULL)
+            AND (:archivedOnly = false OR m.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(m.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.type) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.specificType) LIKE lower(concat('%', :search, '%'))
+                OR lower(m.fileName) LIKE lower(concat('%', :search, '%'))
+            )
+            """)
+    long countCatalog(Long organizationId, String search, boolean includeArchived, boolean archivedOnly);
+
+    @Query("SELECT m.id FROM Model m WHERE m.user.id = :userId AND m.organization IS NULL")
+    List<Long> findUnownedModelIds(Long userId);
+
+    @Modifying
+    @Query("UPDATE Model m SET m.organization = :organization WHERE m.user.id = :userId AND m.organization IS NULL")
+    int assignUnownedModels(Long userId, Organization organization);
+
+    @Query("SELECT m.id FROM Model m WHERE m.organization IS NULL AND m.user.id IN :userIds")
+    List<Long> findUnownedModelIdsByUserIdIn(Collection<Long> userIds);
+
+    /** Moves models created before organizations existed into their owner's current organization. */
+    @Modifying
+    @Query("""
+            UPDATE Model m
+            SET m.organization = (SELECT u.currentOrganization FROM User u WHERE u.id = m.user.id)
+            WHERE m.organization IS NULL
+            AND m.user.id IN :userIds
+            """)
+    int assignUnownedModelsToCurrentOrganization(Collection<Long> userIds);
 
     List<Model> findTop10ByStorageObjectKeyIsNullOrderByIdAsc();
 
@@ -6,6 +6,7 @@ import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 
 import dev.ulloasp.mlsuite.model.application.dto.ExplainRequest;
+import dev.ulloasp.mlsuite.model.domain.model.Model;
 import jakarta.annotation.Nullable;
 
 public interface AnalyzerUseCase {
@@ -22,5 +23,17 @@ public interface AnalyzerUseCase {
 
     Map<String, Object> predict(Long userId, Long modelId, Map<String, Object> data);
 
+    /** As {@link #predict(Long, Long, Map)}; with {@code bypassCache} the analyzer is asked even on a cache hit. */
+    Map<String, Object> predict(Long userId, Long modelId, Map<String, Object> data, boolean bypassCache);
+
+    /**
+     * Predicts with a model the caller has already resolved and authorized, e.g. through a schema binding. Does
+     * not touch the database, so it is safe to call from worker threads.
+     */
+    Map<String, Object> predict(Model model, Map<String, Object> data);
+
     Map<String, Object> explain(Long userId, Long modelId, ExplainRequest request);
+
+    /** Explain counterpart of {@link #predict(Model, Map)}. */
+    Map<String, Object> explain(Model model, ExplainRequest request);
 }
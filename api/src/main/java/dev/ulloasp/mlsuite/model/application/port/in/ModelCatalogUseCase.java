@@ -13,7 +13,12 @@ public interface ModelCatalogUseCase {
 
     List<Model> getModels(Long userId);
 
-    ModelPageDto getModelPage(Long userId, int page, int size, String search, String sort, String status);
+    /**
+     * Keyset paging from {@code cursor} (or from the top when it is null and {@code page} is 0); a non-zero
+     * {@code page} without a cursor falls back to offset paging. The total is only counted when requested.
+     */
+    ModelPageDto getModelPage(Long userId, int page, int size, String search, String sort, String status,
+            String cursor, boolean includeTotal);
 
     Model renameModel(Long userId, Long modelId, String name);
 
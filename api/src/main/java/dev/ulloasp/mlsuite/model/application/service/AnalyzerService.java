@@ -12,6 +12,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import dev.ulloasp.mlsuite.model.application.dto.ExplainRequest;
 import dev.ulloasp.mlsuite.model.application.port.in.AnalyzerUseCase;
+import dev.ulloasp.mlsuite.model.domain.model.Model;
 import jakarta.annotation.Nullable;
 
 public interface AnalyzerService extends AnalyzerUseCase {
@@ -26,7 +27,14 @@ public interface AnalyzerService extends AnalyzerUseCase {
         Map<String, Object> predict(Long userId, Long modelId,
                         Map<String, Object> data);
 
+        Map<String, Object> predict(Long userId, Long modelId,
+                        Map<String, Object> data, boolean bypassCache);
+
+        Map<String, Object> predict(Model model, Map<String, Object> data);
+
         Map<String, Object> explain(Long userId, Long modelId,
                         ExplainRequest request);
+
+        Map<String, Object> explain(Model model, ExplainRequest request);
 }
 
@@ -8,6 +8,7 @@ package dev.ulloasp.mlsuite.model.application.service;
 import java.util.Map;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -16,6 +17,7 @@ import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
@@ -23,6 +25,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import dev.ulloasp.mlsuite.analyzer.AnalyzerClientConfig;
+import dev.ulloasp.mlsuite.analyzer.PredictionCoalescer;
 import dev.ulloasp.mlsuite.model.application.dto.ExplainRequest;
 import dev.ulloasp.mlsuite.model.domain.model.Model;
 import dev.ulloasp.mlsuite.model.domain.exception.AnalyzerServiceException;
@@ -39,29 +43,37 @@ import jakarta.transaction.Transactional;
 @Transactional
 public class AnalyzerServiceImpl implements AnalyzerService {
 
+    private static final String UNKNOWN_HANDLE = "Unknown model handle";
+
     private final RestTemplate restTemplate;
     private final ModelRepository modelRepository;
     private final ObjectStorageService objectStorageService;
     private final UserLookupService userLookupService;
     private final WorkspaceAccessService workspaceAccessService;
     private final ObjectMapper objectMapper;
+    private final PredictionCoalescer predictionCoalescer;
+    private final PredictionCache predictionCache;
 
     @Value("${analyzer.url}")
     private String analyzerUrl;
 
     public AnalyzerServiceImpl(
-            RestTemplate restTemplate,
+            @Qualifier(AnalyzerClientConfig.REST_TEMPLATE) RestTemplate restTemplate,
             ModelRepository modelRepository,
             ObjectStorageService objectStorageService,
             UserLookupService userLookupService,
             WorkspaceAccessService workspaceAccessService,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            PredictionCoalescer predictionCoalescer,
+            PredictionCache predictionCache) {
         this.restTemplate = restTemplate;
         this.modelRepository = modelRepository;
         this.objectStorageService = objectStorageService;
         this.userLookupService = userLookupService;
         this.workspaceAccessService = workspaceAccessService;
         this.objectMapper = objectMapper;
+        this.predictionCoalescer = predictionCoalescer;
+        this.predictionCache = predictionCache;
     }
 
     @Override
@@ -139,58 +151,146 @@ public class AnalyzerServiceImpl implements AnalyzerService {
         return (Map<String, Object>) response;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Map<String, Object> predict(Long userId, Long modelId, Map<String, Object> data) {
+        return predict(userId, modelId, data, false);
+    }
+
+    @Override
+    public Map<String, Object> predict(Long userId, Long modelId, Map<String, Object> data, boolean bypassCache) {
         Model model = requireModel(userId, modelId);
-        byte[] bytes = loadModelBytes(model);
+        return predictionCache.get(model, data, bypassCache, () -> requestPrediction(model, data));
+    }
 
-        MultipartBodyBuilder builder = new MultipartBodyBuilder();
-        builder.part("model_file", bytes)
-                .filename("model.joblib")
-                .contentType(MediaType.APPLICATION_OCTET_STREAM);
-        try {
-            builder.part("data", objectMapper.writeValueAsString(data))
-                    .contentType(MediaType.APPLICATION_JSON);
-        } catch (Exception ex) {
-            throw new RuntimeException("Error al serializar los datos a JSON", ex);
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public Map<String, Object> predict(Model model, Map<String, Object> data) {
+        return predictionCache.get(model, data, false, () -> requestPrediction(model, data));
+    }
+
+    private Map<String, Object> requestPrediction(Model model, Map<String, Object> data) {
+        String payload = toJson(data, "Error al serializar los datos a JSON");
+        if (!canReside(model)) {
+            MultipartBodyBuilder builder = modelFileBody(model);
+            builder.part("data", payload).contentType(MediaType.APPLICATION_JSON);
+            return postToAnalyzer(analyzerUrl + "/predict", new HttpEntity<>(builder.build()));
         }
 
-        HttpEntity<MultiValueMap<String, HttpEntity<?>>> req = new HttpEntity<>(builder.build());
+        return predictionCoalescer.submit(residentHandle(model), payload,
+                payloads -> predictBatch(model, payloads),
+                row -> predictResident(model, row));
+    }
+
+    @Override
+    public Map<String, Object> explain(Long userId, Long modelId, ExplainRequest request) {
+        return explain(requireModel(userId, modelId), request);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public Map<String, Object> explain(Model model, ExplainRequest request) {
+        String instance = toJson(request.instance(), "Error serializing explain request");
+        String traces = toJson(request.traces(), "Error serializing explain request");
+        if (!canReside(model)) {
+            MultipartBodyBuilder builder = modelFileBody(model);
+            builder.part("data", instance).contentType(MediaType.APPLICATION_JSON);
+            builder.part("traces", traces).contentType(MediaType.APPLICATION_JSON);
+            return postToAnalyzer(analyzerUrl + "/explain", new HttpEntity<>(builder.build()));
+        }
+
+        LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("data", instance);
+        form.add("traces", traces);
+        return postToResidentModel(model, "explain", form);
+    }
+
+    private Map<String, Object> predictResident(Model model, String payload) {
+        LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("data", payload);
+        return postToResidentModel(model, "predict", form);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> predictBatch(Model model, List<String> payloads) {
+        LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("data", "[" + String.join(",", payloads) + "]");
+        Object results = postToResidentModel(model, "predict_batch", form).get("results");
+        if (!(results instanceof List<?> rows)) {
+            return List.of();
+        }
+        return rows.stream()
+                .map(row -> row instanceof Map<?, ?> map ? (Map<String, Object>) map : null)
+                .toList();
+    }
+
+    /**
+     * Calls an operation on the analyzer-resident copy of the model. The analyzer keeps a bounded set of
+     * deserialized models, so an "unknown handle" answer just means it was evicted or restarted: the artifact is
+     * registered again and the call retried once.
+     */
+    private Map<String, Object> postToResidentModel(Model model, String operation,
+            MultiValueMap<String, String> form) {
+        String handle = residentHandle(model);
+        String endpoint = analyzerUrl + "/models/" + handle + "/" + operation;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(form, headers);
         try {
-            return postForMap(analyzerUrl + "/predict", req);
+            try {
+                return postForMap(endpoint, request);
+            } catch (HttpClientErrorException.NotFound ex) {
+                if (!isUnknownHandle(ex)) {
+                    throw ex;
+                }
+                registerResidentModel(model, handle);
+                return postForMap(endpoint, request);
+            }
         } catch (RestClientResponseException ex) {
-            throw AnalyzerServiceException.fromRestClient(ex, analyzerUrl + "/predict");
+            throw AnalyzerServiceException.fromRestClient(ex, endpoint);
         } catch (ResourceAccessException ex) {
-            throw AnalyzerServiceException.fromNetwork(ex, analyzerUrl + "/predict");
+            throw AnalyzerServiceException.fromNetwork(ex, endpoint);
         }
     }
 
-    @Override
-    public Map<String, Object> explain(Long userId, Long modelId, ExplainRequest request) {
-        Model model = requireModel(userId, modelId);
-        byte[] bytes = loadModelBytes(model);
+    private void registerResidentModel(Model model, String handle) {
+        postToAnalyzer(analyzerUrl + "/models/" + handle, new HttpEntity<>(modelFileBody(model).build()));
+    }
 
+    private Map<String, Object> postToAnalyzer(String endpoint, HttpEntity<?> request) {
+        try {
+            return postForMap(endpoint, request);
+        } catch (RestClientResponseException ex) {
+            throw AnalyzerServiceException.fromRestClient(ex, endpoint);
+        } catch (ResourceAccessException ex) {
+            throw AnalyzerServiceException.fromNetwork(ex, endpoint);
+        }
+    }
+
+    private MultipartBodyBuilder modelFileBody(Model model) {
         MultipartBodyBuilder builder = new MultipartBodyBuilder();
-        builder.part("model_file", bytes)
+        builder.part("model_file", loadModelBytes(model))
                 .filename("model.joblib")
                 .contentType(MediaType.APPLICATION_OCTET_STREAM);
-        try {
-            builder.part("data", objectMapper.writeValueAsString(request.instance()))
-                    .contentType(MediaType.APPLICATION_JSON);
-            builder.part("traces", objectMapper.writeValueAsString(request.traces()))
-                    .contentType(MediaType.APPLICATION_JSON);
-        } catch (Exception ex) {
-            throw new RuntimeException("Error serializing explain request", ex);
-        }
+        return builder;
+    }
+
+    private boolean canReside(Model model) {
+        return model.getId() != null && model.getStorageEtag() != null && !model.getStorageEtag().isBlank();
+    }
 
-        HttpEntity<MultiValueMap<String, HttpEntity<?>>> req = new HttpEntity<>(builder.build());
+    private String residentHandle(Model model) {
+        return "m" + model.getId() + "-" + model.getStorageEtag().replaceAll("[^A-Za-z0-9_.-]", "");
+    }
+
+    private boolean isUnknownHandle(HttpClientErrorException ex) {
+        return ex.getResponseBodyAsString().contains(UNKNOWN_HANDLE);
+    }
+
+    private String toJson(Object value, String errorMessage) {
         try {
-            return postForMap(analyzerUrl + "/explain", req);
-        } catch (RestClientResponseException ex) {
-            throw AnalyzerServiceException.fromRestClient(ex, analyzerUrl + "/explain");
-        } catch (ResourceAccessException ex) {
-            throw AnalyzerServiceException.fromNetwork(ex, analyzerUrl + "/explain");
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception ex) {
+            throw new RuntimeException(errorMessage, ex);
         }
     }
 
@@ -209,7 +309,10 @@ public class AnalyzerServiceImpl implements AnalyzerService {
     private byte[] loadModelBytes(Model model) {
         if (model.hasStoredObject()) {
             try {
-                return objectStorageService.load(model.getStorageBucket(), model.getStorageObjectKey());
+                return objectStorageService.load(
+                        model.getStorageBucket(),
+                        model.getStorageObjectKey(),
+                        model.getStorageEtag());
             } catch (ObjectStorageException ex) {
                 if (model.hasInlineModelFile()) {
                     return model.getModelFile();
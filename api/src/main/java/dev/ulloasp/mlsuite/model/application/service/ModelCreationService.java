@@ -13,7 +13,7 @@ import org.springframework.web.multipart.MultipartFile;
 import dev.ulloasp.mlsuite.model.application.dto.CreateModelDto;
 import dev.ulloasp.mlsuite.model.application.port.in.AnalyzerUseCase;
 import dev.ulloasp.mlsuite.model.application.port.in.ModelCatalogUseCase;
-import dev.ulloasp.mlsuite.model.application.upload.BufferedMultipartFile;
+import dev.ulloasp.mlsuite.model.application.upload.SpooledMultipartFile;
 import dev.ulloasp.mlsuite.model.domain.model.Model;
 import dev.ulloasp.mlsuite.storage.ObjectStorageService;
 import jakarta.annotation.Nullable;
@@ -42,19 +42,20 @@ public class ModelCreationService {
             MultipartFile modelFile,
             @Nullable MultipartFile dataframeFile,
             String oneHotSeparator) {
-        MultipartFile reusableModelFile = BufferedMultipartFile.from(modelFile);
-        MultipartFile reusableDataframeFile = dataframeFile != null
-                ? BufferedMultipartFile.from(dataframeFile)
-                : null;
-        Model model = null;
-        try {
-            model = modelCatalogUseCase.createModel(userId, name, reusableModelFile);
-            model.setInputSchema(analyzerUseCase.generateInputSchema(userId, reusableModelFile,
-                    reusableDataframeFile, oneHotSeparator));
-            return CreateModelDto.toDto(model);
-        } catch (RuntimeException ex) {
-            deleteStoredObject(model, ex);
-            throw ex;
+        try (SpooledMultipartFile reusableModelFile = SpooledMultipartFile.from(modelFile);
+                SpooledMultipartFile reusableDataframeFile = dataframeFile != null
+                        ? SpooledMultipartFile.from(dataframeFile)
+                        : null) {
+            Model model = null;
+            try {
+                model = modelCatalogUseCase.createModel(userId, name, reusableModelFile);
+                model.setInputSchema(analyzerUseCase.generateInputSchema(userId, reusableModelFile,
+                        reusableDataframeFile, oneHotSeparator));
+                return CreateModelDto.toDto(model);
+            } catch (RuntimeException ex) {
+                deleteStoredObject(model, ex);
+                throw ex;
+            }
         }
     }
 
@@ -19,7 +19,8 @@ public interface ModelService extends ModelCatalogUseCase {
 
     public List<Model> getModels(Long userId);
 
-    public ModelPageDto getModelPage(Long userId, int page, int size, String search, String sort, String status);
+    public ModelPageDto getModelPage(Long userId, int page, int size, String search, String sort, String status,
+            String cursor, boolean includeTotal);
 
     public Model renameModel(Long userId, Long modelId, String name);
 
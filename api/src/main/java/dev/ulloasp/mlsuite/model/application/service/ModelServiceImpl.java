@@ -5,14 +5,18 @@ Copyright (c) 2025 Pablo Ulloa Santin
 
 package dev.ulloasp.mlsuite.model.application.service;
 
+import java.io.InputStream;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -29,6 +33,7 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import dev.ulloasp.mlsuite.analyzer.AnalyzerClientConfig;
 import dev.ulloasp.mlsuite.model.application.dto.ModelDto;
 import dev.ulloasp.mlsuite.model.application.dto.ModelPageDto;
 import dev.ulloasp.mlsuite.model.domain.model.Model;
@@ -36,7 +41,7 @@ import dev.ulloasp.mlsuite.model.domain.exception.AnalyzerServiceException;
 import dev.ulloasp.mlsuite.model.domain.exception.ModelAlreadyExistsException;
 import dev.ulloasp.mlsuite.model.domain.exception.ModelDoesNotExistsException;
 import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
-import dev.ulloasp.mlsuite.model.application.upload.BufferedMultipartFile;
+import dev.ulloasp.mlsuite.organization.application.event.OrganizationStatsChangedEvent;
 import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionResultRepository;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaModelBindingRepository;
@@ -44,6 +49,7 @@ import dev.ulloasp.mlsuite.storage.ObjectStorageService;
 import dev.ulloasp.mlsuite.storage.StoredObject;
 import dev.ulloasp.mlsuite.user.domain.model.User;
 import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
+import dev.ulloasp.mlsuite.util.KeysetCursor;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
 import jakarta.transaction.Transactional;
@@ -53,6 +59,7 @@ import jakarta.transaction.Transactional;
 public class ModelServiceImpl implements ModelService {
 
     @Autowired
+    @Qualifier(AnalyzerClientConfig.REST_TEMPLATE)
     private RestTemplate restTemplate;
     private final UserLookupService userLookupService;
     private final ModelRepository modelRepository;
@@ -61,6 +68,7 @@ public class ModelServiceImpl implements ModelService {
     private final PredictionResultRepository resultRepository;
     private final WorkspaceAccessService workspaceAccessService;
     private final WorkspaceAuthorizationService workspaceAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${analyzer.url}")
     private String analyzerUrl;
@@ -72,7 +80,8 @@ public class ModelServiceImpl implements ModelService {
             SchemaModelBindingRepository bindingRepository,
             PredictionResultRepository resultRepository,
             WorkspaceAccessService workspaceAccessService,
-            WorkspaceAuthorizationService workspaceAuthorizationService) {
+            WorkspaceAuthorizationService workspaceAuthorizationService,
+            ApplicationEventPublisher eventPublisher) {
         this.userLookupService = userLookupService;
         this.modelRepository = modelRepository;
         this.objectStorageService = objectStorageService;
@@ -80,6 +89,7 @@ public class ModelServiceImpl implements ModelService {
         this.resultRepository = resultRepository;
         this.workspaceAccessService = workspaceAccessService;
         this.workspaceAuthorizationService = workspaceAuthorizationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -92,12 +102,8 @@ public class ModelServiceImpl implements ModelService {
             throw new ModelAlreadyExistsException(name, organization.getName());
         }
 
-        MultipartFile reusableModelFile = modelFile instanceof BufferedMultipartFile
-                ? modelFile
-                : BufferedMultipartFile.from(modelFile);
-
         LinkedMultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("model_file", reusableModelFile.getResource());
+        body.add("model_file", modelFile.getResource());
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
@@ -122,16 +128,16 @@ public class ModelServiceImpl implements ModelService {
         String specificType = response.get("specificType") != null ? response.get("specificType").toString() : null;
         String fileName = response.get("fileName") != null
                 ? response.get("fileName").toString()
-                : reusableModelFile.getOriginalFilename();
+                : modelFile.getOriginalFilename();
         String objectKey = buildObjectKey(organization.getId(), name, fileName);
         StoredObject storedObject;
-        try {
+        try (InputStream inputStream = modelFile.getInputStream()) {
             storedObject = objectStorageService.store(
                     objectKey,
                     fileName,
-                    reusableModelFile.getContentType(),
-                    reusableModelFile.getInputStream(),
-                    reusableModelFile.getSize());
+                    modelFile.getContentType(),
+                    inputStream,
+                    modelFile.getSize());
         } catch (Exception ex) {
             throw new IllegalArgumentException("Model file is empty or invalid", ex);
         }
@@ -150,7 +156,9 @@ public class ModelServiceImpl implements ModelService {
         model.setModelSizeBytes(storedObject.sizeBytes());
 
         try {
-            return modelRepository.save(model);
+            Model saved = modelRepository.save(model);
+            eventPublisher.publishEvent(new OrganizationStatsChangedEvent(organization.getId()));
+            return saved;
         } catch (RuntimeException ex) {
             objectStorageService.delete(storedObject.bucket(), storedObject.objectKey());
             throw ex;
@@ -165,21 +173,55 @@ public class ModelServiceImpl implements ModelService {
     }
 
     @Override
-    public ModelPageDto getModelPage(Long userId, int page, int size, String search, String sort, String status) {
+    public ModelPageDto getModelPage(Long userId, int page, int size, String search, String sort, String status,
+            String cursor, boolean includeTotal) {
         Long organizationId = workspaceAccessService.requireCurrentOrganization(userId).getId();
         workspaceAuthorizationService.requireOrganizationRead(userId, organizationId);
-        Page<Model> models = modelRepository.findCatalogPage(
-                organizationId,
-                normalizeSearch(search),
-                "all".equals(status) || "archived".equals(status),
-                "archived".equals(status),
-                PageRequest.of(Math.max(page, 0), normalizePageSize(size), sort(sort)));
+        String needle = normalizeSearch(search);
+        boolean includeArchived = "all".equals(status) || "archived".equals(status);
+        boolean archivedOnly = "archived".equals(status);
+        int pageSize = normalizePageSize(size);
+        if ("algorithm".equals(sort) || (cursor == null && page > 0)) {
+            Page<Model> models = modelRepository.findCatalogPage(
+                    organizationId,
+                    needle,
+                    includeArchived,
+                    archivedOnly,
+                    PageRequest.of(Math.max(page, 0), pageSize, sort(sort)));
+            return new ModelPageDto(
+                    ModelDto.toDtoList(models.getContent()),
+                    models.getNumber(),
+                    models.getSize(),
+                    models.getTotalElements(),
+                    models.hasNext(),
+                    null);
+        }
+
+        String mode = "name".equals(sort) ? "name" : "updated";
+        KeysetCursor after = KeysetCursor.decode(cursor, mode);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Model> rows;
+        if (after == null) {
+            rows = "name".equals(mode)
+                    ? modelRepository.findCatalogByName(organizationId, needle, includeArchived, archivedOnly, limit)
+                    : modelRepository.findCatalogByUpdated(organizationId, needle, includeArchived, archivedOnly,
+                            limit);
+        } else {
+            rows = "name".equals(mode)
+                    ? modelRepository.findCatalogByNameAfter(organizationId, needle, includeArchived, archivedOnly,
+                            after.key(), after.longId(), limit)
+                    : modelRepository.findCatalogByUpdatedAfter(organizationId, needle, includeArchived,
+                            archivedOnly, after.timestampKey(), after.longId(), limit);
+        }
+        boolean hasNext = rows.size() > pageSize;
+        List<Model> items = hasNext ? rows.subList(0, pageSize) : rows;
         return new ModelPageDto(
-                ModelDto.toDtoList(models.getContent()),
-                models.getNumber(),
-                models.getSize(),
-                models.getTotalElements(),
-                models.hasNext());
+                ModelDto.toDtoList(items),
+                Math.max(page, 0),
+                pageSize,
+                includeTotal ? modelRepository.countCatalog(organizationId, needle, includeArchived, archivedOnly) : null,
+                hasNext,
+                hasNext ? cursorAfter(mode, items.getLast()).encode() : null);
     }
 
     @Override
@@ -226,7 +268,9 @@ public class ModelServiceImpl implements ModelService {
                 bytes);
         Model copy = copyModel(user, organization, source, nextName, stored);
         try {
-            return modelRepository.save(copy);
+            Model saved = modelRepository.save(copy);
+            eventPublisher.publishEvent(new OrganizationStatsChangedEvent(organization.getId()));
+            return saved;
         } catch (RuntimeException ex) {
             objectStorageService.delete(stored.bucket(), stored.objectKey());
             throw ex;
@@ -242,6 +286,7 @@ public class ModelServiceImpl implements ModelService {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Model is used by schemas or prediction runs. Archive it instead.");
         }
         modelRepository.delete(model);
+        eventPublisher.publishEvent(new OrganizationStatsChangedEvent(organization.getId()));
         if (model.hasStoredObject()) {
             objectStorageService.delete(model.getStorageBucket(), model.getStorageObjectKey());
         }
@@ -300,19 +345,25 @@ public class ModelServiceImpl implements ModelService {
         return Math.min(size, 100);
     }
 
+    private KeysetCursor cursorAfter(String mode, Model last) {
+        return "name".equals(mode)
+                ? KeysetCursor.after(mode, last.getName().toLowerCase(Locale.ROOT), last.getId())
+                : KeysetCursor.after(mode, last.getUpdatedAt(), last.getId());
+    }
+
     private Sort sort(String mode) {
         if ("name".equals(mode)) {
-            return Sort.by(Sort.Order.asc("name").ignoreCase(), Sort.Order.desc("updatedAt"));
+            return Sort.by(Sort.Order.asc("name").ignoreCase(), Sort.Order.asc("id"));
         }
         if ("algorithm".equals(mode)) {
             return Sort.by(Sort.Order.asc("type").ignoreCase(), Sort.Order.asc("specificType").ignoreCase());
         }
-        return Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.asc("name").ignoreCase());
+        return Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.desc("id"));
     }
 
     private byte[] loadModelBytes(Model model) {
         if (model.hasStoredObject()) {
-            return objectStorageService.load(model.getStorageBucket(), model.getStorageObjectKey());
+            return objectStorageService.load(model.getStorageBucket(), model.getStorageObjectKey(), model.getStorageEtag());
         }
         return model.getModelFile();
     }
@@ -0,0 +1,318 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+package dev.ulloasp.mlsuite.model.application.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.CachedPredictionRepository;
+import dev.ulloasp.mlsuite.model.domain.model.CachedPrediction;
+import dev.ulloasp.mlsuite.model.domain.model.Model;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Memoizes predictions by model binary and input. The key is the model's storage etag plus a hash of the input in
+ * canonical form (sorted keys, numbers compared by value, so {@code 1}, {@code 1.0} and {@code 1.00} are the same
+ * question). Results live in a bounded in-memory LRU with a TTL and, optionally, in Postgres so they survive
+ * restarts and are shared between instances. Concurrent misses for the same key wait for a single analyzer call.
+ * Models without an etag are never cached, since nothing pins their binary. The persistent tier is read and written
+ * in its own transaction, so a failed lookup or a key another instance stored first never rolls back the caller's.
+ */
+@Component
+public class PredictionCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PredictionCache.class);
+    private static final int PURGE_EVERY_WRITES = 1024;
+
+    private final CachedPredictionRepository repository;
+    private final TransactionTemplate ownTransaction;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final boolean persistent;
+    private final Duration persistentTtl;
+    private final Memory memory;
+    private final ConcurrentHashMap<String, CompletableFuture<Map<String, Object>>> inFlight =
+            new ConcurrentHashMap<>();
+    private final AtomicInteger persistentWrites = new AtomicInteger();
+    private final Counter memoryHits;
+    private final Counter persistentHits;
+    private final Counter joins;
+    private final Counter misses;
+    private final Counter bypasses;
+
+    public PredictionCache(
+            CachedPredictionRepository repository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${mlsuite.prediction.cache.enabled:true}") boolean enabled,
+            @Value("${mlsuite.prediction.cache.max-entries:10000}") int maxEntries,
+            @Value("${mlsuite.prediction.cache.ttl:10m}") Duration ttl,
+            @Value("${mlsuite.prediction.cache.persistent.enabled:false}") boolean persistent,
+            @Value("${mlsuite.prediction.cache.persistent.ttl:7d}") Duration persistentTtl) {
+        this.repository = repository;
+        this.ownTransaction = new TransactionTemplate(transactionManager);
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled && maxEntries > 0;
+        this.ttlNanos = ttl.toNanos();
+        this.persistent = this.enabled && persistent;
+        this.persistentTtl = persistentTtl;
+        this.memory = new Memory(Math.max(maxEntries, 0));
+        this.memoryHits = requests(meterRegistry, "hit", "memory");
+        this.persistentHits = requests(meterRegistry, "hit", "persistent");
+        this.joins = requests(meterRegistry, "join", "in-flight");
+        this.misses = requests(meterRegistry, "miss", "none");
+        this.bypasses = requests(meterRegistry, "bypass", "none");
+        Gauge.builder("mlsuite.prediction.cache.entries", memory, Memory::size)
+                .register(meterRegistry);
+        Gauge.builder("mlsuite.prediction.cache.hit.ratio", this, PredictionCache::hitRatio)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached answer for this model and input, or asks {@code predictor} and remembers the result. With
+     * {@code bypass} the predictor is always called and its answer replaces whatever was cached.
+     */
+    public Map<String, Object> get(Model model, Map<String, Object> input, boolean bypass,
+            Supplier<Map<String, Object>> predictor) {
+        if (!enabled || model.getStorageEtag() == null || model.getStorageEtag().isBlank()) {
+            return predictor.get();
+        }
+
+        String key = key(model.getStorageEtag(), input);
+        if (bypass) {
+            bypasses.increment();
+            Map<String, Object> result = predictor.get();
+            store(key, model.getId(), result);
+            return result;
+        }
+
+        Map<String, Object> cached = memory.get(key, System.nanoTime());
+        if (cached != null) {
+            memoryHits.increment();
+            return cached;
+        }
+
+        CompletableFuture<Map<String, Object>> call = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            // Waiting on another caller's lookup is neither a hit nor a miss; that caller counts the outcome.
+            joins.increment();
+            return await(running);
+        }
+
+        try {
+            Map<String, Object> result = loadPersistent(key);
+            if (result != null) {
+                persistentHits.increment();
+                memory.put(key, result, System.nanoTime() + ttlNanos);
+            } else {
+                misses.increment();
+                result = predictor.get();
+                store(key, model.getId(), result);
+            }
+            call.complete(result);
+            return result;
+        } catch (RuntimeException ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /** Hex SHA-256 of the etag and the canonical form of the input. */
+    public static String key(String etag, Map<String, Object> input) {
+        StringBuilder canonical = new StringBuilder(etag.strip()).append('\n');
+        appendCanonical(canonical, input);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static void appendCanonical(StringBuilder out, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            TreeMap<String, Object> sorted = new TreeMap<>();
+            map.forEach((k, v) -> sorted.put(String.valueOf(k), v));
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                appendString(out, entry.getKey());
+                out.append(':');
+                appendCanonical(out, entry.getValue());
+            }
+            out.append('}');
+        } else if (value instanceof Collection<?> items) {
+            out.append('[');
+            boolean first = true;
+            for (Object item : items) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                appendCanonical(out, item);
+            }
+            out.append(']');
+        } else if (value instanceof Number number) {
+            out.append(canonicalNumber(number));
+        } else if (value instanceof String text) {
+            appendString(out, text);
+        } else {
+            out.append(value);
+        }
+    }
+
+    private static String canonicalNumber(Number number) {
+        if (number instanceof Double || number instanceof Float) {
+            double d = number.doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                return Double.toString(d);
+            }
+        }
+        try {
+            BigDecimal decimal = number instanceof BigDecimal big ? big : new BigDecimal(number.toString());
+            return decimal.signum() == 0 ? "0" : decimal.stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException ex) {
+            return number.toString();
+        }
+    }
+
+    private static void appendString(StringBuilder out, String text) {
+        out.append('"').append(text.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+    }
+
+    private Map<String, Object> loadPersistent(String key) {
+        if (!persistent) {
+            return null;
+        }
+        try {
+            return ownTransaction.execute(status -> repository
+                    .findByCacheKeyAndExpiresAtAfter(key, OffsetDateTime.now())
+                    .map(CachedPrediction::getResult)
+                    .orElse(null));
+        } catch (RuntimeException ex) {
+            log.warn("Prediction cache lookup failed; asking the analyzer", ex);
+            return null;
+        }
+    }
+
+    private void store(String key, Long modelId, Map<String, Object> result) {
+        if (result == null) {
+            return;
+        }
+        memory.put(key, result, System.nanoTime() + ttlNanos);
+        if (!persistent || modelId == null) {
+            return;
+        }
+        try {
+            ownTransaction.executeWithoutResult(status -> repository
+                    .save(new CachedPrediction(key, modelId, result, OffsetDateTime.now().plus(persistentTtl))));
+        } catch (RuntimeException ex) {
+            // Another instance may have stored the same key first; the cache is best effort either way.
+            log.debug("Could not persist cached prediction {}: {}", key, ex.toString());
+        }
+        if (persistentWrites.incrementAndGet() % PURGE_EVERY_WRITES == 0) {
+            try {
+                ownTransaction.executeWithoutResult(status -> repository.deleteExpired(OffsetDateTime.now()));
+            } catch (RuntimeException ex) {
+                log.warn("Could not purge expired cached predictions", ex);
+            }
+        }
+    }
+
+    private Map<String, Object> await(CompletableFuture<Map<String, Object>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private double hitRatio() {
+        double hits = memoryHits.count() + persistentHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result, String tier) {
+        return Counter.builder("mlsuite.prediction.cache.requests")
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    /** Access-ordered LRU; entries past their deadline count as misses and are dropped on access. */
+    private static final class Memory {
+
+        private final LinkedHashMap<String, Entry> entries;
+
+        private Memory(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized Map<String, Object> get(String key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now - entry.expiresAt >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.result;
+        }
+
+        synchronized void put(String key, Map<String, Object> result, long expiresAt) {
+            entries.put(key, new Entry(result, expiresAt));
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        private record Entry(Map<String, Object> result, long expiresAt) {
+        }
+    }
+}
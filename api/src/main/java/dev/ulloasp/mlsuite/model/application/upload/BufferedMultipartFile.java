@@ -1,93 +0,0 @@
-/*
-SPDX-License-Identifier: MIT
-Copyright (c) 2025 Pablo Ulloa Santin
-*/
-
-package dev.ulloasp.mlsuite.model.application.upload;
-
-import java.io.File;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
-
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
-import org.springframework.web.multipart.MultipartFile;
-
-public final class BufferedMultipartFile implements MultipartFile {
-
-    private final String name;
-    private final String originalFilename;
-    private final String contentType;
-    private final byte[] content;
-
-    private BufferedMultipartFile(String name, String originalFilename, String contentType, byte[] content) {
-        this.name = name;
-        this.originalFilename = originalFilename;
-        this.contentType = contentType;
-        this.content = content;
-    }
-
-    public static MultipartFile from(MultipartFile file) {
-        try {
-            return new BufferedMultipartFile(
-                    file.getName(),
-                    file.getOriginalFilename(),
-                    file.getContentType(),
-                    file.getBytes());
-        } catch (IOException ex) {
-            throw new IllegalArgumentException("Uploaded file is empty or invalid", ex);
-        }
-    }
-
-    @Override
-    public String getName() {
-        return name;
-    }
-
-    @Override
-    public String getOriginalFilename() {
-        return originalFilename;
-    }
-
-    @Override
-    public String getContentType() {
-        return contentType;
-    }
-
-    @Override
-    public boolean isEmpty() {
-        return content.length == 0;
-    }
-
-    @Override
-    public long getSize() {
-        return content.length;
-    }
-
-    @Override
-    public byte[] getBytes() {
-        return content.clone();
-    }
-
-    @Override
-    public InputStream getInputStream() {
-        return new ByteArrayInputStream(content);
-    }
-
-    @Override
-    public Resource getResource() {
-        return new ByteArrayResource(content) {
-            @Override
-            public String getFilename() {
-                return originalFilename;
-            }
-        };
-    }
-
-    @Override
-    public void transferTo(File dest) throws IOException {
-        Files.write(dest.toPath(), content);
-    }
-}
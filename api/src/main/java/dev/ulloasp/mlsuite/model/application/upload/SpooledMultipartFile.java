@@ -0,0 +1,154 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+package dev.ulloasp.mlsuite.model.application.upload;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Re-readable copy of an upload. Small files are kept in memory; anything above the threshold is spooled to a
+ * temporary file once and every later read streams from disk, so large artifacts never sit on the heap.
+ * Closing the spool deletes the temporary file.
+ */
+public final class SpooledMultipartFile implements MultipartFile, AutoCloseable {
+
+    public static final long DEFAULT_MEMORY_THRESHOLD = 1024 * 1024;
+
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+    @Nullable
+    private final byte[] content;
+    @Nullable
+    private final Path spoolFile;
+
+    private SpooledMultipartFile(String name, String originalFilename, String contentType, long size,
+            @Nullable byte[] content, @Nullable Path spoolFile) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+        this.content = content;
+        this.spoolFile = spoolFile;
+    }
+
+    public static SpooledMultipartFile from(MultipartFile file) {
+        return from(file, DEFAULT_MEMORY_THRESHOLD);
+    }
+
+    public static SpooledMultipartFile from(MultipartFile file, long memoryThreshold) {
+        try {
+            if (file.getSize() <= memoryThreshold) {
+                byte[] bytes = file.getBytes();
+                return new SpooledMultipartFile(file.getName(), file.getOriginalFilename(), file.getContentType(),
+                        bytes.length, bytes, null);
+            }
+            Path spoolFile = Files.createTempFile("mlsuite-upload-", ".part");
+            try (InputStream inputStream = file.getInputStream()) {
+                long copied = Files.copy(inputStream, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+                return new SpooledMultipartFile(file.getName(), file.getOriginalFilename(), file.getContentType(),
+                        copied, null, spoolFile);
+            } catch (IOException | RuntimeException ex) {
+                Files.deleteIfExists(spoolFile);
+                throw ex;
+            }
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Uploaded file is empty or invalid", ex);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return content != null ? content.clone() : Files.readAllBytes(spoolFile);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return content != null ? new ByteArrayInputStream(content) : Files.newInputStream(spoolFile);
+    }
+
+    @Override
+    public Resource getResource() {
+        if (content != null) {
+            return new ByteArrayResource(content) {
+                @Override
+                public String getFilename() {
+                    return originalFilename;
+                }
+            };
+        }
+        return new FileSystemResource(spoolFile) {
+            @Override
+            public String getFilename() {
+                return originalFilename;
+            }
+        };
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        transferTo(dest.toPath());
+    }
+
+    @Override
+    public void transferTo(Path dest) throws IOException {
+        if (content != null) {
+            Files.write(dest, content);
+        } else {
+            Files.copy(spoolFile, dest, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (spoolFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spoolFile);
+        } catch (IOException ignored) {
+            spoolFile.toFile().deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+package dev.ulloasp.mlsuite.model.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Persistent tier of the prediction cache. The key already pins the model binary (through its storage etag), so a
+ * row never goes stale; it only expires.
+ */
+@Table(name = "prediction_cache", indexes = {
+        @Index(name = "idx_prediction_cache_model", columnList = "model_id"),
+        @Index(name = "idx_prediction_cache_expires", columnList = "expires_at")
+})
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+public class CachedPrediction {
+
+    public CachedPrediction(String cacheKey, Long modelId, Map<String, Object> result, OffsetDateTime expiresAt) {
+        this.cacheKey = cacheKey;
+        this.modelId = modelId;
+        this.result = result;
+        this.expiresAt = expiresAt;
+    }
+
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(name = "model_id", nullable = false)
+    private Long modelId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "result_json", nullable = false)
+    private Map<String, Object> result;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime expiresAt;
+}
@@ -22,6 +22,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -33,6 +34,8 @@ import lombok.Setter;
 
 @Table(name = "model", uniqueConstraints = {
         @UniqueConstraint(name = "uq_model_name_org", columnNames = { "name", "organization_id" })
+}, indexes = {
+        @Index(name = "idx_model_org_updated", columnList = "organization_id, updated_at, id")
 })
 @Entity
 @Getter
@@ -11,10 +11,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import dev.ulloasp.mlsuite.organization.application.dto.CreateOrganizationRequest;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationAdminDashboardDto;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationDto;
+import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMemberPageDto;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMembershipDto;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMembershipRowDto;
 import dev.ulloasp.mlsuite.organization.application.dto.TransferOrganizationOwnershipRequest;
@@ -59,6 +61,13 @@ public interface OrganizationController {
             Authentication authentication,
             @PathVariable Long organizationId);
 
+    @GetMapping("/{organizationId}/members/page")
+    ResponseEntity<OrganizationMemberPageDto> getMemberPage(
+            Authentication authentication,
+            @PathVariable Long organizationId,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "50") int size);
+
     @PatchMapping("/{organizationId}/members/{membershipId}")
     ResponseEntity<OrganizationMembershipDto> updateMemberRole(
             Authentication authentication,
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RestController;
 import dev.ulloasp.mlsuite.organization.application.dto.CreateOrganizationRequest;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationAdminDashboardDto;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationDto;
+import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMemberPageDto;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMembershipDto;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMembershipRowDto;
 import dev.ulloasp.mlsuite.organization.application.dto.TransferOrganizationOwnershipRequest;
@@ -76,6 +77,16 @@ public class OrganizationControllerImpl implements OrganizationController {
         return ResponseEntity.ok(organizationManagementUseCase.listMembers(currentUserResolver.resolve(authentication).userId(), organizationId));
     }
 
+    @Override
+    public ResponseEntity<OrganizationMemberPageDto> getMemberPage(
+            Authentication authentication,
+            Long organizationId,
+            int page,
+            int size) {
+        return ResponseEntity.ok(organizationManagementUseCase.getMemberPage(
+                currentUserResolver.resolve(authentication).userId(), organizationId, page, size));
+    }
+
     @Override
     public ResponseEntity<OrganizationMembershipDto> updateMemberRole(
             Authentication authentication,
@@ -3,7 +3,9 @@ package dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -14,8 +16,15 @@ import dev.ulloasp.mlsuite.organization.domain.model.OrganizationMembership;
 @Repository
 public interface OrganizationMembershipRepository extends JpaRepository<OrganizationMembership, Long> {
 
+    @EntityGraph(attributePaths = { "organization", "user", "user.currentOrganization", "roleDefinition" })
     List<OrganizationMembership> findByOrganizationIdAndStatusOrderByCreatedAtAsc(Long organizationId, MembershipStatus status);
 
+    @EntityGraph(attributePaths = { "organization", "user", "user.currentOrganization", "roleDefinition" })
+    Page<OrganizationMembership> findPageByOrganizationIdAndStatus(Long organizationId, MembershipStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "organization", "user", "user.currentOrganization", "roleDefinition" })
+    List<OrganizationMembership> findByOrganizationIdAndStatusOrderByCreatedAtAsc(Long organizationId, MembershipStatus status, Pageable pageable);
+
     @Query("SELECT m FROM OrganizationMembership m WHERE m.user.id = :userId AND m.status = 'ACTIVE' ORDER BY m.organization.name ASC")
     List<OrganizationMembership> findActiveByUserId(Long userId);
 
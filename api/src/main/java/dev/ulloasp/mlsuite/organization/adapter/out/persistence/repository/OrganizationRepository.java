@@ -1,8 +1,11 @@
 package dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import dev.ulloasp.mlsuite.organization.domain.model.Organization;
@@ -13,4 +16,7 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
     boolean existsBySlug(String slug);
 
     Optional<Organization> findBySlug(String slug);
+
+    @Query("SELECT o.id FROM Organization o WHERE o.id > :afterId ORDER BY o.id ASC")
+    List<Long> findIdsAfter(Long afterId, Pageable limit);
 }
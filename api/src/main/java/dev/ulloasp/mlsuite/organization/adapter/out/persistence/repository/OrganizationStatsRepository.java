@@ -0,0 +1,27 @@
+package dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import dev.ulloasp.mlsuite.organization.domain.model.OrganizationStats;
+
+@Repository
+public interface OrganizationStatsRepository extends JpaRepository<OrganizationStats, Long> {
+
+    /** Counts every dashboard figure in one round trip; empty when the organization does not exist. */
+    @Query("""
+            SELECT new dev.ulloasp.mlsuite.organization.domain.model.OrganizationStats(
+                o.id,
+                (SELECT count(t) FROM Team t WHERE t.organization.id = o.id),
+                (SELECT count(t) FROM Team t WHERE t.organization.id = o.id AND t.status = 'ACTIVE'),
+                (SELECT count(m) FROM OrganizationMembership m WHERE m.organization.id = o.id AND m.status = 'ACTIVE'),
+                (SELECT count(md) FROM Model md WHERE md.organization.id = o.id),
+                (SELECT count(i) FROM Invitation i WHERE i.organization.id = o.id AND i.status = 'PENDING'))
+            FROM Organization o
+            WHERE o.id = :organizationId
+            """)
+    Optional<OrganizationStats> aggregate(Long organizationId);
+}
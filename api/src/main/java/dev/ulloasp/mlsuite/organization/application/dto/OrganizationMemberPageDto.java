@@ -0,0 +1,11 @@
+package dev.ulloasp.mlsuite.organization.application.dto;
+
+import java.util.List;
+
+public record OrganizationMemberPageDto(
+        List<OrganizationMembershipRowDto> items,
+        int page,
+        int size,
+        long totalItems,
+        boolean hasNext) {
+}
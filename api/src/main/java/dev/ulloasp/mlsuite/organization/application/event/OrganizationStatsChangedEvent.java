@@ -0,0 +1,8 @@
+package dev.ulloasp.mlsuite.organization.application.event;
+
+/**
+ * Published when something counted on the organization admin dashboard changes: teams, active members, models or
+ * pending invitations.
+ */
+public record OrganizationStatsChangedEvent(Long organizationId) {
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import dev.ulloasp.mlsuite.organization.application.dto.CreateOrganizationRequest;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationDto;
+import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMemberPageDto;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationAdminDashboardDto;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMembershipDto;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMembershipRowDto;
@@ -27,6 +28,8 @@ public interface OrganizationManagementUseCase {
 
     List<OrganizationMembershipRowDto> listMembers(Long userId, Long organizationId);
 
+    OrganizationMemberPageDto getMemberPage(Long userId, Long organizationId, int page, int size);
+
     OrganizationMembershipDto updateMemberRole(
             Long userId,
             Long organizationId,
@@ -0,0 +1,97 @@
+package dev.ulloasp.mlsuite.organization.application.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationStatsRepository;
+import dev.ulloasp.mlsuite.organization.application.dto.OrganizationAdminStatsDto;
+import dev.ulloasp.mlsuite.organization.application.event.OrganizationStatsChangedEvent;
+import dev.ulloasp.mlsuite.organization.domain.exception.OrganizationNotFoundException;
+import dev.ulloasp.mlsuite.organization.domain.model.OrganizationStats;
+
+/**
+ * Admin dashboard counters. With {@code mlsuite.organization.stats.materialized} on, they are served from the
+ * {@code organization_stats} row, which is recomputed for the affected organization whenever an
+ * {@link OrganizationStatsChangedEvent} commits and on read once it is older than the configured max age (a safety
+ * net for changes that bypass the services). Otherwise they are aggregated live with a single query.
+ */
+@Service
+@Transactional
+public class OrganizationStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrganizationStatsService.class);
+
+    private final OrganizationStatsRepository statsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean materialized;
+    private final Duration maxAge;
+
+    public OrganizationStatsService(
+            OrganizationStatsRepository statsRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${mlsuite.organization.stats.materialized:true}") boolean materialized,
+            @Value("${mlsuite.organization.stats.max-age:10m}") Duration maxAge) {
+        this.statsRepository = statsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.materialized = materialized;
+        this.maxAge = maxAge;
+    }
+
+    public OrganizationAdminStatsDto stats(Long organizationId) {
+        OrganizationStats stats = materialized
+                ? statsRepository.findById(organizationId)
+                        .filter(this::isFresh)
+                        .orElseGet(() -> refresh(organizationId))
+                : statsRepository.aggregate(organizationId)
+                        .orElseThrow(() -> new OrganizationNotFoundException(organizationId));
+        return new OrganizationAdminStatsDto(
+                stats.getTotalTeams(),
+                stats.getActiveTeams(),
+                stats.getTotalMembers(),
+                stats.getTotalModels(),
+                stats.getPendingInvitations(),
+                0,
+                0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onStatsChanged(OrganizationStatsChangedEvent event) {
+        if (!materialized) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> statsRepository.aggregate(event.organizationId())
+                    .ifPresentOrElse(
+                            this::save,
+                            () -> statsRepository.deleteById(event.organizationId())));
+        } catch (DataAccessException ex) {
+            // The change itself has committed; a missed refresh is repaired once the row exceeds its max age.
+            log.warn("Could not refresh stats of organization {}", event.organizationId(), ex);
+        }
+    }
+
+    private OrganizationStats refresh(Long organizationId) {
+        return save(statsRepository.aggregate(organizationId)
+                .orElseThrow(() -> new OrganizationNotFoundException(organizationId)));
+    }
+
+    private OrganizationStats save(OrganizationStats stats) {
+        stats.setRefreshedAt(OffsetDateTime.now());
+        return statsRepository.save(stats);
+    }
+
+    private boolean isFresh(OrganizationStats stats) {
+        return stats.getRefreshedAt().isAfter(OffsetDateTime.now().minus(maxAge));
+    }
+}
@@ -2,24 +2,28 @@ package dev.ulloasp.mlsuite.organization.application.usecase;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import dev.ulloasp.mlsuite.invitation.adapter.out.persistence.repository.InvitationRepository;
-import dev.ulloasp.mlsuite.invitation.domain.model.InvitationStatus;
-import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationMembershipRepository;
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationRepository;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationAdminDashboardDto;
-import dev.ulloasp.mlsuite.organization.application.dto.OrganizationAdminStatsDto;
 import dev.ulloasp.mlsuite.organization.application.dto.CreateOrganizationRequest;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationDto;
+import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMemberPageDto;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMembershipDto;
 import dev.ulloasp.mlsuite.organization.application.dto.OrganizationMembershipRowDto;
 import dev.ulloasp.mlsuite.organization.application.dto.TransferOrganizationOwnershipRequest;
 import dev.ulloasp.mlsuite.organization.application.dto.UpdateOrganizationMembershipRoleRequest;
 import dev.ulloasp.mlsuite.organization.application.dto.UpdateOrganizationRequest;
+import dev.ulloasp.mlsuite.organization.application.event.OrganizationStatsChangedEvent;
 import dev.ulloasp.mlsuite.organization.application.port.in.OrganizationManagementUseCase;
+import dev.ulloasp.mlsuite.organization.application.service.OrganizationStatsService;
 import dev.ulloasp.mlsuite.organization.domain.exception.OrganizationAlreadyExistsException;
 import dev.ulloasp.mlsuite.organization.domain.exception.OrganizationNotFoundException;
 import dev.ulloasp.mlsuite.organization.domain.model.MembershipStatus;
@@ -31,10 +35,9 @@ import dev.ulloasp.mlsuite.role.application.service.RoleSeedService;
 import dev.ulloasp.mlsuite.role.domain.model.OrganizationSystemRole;
 import dev.ulloasp.mlsuite.role.domain.model.RoleDefinition;
 import dev.ulloasp.mlsuite.user.domain.model.User;
-import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamMembershipRepository;
 import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamRepository;
 import dev.ulloasp.mlsuite.team.application.dto.TeamDto;
-import dev.ulloasp.mlsuite.team.domain.model.TeamStatus;
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
 
@@ -42,16 +45,18 @@ import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationS
 @Transactional
 public class OrganizationManagementService implements OrganizationManagementUseCase {
 
+    private static final int DASHBOARD_ITEMS = 5;
+
     private final WorkspaceAccessService workspaceAccessService;
     private final WorkspaceAuthorizationService workspaceAuthorizationService;
     private final OrganizationRepository organizationRepository;
     private final OrganizationMembershipRepository membershipRepository;
     private final TeamRepository teamRepository;
-    private final TeamMembershipRepository teamMembershipRepository;
-    private final ModelRepository modelRepository;
     private final InvitationRepository invitationRepository;
     private final RoleSeedService roleSeedService;
     private final RoleDefinitionRepository roleDefinitionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrganizationStatsService organizationStatsService;
 
     public OrganizationManagementService(
             WorkspaceAccessService workspaceAccessService,
@@ -59,21 +64,21 @@ public class OrganizationManagementService implements OrganizationManagementUseC
             OrganizationRepository organizationRepository,
             OrganizationMembershipRepository membershipRepository,
             TeamRepository teamRepository,
-            TeamMembershipRepository teamMembershipRepository,
-            ModelRepository modelRepository,
             InvitationRepository invitationRepository,
             RoleSeedService roleSeedService,
-            RoleDefinitionRepository roleDefinitionRepository) {
+            RoleDefinitionRepository roleDefinitionRepository,
+            ApplicationEventPublisher eventPublisher,
+            OrganizationStatsService organizationStatsService) {
         this.workspaceAccessService = workspaceAccessService;
         this.workspaceAuthorizationService = workspaceAuthorizationService;
         this.organizationRepository = organizationRepository;
         this.membershipRepository = membershipRepository;
         this.teamRepository = teamRepository;
-        this.teamMembershipRepository = teamMembershipRepository;
-        this.modelRepository = modelRepository;
         this.invitationRepository = invitationRepository;
         this.roleSeedService = roleSeedService;
         this.roleDefinitionRepository = roleDefinitionRepository;
+        this.eventPublisher = eventPublisher;
+        this.organizationStatsService = organizationStatsService;
     }
 
     @Override
@@ -107,6 +112,7 @@ public class OrganizationManagementService implements OrganizationManagementUseC
         membership.setRoleDefinition(roleSeedService.orgRole(organization, OrganizationRole.OWNER));
         membershipRepository.save(membership);
         user.setCurrentOrganization(organization);
+        eventPublisher.publishEvent(PermissionsChangedEvent.user(userId));
         return OrganizationDto.from(organization);
     }
 
@@ -122,30 +128,23 @@ public class OrganizationManagementService implements OrganizationManagementUseC
         workspaceAuthorizationService.requireOrganizationRead(userId, organizationId);
         var org = organizationRepository.findById(organizationId)
                 .orElseThrow(() -> new OrganizationNotFoundException(organizationId));
-        var stats = new OrganizationAdminStatsDto(
-                teamRepository.countByOrganizationId(organizationId),
-                teamRepository.countByOrganizationIdAndStatus(organizationId, TeamStatus.ACTIVE),
-                membershipRepository.countByOrganizationIdAndStatus(organizationId, MembershipStatus.ACTIVE),
-                modelRepository.countByOrganizationId(organizationId),
-                invitationRepository.countByOrganizationIdAndStatus(organizationId, InvitationStatus.PENDING),
-                0,
-                0);
-        var teams = teamRepository.findByOrganizationIdOrderByNameAsc(organizationId).stream()
-                .limit(5)
-                .map(team -> TeamDto.from(
-                        team,
-                        teamMembershipRepository.countByTeamIdAndStatus(team.getId(), MembershipStatus.ACTIVE),
-                        modelRepository.countByTeamId(team.getId()),
-                        0))
+        var top = PageRequest.ofSize(DASHBOARD_ITEMS);
+        var teams = teamRepository.findWithCountsByOrganizationId(organizationId, top).stream()
+                .map(row -> TeamDto.from(row.team(), row.memberCount(), row.modelCount(), 0))
+                .toList();
+        workspaceAuthorizationService.requireOrganizationMemberView(userId, organizationId);
+        var actions = workspaceAuthorizationService.organizationMemberActions(userId, organizationId);
+        var members = membershipRepository.findByOrganizationIdAndStatusOrderByCreatedAtAsc(organizationId, MembershipStatus.ACTIVE, top)
+                .stream()
+                .map(membership -> OrganizationMembershipRowDto.from(membership, actions.apply(membership)))
                 .toList();
         return new OrganizationAdminDashboardDto(
                 OrganizationDto.from(org),
                 workspaceAuthorizationService.workspacePermissions(userId, organizationId),
-                stats,
+                organizationStatsService.stats(organizationId),
                 teams,
-                listMembers(userId, organizationId).stream().limit(5).toList(),
-                invitationRepository.findByOrganizationIdOrderByCreatedAtDesc(organizationId).stream()
-                        .limit(5)
+                members,
+                invitationRepository.findByOrganizationIdOrderByCreatedAtDesc(organizationId, top).stream()
                         .map(dev.ulloasp.mlsuite.invitation.application.dto.InvitationDto::from)
                         .toList());
     }
@@ -164,21 +163,37 @@ public class OrganizationManagementService implements OrganizationManagementUseC
         workspaceAuthorizationService.requireOrganizationDelete(userId, organizationId);
         Organization organization = workspaceAccessService.requireMembership(userId, organizationId).getOrganization();
         organizationRepository.delete(organization);
+        eventPublisher.publishEvent(PermissionsChangedEvent.organization(organizationId));
+        eventPublisher.publishEvent(new OrganizationStatsChangedEvent(organizationId));
     }
 
     @Override
     public List<OrganizationMembershipRowDto> listMembers(Long userId, Long organizationId) {
         workspaceAuthorizationService.requireOrganizationMemberView(userId, organizationId);
-        roleSeedService.ensureOrganizationRoles(organizationRepository.findById(organizationId)
-                .orElseThrow(() -> new dev.ulloasp.mlsuite.organization.domain.exception.OrganizationNotFoundException(organizationId)));
+        var actions = workspaceAuthorizationService.organizationMemberActions(userId, organizationId);
         return membershipRepository.findByOrganizationIdAndStatusOrderByCreatedAtAsc(organizationId, MembershipStatus.ACTIVE)
                 .stream()
-                .map(membership -> OrganizationMembershipRowDto.from(
-                        membership,
-                        workspaceAuthorizationService.organizationMemberActions(userId, organizationId, membership)))
+                .map(membership -> OrganizationMembershipRowDto.from(membership, actions.apply(membership)))
                 .toList();
     }
 
+    @Override
+    public OrganizationMemberPageDto getMemberPage(Long userId, Long organizationId, int page, int size) {
+        workspaceAuthorizationService.requireOrganizationMemberView(userId, organizationId);
+        var actions = workspaceAuthorizationService.organizationMemberActions(userId, organizationId);
+        Page<OrganizationMembership> members = membershipRepository.findPageByOrganizationIdAndStatus(
+                organizationId,
+                MembershipStatus.ACTIVE,
+                PageRequest.of(Math.max(page, 0), normalizePageSize(size), Sort.by("createdAt", "id")));
+        return new OrganizationMemberPageDto(
+                members.map(membership -> OrganizationMembershipRowDto.from(membership, actions.apply(membership)))
+                        .getContent(),
+                members.getNumber(),
+                members.getSize(),
+                members.getTotalElements(),
+                members.hasNext());
+    }
+
     @Override
     public OrganizationMembershipDto updateMemberRole(
             Long userId,
@@ -201,6 +216,7 @@ public class OrganizationManagementService implements OrganizationManagementUseC
                 .orElseThrow(() -> new IllegalArgumentException("Role does not exist."));
         membership.setRoleDefinition(nextRole);
         membership.setRole(legacyRole(nextRole));
+        eventPublisher.publishEvent(PermissionsChangedEvent.member(organizationId, membership.getUser().getId()));
         return OrganizationMembershipDto.from(membershipRepository.save(membership));
     }
 
@@ -218,6 +234,8 @@ public class OrganizationManagementService implements OrganizationManagementUseC
         }
         membership.setStatus(MembershipStatus.REMOVED);
         membershipRepository.save(membership);
+        eventPublisher.publishEvent(PermissionsChangedEvent.member(organizationId, membership.getUser().getId()));
+        eventPublisher.publishEvent(new OrganizationStatsChangedEvent(organizationId));
     }
 
     @Override
@@ -246,9 +264,18 @@ public class OrganizationManagementService implements OrganizationManagementUseC
         currentOwner.setRoleDefinition(roleSeedService.orgRole(nextOwner.getOrganization(), OrganizationRole.ADMIN));
         nextOwner.setRoleDefinition(roleSeedService.orgRole(nextOwner.getOrganization(), OrganizationRole.OWNER));
         membershipRepository.save(currentOwner);
+        eventPublisher.publishEvent(PermissionsChangedEvent.member(organizationId, currentOwner.getUser().getId()));
+        eventPublisher.publishEvent(PermissionsChangedEvent.member(organizationId, nextOwner.getUser().getId()));
         return OrganizationMembershipDto.from(membershipRepository.save(nextOwner));
     }
 
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return 50;
+        }
+        return Math.min(size, 200);
+    }
+
     private String normalizeSlug(String rawSlug, String rawName) {
         String base = (rawSlug != null && !rawSlug.isBlank() ? rawSlug : rawName)
                 .toLowerCase()
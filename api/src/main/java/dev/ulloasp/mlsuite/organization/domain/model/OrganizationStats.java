@@ -0,0 +1,56 @@
+package dev.ulloasp.mlsuite.organization.domain.model;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Materialized admin dashboard counters for one organization. Rows are recomputed by
+ * {@code OrganizationStatsService} when an {@code OrganizationStatsChangedEvent} commits and are treated as stale
+ * once older than {@code mlsuite.organization.stats.max-age}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "organization_stats")
+public class OrganizationStats {
+
+    public OrganizationStats(Long organizationId, long totalTeams, long activeTeams, long totalMembers,
+            long totalModels, long pendingInvitations) {
+        this.organizationId = organizationId;
+        this.totalTeams = totalTeams;
+        this.activeTeams = activeTeams;
+        this.totalMembers = totalMembers;
+        this.totalModels = totalModels;
+        this.pendingInvitations = pendingInvitations;
+    }
+
+    @Id
+    @Column(name = "organization_id")
+    private Long organizationId;
+
+    @Column(name = "total_teams", nullable = false)
+    private long totalTeams;
+
+    @Column(name = "active_teams", nullable = false)
+    private long activeTeams;
+
+    @Column(name = "total_members", nullable = false)
+    private long totalMembers;
+
+    @Column(name = "total_models", nullable = false)
+    private long totalModels;
+
+    @Column(name = "pending_invitations", nullable = false)
+    private long pendingInvitations;
+
+    @Column(name = "refreshed_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime refreshedAt;
+}
@@ -4,8 +4,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -28,7 +30,20 @@ public interface PluginController {
             @RequestParam(name = "size", defaultValue = "24") int size,
             @RequestParam(name = "type", defaultValue = "all") String type,
             @RequestParam(name = "search", defaultValue = "") String search,
-            @RequestParam(name = "sort", defaultValue = "updated") String sort);
+            @RequestParam(name = "sort", defaultValue = "updated") String sort,
+            @RequestParam(name = "cursor", required = false) String cursor);
+
+    @GetMapping("/item")
+    ResponseEntity<PluginDto> get(
+            Authentication authentication,
+            @RequestParam("id") String id);
+
+    @GetMapping("/source/{hash}")
+    ResponseEntity<byte[]> source(
+            Authentication authentication,
+            @PathVariable String hash,
+            @RequestHeader(name = "If-None-Match", required = false) String ifNoneMatch,
+            @RequestHeader(name = "Accept-Encoding", defaultValue = "") String acceptEncoding);
 
     @GetMapping("/stats")
     ResponseEntity<PluginStatsDto> stats(Authentication authentication);
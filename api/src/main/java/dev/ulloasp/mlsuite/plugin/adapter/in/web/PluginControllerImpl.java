@@ -1,6 +1,13 @@
 package dev.ulloasp.mlsuite.plugin.adapter.in.web;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.RestController;
@@ -8,9 +15,12 @@ import org.springframework.web.multipart.MultipartFile;
 
 import dev.ulloasp.mlsuite.plugin.application.dto.PluginDto;
 import dev.ulloasp.mlsuite.plugin.application.dto.PluginPageDto;
+import dev.ulloasp.mlsuite.plugin.application.dto.PluginSourceDto;
 import dev.ulloasp.mlsuite.plugin.application.dto.PluginStatsDto;
 import dev.ulloasp.mlsuite.plugin.application.port.in.DeletePluginUseCase;
+import dev.ulloasp.mlsuite.plugin.application.port.in.GetPluginSourceUseCase;
 import dev.ulloasp.mlsuite.plugin.application.port.in.GetPluginStatsUseCase;
+import dev.ulloasp.mlsuite.plugin.application.port.in.GetPluginUseCase;
 import dev.ulloasp.mlsuite.plugin.application.port.in.ListPluginsUseCase;
 import dev.ulloasp.mlsuite.plugin.application.port.in.UploadPluginUseCase;
 import dev.ulloasp.mlsuite.security.identity.CurrentUserResolver;
@@ -18,9 +28,16 @@ import dev.ulloasp.mlsuite.security.identity.CurrentUserResolver;
 @RestController
 public class PluginControllerImpl implements PluginController {
 
+    /** Sources are addressed by their content hash, so a cached copy can never go stale. */
+    private static final CacheControl SOURCE_CACHE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate()
+            .immutable();
+    private static final MediaType SOURCE_TYPE = MediaType.parseMediaType("text/plain;charset=UTF-8");
+
     private final CurrentUserResolver currentUserResolver;
     private final UploadPluginUseCase uploadPluginUseCase;
     private final ListPluginsUseCase listPluginsUseCase;
+    private final GetPluginUseCase getPluginUseCase;
+    private final GetPluginSourceUseCase getPluginSourceUseCase;
     private final GetPluginStatsUseCase getPluginStatsUseCase;
     private final DeletePluginUseCase deletePluginUseCase;
 
@@ -28,11 +45,15 @@ public class PluginControllerImpl implements PluginController {
             CurrentUserResolver currentUserResolver,
             UploadPluginUseCase uploadPluginUseCase,
             ListPluginsUseCase listPluginsUseCase,
+            GetPluginUseCase getPluginUseCase,
+            GetPluginSourceUseCase getPluginSourceUseCase,
             GetPluginStatsUseCase getPluginStatsUseCase,
             DeletePluginUseCase deletePluginUseCase) {
         this.currentUserResolver = currentUserResolver;
         this.uploadPluginUseCase = uploadPluginUseCase;
         this.listPluginsUseCase = listPluginsUseCase;
+        this.getPluginUseCase = getPluginUseCase;
+        this.getPluginSourceUseCase = getPluginSourceUseCase;
         this.getPluginStatsUseCase = getPluginStatsUseCase;
         this.deletePluginUseCase = deletePluginUseCase;
     }
@@ -50,14 +71,49 @@ public class PluginControllerImpl implements PluginController {
             int size,
             String type,
             String search,
-            String sort) {
+            String sort,
+            String cursor) {
         return ResponseEntity.ok(listPluginsUseCase.list(
                 currentUserResolver.resolve(authentication).userId(),
                 page,
                 size,
                 type,
                 search,
-                sort));
+                sort,
+                cursor));
+    }
+
+    @Override
+    public ResponseEntity<PluginDto> get(Authentication authentication, String id) {
+        return ResponseEntity.ok(getPluginUseCase.get(currentUserResolver.resolve(authentication).userId(), id));
+    }
+
+    @Override
+    public ResponseEntity<byte[]> source(
+            Authentication authentication,
+            String hash,
+            String ifNoneMatch,
+            String acceptEncoding) {
+        Long userId = currentUserResolver.resolve(authentication).userId();
+        String etag = matchingEtag(hash, ifNoneMatch);
+        if (etag != null) {
+            getPluginSourceUseCase.requireSource(userId, hash);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(SOURCE_CACHE)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        PluginSourceDto source = getPluginSourceUseCase.source(userId, hash, acceptsGzip(acceptEncoding));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(sourceEtag(hash, source.gzipped()))
+                .cacheControl(SOURCE_CACHE)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(SOURCE_TYPE);
+        if (source.gzipped()) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(source.content());
     }
 
     @Override
@@ -70,5 +126,27 @@ public class PluginControllerImpl implements PluginController {
         deletePluginUseCase.delete(currentUserResolver.resolve(authentication).userId(), id);
         return ResponseEntity.noContent().build();
     }
-}
 
+    /** Each encoding gets its own strong tag, as the bytes differ. */
+    private static String sourceEtag(String hash, boolean gzipped) {
+        return "\"" + hash + (gzipped ? "-gzip" : "") + "\"";
+    }
+
+    private static String matchingEtag(String hash, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::strip)
+                .filter(tag -> tag.equals(sourceEtag(hash, false)) || tag.equals(sourceEtag(hash, true)))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return Arrays.stream(acceptEncoding.toLowerCase(Locale.ROOT).split(","))
+                .map(String::strip)
+                .anyMatch(coding -> coding.equals("gzip")
+                        || coding.startsWith("gzip;") && !coding.matches(".*q=0(\\.0*)?"));
+    }
+}
@@ -1,5 +1,6 @@
 package dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +24,124 @@ public interface PluginMetadataRepository extends JpaRepository<PluginMetadata,
     List<PluginMetadata> searchByOrganizationId(Long organizationId, String search, Pageable pageable);
 
     Optional<PluginMetadata> findByIdAndOrganizationId(String id, Long organizationId);
+
+    boolean existsByOrganizationIdAndSourceHash(Long organizationId, String sourceHash);
+
+    /** Rows still missing their content-addressed source, or analyzed by an older descriptor scanner. */
+    @Query("""
+            SELECT p FROM PluginMetadata p
+            WHERE p.organization.id = :organizationId
+            AND (p.sourceHash IS NULL OR p.descriptorVersion IS NULL OR p.descriptorVersion < :descriptorVersion)
+            """)
+    List<PluginMetadata> findStale(Long organizationId, int descriptorVersion);
+
+    /**
+     * First catalog page by most recently updated, or an offset page. A null {@code pluginType} matches every type.
+     */
+    @Query("""
+            SELECT p FROM PluginMetadata p
+            WHERE p.organization.id = :organizationId
+            AND (:pluginType IS NULL OR p.pluginType = :pluginType)
+            AND (
+                :search = ''
+                OR lower(p.fileName) LIKE concat('%', :search, '%')
+                OR lower(coalesce(p.kind, '')) LIKE concat('%', :search, '%')
+            )
+            ORDER BY p.updatedAt DESC, p.id DESC
+            """)
+    List<PluginMetadata> findCatalogByUpdated(
+            Long organizationId,
+            String pluginType,
+            String search,
+            Pageable limit);
+
+    /** The catalog page after the row at {@code (afterUpdatedAt, afterId)}, sought as an index range. */
+    @Query("""
+            SELECT p FROM PluginMetadata p
+            WHERE p.organization.id = :organizationId
+            AND (:pluginType IS NULL OR p.pluginType = :pluginType)
+            AND (
+                :search = ''
+                OR lower(p.fileName) LIKE concat('%', :search, '%')
+                OR lower(coalesce(p.kind, '')) LIKE concat('%', :search, '%')
+            )
+            AND (p.updatedAt, p.id) < (:afterUpdatedAt, :afterId)
+            ORDER BY p.updatedAt DESC, p.id DESC
+            """)
+    List<PluginMetadata> findCatalogByUpdatedAfter(
+            Long organizationId,
+            String pluginType,
+            String search,
+            OffsetDateTime afterUpdatedAt,
+            String afterId,
+            Pageable limit);
+
+    /** First catalog page by case-insensitive kind, or file name for plugins without a kind, or an offset page. */
+    @Query("""
+            SELECT p FROM PluginMetadata p
+            WHERE p.organization.id = :organizationId
+            AND (:pluginType IS NULL OR p.pluginType = :pluginType)
+            AND (
+                :search = ''
+                OR lower(p.fileName) LIKE concat('%', :search, '%')
+                OR lower(coalesce(p.kind, '')) LIKE concat('%', :search, '%')
+            )
+            ORDER BY lower(coalesce(p.kind, p.fileName)) ASC, p.id ASC
+            """)
+    List<PluginMetadata> findCatalogByName(
+            Long organizationId,
+            String pluginType,
+            String search,
+            Pageable limit);
+
+    /** The catalog page after the row at {@code (afterName, afterId)}, sought as an index range. */
+    @Query("""
+            SELECT p FROM PluginMetadata p
+            WHERE p.organization.id = :organizationId
+            AND (:pluginType IS NULL OR p.pluginType = :pluginType)
+            AND (
+                :search = ''
+                OR lower(p.fileName) LIKE concat('%', :search, '%')
+                OR lower(coalesce(p.kind, '')) LIKE concat('%', :search, '%')
+            )
+            AND (lower(coalesce(p.kind, p.fileName)), p.id) > (:afterName, :afterId)
+            ORDER BY lower(coalesce(p.kind, p.fileName)) ASC, p.id ASC
+            """)
+    List<PluginMetadata> findCatalogByNameAfter(
+            Long organizationId,
+            String pluginType,
+            String search,
+            String afterName,
+            String afterId,
+            Pageable limit);
+
+    @Query("""
+            SELECT count(p) FROM PluginMetadata p
+            WHERE p.organization.id = :organizationId
+            AND (:pluginType IS NULL OR p.pluginType = :pluginType)
+            AND (
+                :search = ''
+                OR lower(p.fileName) LIKE concat('%', :search, '%')
+                OR lower(coalesce(p.kind, '')) LIKE concat('%', :search, '%')
+            )
+            """)
+    long countCatalog(Long organizationId, String pluginType, String search);
+
+    @Query("""
+            SELECT new dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository.PluginTypeCount(
+                p.pluginType, count(p))
+            FROM PluginMetadata p
+            WHERE p.organization.id = :organizationId
+            GROUP BY p.pluginType
+            """)
+    List<PluginTypeCount> countByType(Long organizationId);
+
+    @Query("SELECT p.id FROM PluginMetadata p WHERE p.organization.id = :organizationId")
+    List<String> findIdsByOrganizationId(Long organizationId);
+
+    @Query("""
+            SELECT DISTINCT p.sourceHash FROM PluginMetadata p
+            WHERE p.organization.id = :organizationId AND p.sourceHash IS NOT NULL
+            """)
+    List<String> findSourceHashesByOrganizationId(Long organizationId);
 }
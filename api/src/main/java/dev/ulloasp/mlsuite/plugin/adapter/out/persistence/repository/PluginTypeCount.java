@@ -0,0 +1,4 @@
+package dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository;
+
+public record PluginTypeCount(String pluginType, long count) {
+}
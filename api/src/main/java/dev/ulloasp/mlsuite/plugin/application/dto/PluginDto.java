@@ -11,6 +11,7 @@ public record PluginDto(
         OffsetDateTime updatedAt,
         String source,
         String pluginType,
-        String kind) {
+        String kind,
+        String sourceHash) {
 }
 
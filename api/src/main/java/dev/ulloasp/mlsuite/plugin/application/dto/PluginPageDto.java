@@ -6,6 +6,7 @@ public record PluginPageDto(
         List<PluginDto> items,
         int page,
         int size,
-        long totalItems,
-        boolean hasNext) {
+        Long totalItems,
+        boolean hasNext,
+        String nextCursor) {
 }
@@ -0,0 +1,8 @@
+package dev.ulloasp.mlsuite.plugin.application.dto;
+
+/** Plugin source bytes addressed by their SHA-256, gzip-encoded when {@code gzipped} is set. */
+public record PluginSourceDto(
+        String hash,
+        byte[] content,
+        boolean gzipped) {
+}
@@ -0,0 +1,12 @@
+package dev.ulloasp.mlsuite.plugin.application.port.in;
+
+import dev.ulloasp.mlsuite.plugin.application.dto.PluginSourceDto;
+
+public interface GetPluginSourceUseCase {
+
+    /** Fails unless a plugin in the user's organization has this source; lets callers answer 304s without a load. */
+    void requireSource(Long userId, String hash);
+
+    /** The source with this hash, precompressed when the client accepts gzip and a compressed copy exists. */
+    PluginSourceDto source(Long userId, String hash, boolean acceptsGzip);
+}
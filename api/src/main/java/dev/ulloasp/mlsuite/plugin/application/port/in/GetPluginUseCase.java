@@ -0,0 +1,9 @@
+package dev.ulloasp.mlsuite.plugin.application.port.in;
+
+import dev.ulloasp.mlsuite.plugin.application.dto.PluginDto;
+
+public interface GetPluginUseCase {
+
+    /** The plugin with its source; catalog pages leave the source out. */
+    PluginDto get(Long userId, String id);
+}
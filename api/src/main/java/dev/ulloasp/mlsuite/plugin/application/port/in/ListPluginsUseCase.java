@@ -4,5 +4,9 @@ import dev.ulloasp.mlsuite.plugin.application.dto.PluginPageDto;
 
 public interface ListPluginsUseCase {
 
-    PluginPageDto list(Long userId, int page, int size, String type, String search, String sort);
+    /**
+     * Keyset paging from {@code cursor} (or from the top when it is null and {@code page} is 0); a non-zero
+     * {@code page} without a cursor falls back to offset paging.
+     */
+    PluginPageDto list(Long userId, int page, int size, String type, String search, String sort, String cursor);
 }
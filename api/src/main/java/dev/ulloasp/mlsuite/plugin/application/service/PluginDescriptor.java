@@ -0,0 +1,10 @@
+package dev.ulloasp.mlsuite.plugin.application.service;
+
+import java.util.List;
+
+/**
+ * What a plugin source declares: its {@code type} ({@code field}, {@code report} or {@code invalid}), the kind of the
+ * first definition of that type, every defined kind in source order, and the module's exported names.
+ */
+record PluginDescriptor(String type, String kind, List<String> kinds, List<String> exports) {
+}
@@ -0,0 +1,288 @@
+package dev.ulloasp.mlsuite.plugin.application.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Single forward pass over a plugin source that finds its {@code defineField*}/{@code defineReport*} calls, the
+ * {@code kind} each one declares and the names the module exports. Comments and string literals are skipped, so
+ * commented-out definitions do not count, and every character is visited a bounded number of times, so pasted
+ * bundles of any size scan in linear time. Regular expression literals are not recognized; a quote inside one can
+ * hide the rest of that line.
+ *
+ * <p>Bump {@link #VERSION} whenever the result for some source changes: the plugin metadata reconciler re-analyzes
+ * every row stored with an older version.
+ */
+final class PluginDescriptorScanner {
+
+    static final int VERSION = 1;
+
+    private final String source;
+    private final int length;
+    private final List<String> fieldKinds = new ArrayList<>();
+    private final List<String> reportKinds = new ArrayList<>();
+    private final List<String> kinds = new ArrayList<>();
+    private final Set<String> exports = new LinkedHashSet<>();
+    private int pos;
+
+    private PluginDescriptorScanner(String source) {
+        this.source = source;
+        this.length = source.length();
+    }
+
+    static PluginDescriptor scan(String source) {
+        return new PluginDescriptorScanner(source).run();
+    }
+
+    private PluginDescriptor run() {
+        while (pos < length) {
+            char c = source.charAt(pos);
+            if (skipComment() || skipString()) {
+                continue;
+            }
+            if (!Character.isJavaIdentifierStart(c)) {
+                pos++;
+                continue;
+            }
+            switch (readIdentifier()) {
+                case "defineFieldKind", "defineFieldDefinition" -> definition(fieldKinds);
+                case "defineReportKind", "defineReportDefinition" -> definition(reportKinds);
+                case "export" -> export();
+                default -> {
+                }
+            }
+        }
+        List<String> exported = List.copyOf(exports);
+        if (!fieldKinds.isEmpty()) {
+            return new PluginDescriptor("field", fieldKinds.getFirst(), List.copyOf(kinds), exported);
+        }
+        if (!reportKinds.isEmpty()) {
+            return new PluginDescriptor("report", reportKinds.getFirst(), List.copyOf(kinds), exported);
+        }
+        return new PluginDescriptor("invalid", null, List.of(), exported);
+    }
+
+    /** Reads the call's arguments up to the closing parenthesis, taking the first top-level {@code kind} string. */
+    private void definition(List<String> target) {
+        skipTrivia();
+        if (peek() != '(') {
+            return;
+        }
+        pos++;
+        int depth = 0;
+        String kind = null;
+        while (pos < length && depth >= 0) {
+            char c = source.charAt(pos);
+            if (skipComment()) {
+                continue;
+            }
+            if (isQuote(c)) {
+                String literal = readString();
+                if (kind == null && depth == 1 && "kind".equals(literal)) {
+                    kind = propertyValue();
+                }
+            } else if (Character.isJavaIdentifierStart(c)) {
+                String word = readIdentifier();
+                if (kind == null && depth == 1 && "kind".equals(word)) {
+                    kind = propertyValue();
+                }
+            } else {
+                if (c == '(' || c == '[' || c == '{') {
+                    depth++;
+                } else if (c == ')' || c == ']' || c == '}') {
+                    depth--;
+                }
+                pos++;
+            }
+        }
+        if (kind != null && !kind.isEmpty()) {
+            target.add(kind);
+            kinds.add(kind);
+        }
+    }
+
+    /** After a property key: the string it is assigned, or null when the value is not a plain string literal. */
+    private String propertyValue() {
+        skipTrivia();
+        if (peek() != ':') {
+            return null;
+        }
+        pos++;
+        skipTrivia();
+        return isQuote(peek()) ? readString() : null;
+    }
+
+    private void export() {
+        skipTrivia();
+        char c = peek();
+        if (c == '{') {
+            pos++;
+            exportList();
+            return;
+        }
+        if (c == '*') {
+            pos++;
+            skipTrivia();
+            if (identifierAhead() && "as".equals(readIdentifier())) {
+                skipTrivia();
+                addExport();
+            }
+            return;
+        }
+        if (!identifierAhead()) {
+            return;
+        }
+        String word = readIdentifier();
+        switch (word) {
+            case "default" -> exports.add("default");
+            case "async", "declare", "abstract" -> export();
+            case "type" -> {
+                skipTrivia();
+                if (peek() == '{') {
+                    pos++;
+                    exportList();
+                } else {
+                    addExport();
+                }
+            }
+            case "function" -> {
+                skipTrivia();
+                if (peek() == '*') {
+                    pos++;
+                    skipTrivia();
+                }
+                addExport();
+            }
+            case "const", "let", "var", "class", "interface", "enum", "namespace" -> {
+                skipTrivia();
+                addExport();
+            }
+            default -> {
+            }
+        }
+    }
+
+    /** {@code { a, b as c, type d }} after the opening brace; records each exported (aliased) name. */
+    private void exportList() {
+        while (pos < length) {
+            skipTrivia();
+            char c = peek();
+            if (c == '}') {
+                pos++;
+                return;
+            }
+            if (!identifierAhead()) {
+                pos++;
+                continue;
+            }
+            String name = readIdentifier();
+            skipTrivia();
+            if ("type".equals(name) && identifierAhead()) {
+                name = readIdentifier();
+                skipTrivia();
+            }
+            if (identifierAhead()) {
+                int mark = pos;
+                if ("as".equals(readIdentifier())) {
+                    skipTrivia();
+                    name = identifierAhead() ? readIdentifier() : name;
+                } else {
+                    pos = mark;
+                }
+            }
+            exports.add(name);
+        }
+    }
+
+    private void addExport() {
+        if (identifierAhead()) {
+            exports.add(readIdentifier());
+        }
+    }
+
+    private void skipTrivia() {
+        while (pos < length) {
+            if (Character.isWhitespace(source.charAt(pos))) {
+                pos++;
+            } else if (!skipComment()) {
+                return;
+            }
+        }
+    }
+
+    private boolean skipComment() {
+        if (peek() != '/' || pos + 1 >= length) {
+            return false;
+        }
+        char next = source.charAt(pos + 1);
+        if (next == '/') {
+            int end = source.indexOf('\n', pos + 2);
+            pos = end < 0 ? length : end + 1;
+            return true;
+        }
+        if (next == '*') {
+            int end = source.indexOf("*/", pos + 2);
+            pos = end < 0 ? length : end + 2;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean skipString() {
+        if (!isQuote(peek())) {
+            return false;
+        }
+        readString();
+        return true;
+    }
+
+    /**
+     * Reads the literal at {@code pos} and returns its text. Template literals are skipped as a whole, including any
+     * {@code ${...}} parts, and read as the empty string so they never count as a kind.
+     */
+    private String readString() {
+        char quote = source.charAt(pos++);
+        StringBuilder text = new StringBuilder();
+        int interpolation = 0;
+        while (pos < length) {
+            char c = source.charAt(pos++);
+            if (c == '\\' && pos < length) {
+                text.append(source.charAt(pos++));
+            } else if (quote == '`' && c == '$' && peek() == '{') {
+                interpolation++;
+                pos++;
+            } else if (interpolation > 0 && c == '}') {
+                interpolation--;
+            } else if (c == quote && interpolation == 0) {
+                break;
+            } else if (quote != '`' && c == '\n') {
+                break;
+            } else {
+                text.append(c);
+            }
+        }
+        return quote == '`' ? "" : text.toString();
+    }
+
+    private String readIdentifier() {
+        int start = pos++;
+        while (pos < length && Character.isJavaIdentifierPart(source.charAt(pos))) {
+            pos++;
+        }
+        return source.substring(start, pos);
+    }
+
+    private boolean identifierAhead() {
+        return pos < length && Character.isJavaIdentifierStart(source.charAt(pos));
+    }
+
+    private char peek() {
+        return pos < length ? source.charAt(pos) : '\0';
+    }
+
+    private static boolean isQuote(char c) {
+        return c == '"' || c == '\'' || c == '`';
+    }
+}
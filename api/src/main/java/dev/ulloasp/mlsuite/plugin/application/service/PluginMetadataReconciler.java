@@ -0,0 +1,248 @@
+package dev.ulloasp.mlsuite.plugin.application.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationRepository;
+import dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository.PluginMetadataRepository;
+import dev.ulloasp.mlsuite.plugin.domain.model.PluginMetadata;
+import dev.ulloasp.mlsuite.plugin.domain.model.StoredPlugin;
+import dev.ulloasp.mlsuite.storage.ObjectStorageService;
+import dev.ulloasp.mlsuite.storage.StorageProperties;
+import dev.ulloasp.mlsuite.storage.StoredObjectItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps {@code plugin_metadata}, which serves the plugin catalog, in step with the plugin objects in storage. Every
+ * {@code mlsuite.plugin.reconcile.interval} each organization's items are listed once: objects without a row (written
+ * before the table existed, or whose row insert failed) are indexed, and rows whose object is gone are dropped. Rows
+ * without a {@code sourceHash} get their content-addressed source written, and rows analyzed by an older
+ * {@link PluginDescriptorScanner#VERSION} are scanned again. Row ids are read before the listing, so a plugin uploaded
+ * mid-pass is never mistaken for an orphan. Finally, source objects no row references are deleted once they are older
+ * than {@code mlsuite.plugin.reconcile.source-grace}; an upload rewrites its source before inserting the row, so the
+ * grace period keeps a source whose row is still being written.
+ */
+@Component
+public class PluginMetadataReconciler implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PluginMetadataReconciler.class);
+    private static final int ORGANIZATION_CHUNK = 100;
+
+    private final OrganizationRepository organizationRepository;
+    private final PluginMetadataRepository pluginMetadataRepository;
+    private final ObjectStorageService objectStorageService;
+    private final StorageProperties storageProperties;
+    private final ObjectMapper objectMapper;
+    private final PluginSourceStore pluginSourceStore;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration interval;
+    private final Duration sourceGrace;
+    private final Counter indexed;
+    private final Counter dropped;
+    private final Counter sourcesDeleted;
+    private final Semaphore wakeup = new Semaphore(0);
+    private volatile boolean running;
+    private volatile boolean stopRequested;
+    private Thread thread;
+
+    public PluginMetadataReconciler(OrganizationRepository organizationRepository,
+            PluginMetadataRepository pluginMetadataRepository, ObjectStorageService objectStorageService,
+            StorageProperties storageProperties, ObjectMapper objectMapper, PluginSourceStore pluginSourceStore,
+            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+            @Value("${mlsuite.plugin.reconcile.enabled:true}") boolean enabled,
+            @Value("${mlsuite.plugin.reconcile.interval:15m}") Duration interval,
+            @Value("${mlsuite.plugin.reconcile.source-grace:1h}") Duration sourceGrace) {
+        this.organizationRepository = organizationRepository;
+        this.pluginMetadataRepository = pluginMetadataRepository;
+        this.objectStorageService = objectStorageService;
+        this.storageProperties = storageProperties;
+        this.objectMapper = objectMapper;
+        this.pluginSourceStore = pluginSourceStore;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.sourceGrace = sourceGrace;
+        this.indexed = Counter.builder("mlsuite.plugin.reconcile.indexed").register(meterRegistry);
+        this.dropped = Counter.builder("mlsuite.plugin.reconcile.dropped").register(meterRegistry);
+        this.sourcesDeleted = Counter.builder("mlsuite.plugin.reconcile.sources-deleted").register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (enabled) {
+            thread = Thread.ofVirtual().name("plugin-metadata-reconciler").start(this::loop);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopRequested = true;
+        if (thread == null) {
+            return;
+        }
+        wakeup.release();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void loop() {
+        while (!stopRequested) {
+            reconcile();
+            try {
+                wakeup.tryAcquire(interval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                return;
+            }
+        }
+    }
+
+    void reconcile() {
+        try {
+            long afterId = 0;
+            while (!stopRequested) {
+                List<Long> ids = organizationRepository.findIdsAfter(afterId, PageRequest.of(0, ORGANIZATION_CHUNK));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                ids.forEach(organizationId -> {
+                    reconcile(organizationId);
+                    refreshStale(organizationId);
+                    deleteUnreferencedSources(organizationId);
+                });
+                afterId = ids.getLast();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Plugin metadata reconciliation stopped; it is retried on the next pass", ex);
+        }
+    }
+
+    private void reconcile(Long organizationId) {
+        Set<String> rows = new HashSet<>(pluginMetadataRepository.findIdsByOrganizationId(organizationId));
+        String prefix = PluginServiceImpl.itemsPrefix(organizationId);
+        Set<String> objects = new HashSet<>();
+        for (StoredObjectItem item : objectStorageService.list(prefix)) {
+            String name = item.objectKey().substring(prefix.length());
+            if (name.endsWith(".json") && name.indexOf('/') < 0) {
+                objects.add(name.substring(0, name.length() - ".json".length()));
+            }
+        }
+        List<String> missing = objects.stream().filter(id -> !rows.contains(id)).toList();
+        List<String> orphans = rows.stream().filter(id -> !objects.contains(id)).toList();
+        if (missing.isEmpty() && orphans.isEmpty()) {
+            return;
+        }
+        int added = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (String id : missing) {
+                StoredPlugin stored = load(prefix + id + ".json");
+                if (stored != null) {
+                    pluginMetadataRepository.save(PluginServiceImpl.toMetadata(
+                            organizationRepository.getReferenceById(organizationId), stored,
+                            pluginSourceStore.store(organizationId, stored.source())));
+                    count++;
+                }
+            }
+            // Entity deletes rather than a bulk statement, so the search index hears about them.
+            pluginMetadataRepository.deleteAll(pluginMetadataRepository.findAllById(orphans));
+            return count;
+        });
+        indexed.increment(added);
+        dropped.increment(orphans.size());
+        log.info("Reconciled plugins of organization {}: {} indexed, {} dropped", organizationId, added,
+                orphans.size());
+    }
+
+    private void refreshStale(Long organizationId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (PluginMetadata row : pluginMetadataRepository.findStale(
+                    organizationId, PluginDescriptorScanner.VERSION)) {
+                StoredPlugin stored = load(row.getObjectKey());
+                if (stored == null) {
+                    continue;
+                }
+                if (row.getSourceHash() == null) {
+                    row.setSourceHash(pluginSourceStore.store(organizationId, stored.source()));
+                }
+                if (row.getDescriptorVersion() == null
+                        || row.getDescriptorVersion() < PluginDescriptorScanner.VERSION) {
+                    PluginServiceImpl.applyDescriptor(row, PluginDescriptorScanner.scan(stored.source()));
+                }
+            }
+        });
+    }
+
+    private void deleteUnreferencedSources(Long organizationId) {
+        String prefix = PluginServiceImpl.sourcesPrefix(organizationId);
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(sourceGrace);
+        List<StoredObjectItem> objects = objectStorageService.list(prefix);
+        // Read after the listing, so a row committed before it is always seen.
+        Set<String> referenced = new HashSet<>(
+                pluginMetadataRepository.findSourceHashesByOrganizationId(organizationId));
+        int deleted = 0;
+        for (StoredObjectItem item : objects) {
+            String hash = sourceHash(item.objectKey().substring(prefix.length()));
+            if (hash == null || referenced.contains(hash) || item.lastModified() == null
+                    || !item.lastModified().isBefore(cutoff)) {
+                continue;
+            }
+            objectStorageService.delete(storageProperties.getBucket(), item.objectKey());
+            deleted++;
+        }
+        if (deleted > 0) {
+            sourcesDeleted.increment(deleted);
+            log.info("Deleted {} unreferenced plugin source objects of organization {}", deleted, organizationId);
+        }
+    }
+
+    /** The hash a source object ({@code <hash>.ts} or its {@code <hash>.ts.gz} copy) is stored under. */
+    private static String sourceHash(String name) {
+        if (name.indexOf('/') >= 0) {
+            return null;
+        }
+        if (name.endsWith(".ts.gz")) {
+            return name.substring(0, name.length() - ".ts.gz".length());
+        }
+        return name.endsWith(".ts") ? name.substring(0, name.length() - ".ts".length()) : null;
+    }
+
+    private StoredPlugin load(String objectKey) {
+        return objectStorageService.loadOptional(storageProperties.getBucket(), objectKey)
+                .map(bytes -> {
+                    try {
+                        return objectMapper.readValue(bytes, StoredPlugin.class);
+                    } catch (IOException ex) {
+                        log.warn("Skipping unreadable plugin object {}", objectKey, ex);
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+}
@@ -4,16 +4,15 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -21,11 +20,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 import dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository.PluginMetadataRepository;
+import dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository.PluginTypeCount;
 import dev.ulloasp.mlsuite.plugin.application.dto.PluginDto;
 import dev.ulloasp.mlsuite.plugin.application.dto.PluginPageDto;
+import dev.ulloasp.mlsuite.plugin.application.dto.PluginSourceDto;
 import dev.ulloasp.mlsuite.plugin.application.dto.PluginStatsDto;
 import dev.ulloasp.mlsuite.plugin.application.port.in.DeletePluginUseCase;
+import dev.ulloasp.mlsuite.plugin.application.port.in.GetPluginSourceUseCase;
 import dev.ulloasp.mlsuite.plugin.application.port.in.GetPluginStatsUseCase;
+import dev.ulloasp.mlsuite.plugin.application.port.in.GetPluginUseCase;
 import dev.ulloasp.mlsuite.plugin.application.port.in.ListPluginsUseCase;
 import dev.ulloasp.mlsuite.plugin.application.port.in.PluginCatalogUseCase;
 import dev.ulloasp.mlsuite.plugin.application.port.in.UploadPluginUseCase;
@@ -35,8 +38,7 @@ import dev.ulloasp.mlsuite.plugin.domain.model.PluginStoragePaths;
 import dev.ulloasp.mlsuite.plugin.domain.model.StoredPlugin;
 import dev.ulloasp.mlsuite.storage.ObjectStorageService;
 import dev.ulloasp.mlsuite.storage.StorageProperties;
-import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
-import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.util.KeysetCursor;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
 
@@ -45,42 +47,38 @@ public class PluginServiceImpl implements
         UploadPluginUseCase,
         ListPluginsUseCase,
         GetPluginStatsUseCase,
+        GetPluginUseCase,
+        GetPluginSourceUseCase,
         DeletePluginUseCase,
         PluginCatalogUseCase {
 
     private static final String ROOT_PREFIX = "plugins";
     private static final int DEFAULT_PAGE_SIZE = 24;
     private static final int MAX_PAGE_SIZE = 100;
-    private static final Pattern FIELD_KIND = Pattern.compile(
-            "defineField(?:Kind|Definition)\\s*\\([^)]*kind\\s*:\\s*['\"]([^'\"]+)['\"]",
-            Pattern.DOTALL);
-    private static final Pattern REPORT_KIND = Pattern.compile(
-            "defineReport(?:Kind|Definition)\\s*\\([^)]*kind\\s*:\\s*['\"]([^'\"]+)['\"]",
-            Pattern.DOTALL);
 
     private final ObjectStorageService objectStorageService;
     private final StorageProperties storageProperties;
     private final ObjectMapper objectMapper;
-    private final UserLookupService userLookupService;
     private final WorkspaceAccessService workspaceAccessService;
     private final WorkspaceAuthorizationService workspaceAuthorizationService;
     private final PluginMetadataRepository pluginMetadataRepository;
+    private final PluginSourceStore pluginSourceStore;
 
     public PluginServiceImpl(
             ObjectStorageService objectStorageService,
             StorageProperties storageProperties,
             ObjectMapper objectMapper,
-            UserLookupService userLookupService,
             WorkspaceAccessService workspaceAccessService,
             WorkspaceAuthorizationService workspaceAuthorizationService,
-            PluginMetadataRepository pluginMetadataRepository) {
+            PluginMetadataRepository pluginMetadataRepository,
+            PluginSourceStore pluginSourceStore) {
         this.objectStorageService = objectStorageService;
         this.storageProperties = storageProperties;
         this.objectMapper = objectMapper;
-        this.userLookupService = userLookupService;
         this.workspaceAccessService = workspaceAccessService;
         this.workspaceAuthorizationService = workspaceAuthorizationService;
         this.pluginMetadataRepository = pluginMetadataRepository;
+        this.pluginSourceStore = pluginSourceStore;
     }
 
     @Override
@@ -98,203 +96,217 @@ public class PluginServiceImpl implements
                     now,
                     now,
                     new String(file.getBytes(), StandardCharsets.UTF_8));
+            String sourceHash = pluginSourceStore.store(organization.getId(), stored.source());
             objectStorageService.store(
                     itemObjectKey(organization.getId(), id),
                     stored.fileName(),
                     "application/json",
                     objectMapper.writeValueAsBytes(stored));
-            persistMetadata(organization, stored);
-            return toDto(stored);
+            PluginMetadata metadata = pluginMetadataRepository.save(toMetadata(organization, stored, sourceHash));
+            return toDto(metadata, stored.source());
         } catch (IOException ex) {
             throw new IllegalStateException("Could not serialize plugin.", ex);
         }
     }
 
     @Override
-    public PluginPageDto list(Long userId, int page, int size, String type, String search, String sort) {
-        List<PluginDto> allItems = listAll(userId);
-        List<PluginDto> visibleItems = allItems.stream()
-                .filter(item -> matchesType(item, type))
-                .filter(item -> matchesSearch(item, search))
-                .sorted(sortComparator(sort))
-                .toList();
+    public PluginPageDto list(Long userId, int page, int size, String type, String search, String sort, String cursor) {
+        Long organizationId = requireView(userId);
+        String pluginType = "field".equals(type) || "report".equals(type) ? type : null;
+        String needle = search == null ? "" : search.strip().toLowerCase(Locale.ROOT);
         int safePage = Math.max(page, 0);
         int safeSize = normalizePageSize(size);
-        int fromIndex = Math.min(safePage * safeSize, visibleItems.size());
-        int toIndex = Math.min(fromIndex + safeSize, visibleItems.size());
+        String mode = "name".equals(sort) ? "name" : "updated";
+        KeysetCursor after = KeysetCursor.decode(cursor, mode);
+        long total = pluginMetadataRepository.countCatalog(organizationId, pluginType, needle);
+        if (after == null && safePage > 0) {
+            List<PluginMetadata> rows = catalogPage(
+                    organizationId, pluginType, needle, mode, null, PageRequest.of(safePage, safeSize));
+            return new PluginPageDto(
+                    toCatalogDtos(rows),
+                    safePage,
+                    safeSize,
+                    total,
+                    (long) (safePage + 1) * safeSize < total,
+                    null);
+        }
+
+        List<PluginMetadata> rows = catalogPage(
+                organizationId, pluginType, needle, mode, after, PageRequest.ofSize(safeSize + 1));
+        boolean hasNext = rows.size() > safeSize;
+        List<PluginMetadata> items = hasNext ? rows.subList(0, safeSize) : rows;
         return new PluginPageDto(
-                visibleItems.subList(fromIndex, toIndex),
+                toCatalogDtos(items),
                 safePage,
                 safeSize,
-                visibleItems.size(),
-                toIndex < visibleItems.size());
+                total,
+                hasNext,
+                hasNext ? cursorAfter(mode, items.getLast()).encode() : null);
     }
 
     @Override
     public PluginStatsDto stats(Long userId) {
-        List<PluginDto> allItems = listAll(userId);
-        return new PluginStatsDto(
-                allItems.stream().filter(item -> "field".equals(item.pluginType())).count(),
-                allItems.stream().filter(item -> "report".equals(item.pluginType())).count());
+        Map<String, Long> counts = pluginMetadataRepository.countByType(requireView(userId)).stream()
+                .collect(Collectors.toMap(PluginTypeCount::pluginType, PluginTypeCount::count));
+        return new PluginStatsDto(counts.getOrDefault("field", 0L), counts.getOrDefault("report", 0L));
     }
 
     @Override
     public List<PluginDto> listAll(Long userId) {
-        Organization organization = workspaceAccessService.requireCurrentOrganization(userId);
-        workspaceAuthorizationService.requirePluginView(userId, organization.getId());
-        Map<String, StoredPlugin> storedItems = new LinkedHashMap<>();
-        Map<String, String> origins = new LinkedHashMap<>();
-        readItems(itemsPrefix(organization.getId()))
-                .forEach(item -> putStored(storedItems, origins, item, ROOT_PREFIX, true));
-        List<PluginDto> catalog = new ArrayList<>();
-        storedItems.values().forEach(item -> {
-            persistMetadata(organization, item);
-            catalog.add(toDto(item));
-        });
-        catalog.sort(Comparator
-                .comparing(PluginDto::updatedAt, Comparator.reverseOrder())
-                .thenComparing(PluginDto::fileName, String.CASE_INSENSITIVE_ORDER));
-        return catalog;
+        return toCatalogDtos(pluginMetadataRepository.findCatalogByUpdated(
+                requireView(userId), null, "", Pageable.unpaged()));
     }
 
     @Override
-    public void delete(Long userId, String id) {
-        User user = userLookupService.requireById(userId);
-        Organization organization = workspaceAccessService.requireCurrentOrganization(userId);
-        workspaceAuthorizationService.requirePluginManage(userId, organization.getId());
-        readStored(user, id);
-        objectStorageService.delete(storageProperties.getBucket(), itemObjectKey(organization.getId(), id));
-        pluginMetadataRepository.findByIdAndOrganizationId(id, organization.getId())
-                .ifPresent(pluginMetadataRepository::delete);
+    public PluginDto get(Long userId, String id) {
+        Long organizationId = requireView(userId);
+        PluginMetadata metadata = pluginMetadataRepository.findByIdAndOrganizationId(id, organizationId)
+                .orElseThrow(() -> new PluginNotFoundException(id));
+        StoredPlugin stored = objectStorageService
+                .loadOptional(storageProperties.getBucket(), itemObjectKey(organizationId, id))
+                .map(this::readStored)
+                .orElseThrow(() -> new PluginNotFoundException(id));
+        return toDto(metadata, stored.source());
     }
 
-    private void persistMetadata(Organization organization, StoredPlugin stored) {
-        PluginDescriptor descriptor = describe(stored.source());
-        pluginMetadataRepository.save(new PluginMetadata(
-                stored.id(),
-                organization,
-                itemObjectKey(organization.getId(), stored.id()),
-                stored.fileName(),
-                stored.contentType(),
-                stored.sizeBytes(),
-                stored.createdAt(),
-                stored.updatedAt(),
-                descriptor.type(),
-                descriptor.kind()));
+    @Override
+    public void requireSource(Long userId, String hash) {
+        requireReferencedSource(requireView(userId), hash);
     }
 
-    private StoredPlugin readStored(User user, String id) {
-        Long organizationId = workspaceAccessService.requireCurrentOrganization(user.getId()).getId();
-        Optional<byte[]> bytes =
-                objectStorageService.loadOptional(storageProperties.getBucket(), itemObjectKey(organizationId, id));
-        if (bytes.isPresent()) {
-            return readStored(bytes.get());
-        }
-        throw new PluginNotFoundException(id);
+    @Override
+    public PluginSourceDto source(Long userId, String hash, boolean acceptsGzip) {
+        Long organizationId = requireView(userId);
+        requireReferencedSource(organizationId, hash);
+        return pluginSourceStore.load(organizationId, hash, acceptsGzip)
+                .orElseThrow(() -> new PluginNotFoundException(hash));
     }
 
-    private StoredPlugin readStored(byte[] bytes) {
-        try {
-            return objectMapper.readValue(bytes, StoredPlugin.class);
-        } catch (IOException ex) {
-            throw new IllegalStateException("Could not deserialize plugin.", ex);
+    @Override
+    public void delete(Long userId, String id) {
+        Organization organization = workspaceAccessService.requireCurrentOrganization(userId);
+        workspaceAuthorizationService.requirePluginManage(userId, organization.getId());
+        String objectKey = itemObjectKey(organization.getId(), id);
+        Optional<PluginMetadata> metadata =
+                pluginMetadataRepository.findByIdAndOrganizationId(id, organization.getId());
+        if (metadata.isEmpty()
+                && objectStorageService.loadOptional(storageProperties.getBucket(), objectKey).isEmpty()) {
+            throw new PluginNotFoundException(id);
         }
+        objectStorageService.delete(storageProperties.getBucket(), objectKey);
+        // Identical uploads share one source object, so it is left to PluginMetadataReconciler, which removes sources
+        // no row has referenced for a grace period instead of racing a concurrent upload of the same source.
+        metadata.ifPresent(pluginMetadataRepository::delete);
     }
 
-    private List<StoredPlugin> readItems(String prefix) {
-        return objectStorageService.list(prefix).stream()
-                .filter(item -> item.objectKey().endsWith(".json"))
-                .map(item -> objectStorageService.loadOptional(storageProperties.getBucket(), item.objectKey())
-                        .orElseThrow(() -> new IllegalStateException("Could not load plugin object.")))
-                .map(this::readStored)
-                .toList();
+    private Long requireView(Long userId) {
+        Long organizationId = workspaceAccessService.requireCurrentOrganization(userId).getId();
+        workspaceAuthorizationService.requirePluginView(userId, organizationId);
+        return organizationId;
     }
 
-    private void putStored(
-            Map<String, StoredPlugin> storedItems,
-            Map<String, String> origins,
-            StoredPlugin item,
-            String origin,
-            boolean replaceExisting) {
-        String existingOrigin = origins.get(item.id());
-        if (existingOrigin == null || replaceExisting) {
-            storedItems.put(item.id(), item);
-            origins.put(item.id(), origin);
-            return;
+    private void requireReferencedSource(Long organizationId, String hash) {
+        if (!pluginMetadataRepository.existsByOrganizationIdAndSourceHash(organizationId, hash)) {
+            throw new PluginNotFoundException(hash);
         }
-        if (!ROOT_PREFIX.equals(existingOrigin) && !existingOrigin.equals(origin)) {
-            throw new IllegalStateException("Duplicate legacy plugin id '" + item.id() + "' detected across storage roots.");
+    }
+
+    private List<PluginMetadata> catalogPage(Long organizationId, String pluginType, String needle, String mode,
+            KeysetCursor after, Pageable limit) {
+        if (after == null) {
+            return "name".equals(mode)
+                    ? pluginMetadataRepository.findCatalogByName(organizationId, pluginType, needle, limit)
+                    : pluginMetadataRepository.findCatalogByUpdated(organizationId, pluginType, needle, limit);
         }
+        return "name".equals(mode)
+                ? pluginMetadataRepository.findCatalogByNameAfter(organizationId, pluginType, needle, after.key(),
+                        after.id(), limit)
+                : pluginMetadataRepository.findCatalogByUpdatedAfter(organizationId, pluginType, needle,
+                        after.timestampKey(), after.id(), limit);
     }
 
-    private PluginDto toDto(StoredPlugin stored) {
-        PluginDescriptor descriptor = describe(stored.source());
-        return new PluginDto(
+    /**
+     * The catalog row for a stored plugin, with the descriptor scanned once here rather than on every read; also used
+     * by {@link PluginMetadataReconciler}.
+     */
+    static PluginMetadata toMetadata(Organization organization, StoredPlugin stored, String sourceHash) {
+        PluginDescriptor descriptor = PluginDescriptorScanner.scan(stored.source());
+        PluginMetadata metadata = new PluginMetadata(
                 stored.id(),
+                organization,
+                itemObjectKey(organization.getId(), stored.id()),
                 stored.fileName(),
                 stored.contentType(),
                 stored.sizeBytes(),
                 stored.createdAt(),
                 stored.updatedAt(),
-                stored.source(),
                 descriptor.type(),
-                descriptor.kind());
+                descriptor.kind(),
+                sourceHash);
+        applyDescriptor(metadata, descriptor);
+        return metadata;
     }
 
-    private PluginDescriptor describe(String source) {
-        PluginDescriptor field = matchDescriptor(source, "field", FIELD_KIND);
-        if (field != null) {
-            return field;
-        }
-        PluginDescriptor report = matchDescriptor(source, "report", REPORT_KIND);
-        if (report != null) {
-            return report;
-        }
-        return new PluginDescriptor("invalid", null);
+    static void applyDescriptor(PluginMetadata metadata, PluginDescriptor descriptor) {
+        metadata.setPluginType(descriptor.type());
+        metadata.setKind(descriptor.kind());
+        metadata.setKinds(descriptor.kinds());
+        metadata.setExportedSymbols(descriptor.exports());
+        metadata.setDescriptorVersion(PluginDescriptorScanner.VERSION);
     }
 
-    private PluginDescriptor matchDescriptor(String source, String type, Pattern pattern) {
-        Matcher matcher = pattern.matcher(source);
-        return matcher.find() ? new PluginDescriptor(type, matcher.group(1)) : null;
+    static String itemsPrefix(Long organizationId) {
+        return PluginStoragePaths.organizationItemsPrefix(ROOT_PREFIX, organizationId);
     }
 
-    private boolean matchesType(PluginDto item, String type) {
-        if ("field".equals(type) || "report".equals(type)) {
-            return type.equals(item.pluginType());
+    private StoredPlugin readStored(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, StoredPlugin.class);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not deserialize plugin.", ex);
         }
-        return true;
     }
 
-    private boolean matchesSearch(PluginDto item, String search) {
-        String needle = search == null ? "" : search.strip().toLowerCase();
-        if (needle.isEmpty()) {
-            return true;
-        }
-        return item.fileName().toLowerCase().contains(needle)
-                || (item.kind() != null && item.kind().toLowerCase().contains(needle));
+    /** Catalog entries come from {@code plugin_metadata} alone and reference their source by hash. */
+    private static List<PluginDto> toCatalogDtos(List<PluginMetadata> rows) {
+        return rows.stream().map(row -> toDto(row, null)).toList();
     }
 
-    private Comparator<PluginDto> sortComparator(String sort) {
-        if ("name".equals(sort)) {
-            return Comparator
-                    .comparing((PluginDto item) -> displayName(item), String.CASE_INSENSITIVE_ORDER)
-                    .thenComparing(PluginDto::updatedAt, Comparator.reverseOrder());
-        }
-        return Comparator
-                .comparing(PluginDto::updatedAt, Comparator.reverseOrder())
-                .thenComparing(PluginDto::fileName, String.CASE_INSENSITIVE_ORDER);
+    private static PluginDto toDto(PluginMetadata metadata, String source) {
+        return new PluginDto(
+                metadata.getId(),
+                metadata.getFileName(),
+                metadata.getContentType(),
+                metadata.getSizeBytes(),
+                metadata.getCreatedAt(),
+                metadata.getUpdatedAt(),
+                source,
+                metadata.getPluginType(),
+                metadata.getKind(),
+                metadata.getSourceHash());
     }
 
-    private String displayName(PluginDto item) {
-        return item.kind() == null ? item.fileName() : item.kind();
+    private KeysetCursor cursorAfter(String mode, PluginMetadata last) {
+        return "name".equals(mode)
+                ? KeysetCursor.after(mode, (last.getKind() == null ? last.getFileName() : last.getKind())
+                        .toLowerCase(Locale.ROOT), last.getId())
+                : KeysetCursor.after(mode, last.getUpdatedAt(), last.getId());
     }
 
-    private String itemsPrefix(Long organizationId) {
-        return PluginStoragePaths.organizationItemsPrefix(ROOT_PREFIX, organizationId);
+    private static String itemObjectKey(Long organizationId, String id) {
+        return PluginStoragePaths.organizationItemObjectKey(ROOT_PREFIX, organizationId, id);
     }
 
-    private String itemObjectKey(Long organizationId, String id) {
-        return PluginStoragePaths.organizationItemObjectKey(ROOT_PREFIX, organizationId, id);
+    static String sourceObjectKey(Long organizationId, String hash) {
+        return PluginStoragePaths.organizationSourceObjectKey(ROOT_PREFIX, organizationId, hash);
+    }
+
+    static String sourcesPrefix(Long organizationId) {
+        return PluginStoragePaths.organizationSourcesPrefix(ROOT_PREFIX, organizationId);
+    }
+
+    static String gzipSourceObjectKey(Long organizationId, String hash) {
+        return PluginStoragePaths.organizationGzipSourceObjectKey(ROOT_PREFIX, organizationId, hash);
     }
 
     private int normalizePageSize(int size) {
@@ -311,7 +323,4 @@ public class PluginServiceImpl implements
     private String normalizeContentType(String value) {
         return value == null || value.isBlank() ? "application/typescript" : value;
     }
-
-    private record PluginDescriptor(String type, String kind) {
-    }
 }
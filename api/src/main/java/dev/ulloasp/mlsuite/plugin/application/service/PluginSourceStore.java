@@ -0,0 +1,79 @@
+package dev.ulloasp.mlsuite.plugin.application.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import dev.ulloasp.mlsuite.plugin.application.dto.PluginSourceDto;
+import dev.ulloasp.mlsuite.storage.ObjectStorageService;
+import dev.ulloasp.mlsuite.storage.StorageProperties;
+
+/**
+ * Content-addressed plugin sources: each source is stored once per organization under its SHA-256, with a gzip copy
+ * written next to it at upload time so downloads never compress on the request path. Because the key is the hash,
+ * the objects never change and can be served as immutable. Sources no plugin references any more are removed by
+ * {@link PluginMetadataReconciler}.
+ */
+@Component
+public class PluginSourceStore {
+
+    static final String CONTENT_TYPE = "text/plain; charset=utf-8";
+
+    private final ObjectStorageService objectStorageService;
+    private final StorageProperties storageProperties;
+
+    public PluginSourceStore(ObjectStorageService objectStorageService, StorageProperties storageProperties) {
+        this.objectStorageService = objectStorageService;
+        this.storageProperties = storageProperties;
+    }
+
+    /** Writes the source and its gzip copy, returning the hash they are stored under. */
+    public String store(Long organizationId, String source) {
+        byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+        String hash = hash(bytes);
+        objectStorageService.store(
+                PluginServiceImpl.sourceObjectKey(organizationId, hash), hash + ".ts", CONTENT_TYPE, bytes);
+        objectStorageService.store(
+                PluginServiceImpl.gzipSourceObjectKey(organizationId, hash), hash + ".ts.gz", "application/gzip",
+                gzip(bytes));
+        return hash;
+    }
+
+    public Optional<PluginSourceDto> load(Long organizationId, String hash, boolean acceptsGzip) {
+        if (acceptsGzip) {
+            Optional<byte[]> compressed = objectStorageService.loadOptional(
+                    storageProperties.getBucket(), PluginServiceImpl.gzipSourceObjectKey(organizationId, hash));
+            if (compressed.isPresent()) {
+                return Optional.of(new PluginSourceDto(hash, compressed.get(), true));
+            }
+        }
+        return objectStorageService.loadOptional(
+                storageProperties.getBucket(), PluginServiceImpl.sourceObjectKey(organizationId, hash))
+                .map(bytes -> new PluginSourceDto(hash, bytes, false));
+    }
+
+    static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Failed to hash plugin source", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 3 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to compress plugin source", ex);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -1,12 +1,17 @@
 package dev.ulloasp.mlsuite.plugin.domain.model;
 
 import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -15,7 +20,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "plugin_metadata")
+@Table(name = "plugin_metadata",
+        indexes = {
+                @Index(name = "idx_plugin_metadata_org_updated", columnList = "organization_id, updated_at"),
+                @Index(name = "idx_plugin_metadata_org_source", columnList = "organization_id, source_hash")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,7 +40,8 @@ public class PluginMetadata {
             OffsetDateTime createdAt,
             OffsetDateTime updatedAt,
             String pluginType,
-            String kind) {
+            String kind,
+            String sourceHash) {
         this.id = id;
         this.organization = organization;
         this.objectKey = objectKey;
@@ -42,6 +52,7 @@ public class PluginMetadata {
         this.updatedAt = updatedAt;
         this.pluginType = pluginType;
         this.kind = kind;
+        this.sourceHash = sourceHash;
     }
 
     @Id
@@ -75,4 +86,21 @@ public class PluginMetadata {
 
     @Column(name = "kind", length = 180)
     private String kind;
+
+    /** Every kind the source defines, in source order; {@code kind} is the first one of {@code pluginType}. */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "kinds_json")
+    private List<String> kinds;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "exported_symbols_json")
+    private List<String> exportedSymbols;
+
+    /** Scanner version that produced the descriptor columns; null or older rows are re-analyzed by the reconciler. */
+    @Column(name = "descriptor_version")
+    private Integer descriptorVersion;
+
+    /** SHA-256 of the UTF-8 source; null until the reconciler backfills rows written before sources were split out. */
+    @Column(name = "source_hash", length = 64)
+    private String sourceHash;
 }
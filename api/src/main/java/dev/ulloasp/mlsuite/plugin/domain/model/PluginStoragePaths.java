@@ -25,6 +25,18 @@ public final class PluginStoragePaths {
         return organizationItemsPrefix(rootPrefix, organizationId) + id + ".json";
     }
 
+    public static String organizationSourcesPrefix(String rootPrefix, Long organizationId) {
+        return organizationPrefix(rootPrefix, organizationId) + "/sources/";
+    }
+
+    public static String organizationSourceObjectKey(String rootPrefix, Long organizationId, String sourceHash) {
+        return organizationSourcesPrefix(rootPrefix, organizationId) + sourceHash + ".ts";
+    }
+
+    public static String organizationGzipSourceObjectKey(String rootPrefix, Long organizationId, String sourceHash) {
+        return organizationSourceObjectKey(rootPrefix, organizationId, sourceHash) + ".gz";
+    }
+
     public static String organizationStateObjectKey(String rootPrefix, Long organizationId, String stateFile) {
         return organizationPrefix(rootPrefix, organizationId) + "/" + stateFile;
     }
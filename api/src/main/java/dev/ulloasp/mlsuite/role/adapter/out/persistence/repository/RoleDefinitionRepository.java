@@ -24,5 +24,7 @@ public interface RoleDefinitionRepository extends JpaRepository<RoleDefinition,
 
     Optional<RoleDefinition> findByIdAndTeamId(Long id, Long teamId);
 
+    List<RoleDefinition> findByPermissionBits(long permissionBits);
+
     boolean existsByOrganizationIdAndScopeAndSlug(Long organizationId, RoleScope scope, String slug);
 }
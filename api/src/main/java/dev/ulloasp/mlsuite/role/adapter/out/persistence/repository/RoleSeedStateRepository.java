@@ -0,0 +1,21 @@
+package dev.ulloasp.mlsuite.role.adapter.out.persistence.repository;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dev.ulloasp.mlsuite.role.domain.model.RoleScope;
+import dev.ulloasp.mlsuite.role.domain.model.RoleSeedState;
+
+@Repository
+public interface RoleSeedStateRepository extends JpaRepository<RoleSeedState, Long> {
+
+    Optional<RoleSeedState> findByScopeAndTargetId(RoleScope scope, Long targetId);
+
+    @Query("select s.targetId from RoleSeedState s where s.scope = :scope and s.version >= :version")
+    Set<Long> findTargetIdsSeededSince(@Param("scope") RoleScope scope, @Param("version") int version);
+}
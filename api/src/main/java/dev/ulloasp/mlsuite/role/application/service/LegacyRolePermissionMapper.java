@@ -1,17 +1,40 @@
 package dev.ulloasp.mlsuite.role.application.service;
 
+import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
 import dev.ulloasp.mlsuite.organization.domain.model.OrganizationRole;
+import dev.ulloasp.mlsuite.role.domain.model.PermissionBits;
 import dev.ulloasp.mlsuite.role.domain.model.PermissionKey;
 import dev.ulloasp.mlsuite.team.domain.model.TeamRole;
 
 @Component
 public class LegacyRolePermissionMapper {
 
+    private final Map<OrganizationRole, Long> organizationBits = new EnumMap<>(OrganizationRole.class);
+    private final Map<TeamRole, Long> teamBits = new EnumMap<>(TeamRole.class);
+
+    public LegacyRolePermissionMapper() {
+        for (OrganizationRole role : OrganizationRole.values()) {
+            organizationBits.put(role, PermissionBits.of(organization(role)));
+        }
+        for (TeamRole role : TeamRole.values()) {
+            teamBits.put(role, PermissionBits.of(team(role)));
+        }
+    }
+
+    public long organizationBits(OrganizationRole role) {
+        return organizationBits.get(role);
+    }
+
+    public long teamBits(TeamRole role) {
+        return teamBits.get(role);
+    }
+
     public Set<PermissionKey> organization(OrganizationRole role) {
         return switch (role) {
             case OWNER -> all();
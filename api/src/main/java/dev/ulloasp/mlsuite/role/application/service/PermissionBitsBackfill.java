@@ -0,0 +1,51 @@
+package dev.ulloasp.mlsuite.role.application.service;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleDefinitionRepository;
+import dev.ulloasp.mlsuite.role.domain.model.PermissionBits;
+import dev.ulloasp.mlsuite.role.domain.model.RoleDefinition;
+
+/**
+ * Recomputes the mask of roles written before {@code permission_bits} existed, which still read as zero. It runs in the
+ * lowest lifecycle phase, before the web server starts accepting requests, so no permission check can read the zero
+ * mask and leave it in {@code PermissionCache} for a full TTL.
+ */
+@Component
+public class PermissionBitsBackfill implements SmartLifecycle {
+
+    private final RoleDefinitionRepository roleDefinitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private volatile boolean running;
+
+    public PermissionBitsBackfill(RoleDefinitionRepository roleDefinitionRepository,
+            TransactionTemplate transactionTemplate) {
+        this.roleDefinitionRepository = roleDefinitionRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void start() {
+        transactionTemplate.executeWithoutResult(status -> roleDefinitionRepository
+                .findByPermissionBits(PermissionBits.NONE)
+                .forEach(RoleDefinition::syncPermissionBits));
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+}
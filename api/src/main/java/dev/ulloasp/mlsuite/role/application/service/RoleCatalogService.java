@@ -6,9 +6,7 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationRepository;
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationMembershipRepository;
-import dev.ulloasp.mlsuite.organization.domain.exception.OrganizationNotFoundException;
 import dev.ulloasp.mlsuite.organization.domain.model.MembershipStatus;
 import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleDefinitionRepository;
 import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleTemplateRepository;
@@ -31,22 +29,16 @@ import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationS
 public class RoleCatalogService implements RoleCatalogUseCase {
 
     private final WorkspaceAuthorizationService authorizationService;
-    private final OrganizationRepository organizationRepository;
-    private final RoleSeedService roleSeedService;
     private final RoleDefinitionRepository roleRepository;
     private final RoleTemplateRepository templateRepository;
     private final OrganizationMembershipRepository membershipRepository;
 
     public RoleCatalogService(
             WorkspaceAuthorizationService authorizationService,
-            OrganizationRepository organizationRepository,
-            RoleSeedService roleSeedService,
             RoleDefinitionRepository roleRepository,
             RoleTemplateRepository templateRepository,
             OrganizationMembershipRepository membershipRepository) {
         this.authorizationService = authorizationService;
-        this.organizationRepository = organizationRepository;
-        this.roleSeedService = roleSeedService;
         this.roleRepository = roleRepository;
         this.templateRepository = templateRepository;
         this.membershipRepository = membershipRepository;
@@ -55,8 +47,6 @@ public class RoleCatalogService implements RoleCatalogUseCase {
     @Override
     public RolesResponseDto list(Long userId, Long organizationId) {
         authorizationService.requireOrganizationRead(userId, organizationId);
-        roleSeedService.ensureOrganizationRoles(organizationRepository.findById(organizationId)
-                .orElseThrow(() -> new OrganizationNotFoundException(organizationId)));
         var roles = roleRepository.findByOrganizationIdAndScopeOrderByLockedDescNameAsc(organizationId, RoleScope.ORGANIZATION)
                 .stream()
                 .map(role -> toDto(userId, organizationId, role))
@@ -4,6 +4,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +25,7 @@ import dev.ulloasp.mlsuite.role.domain.model.PermissionKey;
 import dev.ulloasp.mlsuite.role.domain.model.RoleDefinition;
 import dev.ulloasp.mlsuite.role.domain.model.RoleScope;
 import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
 
 @Service
@@ -38,6 +40,7 @@ public class RoleManagementService implements RoleManagementUseCase {
     private final OrganizationMembershipRepository membershipRepository;
     private final UserLookupService userLookupService;
     private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public RoleManagementService(
             WorkspaceAuthorizationService authorizationService,
@@ -47,7 +50,8 @@ public class RoleManagementService implements RoleManagementUseCase {
             OrganizationRepository organizationRepository,
             OrganizationMembershipRepository membershipRepository,
             UserLookupService userLookupService,
-            AuditLogService auditLogService) {
+            AuditLogService auditLogService,
+            ApplicationEventPublisher eventPublisher) {
         this.authorizationService = authorizationService;
         this.catalogService = catalogService;
         this.roleRepository = roleRepository;
@@ -56,6 +60,7 @@ public class RoleManagementService implements RoleManagementUseCase {
         this.membershipRepository = membershipRepository;
         this.userLookupService = userLookupService;
         this.auditLogService = auditLogService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -101,6 +106,7 @@ public class RoleManagementService implements RoleManagementUseCase {
         role.setName(request.name().strip());
         role.setDescription(request.description());
         role.setPermissions(parsePermissions(userId, organizationId, request.permissionKeys()));
+        eventPublisher.publishEvent(PermissionsChangedEvent.organization(organizationId));
         auditLogService.record(role.getOrganization(), userLookupService.requireById(userId), "ROLE_UPDATE", "ROLE", roleId.toString(), role.getName());
         return catalogService.toDto(userId, organizationId, roleRepository.save(role));
     }
@@ -128,6 +134,7 @@ public class RoleManagementService implements RoleManagementUseCase {
             if (replacementRoleId == null || replacementRoleId.equals(roleId)) throw new IllegalArgumentException("Replacement role is required.");
             RoleDefinition replacement = requireRole(organizationId, replacementRoleId);
             assigned.forEach(membership -> membership.setRoleDefinition(replacement));
+            eventPublisher.publishEvent(PermissionsChangedEvent.organization(organizationId));
         }
         roleRepository.delete(role);
         auditLogService.record(role.getOrganization(), userLookupService.requireById(userId), "ROLE_DELETE", "ROLE", roleId.toString(), role.getName());
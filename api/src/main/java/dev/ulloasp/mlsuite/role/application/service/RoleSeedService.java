@@ -1,12 +1,20 @@
 package dev.ulloasp.mlsuite.role.application.service;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationMembershipRepository;
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationRepository;
@@ -15,28 +23,42 @@ import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 import dev.ulloasp.mlsuite.organization.domain.model.OrganizationMembership;
 import dev.ulloasp.mlsuite.organization.domain.model.OrganizationRole;
 import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleDefinitionRepository;
+import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleSeedStateRepository;
 import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleTemplateRepository;
 import dev.ulloasp.mlsuite.role.domain.model.OrganizationSystemRole;
 import dev.ulloasp.mlsuite.role.domain.model.PermissionKey;
 import dev.ulloasp.mlsuite.role.domain.model.RoleDefinition;
 import dev.ulloasp.mlsuite.role.domain.model.RoleScope;
+import dev.ulloasp.mlsuite.role.domain.model.RoleSeedState;
 import dev.ulloasp.mlsuite.role.domain.model.RoleTemplate;
 import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamMembershipRepository;
 import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamRepository;
 import dev.ulloasp.mlsuite.team.domain.model.Team;
 import dev.ulloasp.mlsuite.team.domain.model.TeamMembership;
 import dev.ulloasp.mlsuite.team.domain.model.TeamRole;
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
 
+/**
+ * Creates the system roles of organizations and teams and links legacy memberships to them. Each organization and
+ * team carries a {@link RoleSeedState} marker, so seeding runs once per {@link #ROLE_SET_VERSION}: at creation, at
+ * startup for anything not yet on the current version, and never again on request paths.
+ */
 @Service
 public class RoleSeedService implements ApplicationRunner {
 
+    /** Bump whenever the system roles or their default permissions change to re-seed everything at next startup. */
+    public static final int ROLE_SET_VERSION = 1;
+
     private final OrganizationRepository organizationRepository;
     private final TeamRepository teamRepository;
     private final OrganizationMembershipRepository orgMembershipRepository;
     private final TeamMembershipRepository teamMembershipRepository;
     private final RoleDefinitionRepository roleDefinitionRepository;
     private final RoleTemplateRepository roleTemplateRepository;
+    private final RoleSeedStateRepository seedStateRepository;
     private final LegacyRolePermissionMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Set<SeedKey> seeded = ConcurrentHashMap.newKeySet();
 
     public RoleSeedService(
             OrganizationRepository organizationRepository,
@@ -45,46 +67,108 @@ public class RoleSeedService implements ApplicationRunner {
             TeamMembershipRepository teamMembershipRepository,
             RoleDefinitionRepository roleDefinitionRepository,
             RoleTemplateRepository roleTemplateRepository,
-            LegacyRolePermissionMapper mapper) {
+            RoleSeedStateRepository seedStateRepository,
+            LegacyRolePermissionMapper mapper,
+            ApplicationEventPublisher eventPublisher) {
         this.organizationRepository = organizationRepository;
         this.teamRepository = teamRepository;
         this.orgMembershipRepository = orgMembershipRepository;
         this.teamMembershipRepository = teamMembershipRepository;
         this.roleDefinitionRepository = roleDefinitionRepository;
         this.roleTemplateRepository = roleTemplateRepository;
+        this.seedStateRepository = seedStateRepository;
         this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
     public void run(ApplicationArguments args) {
         seedTemplates();
-        organizationRepository.findAll().forEach(this::ensureOrganizationRoles);
-        teamRepository.findAll().forEach(this::ensureTeamRoles);
+        Set<Long> seededOrganizations = seedStateRepository.findTargetIdsSeededSince(RoleScope.ORGANIZATION, ROLE_SET_VERSION);
+        organizationRepository.findAll().stream()
+                .filter(organization -> !seededOrganizations.contains(organization.getId()))
+                .forEach(this::seedOrganizationRoles);
+        Set<Long> seededTeams = seedStateRepository.findTargetIdsSeededSince(RoleScope.TEAM, ROLE_SET_VERSION);
+        teamRepository.findAll().stream()
+                .filter(team -> !seededTeams.contains(team.getId()))
+                .forEach(this::seedTeamRoles);
     }
 
     @Transactional
     public void ensureOrganizationRoles(Organization organization) {
-        for (OrganizationRole role : OrganizationRole.values()) {
-            RoleDefinition def = orgRole(organization, role);
-            orgMembershipRepository.findByOrganizationIdAndStatusOrderByCreatedAtAsc(organization.getId(), MembershipStatus.ACTIVE)
-                    .stream()
-                    .filter(membership -> membership.getRoleDefinition() == null && membership.getRole() == role)
-                    .forEach(membership -> membership.setRoleDefinition(def));
+        if (!isSeeded(RoleScope.ORGANIZATION, organization.getId())) {
+            seedOrganizationRoles(organization);
         }
     }
 
     @Transactional
     public void ensureTeamRoles(Team team) {
+        if (!isSeeded(RoleScope.TEAM, team.getId())) {
+            seedTeamRoles(team);
+        }
+    }
+
+    private void seedOrganizationRoles(Organization organization) {
+        Map<OrganizationRole, RoleDefinition> definitions = new EnumMap<>(OrganizationRole.class);
+        for (OrganizationRole role : OrganizationRole.values()) {
+            definitions.put(role, orgRole(organization, role));
+        }
+        orgMembershipRepository.findByOrganizationIdAndStatusOrderByCreatedAtAsc(organization.getId(), MembershipStatus.ACTIVE)
+                .stream()
+                .filter(membership -> membership.getRoleDefinition() == null)
+                .forEach(membership -> membership.setRoleDefinition(definitions.get(membership.getRole())));
+        markSeeded(RoleScope.ORGANIZATION, organization.getId());
+    }
+
+    private void seedTeamRoles(Team team) {
+        Map<TeamRole, RoleDefinition> definitions = new EnumMap<>(TeamRole.class);
         for (TeamRole role : TeamRole.values()) {
-            RoleDefinition def = teamRole(team, role);
-            teamMembershipRepository.findByTeamIdAndStatusOrderByCreatedAtAsc(team.getId(), MembershipStatus.ACTIVE)
-                    .stream()
-                    .filter(membership -> membership.getRoleDefinition() == null && membership.getRole() == role)
-                    .forEach(membership -> membership.setRoleDefinition(def));
+            definitions.put(role, teamRole(team, role));
+        }
+        teamMembershipRepository.findByTeamIdAndStatusOrderByCreatedAtAsc(team.getId(), MembershipStatus.ACTIVE)
+                .stream()
+                .filter(membership -> membership.getRoleDefinition() == null)
+                .forEach(membership -> membership.setRoleDefinition(definitions.get(membership.getRole())));
+        markSeeded(RoleScope.TEAM, team.getId());
+    }
+
+    private boolean isSeeded(RoleScope scope, Long targetId) {
+        SeedKey key = new SeedKey(scope, targetId);
+        if (seeded.contains(key)) {
+            return true;
+        }
+        boolean current = seedStateRepository.findByScopeAndTargetId(scope, targetId)
+                .filter(state -> state.getVersion() >= ROLE_SET_VERSION)
+                .isPresent();
+        if (current) {
+            remember(key);
+        }
+        return current;
+    }
+
+    /** A marker read inside a transaction may still roll back, so it is only remembered once that commits. */
+    private void remember(SeedKey key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    seeded.add(key);
+                }
+            });
+        } else {
+            seeded.add(key);
         }
     }
 
+    private void markSeeded(RoleScope scope, Long targetId) {
+        RoleSeedState state = seedStateRepository.findByScopeAndTargetId(scope, targetId)
+                .orElseGet(() -> new RoleSeedState(scope, targetId));
+        state.setVersion(ROLE_SET_VERSION);
+        state.setSeededAt(OffsetDateTime.now(ZoneOffset.UTC));
+        seedStateRepository.save(state);
+    }
+
     public RoleDefinition orgRole(Organization org, OrganizationRole role) {
         return roleDefinitionRepository.findByOrganizationIdAndSystemKey(org.getId(), role.name())
                 .map(definition -> ensureSystemRolePermissions(definition, mapper.organization(role)))
@@ -92,8 +176,8 @@ public class RoleSeedService implements ApplicationRunner {
     }
 
     private RoleDefinition ensureSystemRolePermissions(RoleDefinition role, Set<PermissionKey> permissions) {
-        if (!role.getPermissions().containsAll(permissions)) {
-            role.getPermissions().addAll(permissions);
+        if (role.grant(permissions)) {
+            eventPublisher.publishEvent(PermissionsChangedEvent.organization(role.getOrganization().getId()));
             return roleDefinitionRepository.save(role);
         }
         return role;
@@ -118,8 +202,8 @@ public class RoleSeedService implements ApplicationRunner {
 
     private RoleDefinition ensureExternalReviewPermission(RoleDefinition role) {
         role.setLocked(false);
-        if (!role.getPermissions().contains(PermissionKey.EXTERNAL_REVIEW)) {
-            role.getPermissions().add(PermissionKey.EXTERNAL_REVIEW);
+        if (role.grant(Set.of(PermissionKey.EXTERNAL_REVIEW))) {
+            eventPublisher.publishEvent(PermissionsChangedEvent.organization(role.getOrganization().getId()));
             return roleDefinitionRepository.save(role);
         }
         return role;
@@ -154,6 +238,9 @@ public class RoleSeedService implements ApplicationRunner {
         });
     }
 
+    private record SeedKey(RoleScope scope, Long targetId) {
+    }
+
     private String label(String value) {
         return String.join(" ", List.of(value.toLowerCase().split("_"))).replaceFirst("^.", value.substring(0, 1));
     }
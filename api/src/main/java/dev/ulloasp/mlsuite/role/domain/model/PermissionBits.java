@@ -0,0 +1,55 @@
+package dev.ulloasp.mlsuite.role.domain.model;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Permission sets packed into a {@code long}, one bit per {@link PermissionKey} ordinal. Masks are persisted on
+ * {@link RoleDefinition}, so keys may only be appended to the enum, never reordered or removed.
+ */
+public final class PermissionBits {
+
+    public static final long NONE = 0L;
+    public static final long ALL;
+
+    static {
+        if (PermissionKey.values().length > Long.SIZE) {
+            throw new IllegalStateException("PermissionKey no longer fits in a long mask.");
+        }
+        ALL = of(EnumSet.allOf(PermissionKey.class));
+    }
+
+    private PermissionBits() {
+    }
+
+    public static long bit(PermissionKey key) {
+        return 1L << key.ordinal();
+    }
+
+    public static long of(Collection<PermissionKey> keys) {
+        long bits = NONE;
+        for (PermissionKey key : keys) {
+            bits |= bit(key);
+        }
+        return bits;
+    }
+
+    public static boolean has(long bits, PermissionKey key) {
+        return (bits & bit(key)) != 0;
+    }
+
+    public static boolean hasAll(long bits, long required) {
+        return (bits & required) == required;
+    }
+
+    public static Set<PermissionKey> toSet(long bits) {
+        Set<PermissionKey> keys = EnumSet.noneOf(PermissionKey.class);
+        for (PermissionKey key : PermissionKey.values()) {
+            if (has(bits, key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
@@ -1,9 +1,13 @@
 package dev.ulloasp.mlsuite.role.domain.model;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -25,6 +29,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -84,12 +89,22 @@ public class RoleDefinition {
     @JoinColumn(name = "created_by_user_id", foreignKey = @ForeignKey(name = "fk_role_created_by"))
     private User createdBy;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    /** Source of truth for editing and listing; authorization reads {@link #permissionBits} instead. */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @CollectionTable(name = "role_permission", joinColumns = @JoinColumn(name = "role_definition_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "permission_key", nullable = false, length = 80)
     private Set<PermissionKey> permissions = new LinkedHashSet<>();
 
+    /** {@link PermissionBits} mask of {@link #permissions}, kept in sync by every mutator below. */
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(name = "permission_bits", nullable = false)
+    private long permissionBits;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
     private OffsetDateTime createdAt;
@@ -97,4 +112,35 @@ public class RoleDefinition {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
     private OffsetDateTime updatedAt;
+
+    public Set<PermissionKey> getPermissions() {
+        return Collections.unmodifiableSet(permissions);
+    }
+
+    public void setPermissions(Collection<PermissionKey> permissions) {
+        this.permissions.clear();
+        this.permissions.addAll(permissions);
+        this.permissionBits = PermissionBits.of(this.permissions);
+    }
+
+    /** Adds the given permissions; returns whether anything was missing. */
+    public boolean grant(Collection<PermissionKey> granted) {
+        long bits = PermissionBits.of(granted);
+        if (PermissionBits.hasAll(permissionBits, bits)) {
+            return false;
+        }
+        permissions.addAll(granted);
+        permissionBits = PermissionBits.of(permissions);
+        return true;
+    }
+
+    /** Recomputes the mask from the collection, for rows written before the mask existed. */
+    public boolean syncPermissionBits() {
+        long bits = PermissionBits.of(permissions);
+        if (bits == permissionBits) {
+            return false;
+        }
+        permissionBits = bits;
+        return true;
+    }
 }
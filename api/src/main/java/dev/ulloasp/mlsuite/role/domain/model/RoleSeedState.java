@@ -0,0 +1,53 @@
+package dev.ulloasp.mlsuite.role.domain.model;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Records which version of the system role set an organization or team was last seeded with. Seeding is skipped
+ * while the recorded version matches {@code RoleSeedService.ROLE_SET_VERSION}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "role_seed_state", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_role_seed_state_target", columnNames = { "scope", "target_id" })
+})
+public class RoleSeedState {
+
+    public RoleSeedState(RoleScope scope, Long targetId) {
+        this.scope = scope;
+        this.targetId = targetId;
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 32)
+    private RoleScope scope;
+
+    /** Organization id for {@link RoleScope#ORGANIZATION}, team id for {@link RoleScope#TEAM}. */
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "version", nullable = false)
+    private int version;
+
+    @Column(name = "seeded_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime seededAt;
+}
@@ -0,0 +1,110 @@
+package dev.ulloasp.mlsuite.schema.adapter.in.web;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Reads an RFC 4180 CSV body into one map per data row, keyed by the header. Numeric cells become numbers and empty
+ * cells are left out, so rows look like the JSON the form would have submitted.
+ */
+final class CsvRows {
+
+    private CsvRows() {
+    }
+
+    static List<Map<String, Object>> parse(String body) {
+        List<List<String>> records = records(body == null ? "" : body.strip());
+        if (records.size() < 2) {
+            throw badRequest("CSV must contain a header and at least one row");
+        }
+        List<String> header = records.getFirst().stream().map(String::strip).toList();
+        if (header.stream().anyMatch(String::isEmpty)) {
+            throw badRequest("CSV header contains an empty column name");
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>(records.size() - 1);
+        for (int i = 1; i < records.size(); i++) {
+            List<String> record = records.get(i);
+            if (record.size() != header.size()) {
+                throw badRequest("CSV row " + i + " has " + record.size() + " columns, expected " + header.size());
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int column = 0; column < header.size(); column++) {
+                String cell = record.get(column).strip();
+                if (!cell.isEmpty()) {
+                    row.put(header.get(column), value(cell));
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<List<String>> records(String body) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    cell.append(c);
+                } else if (i + 1 < body.length() && body.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(cell.toString());
+                cell.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < body.length() && body.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                record.add(cell.toString());
+                cell.setLength(0);
+                if (!(record.size() == 1 && record.getFirst().isBlank())) {
+                    records.add(record);
+                }
+                record = new ArrayList<>();
+            } else {
+                cell.append(c);
+            }
+        }
+        if (quoted) {
+            throw badRequest("CSV contains an unterminated quoted value");
+        }
+        record.add(cell.toString());
+        if (!(record.size() == 1 && record.getFirst().isBlank())) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static Object value(String cell) {
+        try {
+            BigDecimal number = new BigDecimal(cell);
+            if (number.scale() <= 0 && number.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0
+                    && number.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0) {
+                return number.longValueExact();
+            }
+            return number.doubleValue();
+        } catch (NumberFormatException | ArithmeticException ex) {
+            return cell;
+        }
+    }
+
+    private static ResponseStatusException badRequest(String message) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
+    }
+}
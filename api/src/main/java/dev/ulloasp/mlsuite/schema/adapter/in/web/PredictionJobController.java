@@ -0,0 +1,70 @@
+package dev.ulloasp.mlsuite.schema.adapter.in.web;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.ulloasp.mlsuite.model.application.dto.ExplainRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionBatchRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionJobDto;
+import dev.ulloasp.mlsuite.schema.application.port.in.PredictionJobUseCase;
+import dev.ulloasp.mlsuite.security.identity.CurrentUserResolver;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api")
+public class PredictionJobController {
+
+    private final CurrentUserResolver currentUserResolver;
+    private final PredictionJobUseCase predictionJobUseCase;
+
+    public PredictionJobController(CurrentUserResolver currentUserResolver,
+            PredictionJobUseCase predictionJobUseCase) {
+        this.currentUserResolver = currentUserResolver;
+        this.predictionJobUseCase = predictionJobUseCase;
+    }
+
+    @PostMapping(path = "/schema-versions/{versionId}/jobs/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PredictionJobDto> submitBatch(Authentication authentication, @PathVariable Long versionId,
+            @Valid @RequestBody CreatePredictionBatchRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(predictionJobUseCase.submitBatch(userId(authentication), versionId, request));
+    }
+
+    @PostMapping(path = "/schema-versions/{versionId}/jobs/batch", consumes = "text/csv")
+    public ResponseEntity<PredictionJobDto> submitBatchFromCsv(Authentication authentication,
+            @PathVariable Long versionId, @RequestParam String name, @RequestBody String csv) {
+        return submitBatch(authentication, versionId, new CreatePredictionBatchRequest(name, CsvRows.parse(csv)));
+    }
+
+    @PostMapping("/models/{modelId}/jobs/explain")
+    public ResponseEntity<PredictionJobDto> submitExplain(Authentication authentication, @PathVariable Long modelId,
+            @Valid @RequestBody ExplainRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(predictionJobUseCase.submitExplain(userId(authentication), modelId, request));
+    }
+
+    @GetMapping("/prediction-jobs")
+    public ResponseEntity<List<PredictionJobDto>> list(Authentication authentication) {
+        return ResponseEntity.ok(predictionJobUseCase.listJobs(userId(authentication)));
+    }
+
+    @GetMapping("/prediction-jobs/{jobId}")
+    public ResponseEntity<PredictionJobDto> get(Authentication authentication, @PathVariable Long jobId) {
+        return ResponseEntity.ok(predictionJobUseCase.getJob(userId(authentication), jobId));
+    }
+
+    private Long userId(Authentication authentication) {
+        return currentUserResolver.resolve(authentication).userId();
+    }
+}
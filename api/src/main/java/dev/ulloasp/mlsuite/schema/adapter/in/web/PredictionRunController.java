@@ -3,6 +3,7 @@ package dev.ulloasp.mlsuite.schema.adapter.in.web;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,12 +11,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionResultRepository;
+import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionBatchRequest;
 import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionRunRequest;
 import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunDto;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunPageDto;
 import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunSequenceDto;
+import dev.ulloasp.mlsuite.schema.application.port.in.PredictionBatchUseCase;
 import dev.ulloasp.mlsuite.schema.application.port.in.PredictionRunUseCase;
 import dev.ulloasp.mlsuite.schema.domain.model.PredictionRun;
 import dev.ulloasp.mlsuite.security.identity.CurrentUserResolver;
@@ -27,12 +32,14 @@ public class PredictionRunController {
 
     private final CurrentUserResolver currentUserResolver;
     private final PredictionRunUseCase predictionRunUseCase;
+    private final PredictionBatchUseCase predictionBatchUseCase;
     private final PredictionResultRepository resultRepository;
 
     public PredictionRunController(CurrentUserResolver currentUserResolver, PredictionRunUseCase predictionRunUseCase,
-            PredictionResultRepository resultRepository) {
+            PredictionBatchUseCase predictionBatchUseCase, PredictionResultRepository resultRepository) {
         this.currentUserResolver = currentUserResolver;
         this.predictionRunUseCase = predictionRunUseCase;
+        this.predictionBatchUseCase = predictionBatchUseCase;
         this.resultRepository = resultRepository;
     }
 
@@ -43,11 +50,29 @@ public class PredictionRunController {
         return ResponseEntity.status(HttpStatus.CREATED).body(toDto(run));
     }
 
+    @PostMapping(path = "/schema-versions/{versionId}/runs/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<PredictionRunDto>> createBatch(Authentication authentication,
+            @PathVariable Long versionId, @Valid @RequestBody CreatePredictionBatchRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(predictionBatchUseCase.createBatch(userId(authentication), versionId, request));
+    }
+
+    @PostMapping(path = "/schema-versions/{versionId}/runs/batch", consumes = "text/csv")
+    public ResponseEntity<List<PredictionRunDto>> createBatchFromCsv(Authentication authentication,
+            @PathVariable Long versionId, @RequestParam String name, @RequestBody String csv) {
+        return createBatch(authentication, versionId, new CreatePredictionBatchRequest(name, CsvRows.parse(csv)));
+    }
+
     @GetMapping("/schema-versions/{versionId}/runs")
-    public ResponseEntity<List<PredictionRunDto>> list(Authentication authentication, @PathVariable Long versionId) {
-        return ResponseEntity.ok(predictionRunUseCase.listRuns(userId(authentication), versionId).stream()
-                .map(this::toDto)
-                .toList());
+    public ResponseEntity<PredictionRunPageDto> list(Authentication authentication, @PathVariable Long versionId,
+            @RequestParam(name = "size", defaultValue = "100") int size,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "view", defaultValue = "full") String view) {
+        if (!"full".equals(view) && !"summary".equals(view)) {
+            throw new IllegalArgumentException("Unsupported run view: " + view);
+        }
+        return ResponseEntity.ok(predictionRunUseCase.listRuns(
+                userId(authentication), versionId, size, cursor, "summary".equals(view)));
     }
 
     @GetMapping("/prediction-runs/last-id")
@@ -48,9 +48,11 @@ public class SchemaController {
             @RequestParam(name = "size", defaultValue = "24") int size,
             @RequestParam(name = "search", defaultValue = "") String search,
             @RequestParam(name = "sort", defaultValue = "updated") String sort,
-            @RequestParam(name = "status", defaultValue = "active") String status) {
+            @RequestParam(name = "status", defaultValue = "active") String status,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "includeTotal", defaultValue = "true") boolean includeTotal) {
         return ResponseEntity.ok(schemaCatalogUseCase.getSchemaPage(
-                userId(authentication), page, size, search, sort, status));
+                userId(authentication), page, size, search, sort, status, cursor, includeTotal));
     }
 
     @GetMapping("/all")
@@ -0,0 +1,27 @@
+package dev.ulloasp.mlsuite.schema.adapter.in.ws;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+public class PredictionJobWebSocketConfig implements WebSocketConfigurer {
+
+    private final PredictionJobWebSocketHandler handler;
+    private final List<String> allowedOrigins;
+
+    public PredictionJobWebSocketConfig(PredictionJobWebSocketHandler handler,
+            @Value("${cors.allow-origins}") List<String> allowedOrigins) {
+        this.handler = handler;
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(handler, "/api/prediction-jobs/stream")
+                .setAllowedOrigins(allowedOrigins.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,81 @@
+package dev.ulloasp.mlsuite.schema.adapter.in.ws;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ulloasp.mlsuite.schema.application.event.PredictionJobUpdatedEvent;
+import dev.ulloasp.mlsuite.security.identity.CurrentUserResolver;
+
+/**
+ * Pushes every update of a user's prediction jobs to that user's open sockets on this instance. Jobs running on other
+ * instances reach it through {@code PredictionJobRelay}, which republishes their updates here.
+ */
+@Component
+public class PredictionJobWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String USER_ID = "predictionJobs.userId";
+    private static final int SEND_TIME_LIMIT_MS = 5_000;
+    private static final int BUFFER_SIZE_LIMIT = 256 * 1024;
+
+    private final CurrentUserResolver currentUserResolver;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Set<WebSocketSession>> sessionsByUser = new ConcurrentHashMap<>();
+
+    public PredictionJobWebSocketHandler(CurrentUserResolver currentUserResolver, ObjectMapper objectMapper) {
+        this.currentUserResolver = currentUserResolver;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        if (!(session.getPrincipal() instanceof Authentication authentication)) {
+            session.close(new CloseStatus(4401, "Authentication required"));
+            return;
+        }
+        Long userId = currentUserResolver.resolve(authentication).userId();
+        session.getAttributes().put(USER_ID, userId);
+        sessionsByUser.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet())
+                .add(new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, BUFFER_SIZE_LIMIT));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        if (!(session.getAttributes().get(USER_ID) instanceof Long userId)) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(userId, (key, sessions) -> {
+            sessions.removeIf(open -> open.getId().equals(session.getId()));
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobUpdated(PredictionJobUpdatedEvent event) throws JsonProcessingException {
+        Set<WebSocketSession> sessions = sessionsByUser.get(event.userId());
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+        TextMessage message = new TextMessage(objectMapper.writeValueAsString(event.job()));
+        for (WebSocketSession session : sessions) {
+            try {
+                session.sendMessage(message);
+            } catch (IOException | RuntimeException ex) {
+                sessions.remove(session);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJob;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJobStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface PredictionJobRepository extends JpaRepository<PredictionJob, Long> {
+
+    Optional<PredictionJob> findByIdAndOrganizationId(Long id, Long organizationId);
+
+    List<PredictionJob> findByUserIdAndOrganizationIdOrderByIdDesc(Long userId, Long organizationId,
+            Pageable pageable);
+
+    /** Oldest pending jobs, locked with SKIP LOCKED so concurrent workers never claim the same one. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM PredictionJob j WHERE j.status = :status ORDER BY j.id ASC")
+    List<PredictionJob> findNextForUpdate(PredictionJobStatus status, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE PredictionJob j SET j.completedItems = :completedItems, j.updatedAt = :now WHERE j.id = :id")
+    int updateProgress(Long id, int completedItems, OffsetDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE PredictionJob j SET j.leaseUntil = :leaseUntil
+            WHERE j.lockedBy = :lockedBy
+            AND j.status = dev.ulloasp.mlsuite.schema.domain.model.PredictionJobStatus.RUNNING
+            """)
+    int renewLeases(String lockedBy, OffsetDateTime leaseUntil);
+
+    /**
+     * Fails the running jobs whose lease ran out after {@code maxAttempts} claims, so a job that kills or hangs its
+     * worker is not retried forever. {@code lockedBy} is kept so other instances relay the failure.
+     */
+    @Modifying
+    @Query("""
+            UPDATE PredictionJob j
+            SET j.status = dev.ulloasp.mlsuite.schema.domain.model.PredictionJobStatus.FAILED,
+                j.errorMessage = :errorMessage, j.leaseUntil = NULL, j.finishedAt = :now, j.updatedAt = :now
+            WHERE j.status = dev.ulloasp.mlsuite.schema.domain.model.PredictionJobStatus.RUNNING
+            AND (j.leaseUntil IS NULL OR j.leaseUntil < :now)
+            AND j.attempts >= :maxAttempts
+            """)
+    int failExhausted(OffsetDateTime now, int maxAttempts, String errorMessage);
+
+    /** Puts back in the queue the running jobs whose worker stopped renewing their lease (or never had one). */
+    @Modifying
+    @Query("""
+            UPDATE PredictionJob j
+            SET j.status = dev.ulloasp.mlsuite.schema.domain.model.PredictionJobStatus.PENDING,
+                j.startedAt = NULL, j.completedItems = 0, j.lockedBy = NULL, j.leaseUntil = NULL, j.updatedAt = :now
+            WHERE j.status = dev.ulloasp.mlsuite.schema.domain.model.PredictionJobStatus.RUNNING
+            AND (j.leaseUntil IS NULL OR j.leaseUntil < :now)
+            """)
+    int requeueExpired(OffsetDateTime now);
+
+    /** Jobs last claimed by another instance that changed after {@code since}; see {@code PredictionJobRelay}. */
+    @Query("""
+            SELECT j FROM PredictionJob j
+            WHERE j.updatedAt > :since
+            AND j.lockedBy IS NOT NULL
+            AND j.lockedBy <> :instanceId
+            """)
+    List<PredictionJob> findUpdatedElsewhereSince(OffsetDateTime since, String instanceId);
+}
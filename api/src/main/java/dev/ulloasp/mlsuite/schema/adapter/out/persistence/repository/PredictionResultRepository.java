@@ -1,16 +1,29 @@
 package dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionResultDto;
 import dev.ulloasp.mlsuite.schema.domain.model.PredictionResult;
 
 public interface PredictionResultRepository extends JpaRepository<PredictionResult, Long> {
     List<PredictionResult> findByRunIdOrderByIdAsc(Long runId);
 
+    /** The results of several runs at once, read from the result row only, so no model (or its file) is loaded. */
+    @Query("""
+            SELECT new dev.ulloasp.mlsuite.schema.application.dto.PredictionResultDto(
+                r.id, r.run.id, r.model.id, r.modelInput, r.output, r.status, r.errorMessage, r.errorJson,
+                r.createdAt)
+            FROM PredictionResult r
+            WHERE r.run.id IN :runIds
+            ORDER BY r.run.id ASC, r.id ASC
+            """)
+    List<PredictionResultDto> findDtosByRunIdIn(Collection<Long> runIds);
+
     @Query("""
             SELECT r FROM PredictionResult r
             WHERE r.id = :id
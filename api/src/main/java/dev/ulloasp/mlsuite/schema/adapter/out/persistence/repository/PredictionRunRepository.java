@@ -1,5 +1,7 @@
 package dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,13 +15,27 @@ public interface PredictionRunRepository extends JpaRepository<PredictionRun, Lo
     @Query("SELECT r FROM PredictionRun r WHERE r.id = :id AND r.schemaVersion.schema.organization.id = :organizationId")
     Optional<PredictionRun> findByIdAndOrganizationId(Long id, Long organizationId);
 
+    /** Keyset page of a version's runs, newest first. */
     @Query("""
-            SELECT r FROM PredictionRun r
+            SELECT new dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRow(
+                r.id, r.schemaVersion.id, r.name, r.inputData, r.status, r.createdAt, r.updatedAt)
+            FROM PredictionRun r
+            WHERE r.schemaVersion.id = :schemaVersionId
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<PredictionRunRow> findRowsBySchemaVersionId(Long schemaVersionId, Pageable limit);
+
+    /** The page after the row at {@code (afterTimestamp, afterId)}; the row-value seek is an index bound. */
+    @Query("""
+            SELECT new dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRow(
+                r.id, r.schemaVersion.id, r.name, r.inputData, r.status, r.createdAt, r.updatedAt)
+            FROM PredictionRun r
             WHERE r.schemaVersion.id = :schemaVersionId
-            AND r.schemaVersion.schema.organization.id = :organizationId
-            ORDER BY r.createdAt DESC
+            AND (r.createdAt, r.id) < (:afterTimestamp, :afterId)
+            ORDER BY r.createdAt DESC, r.id DESC
             """)
-    List<PredictionRun> findBySchemaVersionIdAndOrganizationId(Long schemaVersionId, Long organizationId);
+    List<PredictionRunRow> findRowsBySchemaVersionIdAfter(Long schemaVersionId, OffsetDateTime afterTimestamp,
+            Long afterId, Pageable limit);
 
     @Query("SELECT COALESCE(MAX(r.id), 0) FROM PredictionRun r")
     Long findLastPredictionRunId();
@@ -36,6 +52,14 @@ public interface PredictionRunRepository extends JpaRepository<PredictionRun, Lo
 
     boolean existsBySchemaVersionIdAndName(Long schemaVersionId, String name);
 
+    @Query("SELECT r.name FROM PredictionRun r WHERE r.schemaVersion.id = :schemaVersionId AND r.name IN :names")
+    List<String> findExistingNames(Long schemaVersionId, Collection<String> names);
+
+    List<PredictionRun> findBySchemaVersionIdAndNameIn(Long schemaVersionId, Collection<String> names);
+
     @Query("SELECT COUNT(r) > 0 FROM PredictionRun r WHERE r.schemaVersion.schema.id = :schemaId")
     boolean existsBySchemaId(Long schemaId);
+
+    @Query("SELECT r FROM PredictionRun r WHERE r.schemaVersion.schema.id IN :schemaIds")
+    List<PredictionRun> findBySchemaIdIn(Collection<Long> schemaIds);
 }
@@ -0,0 +1,17 @@
+package dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionRunStatus;
+
+/** The columns of a prediction run needed to list it, read without loading the run's version graph. */
+public record PredictionRunRow(
+        Long id,
+        Long schemaVersionId,
+        String name,
+        Map<String, Object> inputData,
+        PredictionRunStatus status,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+}
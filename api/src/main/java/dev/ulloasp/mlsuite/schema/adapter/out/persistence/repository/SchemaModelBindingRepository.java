@@ -11,6 +11,13 @@ import dev.ulloasp.mlsuite.schema.domain.model.SchemaModelBinding;
 public interface SchemaModelBindingRepository extends JpaRepository<SchemaModelBinding, Long> {
     List<SchemaModelBinding> findBySchemaVersionId(Long schemaVersionId);
 
+    @Query("""
+            SELECT b FROM SchemaModelBinding b
+            JOIN FETCH b.model
+            WHERE b.schemaVersion.id = :schemaVersionId
+            """)
+    List<SchemaModelBinding> findWithModelsBySchemaVersionId(Long schemaVersionId);
+
     @Query("""
             SELECT b FROM SchemaModelBinding b
             WHERE b.schemaVersion.id = :schemaVersionId
@@ -1,5 +1,6 @@
 package dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +45,148 @@ public interface SchemaRepository extends JpaRepository<Schema, Long> {
             boolean archivedOnly,
             Pageable pageable);
 
+    /** Keyset page by most recently updated. */
+    @Query("""
+            SELECT s FROM Schema s
+            WHERE s.organization.id = :organizationId
+            AND (:includeArchived = true OR s.archivedAt IS NULL)
+            AND (:archivedOnly = false OR s.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(s.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(s.description) LIKE lower(concat('%', :search, '%'))
+            )
+            ORDER BY s.updatedAt DESC, s.id DESC
+            """)
+    List<Schema> findCatalogByUpdated(
+            Long organizationId,
+            String search,
+            boolean includeArchived,
+            boolean archivedOnly,
+            Pageable limit);
+
+    /** The page after the row at {@code (afterTimestamp, afterId)}; the row-value seek is an index bound. */
+    @Query("""
+            SELECT s FROM Schema s
+            WHERE s.organization.id = :organizationId
+            AND (:includeArchived = true OR s.archivedAt IS NULL)
+            AND (:archivedOnly = false OR s.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(s.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(s.description) LIKE lower(concat('%', :search, '%'))
+            )
+            AND (s.updatedAt, s.id) < (:afterTimestamp, :afterId)
+            ORDER BY s.updatedAt DESC, s.id DESC
+            """)
+    List<Schema> findCatalogByUpdatedAfter(
+            Long organizationId,
+            String search,
+            boolean includeArchived,
+            boolean archivedOnly,
+            OffsetDateTime afterTimestamp,
+            Long afterId,
+            Pageable limit);
+
+    /** Keyset page by most recently created. */
+    @Query("""
+            SELECT s FROM Schema s
+            WHERE s.organization.id = :organizationId
+            AND (:includeArchived = true OR s.archivedAt IS NULL)
+            AND (:archivedOnly = false OR s.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(s.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(s.description) LIKE lower(concat('%', :search, '%'))
+            )
+            ORDER BY s.createdAt DESC, s.id DESC
+            """)
+    List<Schema> findCatalogByCreated(
+            Long organizationId,
+            String search,
+            boolean includeArchived,
+            boolean archivedOnly,
+            Pageable limit);
+
+    /** The page after the row at {@code (afterTimestamp, afterId)}; the row-value seek is an index bound. */
+    @Query("""
+            SELECT s FROM Schema s
+            WHERE s.organization.id = :organizationId
+            AND (:includeArchived = true OR s.archivedAt IS NULL)
+            AND (:archivedOnly = false OR s.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(s.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(s.description) LIKE lower(concat('%', :search, '%'))
+            )
+            AND (s.createdAt, s.id) < (:afterTimestamp, :afterId)
+            ORDER BY s.createdAt DESC, s.id DESC
+            """)
+    List<Schema> findCatalogByCreatedAfter(
+            Long organizationId,
+            String search,
+            boolean includeArchived,
+            boolean archivedOnly,
+            OffsetDateTime afterTimestamp,
+            Long afterId,
+            Pageable limit);
+
+    /** Keyset page by case-insensitive name. */
+    @Query("""
+            SELECT s FROM Schema s
+            WHERE s.organization.id = :organizationId
+            AND (:includeArchived = true OR s.archivedAt IS NULL)
+            AND (:archivedOnly = false OR s.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(s.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(s.description) LIKE lower(concat('%', :search, '%'))
+            )
+            ORDER BY lower(s.name) ASC, s.id ASC
+            """)
+    List<Schema> findCatalogByName(
+            Long organizationId,
+            String search,
+            boolean includeArchived,
+            boolean archivedOnly,
+            Pageable limit);
+
+    /** The page after the row at {@code (afterName, afterId)}; the row-value seek is an index bound. */
+    @Query("""
+            SELECT s FROM Schema s
+            WHERE s.organization.id = :organizationId
+            AND (:includeArchived = true OR s.archivedAt IS NULL)
+            AND (:archivedOnly = false OR s.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(s.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(s.description) LIKE lower(concat('%', :search, '%'))
+            )
+            AND (lower(s.name), s.id) > (:afterName, :afterId)
+            ORDER BY lower(s.name) ASC, s.id ASC
+            """)
+    List<Schema> findCatalogByNameAfter(
+            Long organizationId,
+            String search,
+            boolean includeArchived,
+            boolean archivedOnly,
+            String afterName,
+            Long afterId,
+            Pageable limit);
+
+    @Query("""
+            SELECT count(s) FROM Schema s
+            WHERE s.organization.id = :organizationId
+            AND (:includeArchived = true OR s.archivedAt IS NULL)
+            AND (:archivedOnly = false OR s.archivedAt IS NOT NULL)
+            AND (
+                :search = ''
+                OR lower(s.name) LIKE lower(concat('%', :search, '%'))
+                OR lower(s.description) LIKE lower(concat('%', :search, '%'))
+            )
+            """)
+    long countCatalog(Long organizationId, String search, boolean includeArchived, boolean archivedOnly);
+
     Optional<Schema> findByIdAndOrganizationId(Long id, Long organizationId);
 
     boolean existsByNameAndOrganizationId(String name, Long organizationId);
@@ -0,0 +1,12 @@
+package dev.ulloasp.mlsuite.schema.application.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+public record CreatePredictionBatchRequest(
+        @NotBlank String name,
+        @NotEmpty List<@NotEmpty Map<String, Object>> rows) {
+}
@@ -0,0 +1,44 @@
+package dev.ulloasp.mlsuite.schema.application.dto;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJob;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJobStatus;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJobType;
+
+public record PredictionJobDto(
+        Long id,
+        PredictionJobType type,
+        PredictionJobStatus status,
+        Long schemaVersionId,
+        Long modelId,
+        int totalItems,
+        int completedItems,
+        Map<String, Object> result,
+        String errorMessage,
+        OffsetDateTime createdAt,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt) {
+
+    public static PredictionJobDto from(PredictionJob job) {
+        return new PredictionJobDto(
+                job.getId(),
+                job.getType(),
+                job.getStatus(),
+                job.getSchemaVersion() == null ? null : job.getSchemaVersion().getId(),
+                job.getModel() == null ? null : job.getModel().getId(),
+                job.getTotalItems(),
+                job.getCompletedItems(),
+                job.getResult(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt());
+    }
+
+    public PredictionJobDto withProgress(PredictionJobStatus status, int completedItems) {
+        return new PredictionJobDto(id, type, status, schemaVersionId, modelId, totalItems, completedItems, result,
+                errorMessage, createdAt, startedAt, finishedAt);
+    }
+}
@@ -4,6 +4,7 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRow;
 import dev.ulloasp.mlsuite.schema.domain.model.PredictionResult;
 import dev.ulloasp.mlsuite.schema.domain.model.PredictionRun;
 import dev.ulloasp.mlsuite.schema.domain.model.PredictionRunStatus;
@@ -29,4 +30,17 @@ public record PredictionRunDto(
                 run.getCreatedAt(),
                 run.getUpdatedAt());
     }
+
+    /** A listed run; {@code results} is null when the listing was requested as a summary. */
+    public static PredictionRunDto from(PredictionRunRow run, List<PredictionResultDto> results) {
+        return new PredictionRunDto(
+                run.id(),
+                run.schemaVersionId(),
+                run.name(),
+                run.inputData(),
+                run.status(),
+                results,
+                run.createdAt(),
+                run.updatedAt());
+    }
 }
@@ -0,0 +1,10 @@
+package dev.ulloasp.mlsuite.schema.application.dto;
+
+import java.util.List;
+
+public record PredictionRunPageDto(
+        List<PredictionRunDto> items,
+        int size,
+        boolean hasNext,
+        String nextCursor) {
+}
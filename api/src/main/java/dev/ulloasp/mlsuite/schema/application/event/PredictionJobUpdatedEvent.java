@@ -0,0 +1,7 @@
+package dev.ulloasp.mlsuite.schema.application.event;
+
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionJobDto;
+
+/** Published whenever a job is submitted, makes progress or finishes; delivered to the owner's sockets. */
+public record PredictionJobUpdatedEvent(Long userId, PredictionJobDto job) {
+}
@@ -0,0 +1,36 @@
+package dev.ulloasp.mlsuite.schema.application.port.in;
+
+import java.util.List;
+import java.util.Map;
+
+import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionBatchRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunDto;
+import dev.ulloasp.mlsuite.schema.domain.model.SchemaModelBinding;
+import dev.ulloasp.mlsuite.schema.domain.model.SchemaVersion;
+
+/**
+ * A batch prediction split in two for callers that queue it: {@link #plan} validates it while the request is still
+ * open, {@link #execute} runs it later. Callers authorize the organization themselves.
+ */
+public interface PredictionBatchExecutionUseCase {
+
+    /** Validated batch, ready to run: every row against every binding of the version. */
+    record BatchPlan(SchemaVersion version, List<SchemaModelBinding> bindings, List<String> names,
+            List<Map<String, Object>> rows) {
+
+        public int items() {
+            return rows.size() * bindings.size();
+        }
+    }
+
+    BatchPlan plan(Long organizationId, Long schemaVersionId, CreatePredictionBatchRequest request);
+
+    /** Runs a plan; {@code onItemDone} is called from worker threads after each row/model prediction. */
+    List<PredictionRunDto> execute(BatchPlan plan, Runnable onItemDone);
+
+    /**
+     * Ids of the runs an earlier attempt of this batch already stored, in row order, or an empty list when it stored
+     * none. The runs of a batch are written in one transaction, so it is all of them or nothing.
+     */
+    List<Long> findStoredRunIds(Long schemaVersionId, CreatePredictionBatchRequest request);
+}
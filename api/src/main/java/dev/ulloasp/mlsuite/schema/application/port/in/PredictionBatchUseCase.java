@@ -0,0 +1,10 @@
+package dev.ulloasp.mlsuite.schema.application.port.in;
+
+import java.util.List;
+
+import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionBatchRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunDto;
+
+public interface PredictionBatchUseCase {
+    List<PredictionRunDto> createBatch(Long userId, Long schemaVersionId, CreatePredictionBatchRequest request);
+}
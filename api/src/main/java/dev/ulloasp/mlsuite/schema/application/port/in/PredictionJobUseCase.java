@@ -0,0 +1,17 @@
+package dev.ulloasp.mlsuite.schema.application.port.in;
+
+import java.util.List;
+
+import dev.ulloasp.mlsuite.model.application.dto.ExplainRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionBatchRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionJobDto;
+
+public interface PredictionJobUseCase {
+    PredictionJobDto submitBatch(Long userId, Long schemaVersionId, CreatePredictionBatchRequest request);
+
+    PredictionJobDto submitExplain(Long userId, Long modelId, ExplainRequest request);
+
+    PredictionJobDto getJob(Long userId, Long jobId);
+
+    List<PredictionJobDto> listJobs(Long userId);
+}
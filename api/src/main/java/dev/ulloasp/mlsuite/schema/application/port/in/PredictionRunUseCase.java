@@ -1,14 +1,17 @@
 package dev.ulloasp.mlsuite.schema.application.port.in;
 
-import java.util.List;
-
 import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionRunRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunPageDto;
 import dev.ulloasp.mlsuite.schema.domain.model.PredictionRun;
 
 public interface PredictionRunUseCase {
     PredictionRun createRun(Long userId, Long schemaVersionId, CreatePredictionRunRequest request);
 
-    List<PredictionRun> listRuns(Long userId, Long schemaVersionId);
+    /**
+     * A version's runs, newest first, one keyset page at a time. In summary mode the runs come without their
+     * results.
+     */
+    PredictionRunPageDto listRuns(Long userId, Long schemaVersionId, int size, String cursor, boolean summary);
 
     PredictionRun getRun(Long userId, Long runId);
 
@@ -11,7 +11,12 @@ public interface SchemaCatalogUseCase {
 
     List<Schema> listSchemas(Long userId);
 
-    SchemaPageDto getSchemaPage(Long userId, int page, int size, String search, String sort, String status);
+    /**
+     * Keyset paging from {@code cursor} (or from the top when it is null and {@code page} is 0); a non-zero
+     * {@code page} without a cursor falls back to offset paging. The total is only counted when requested.
+     */
+    SchemaPageDto getSchemaPage(Long userId, int page, int size, String search, String sort, String status,
+            String cursor, boolean includeTotal);
 
     Schema getSchema(Long userId, Long schemaId);
 
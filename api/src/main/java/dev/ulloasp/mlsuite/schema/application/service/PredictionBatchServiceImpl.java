@@ -0,0 +1,244 @@
+package dev.ulloasp.mlsuite.schema.application.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import dev.ulloasp.mlsuite.model.application.port.in.AnalyzerUseCase;
+import dev.ulloasp.mlsuite.model.domain.exception.AnalyzerServiceException;
+import dev.ulloasp.mlsuite.model.domain.model.Model;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionResultRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaModelBindingRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaVersionRepository;
+import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionBatchRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunDto;
+import dev.ulloasp.mlsuite.schema.application.port.in.PredictionBatchExecutionUseCase;
+import dev.ulloasp.mlsuite.schema.application.port.in.PredictionBatchUseCase;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionResult;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionResultStatus;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionRun;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionRunStatus;
+import dev.ulloasp.mlsuite.schema.domain.model.SchemaModelBinding;
+import dev.ulloasp.mlsuite.schema.domain.model.SchemaVersion;
+import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
+
+/**
+ * Runs every row of a batch against every model bound to a schema version. Analyzer calls fan out on virtual
+ * threads, bounded by a semaphore shared across batches, and no transaction is held while they are in flight; the
+ * runs and results are then written in a single transaction.
+ */
+@Service
+public class PredictionBatchServiceImpl implements PredictionBatchUseCase, PredictionBatchExecutionUseCase {
+
+    private final UserLookupService userLookupService;
+    private final SchemaVersionRepository versionRepository;
+    private final SchemaModelBindingRepository bindingRepository;
+    private final PredictionRunRepository runRepository;
+    private final PredictionResultRepository resultRepository;
+    private final WorkspaceAccessService workspaceAccessService;
+    private final WorkspaceAuthorizationService authorizationService;
+    private final AnalyzerUseCase analyzerUseCase;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore analyzerPermits;
+    private final int maxRows;
+
+    public PredictionBatchServiceImpl(UserLookupService userLookupService, SchemaVersionRepository versionRepository,
+            SchemaModelBindingRepository bindingRepository, PredictionRunRepository runRepository,
+            PredictionResultRepository resultRepository, WorkspaceAccessService workspaceAccessService,
+            WorkspaceAuthorizationService authorizationService, AnalyzerUseCase analyzerUseCase,
+            TransactionTemplate transactionTemplate,
+            @Value("${mlsuite.prediction.batch.max-concurrency:8}") int maxConcurrency,
+            @Value("${mlsuite.prediction.batch.max-rows:1000}") int maxRows) {
+        this.userLookupService = userLookupService;
+        this.versionRepository = versionRepository;
+        this.bindingRepository = bindingRepository;
+        this.runRepository = runRepository;
+        this.resultRepository = resultRepository;
+        this.workspaceAccessService = workspaceAccessService;
+        this.authorizationService = authorizationService;
+        this.analyzerUseCase = analyzerUseCase;
+        this.transactionTemplate = transactionTemplate;
+        this.analyzerPermits = new Semaphore(Math.max(maxConcurrency, 1), true);
+        this.maxRows = maxRows;
+    }
+
+    @Override
+    public List<PredictionRunDto> createBatch(Long userId, Long schemaVersionId,
+            CreatePredictionBatchRequest request) {
+        Long organizationId = requireOperate(userId);
+        return execute(plan(organizationId, schemaVersionId, request), () -> {
+        });
+    }
+
+    @Override
+    public BatchPlan plan(Long organizationId, Long schemaVersionId, CreatePredictionBatchRequest request) {
+        List<Map<String, Object>> rows = request.rows();
+        if (request.name() == null || request.name().isBlank()) {
+            throw badRequest("Prediction run name is required");
+        }
+        if (rows == null || rows.isEmpty()) {
+            throw badRequest("Prediction batch has no rows");
+        }
+        if (rows.size() > maxRows) {
+            throw badRequest("Prediction batch exceeds " + maxRows + " rows");
+        }
+        SchemaVersion version = versionRepository.findByIdAndOrganizationId(schemaVersionId, organizationId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Schema version not found"));
+        List<SchemaModelBinding> bindings = bindingRepository.findBySchemaVersionId(schemaVersionId);
+        if (bindings.isEmpty()) {
+            throw badRequest("Schema version has no model bindings");
+        }
+        List<String> names = runNames(request.name(), rows.size());
+        if (!runRepository.findExistingNames(schemaVersionId, names).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Prediction run name already exists");
+        }
+        return new BatchPlan(version, bindings, names, rows);
+    }
+
+    @Override
+    public List<PredictionRunDto> execute(BatchPlan plan, Runnable onItemDone) {
+        List<List<PredictionResult>> results = predictAll(plan.rows(), plan.bindings(), onItemDone);
+        return transactionTemplate.execute(status -> persist(plan.version(), plan.names(), plan.rows(), results));
+    }
+
+    @Override
+    public List<Long> findStoredRunIds(Long schemaVersionId, CreatePredictionBatchRequest request) {
+        if (request.name() == null || request.rows() == null || request.rows().isEmpty()) {
+            return List.of();
+        }
+        List<String> names = runNames(request.name(), request.rows().size());
+        Map<String, Long> stored = new HashMap<>();
+        runRepository.findBySchemaVersionIdAndNameIn(schemaVersionId, names)
+                .forEach(run -> stored.put(run.getName(), run.getId()));
+        if (stored.size() != names.size()) {
+            return List.of();
+        }
+        return names.stream().map(stored::get).toList();
+    }
+
+    private List<List<PredictionResult>> predictAll(List<Map<String, Object>> rows,
+            List<SchemaModelBinding> bindings, Runnable onItemDone) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<List<Future<PredictionResult>>> pending = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                List<Future<PredictionResult>> perRow = new ArrayList<>(bindings.size());
+                for (SchemaModelBinding binding : bindings) {
+                    perRow.add(executor.submit(() -> {
+                        PredictionResult result = predict(binding.getModel(), row);
+                        onItemDone.run();
+                        return result;
+                    }));
+                }
+                pending.add(perRow);
+            }
+
+            List<List<PredictionResult>> results = new ArrayList<>(rows.size());
+            for (List<Future<PredictionResult>> perRow : pending) {
+                List<PredictionResult> rowResults = new ArrayList<>(perRow.size());
+                for (Future<PredictionResult> future : perRow) {
+                    rowResults.add(await(future));
+                }
+                results.add(rowResults);
+            }
+            return results;
+        }
+    }
+
+    private PredictionResult predict(Model model, Map<String, Object> row) throws InterruptedException {
+        analyzerPermits.acquire();
+        try {
+            Map<String, Object> output = analyzerUseCase.predict(model, row);
+            return new PredictionResult(null, model, row, output == null ? Map.of() : output,
+                    PredictionResultStatus.SUCCESS, null, null);
+        } catch (AnalyzerServiceException ex) {
+            Map<String, Object> error = new LinkedHashMap<>();
+            error.put("status", ex.getStatus());
+            error.put("detail", ex.getDetail());
+            return failed(model, row, ex.getMessage(), error);
+        } catch (RuntimeException ex) {
+            return failed(model, row, ex.getMessage(), null);
+        } finally {
+            analyzerPermits.release();
+        }
+    }
+
+    private List<PredictionRunDto> persist(SchemaVersion version, List<String> names,
+            List<Map<String, Object>> rows, List<List<PredictionResult>> results) {
+        List<PredictionRun> runs = new ArrayList<>(rows.size());
+        List<PredictionResult> allResults = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            List<PredictionResult> rowResults = results.get(i);
+            long successCount = rowResults.stream()
+                    .filter(result -> result.getStatus() == PredictionResultStatus.SUCCESS)
+                    .count();
+            PredictionRun run = new PredictionRun(version, names.get(i), rows.get(i),
+                    PredictionRunStatus.of(successCount, rowResults.size()));
+            rowResults.forEach(result -> result.setRun(run));
+            runs.add(run);
+            allResults.addAll(rowResults);
+        }
+        runRepository.saveAll(runs);
+        resultRepository.saveAll(allResults);
+
+        List<PredictionRunDto> dtos = new ArrayList<>(runs.size());
+        for (int i = 0; i < runs.size(); i++) {
+            dtos.add(PredictionRunDto.from(runs.get(i), results.get(i)));
+        }
+        return dtos;
+    }
+
+    private List<String> runNames(String name, int count) {
+        if (count == 1) {
+            return List.of(name);
+        }
+        List<String> names = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            names.add(name + " #" + i);
+        }
+        return names;
+    }
+
+    private Long requireOperate(Long userId) {
+        userLookupService.requireById(userId);
+        Long organizationId = workspaceAccessService.requireCurrentOrganization(userId).getId();
+        authorizationService.requireOrganizationOperate(userId, organizationId);
+        return organizationId;
+    }
+
+    private PredictionResult await(Future<PredictionResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Prediction batch interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Prediction batch interrupted",
+                    ex.getCause());
+        }
+    }
+
+    private PredictionResult failed(Model model, Map<String, Object> row, String message,
+            Map<String, Object> errorJson) {
+        return new PredictionResult(null, model, row, Map.of(), PredictionResultStatus.FAILED, message, errorJson);
+    }
+
+    private ResponseStatusException badRequest(String message) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
+    }
+}
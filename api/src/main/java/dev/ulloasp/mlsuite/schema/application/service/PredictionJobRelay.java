@@ -0,0 +1,103 @@
+package dev.ulloasp.mlsuite.schema.application.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionJobRepository;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionJobDto;
+import dev.ulloasp.mlsuite.schema.application.event.PredictionJobUpdatedEvent;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJob;
+
+/**
+ * Relays the updates of jobs running on other instances to this one. Workers publish {@link PredictionJobUpdatedEvent}
+ * inside their own instance only, so a user whose socket is open here would never hear about a job another instance
+ * claimed. The job row is the channel: every claim, progress write and outcome bumps its {@code updatedAt}, and this
+ * republishes the rows last claimed elsewhere that changed since the previous poll. The poll window reaches back
+ * {@link #CLOCK_SKEW} further because {@code updatedAt} comes from the writing instance's clock; rows seen again in the
+ * overlap are skipped by their {@code updatedAt}.
+ */
+@Component
+public class PredictionJobRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PredictionJobRelay.class);
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(5);
+
+    private final PredictionJobRepository jobRepository;
+    private final PredictionJobWorker worker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration interval;
+    private final Map<Long, OffsetDateTime> relayed = new HashMap<>();
+    private OffsetDateTime since;
+    private volatile boolean running;
+    private Thread poller;
+
+    public PredictionJobRelay(PredictionJobRepository jobRepository, PredictionJobWorker worker,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${mlsuite.prediction.jobs.relay-interval:1s}") Duration interval) {
+        this.jobRepository = jobRepository;
+        this.worker = worker;
+        this.eventPublisher = eventPublisher;
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        since = OffsetDateTime.now();
+        poller = Thread.ofVirtual().name("prediction-job-relay").start(this::relay);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void relay() {
+        while (running) {
+            try {
+                Thread.sleep(interval.toMillis());
+            } catch (InterruptedException ex) {
+                return;
+            }
+            try {
+                poll();
+            } catch (RuntimeException ex) {
+                log.warn("Could not relay prediction job updates from other instances", ex);
+            }
+        }
+    }
+
+    private void poll() {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime windowStart = since.minus(CLOCK_SKEW);
+        for (PredictionJob job : jobRepository.findUpdatedElsewhereSince(windowStart, worker.instanceId())) {
+            if (!job.getUpdatedAt().equals(relayed.put(job.getId(), job.getUpdatedAt()))) {
+                eventPublisher.publishEvent(new PredictionJobUpdatedEvent(job.getUser().getId(),
+                        PredictionJobDto.from(job)));
+            }
+        }
+        OffsetDateTime nextWindowStart = now.minus(CLOCK_SKEW);
+        relayed.values().removeIf(updatedAt -> !updatedAt.isAfter(nextWindowStart));
+        since = now;
+    }
+}
@@ -0,0 +1,121 @@
+package dev.ulloasp.mlsuite.schema.application.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
+import dev.ulloasp.mlsuite.model.application.dto.ExplainRequest;
+import dev.ulloasp.mlsuite.model.domain.model.Model;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionJobRepository;
+import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionBatchRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionJobDto;
+import dev.ulloasp.mlsuite.schema.application.event.PredictionJobUpdatedEvent;
+import dev.ulloasp.mlsuite.schema.application.port.in.PredictionBatchExecutionUseCase;
+import dev.ulloasp.mlsuite.schema.application.port.in.PredictionJobUseCase;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJob;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJobType;
+import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
+import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
+import jakarta.transaction.Transactional;
+
+@Service
+@Transactional
+public class PredictionJobServiceImpl implements PredictionJobUseCase {
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD = new TypeReference<>() {
+    };
+    private static final int RECENT_JOBS = 50;
+
+    private final UserLookupService userLookupService;
+    private final WorkspaceAccessService workspaceAccessService;
+    private final WorkspaceAuthorizationService authorizationService;
+    private final PredictionJobRepository jobRepository;
+    private final ModelRepository modelRepository;
+    private final PredictionBatchExecutionUseCase batchService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    public PredictionJobServiceImpl(UserLookupService userLookupService,
+            WorkspaceAccessService workspaceAccessService, WorkspaceAuthorizationService authorizationService,
+            PredictionJobRepository jobRepository, ModelRepository modelRepository,
+            PredictionBatchExecutionUseCase batchService, ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper) {
+        this.userLookupService = userLookupService;
+        this.workspaceAccessService = workspaceAccessService;
+        this.authorizationService = authorizationService;
+        this.jobRepository = jobRepository;
+        this.modelRepository = modelRepository;
+        this.batchService = batchService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public PredictionJobDto submitBatch(Long userId, Long schemaVersionId, CreatePredictionBatchRequest request) {
+        User user = userLookupService.requireById(userId);
+        Organization organization = workspaceAccessService.requireCurrentOrganization(userId);
+        authorizationService.requireOrganizationOperate(userId, organization.getId());
+        PredictionBatchExecutionUseCase.BatchPlan plan = batchService.plan(organization.getId(), schemaVersionId, request);
+
+        PredictionJob job = new PredictionJob(organization, user, PredictionJobType.BATCH,
+                objectMapper.convertValue(request, PAYLOAD), plan.items());
+        job.setSchemaVersion(plan.version());
+        return submit(job);
+    }
+
+    @Override
+    public PredictionJobDto submitExplain(Long userId, Long modelId, ExplainRequest request) {
+        User user = userLookupService.requireById(userId);
+        Organization organization = workspaceAccessService.requireCurrentOrganization(userId);
+        authorizationService.requireOrganizationRead(userId, organization.getId());
+        Model model = modelRepository.findByIdAndOrganizationId(modelId, organization.getId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Model not found"));
+
+        PredictionJob job = new PredictionJob(organization, user, PredictionJobType.EXPLAIN,
+                objectMapper.convertValue(request, PAYLOAD), 1);
+        job.setModel(model);
+        return submit(job);
+    }
+
+    @Override
+    public PredictionJobDto getJob(Long userId, Long jobId) {
+        Long organizationId = requireRead(userId);
+        return jobRepository.findByIdAndOrganizationId(jobId, organizationId)
+                .map(PredictionJobDto::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Prediction job not found"));
+    }
+
+    @Override
+    public List<PredictionJobDto> listJobs(Long userId) {
+        Long organizationId = requireRead(userId);
+        return jobRepository.findByUserIdAndOrganizationIdOrderByIdDesc(userId, organizationId,
+                PageRequest.of(0, RECENT_JOBS)).stream()
+                .map(PredictionJobDto::from)
+                .toList();
+    }
+
+    private PredictionJobDto submit(PredictionJob job) {
+        PredictionJobDto dto = PredictionJobDto.from(jobRepository.save(job));
+        eventPublisher.publishEvent(new PredictionJobUpdatedEvent(job.getUser().getId(), dto));
+        return dto;
+    }
+
+    private Long requireRead(Long userId) {
+        userLookupService.requireById(userId);
+        Long organizationId = workspaceAccessService.requireCurrentOrganization(userId).getId();
+        authorizationService.requireOrganizationRead(userId, organizationId);
+        return organizationId;
+    }
+}
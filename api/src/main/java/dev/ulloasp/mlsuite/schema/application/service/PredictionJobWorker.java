@@ -0,0 +1,317 @@
+package dev.ulloasp.mlsuite.schema.application.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ulloasp.mlsuite.model.application.dto.ExplainRequest;
+import dev.ulloasp.mlsuite.model.application.port.in.AnalyzerUseCase;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionJobRepository;
+import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionBatchRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionJobDto;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunDto;
+import dev.ulloasp.mlsuite.schema.application.event.PredictionJobUpdatedEvent;
+import dev.ulloasp.mlsuite.schema.application.port.in.PredictionBatchExecutionUseCase;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJob;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJobStatus;
+
+/**
+ * Drains the prediction job queue with a fixed number of workers. A job is claimed in a short transaction (SKIP
+ * LOCKED, so several instances can share the table) and then run with no transaction or request thread held. The
+ * claim takes a lease that this instance renews while it is alive; running jobs whose lease ran out, because their
+ * instance died, are put back in the queue by whichever instance notices first, unless they have already been claimed
+ * {@code maxAttempts} times: a job that keeps killing or hanging its worker is failed instead.
+ */
+@Component
+public class PredictionJobWorker implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PredictionJobWorker.class);
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final PredictionJobRepository jobRepository;
+    private final PredictionBatchExecutionUseCase batchService;
+    private final AnalyzerUseCase analyzerUseCase;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int workers;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Semaphore wakeups = new Semaphore(0);
+    private volatile boolean running;
+    private ExecutorService pool;
+    private Thread leaseKeeper;
+
+    public PredictionJobWorker(PredictionJobRepository jobRepository, PredictionBatchExecutionUseCase batchService,
+            AnalyzerUseCase analyzerUseCase, TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+            @Value("${mlsuite.prediction.jobs.workers:2}") int workers,
+            @Value("${mlsuite.prediction.jobs.poll-interval:5s}") Duration pollInterval,
+            @Value("${mlsuite.prediction.jobs.lease:60s}") Duration lease,
+            @Value("${mlsuite.prediction.jobs.max-attempts:3}") int maxAttempts) {
+        this.jobRepository = jobRepository;
+        this.batchService = batchService;
+        this.analyzerUseCase = analyzerUseCase;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.workers = Math.max(workers, 0);
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+    }
+
+    /** Identifies this instance in {@code lockedBy} of the jobs it claims. */
+    String instanceId() {
+        return instanceId;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (workers == 0) {
+            return;
+        }
+        requeueExpired();
+        pool = Executors.newFixedThreadPool(workers, Thread.ofVirtual().name("prediction-job-", 0).factory());
+        for (int i = 0; i < workers; i++) {
+            pool.execute(this::drain);
+        }
+        leaseKeeper = Thread.ofVirtual().name("prediction-job-lease").start(this::keepLeases);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (pool == null) {
+            return;
+        }
+        wakeups.release(workers);
+        leaseKeeper.interrupt();
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobUpdated(PredictionJobUpdatedEvent event) {
+        if (event.job().status() == PredictionJobStatus.PENDING) {
+            wakeups.release();
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            Optional<PredictionJob> job;
+            try {
+                job = claim();
+            } catch (RuntimeException ex) {
+                log.warn("Could not claim a prediction job", ex);
+                job = Optional.empty();
+            }
+            if (job.isPresent()) {
+                run(job.get());
+                continue;
+            }
+            try {
+                wakeups.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Renews the leases of this instance's running jobs every third of the lease, and requeues the jobs of instances
+     * that stopped renewing theirs.
+     */
+    private void keepLeases() {
+        long periodMillis = Math.max(lease.toMillis() / 3, 1);
+        while (running) {
+            try {
+                Thread.sleep(periodMillis);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> jobRepository.renewLeases(instanceId,
+                        OffsetDateTime.now().plus(lease)));
+                requeueExpired();
+            } catch (RuntimeException ex) {
+                log.warn("Could not renew prediction job leases", ex);
+            }
+        }
+    }
+
+    private void requeueExpired() {
+        OffsetDateTime now = OffsetDateTime.now();
+        int failed = transactionTemplate.execute(status -> jobRepository.failExhausted(now, maxAttempts,
+                "Gave up after the job lost its worker " + maxAttempts + " times"));
+        if (failed > 0) {
+            log.warn("Failed {} prediction jobs whose lease ran out after {} attempts", failed, maxAttempts);
+        }
+        int requeued = transactionTemplate.execute(status -> jobRepository.requeueExpired(now));
+        if (requeued > 0) {
+            log.info("Requeued {} prediction jobs whose worker stopped renewing their lease", requeued);
+            wakeups.release(requeued);
+        }
+    }
+
+    private Optional<PredictionJob> claim() {
+        Optional<PredictionJob> claimed = transactionTemplate.execute(status -> jobRepository
+                .findNextForUpdate(PredictionJobStatus.PENDING, PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(job -> {
+                    OffsetDateTime now = OffsetDateTime.now();
+                    job.setStatus(PredictionJobStatus.RUNNING);
+                    job.setStartedAt(now);
+                    job.setLockedBy(instanceId);
+                    job.setLeaseUntil(now.plus(lease));
+                    job.setAttempts(job.getAttempts() + 1);
+                    return job;
+                }));
+        claimed.ifPresent(job -> publish(job, PredictionJobDto.from(job)));
+        return claimed;
+    }
+
+    private void run(PredictionJob job) {
+        try {
+            Map<String, Object> result = switch (job.getType()) {
+                case BATCH -> runBatch(job);
+                case EXPLAIN -> runExplain(job);
+            };
+            finish(job.getId(), PredictionJobStatus.DONE, result, null);
+        } catch (RuntimeException ex) {
+            if (!running) {
+                // Left RUNNING on purpose: its lease runs out and it is requeued.
+                return;
+            }
+            log.warn("Prediction job {} failed", job.getId(), ex);
+            finish(job.getId(), PredictionJobStatus.FAILED, null, failureMessage(ex));
+        }
+    }
+
+    private Map<String, Object> runBatch(PredictionJob job) {
+        CreatePredictionBatchRequest request = objectMapper.convertValue(job.getPayload(),
+                CreatePredictionBatchRequest.class);
+        if (job.getAttempts() > 1) {
+            // An earlier attempt may have stored the runs and died before marking the job done.
+            List<Long> stored = transactionTemplate.execute(status -> batchService.findStoredRunIds(
+                    job.getSchemaVersion().getId(), request));
+            if (!stored.isEmpty()) {
+                return Map.of("runIds", stored);
+            }
+        }
+        PredictionBatchExecutionUseCase.BatchPlan plan = transactionTemplate.execute(status -> batchService.plan(
+                job.getOrganization().getId(), job.getSchemaVersion().getId(), request));
+        Progress progress = new Progress(job);
+        List<Long> runIds = batchService.execute(plan, progress::increment).stream()
+                .map(PredictionRunDto::id)
+                .toList();
+        return Map.of("runIds", runIds);
+    }
+
+    private Map<String, Object> runExplain(PredictionJob job) {
+        ExplainRequest request = objectMapper.convertValue(job.getPayload(), ExplainRequest.class);
+        return analyzerUseCase.explain(job.getModel(), request);
+    }
+
+    private void finish(Long jobId, PredictionJobStatus status, Map<String, Object> result, String errorMessage) {
+        PredictionJob job = transactionTemplate.execute(tx -> {
+            PredictionJob current = jobRepository.findById(jobId).orElseThrow();
+            if (current.getStatus() != PredictionJobStatus.RUNNING || !instanceId.equals(current.getLockedBy())) {
+                // The lease was lost and the job requeued; its outcome now belongs to the newer attempt.
+                return null;
+            }
+            current.setStatus(status);
+            current.setLeaseUntil(null);
+            current.setResult(result);
+            current.setErrorMessage(errorMessage);
+            if (status == PredictionJobStatus.DONE) {
+                current.setCompletedItems(current.getTotalItems());
+            }
+            current.setFinishedAt(OffsetDateTime.now());
+            return current;
+        });
+        if (job == null) {
+            log.warn("Prediction job {} was requeued while this instance ran it; dropping its outcome", jobId);
+            return;
+        }
+        publish(job, PredictionJobDto.from(job));
+    }
+
+    private void publish(PredictionJob job, PredictionJobDto dto) {
+        eventPublisher.publishEvent(new PredictionJobUpdatedEvent(job.getUser().getId(), dto));
+    }
+
+    private static String failureMessage(RuntimeException ex) {
+        if (ex instanceof ResponseStatusException status && status.getReason() != null) {
+            return status.getReason();
+        }
+        return ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage();
+    }
+
+    /** Counts finished items and writes/publishes progress at most every {@link #PROGRESS_INTERVAL_NANOS}. */
+    private final class Progress {
+
+        private final PredictionJob job;
+        private final PredictionJobDto snapshot;
+        private final AtomicInteger completed = new AtomicInteger();
+        private long lastReportedNanos = System.nanoTime();
+        private int lastReported;
+
+        private Progress(PredictionJob job) {
+            this.job = job;
+            this.snapshot = PredictionJobDto.from(job);
+        }
+
+        void increment() {
+            int count = completed.incrementAndGet();
+            synchronized (this) {
+                long now = System.nanoTime();
+                if (count <= lastReported || now - lastReportedNanos < PROGRESS_INTERVAL_NANOS) {
+                    return;
+                }
+                lastReported = count;
+                lastReportedNanos = now;
+            }
+            transactionTemplate.executeWithoutResult(status -> jobRepository.updateProgress(job.getId(), count,
+                    OffsetDateTime.now()));
+            publish(job, snapshot.withProgress(PredictionJobStatus.RUNNING, count));
+        }
+    }
+}
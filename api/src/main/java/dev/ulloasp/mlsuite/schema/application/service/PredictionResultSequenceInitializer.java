@@ -0,0 +1,71 @@
+package dev.ulloasp.mlsuite.schema.application.service;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionResult;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Moves {@link PredictionResult#ID_SEQUENCE} past the ids already in {@code prediction_result}. Rows written while
+ * the table used an identity column keep their ids, and a sequence created by the schema update starts at 1, so
+ * without this the first pooled block would collide with them. Runs while the context is refreshed, after the
+ * schema update (hence the {@link EntityManagerFactory} dependency) and before any request can insert a result.
+ */
+@Component
+public class PredictionResultSequenceInitializer implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PredictionResultSequenceInitializer.class);
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PredictionResultSequenceInitializer(DataSource dataSource, JdbcTemplate jdbcTemplate,
+            EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!isPostgres()) {
+            return;
+        }
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM prediction_result", Long.class);
+            // The pooled optimizer hands out the ids (value - allocationSize, value] for each nextval, so no id at or
+            // below this one can be generated again.
+            Long reserved = jdbcTemplate.queryForObject(
+                    "SELECT CASE WHEN is_called THEN last_value ELSE last_value - ? END FROM "
+                            + PredictionResult.ID_SEQUENCE,
+                    Long.class, PredictionResult.ID_ALLOCATION_SIZE);
+            if (maxId != null && (reserved == null || reserved < maxId)) {
+                // Setting the sequence to maxId makes the next call return maxId + allocationSize, whose block
+                // starts right after the existing rows.
+                jdbcTemplate.queryForObject("SELECT setval('" + PredictionResult.ID_SEQUENCE + "', ?)", Long.class,
+                        maxId);
+                log.info("Advanced {} past existing prediction result id {}", PredictionResult.ID_SEQUENCE, maxId);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Could not align {} with existing prediction results", PredictionResult.ID_SEQUENCE, ex);
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgresql");
+        } catch (SQLException ex) {
+            log.warn("Could not detect database product for the prediction result sequence.", ex);
+            return false;
+        }
+    }
+}
@@ -1,22 +1,28 @@
 package dev.ulloasp.mlsuite.schema.application.service;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
 import dev.ulloasp.mlsuite.model.domain.model.Model;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionResultRepository;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRow;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaModelBindingRepository;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaVersionRepository;
 import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionResultRequest;
 import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionRunRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionResultDto;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunDto;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunPageDto;
 import dev.ulloasp.mlsuite.schema.application.port.in.PredictionRunUseCase;
 import dev.ulloasp.mlsuite.schema.domain.model.PredictionResult;
 import dev.ulloasp.mlsuite.schema.domain.model.PredictionResultStatus;
@@ -25,6 +31,7 @@ import dev.ulloasp.mlsuite.schema.domain.model.PredictionRunStatus;
 import dev.ulloasp.mlsuite.schema.domain.model.SchemaModelBinding;
 import dev.ulloasp.mlsuite.schema.domain.model.SchemaVersion;
 import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
+import dev.ulloasp.mlsuite.util.KeysetCursor;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
 import jakarta.transaction.Transactional;
@@ -33,18 +40,21 @@ import jakarta.transaction.Transactional;
 @Transactional
 public class PredictionRunServiceImpl implements PredictionRunUseCase {
 
+    private static final String RUN_CURSOR_SORT = "created";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final UserLookupService userLookupService;
     private final SchemaVersionRepository versionRepository;
     private final SchemaModelBindingRepository bindingRepository;
     private final PredictionRunRepository runRepository;
     private final PredictionResultRepository resultRepository;
-    private final ModelRepository modelRepository;
     private final WorkspaceAccessService workspaceAccessService;
     private final WorkspaceAuthorizationService authorizationService;
 
     public PredictionRunServiceImpl(UserLookupService userLookupService, SchemaVersionRepository versionRepository,
             SchemaModelBindingRepository bindingRepository, PredictionRunRepository runRepository,
-            PredictionResultRepository resultRepository, ModelRepository modelRepository,
+            PredictionResultRepository resultRepository,
             WorkspaceAccessService workspaceAccessService,
             WorkspaceAuthorizationService authorizationService) {
         this.userLookupService = userLookupService;
@@ -52,7 +62,6 @@ public class PredictionRunServiceImpl implements PredictionRunUseCase {
         this.bindingRepository = bindingRepository;
         this.runRepository = runRepository;
         this.resultRepository = resultRepository;
-        this.modelRepository = modelRepository;
         this.workspaceAccessService = workspaceAccessService;
         this.authorizationService = authorizationService;
     }
@@ -64,19 +73,40 @@ public class PredictionRunServiceImpl implements PredictionRunUseCase {
         if (runRepository.existsBySchemaVersionIdAndName(schemaVersionId, request.name())) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Prediction run name already exists");
         }
-        List<SchemaModelBinding> bindings = bindingRepository.findBySchemaVersionId(schemaVersionId);
+        List<SchemaModelBinding> bindings = bindingRepository.findWithModelsBySchemaVersionId(schemaVersionId);
         validateResults(bindings, request.results());
+        Map<Long, Model> models = boundModels(organizationId, bindings);
         PredictionRun run = runRepository.save(new PredictionRun(version, request.name(), request.inputData(),
                 aggregateStatus(request.results())));
-        request.results().forEach(result -> saveResult(organizationId, run, result));
+        resultRepository.saveAll(request.results().stream()
+                .map(result -> toResult(run, models.get(result.modelId()), result))
+                .toList());
         return run;
     }
 
     @Override
-    public List<PredictionRun> listRuns(Long userId, Long schemaVersionId) {
+    public PredictionRunPageDto listRuns(Long userId, Long schemaVersionId, int size, String cursor, boolean summary) {
         Long organizationId = requireRead(userId);
         requireVersion(schemaVersionId, organizationId);
-        return runRepository.findBySchemaVersionIdAndOrganizationId(schemaVersionId, organizationId);
+        int pageSize = normalizePageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, RUN_CURSOR_SORT);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<PredictionRunRow> rows = after == null
+                ? runRepository.findRowsBySchemaVersionId(schemaVersionId, limit)
+                : runRepository.findRowsBySchemaVersionIdAfter(schemaVersionId, after.timestampKey(), after.longId(),
+                        limit);
+        boolean hasNext = rows.size() > pageSize;
+        List<PredictionRunRow> runs = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<Long, List<PredictionResultDto>> results = summary ? Map.of() : resultsByRun(runs);
+        return new PredictionRunPageDto(
+                runs.stream()
+                        .map(run -> PredictionRunDto.from(run,
+                                summary ? null : results.getOrDefault(run.id(), List.of())))
+                        .toList(),
+                pageSize,
+                hasNext,
+                hasNext ? KeysetCursor.after(RUN_CURSOR_SORT, runs.getLast().createdAt(), runs.getLast().id()).encode()
+                        : null);
     }
 
     @Override
@@ -129,23 +159,47 @@ public class PredictionRunServiceImpl implements PredictionRunUseCase {
         }
     }
 
+    /** Every result of the listed runs in one {@code IN} query, instead of one query per run. */
+    private Map<Long, List<PredictionResultDto>> resultsByRun(List<PredictionRunRow> runs) {
+        if (runs.isEmpty()) {
+            return Map.of();
+        }
+        return resultRepository.findDtosByRunIdIn(runs.stream().map(PredictionRunRow::id).toList()).stream()
+                .collect(Collectors.groupingBy(PredictionResultDto::runId));
+    }
+
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
     private PredictionRunStatus aggregateStatus(List<CreatePredictionResultRequest> results) {
         long successCount = results.stream().filter(r -> r.status() == PredictionResultStatus.SUCCESS).count();
-        if (successCount == results.size()) {
-            return PredictionRunStatus.SUCCESS;
+        return PredictionRunStatus.of(successCount, results.size());
+    }
+
+    /** The models already fetched with the bindings, keyed by id; all of them must belong to the organization. */
+    private Map<Long, Model> boundModels(Long orgId, List<SchemaModelBinding> bindings) {
+        Map<Long, Model> models = new HashMap<>();
+        for (SchemaModelBinding binding : bindings) {
+            Model model = binding.getModel();
+            if (model.getOrganization() == null || !orgId.equals(model.getOrganization().getId())) {
+                throw badRequest("Model unavailable");
+            }
+            models.put(model.getId(), model);
         }
-        return successCount == 0 ? PredictionRunStatus.FAILED : PredictionRunStatus.PARTIAL_SUCCESS;
+        return models;
     }
 
-    private PredictionResult saveResult(Long orgId, PredictionRun run, CreatePredictionResultRequest request) {
-        Model model = modelRepository.findByIdAndOrganizationId(request.modelId(), orgId)
-                .orElseThrow(() -> badRequest("Model unavailable"));
-        return resultRepository.save(new PredictionResult(run, model,
+    private PredictionResult toResult(PredictionRun run, Model model, CreatePredictionResultRequest request) {
+        return new PredictionResult(run, model,
                 request.modelInput() == null ? Map.of() : request.modelInput(),
                 request.output() == null ? Map.of() : request.output(),
                 request.status(),
                 request.errorMessage(),
-                request.errorJson()));
+                request.errorJson());
     }
 
     private String key(Long modelId) {
@@ -3,6 +3,7 @@ package dev.ulloasp.mlsuite.schema.application.service;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.springframework.data.domain.Page;
@@ -27,6 +28,7 @@ import dev.ulloasp.mlsuite.schema.domain.model.SchemaModelBinding;
 import dev.ulloasp.mlsuite.schema.domain.model.SchemaVersion;
 import dev.ulloasp.mlsuite.schema.review.adapter.out.persistence.repository.SchemaReviewLinkRepository;
 import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
+import dev.ulloasp.mlsuite.util.KeysetCursor;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
 import jakarta.transaction.Transactional;
@@ -79,22 +81,63 @@ public class SchemaServiceImpl implements SchemaCatalogUseCase {
     }
 
     @Override
-    public SchemaPageDto getSchemaPage(Long userId, int page, int size, String search, String sort, String status) {
+    public SchemaPageDto getSchemaPage(Long userId, int page, int size, String search, String sort, String status,
+            String cursor, boolean includeTotal) {
         userLookupService.requireById(userId);
         Long organizationId = workspaceAccessService.requireCurrentOrganization(userId).getId();
         authorizationService.requireOrganizationRead(userId, organizationId);
-        Page<Schema> schemas = schemaRepository.findCatalogPage(
-                organizationId,
-                normalizeSearch(search),
-                "all".equals(status) || "archived".equals(status),
-                "archived".equals(status),
-                PageRequest.of(Math.max(page, 0), normalizePageSize(size), sort(sort)));
+        String needle = normalizeSearch(search);
+        boolean includeArchived = "all".equals(status) || "archived".equals(status);
+        boolean archivedOnly = "archived".equals(status);
+        int pageSize = normalizePageSize(size);
+        if (cursor == null && page > 0) {
+            Page<Schema> schemas = schemaRepository.findCatalogPage(
+                    organizationId,
+                    needle,
+                    includeArchived,
+                    archivedOnly,
+                    PageRequest.of(page, pageSize, sort(sort)));
+            return new SchemaPageDto(
+                    SchemaDto.fromList(schemas.getContent()),
+                    schemas.getNumber(),
+                    schemas.getSize(),
+                    schemas.getTotalElements(),
+                    schemas.hasNext(),
+                    null);
+        }
+
+        String mode = "name".equals(sort) || "created".equals(sort) ? sort : "updated";
+        KeysetCursor after = KeysetCursor.decode(cursor, mode);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Schema> rows;
+        if (after == null) {
+            rows = switch (mode) {
+                case "name" -> schemaRepository.findCatalogByName(organizationId, needle, includeArchived,
+                        archivedOnly, limit);
+                case "created" -> schemaRepository.findCatalogByCreated(organizationId, needle, includeArchived,
+                        archivedOnly, limit);
+                default -> schemaRepository.findCatalogByUpdated(organizationId, needle, includeArchived,
+                        archivedOnly, limit);
+            };
+        } else {
+            rows = switch (mode) {
+                case "name" -> schemaRepository.findCatalogByNameAfter(organizationId, needle, includeArchived,
+                        archivedOnly, after.key(), after.longId(), limit);
+                case "created" -> schemaRepository.findCatalogByCreatedAfter(organizationId, needle, includeArchived,
+                        archivedOnly, after.timestampKey(), after.longId(), limit);
+                default -> schemaRepository.findCatalogByUpdatedAfter(organizationId, needle, includeArchived,
+                        archivedOnly, after.timestampKey(), after.longId(), limit);
+            };
+        }
+        boolean hasNext = rows.size() > pageSize;
+        List<Schema> items = hasNext ? rows.subList(0, pageSize) : rows;
         return new SchemaPageDto(
-                SchemaDto.fromList(schemas.getContent()),
-                schemas.getNumber(),
-                schemas.getSize(),
-                schemas.getTotalElements(),
-                schemas.hasNext());
+                SchemaDto.fromList(items),
+                Math.max(page, 0),
+                pageSize,
+                includeTotal ? schemaRepository.countCatalog(organizationId, needle, includeArchived, archivedOnly) : null,
+                hasNext,
+                hasNext ? cursorAfter(mode, items.getLast()).encode() : null);
     }
 
     @Override
@@ -213,13 +256,21 @@ public class SchemaServiceImpl implements SchemaCatalogUseCase {
         return Math.min(size, 100);
     }
 
+    private KeysetCursor cursorAfter(String mode, Schema last) {
+        return switch (mode) {
+            case "name" -> KeysetCursor.after(mode, last.getName().toLowerCase(Locale.ROOT), last.getId());
+            case "created" -> KeysetCursor.after(mode, last.getCreatedAt(), last.getId());
+            default -> KeysetCursor.after(mode, last.getUpdatedAt(), last.getId());
+        };
+    }
+
     private Sort sort(String mode) {
         if ("name".equals(mode)) {
-            return Sort.by(Sort.Order.asc("name").ignoreCase(), Sort.Order.desc("updatedAt"));
+            return Sort.by(Sort.Order.asc("name").ignoreCase(), Sort.Order.asc("id"));
         }
         if ("created".equals(mode)) {
-            return Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("name").ignoreCase());
+            return Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
         }
-        return Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.asc("name").ignoreCase());
+        return Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.desc("id"));
     }
 }
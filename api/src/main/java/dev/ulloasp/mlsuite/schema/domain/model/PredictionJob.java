@@ -0,0 +1,127 @@
+package dev.ulloasp.mlsuite.schema.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import dev.ulloasp.mlsuite.model.domain.model.Model;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.user.domain.model.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "prediction_job", indexes = {
+        @Index(name = "idx_prediction_job_status", columnList = "status, id"),
+        @Index(name = "idx_prediction_job_updated", columnList = "updated_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class PredictionJob {
+
+    public PredictionJob(Organization organization, User user, PredictionJobType type, Map<String, Object> payload,
+            int totalItems) {
+        this.organization = organization;
+        this.user = user;
+        this.type = type;
+        this.payload = payload;
+        this.totalItems = totalItems;
+        this.status = PredictionJobStatus.PENDING;
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "organization_id", nullable = false, foreignKey = @ForeignKey(name = "fk_prediction_job_org"))
+    private Organization organization;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_prediction_job_user"))
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 32)
+    private PredictionJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 32)
+    private PredictionJobStatus status;
+
+    @ManyToOne
+    @JoinColumn(name = "schema_version_id", foreignKey = @ForeignKey(name = "fk_prediction_job_version"))
+    private SchemaVersion schemaVersion;
+
+    @ManyToOne
+    @JoinColumn(name = "model_id", foreignKey = @ForeignKey(name = "fk_prediction_job_model"))
+    private Model model;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload_json", nullable = false)
+    private Map<String, Object> payload;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "result_json")
+    private Map<String, Object> result;
+
+    @Column(name = "total_items", nullable = false)
+    private int totalItems;
+
+    @Column(name = "completed_items", nullable = false)
+    private int completedItems;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "started_at", columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime startedAt;
+
+    @Column(name = "finished_at", columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime finishedAt;
+
+    /**
+     * Worker instance that claimed the job last; it keeps {@link #leaseUntil} in the future for as long as it runs the
+     * job. Left in place once the job finishes, so other instances know whose progress to relay.
+     */
+    @Column(name = "locked_by", length = 64)
+    private String lockedBy;
+
+    @Column(name = "lease_until", columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime leaseUntil;
+
+    /**
+     * How many times a worker has claimed the job; above one, an earlier attempt may have stored its runs. A job whose
+     * lease runs out after {@code mlsuite.prediction.jobs.max-attempts} claims is failed instead of requeued.
+     */
+    @ColumnDefault("0")
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime updatedAt;
+}
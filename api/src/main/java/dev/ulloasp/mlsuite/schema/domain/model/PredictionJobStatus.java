@@ -0,0 +1,8 @@
+package dev.ulloasp.mlsuite.schema.domain.model;
+
+public enum PredictionJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
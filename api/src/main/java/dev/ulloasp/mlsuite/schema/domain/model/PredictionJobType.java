@@ -0,0 +1,6 @@
+package dev.ulloasp.mlsuite.schema.domain.model;
+
+public enum PredictionJobType {
+    BATCH,
+    EXPLAIN
+}
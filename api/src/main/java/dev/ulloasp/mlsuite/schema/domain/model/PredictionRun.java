@@ -16,6 +16,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -27,6 +28,8 @@ import lombok.Setter;
 @Entity
 @Table(name = "prediction_run", uniqueConstraints = {
         @UniqueConstraint(name = "uq_prediction_run_version_name", columnNames = { "schema_version_id", "name" })
+}, indexes = {
+        @Index(name = "idx_prediction_run_version_created", columnList = "schema_version_id, created_at, id")
 })
 @Getter
 @Setter
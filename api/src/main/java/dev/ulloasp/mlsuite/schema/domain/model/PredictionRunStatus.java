@@ -3,5 +3,12 @@ package dev.ulloasp.mlsuite.schema.domain.model;
 public enum PredictionRunStatus {
     SUCCESS,
     PARTIAL_SUCCESS,
-    FAILED
+    FAILED;
+
+    public static PredictionRunStatus of(long successCount, long resultCount) {
+        if (successCount == resultCount) {
+            return SUCCESS;
+        }
+        return successCount == 0 ? FAILED : PARTIAL_SUCCESS;
+    }
 }
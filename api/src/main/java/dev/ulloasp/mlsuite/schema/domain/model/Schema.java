@@ -12,6 +12,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,6 +24,9 @@ import lombok.Setter;
 @Entity
 @Table(name = "schema_artifact", uniqueConstraints = {
         @UniqueConstraint(name = "uq_schema_artifact_org_name", columnNames = { "organization_id", "name" })
+}, indexes = {
+        @Index(name = "idx_schema_artifact_org_updated", columnList = "organization_id, updated_at, id"),
+        @Index(name = "idx_schema_artifact_org_created", columnList = "organization_id, created_at, id")
 })
 @Getter
 @Setter
@@ -0,0 +1,83 @@
+package dev.ulloasp.mlsuite.search.adapter.out.persistence;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import dev.ulloasp.mlsuite.model.domain.model.Model;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.plugin.domain.model.PluginMetadata;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionRun;
+import dev.ulloasp.mlsuite.schema.domain.model.Schema;
+import dev.ulloasp.mlsuite.search.application.event.SearchIndexChangedEvent;
+import dev.ulloasp.mlsuite.search.application.service.SearchDocuments;
+import dev.ulloasp.mlsuite.team.domain.model.Team;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Turns Hibernate insert, update and delete events of searchable entities into {@link SearchIndexChangedEvent}s, so
+ * the search index follows every write that goes through JPA without the owning services knowing about it. The
+ * events are handled after commit; bulk JPQL updates bypass Hibernate events, so their callers publish the events for
+ * the rows they touch.
+ */
+@Component
+public class SearchIndexEntityListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SearchIndexEntityListener(EntityManagerFactory entityManagerFactory,
+            ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getEntity(), event.getId(), false);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getEntity(), event.getId(), false);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getEntity(), event.getId(), true);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void publish(Object entity, Object id, boolean removed) {
+        String docType = switch (entity) {
+            case Organization organization -> SearchDocuments.ORGANIZATION;
+            case Team team -> SearchDocuments.TEAM;
+            case Model model -> SearchDocuments.MODEL;
+            case Schema schema -> SearchDocuments.SCHEMA;
+            case PredictionRun run -> SearchDocuments.PREDICTION_RUN;
+            case PluginMetadata plugin -> SearchDocuments.PLUGIN;
+            default -> null;
+        };
+        if (docType != null) {
+            eventPublisher.publishEvent(new SearchIndexChangedEvent(docType, String.valueOf(id), removed));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package dev.ulloasp.mlsuite.search.adapter.out.persistence.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import dev.ulloasp.mlsuite.search.domain.model.SearchDocument;
+
+@Repository
+public interface SearchDocumentRepository extends JpaRepository<SearchDocument, Long> {
+
+    List<SearchDocument> findByDocTypeAndEntityIdIn(String docType, Collection<String> entityIds);
+
+    @Modifying
+    @Query("DELETE FROM SearchDocument d WHERE d.docType = :docType AND d.entityId = :entityId")
+    int deleteByDocTypeAndEntityId(String docType, String entityId);
+
+    @Modifying
+    @Query("DELETE FROM SearchDocument d WHERE d.organizationId = :organizationId")
+    int deleteByOrganizationId(Long organizationId);
+
+    /**
+     * Every document the user may see that contains {@code prefilter}: the organizations they are an active member
+     * of, and everything else in their current organization. Ranking is left to the caller; this is the portable
+     * path used where the Postgres full-text index is not available.
+     */
+    @Query("""
+            SELECT d FROM SearchDocument d
+            WHERE d.searchText LIKE concat('%', :prefilter, '%')
+            AND (
+                (d.docType = 'organization' AND d.organizationId IN (
+                    SELECT m.organization.id FROM OrganizationMembership m
+                    WHERE m.user.id = :userId AND m.status = 'ACTIVE'))
+                OR (d.docType <> 'organization' AND d.organizationId = :organizationId)
+            )
+            ORDER BY d.updatedAt DESC, d.id DESC
+            """)
+    List<SearchDocument> searchCandidates(Long userId, Long organizationId, String prefilter, Pageable limit);
+
+    /**
+     * The same visibility as {@link #searchCandidates}, ranked in the database: documents must contain every query
+     * token, the trigram index narrows them by the longest one, and each type keeps its {@code perType} best hits by
+     * phrase match, full-text rank, trigram similarity and recency. Requires {@code pg_trgm} and the
+     * {@code search_vector} column created by {@code SearchIndexInitializer}.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT ranked.* FROM (
+                SELECT d.*, row_number() OVER (
+                    PARTITION BY d.doc_type
+                    ORDER BY
+                        CASE WHEN strpos(d.search_text, :phrase) > 0 THEN 0 ELSE 1 END,
+                        ts_rank_cd(d.search_vector, to_tsquery('simple', :tsQuery)) DESC,
+                        similarity(d.search_text, :phrase) DESC,
+                        d.updated_at DESC NULLS LAST,
+                        d.title
+                ) AS type_rank
+                FROM search_document d
+                WHERE d.search_text LIKE '%' || :prefilter || '%'
+                AND NOT EXISTS (
+                    SELECT 1 FROM unnest(string_to_array(:tokens, ' ')) AS token
+                    WHERE strpos(d.search_text, token) = 0)
+                AND (
+                    (d.doc_type = 'organization' AND d.organization_id IN (
+                        SELECT m.organization_id FROM organization_membership m
+                        WHERE m.user_id = :userId AND m.status = 'ACTIVE'))
+                    OR (d.doc_type <> 'organization' AND d.organization_id = :organizationId)
+                )
+            ) ranked
+            WHERE ranked.type_rank <= :perType
+            ORDER BY ranked.doc_type, ranked.type_rank
+            """)
+    List<SearchDocument> searchRanked(
+            Long userId,
+            Long organizationId,
+            String prefilter,
+            String phrase,
+            String tokens,
+            String tsQuery,
+            int perType);
+}
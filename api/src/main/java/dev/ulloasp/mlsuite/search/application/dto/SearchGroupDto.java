@@ -2,7 +2,9 @@ package dev.ulloasp.mlsuite.search.application.dto;
 
 import java.util.List;
 
+/** {@code timedOut} marks a group whose query missed the search latency budget; its results are then empty. */
 public record SearchGroupDto(
         String label,
-        List<SearchResultDto> results) {
+        List<SearchResultDto> results,
+        boolean timedOut) {
 }
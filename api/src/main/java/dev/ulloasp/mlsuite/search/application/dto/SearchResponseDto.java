@@ -2,7 +2,9 @@ package dev.ulloasp.mlsuite.search.application.dto;
 
 import java.util.List;
 
+/** {@code partial} is set when at least one group timed out and was returned without results. */
 public record SearchResponseDto(
         String query,
-        List<SearchGroupDto> groups) {
+        List<SearchGroupDto> groups,
+        boolean partial) {
 }
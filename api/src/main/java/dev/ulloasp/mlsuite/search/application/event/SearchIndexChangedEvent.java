@@ -0,0 +1,8 @@
+package dev.ulloasp.mlsuite.search.application.event;
+
+/**
+ * Published when a searchable entity is inserted, updated or deleted. {@code docType} is one of the
+ * {@code SearchDocuments} type constants.
+ */
+public record SearchIndexChangedEvent(String docType, String entityId, boolean removed) {
+}
@@ -0,0 +1,136 @@
+package dev.ulloasp.mlsuite.search.application.service;
+
+import java.util.Optional;
+
+import dev.ulloasp.mlsuite.model.domain.model.Model;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.plugin.domain.model.PluginMetadata;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionRun;
+import dev.ulloasp.mlsuite.schema.domain.model.Schema;
+import dev.ulloasp.mlsuite.search.application.dto.SearchResultDto;
+import dev.ulloasp.mlsuite.search.domain.model.SearchDocument;
+import dev.ulloasp.mlsuite.team.domain.model.Team;
+
+/**
+ * Maps workspace entities to their search documents. Both the indexed and the legacy search build results from
+ * here, so a hit looks the same whichever path served it. Entities that are not searchable (archived, or not yet
+ * owned by an organization) map to an empty document.
+ */
+public final class SearchDocuments {
+
+    public static final String ORGANIZATION = "organization";
+    public static final String TEAM = "team";
+    public static final String MODEL = "model";
+    public static final String SCHEMA = "schema";
+    public static final String PREDICTION_RUN = "predictionRun";
+    public static final String PLUGIN = "plugin";
+
+    private SearchDocuments() {
+    }
+
+    public static Optional<SearchDocument> of(Organization organization) {
+        return Optional.of(new SearchDocument(
+                ORGANIZATION,
+                String.valueOf(organization.getId()),
+                organization.getId(),
+                null,
+                null,
+                organization.getName(),
+                organization.getSlug(),
+                "/workspace/organizations/" + organization.getId(),
+                SearchTextMatcher.indexText(organization.getName(), organization.getSlug()),
+                organization.getUpdatedAt()));
+    }
+
+    public static Optional<SearchDocument> of(Team team) {
+        return Optional.of(new SearchDocument(
+                TEAM,
+                String.valueOf(team.getId()),
+                team.getOrganization().getId(),
+                team.getId(),
+                null,
+                team.getName(),
+                team.getSlug(),
+                "/workspace/teams/" + team.getId(),
+                SearchTextMatcher.indexText(team.getName(), team.getSlug(), team.getDescription()),
+                team.getUpdatedAt()));
+    }
+
+    public static Optional<SearchDocument> of(Model model) {
+        if (model.getOrganization() == null || model.getArchivedAt() != null) {
+            return Optional.empty();
+        }
+        return Optional.of(new SearchDocument(
+                MODEL,
+                String.valueOf(model.getId()),
+                model.getOrganization().getId(),
+                model.getTeam() == null ? null : model.getTeam().getId(),
+                model.getId(),
+                model.getName(),
+                model.getType() + " / " + model.getSpecificType(),
+                "/models/" + model.getId(),
+                SearchTextMatcher.indexText(
+                        model.getName(), model.getType(), model.getSpecificType(), model.getFileName()),
+                model.getUpdatedAt()));
+    }
+
+    public static Optional<SearchDocument> of(Schema schema) {
+        if (schema.getArchivedAt() != null) {
+            return Optional.empty();
+        }
+        return Optional.of(new SearchDocument(
+                SCHEMA,
+                String.valueOf(schema.getId()),
+                schema.getOrganization().getId(),
+                null,
+                null,
+                schema.getName(),
+                schema.getDescription(),
+                "/schemas/" + schema.getId(),
+                SearchTextMatcher.indexText(schema.getName(), schema.getDescription()),
+                schema.getUpdatedAt()));
+    }
+
+    public static Optional<SearchDocument> of(PredictionRun run) {
+        Schema schema = run.getSchemaVersion().getSchema();
+        return Optional.of(new SearchDocument(
+                PREDICTION_RUN,
+                String.valueOf(run.getId()),
+                schema.getOrganization().getId(),
+                null,
+                null,
+                run.getName(),
+                schema.getName() + " / " + run.getStatus(),
+                "/schemas/" + schema.getId()
+                        + "/versions/" + run.getSchemaVersion().getId()
+                        + "/runs/" + run.getId(),
+                SearchTextMatcher.indexText(run.getName(), schema.getName()),
+                run.getUpdatedAt()));
+    }
+
+    public static Optional<SearchDocument> of(PluginMetadata plugin) {
+        return Optional.of(new SearchDocument(
+                PLUGIN,
+                plugin.getId(),
+                plugin.getOrganization().getId(),
+                null,
+                null,
+                plugin.getFileName(),
+                plugin.getKind() == null ? "Plugin" : plugin.getKind(),
+                "/plugins",
+                SearchTextMatcher.indexText(plugin.getFileName(), plugin.getPluginType(), plugin.getKind()),
+                plugin.getUpdatedAt()));
+    }
+
+    public static SearchResultDto toResult(SearchDocument document) {
+        return new SearchResultDto(
+                document.getDocType(),
+                document.getEntityId(),
+                document.getTitle(),
+                document.getSubtitle(),
+                document.getHref(),
+                document.getOrganizationId(),
+                document.getTeamId(),
+                document.getModelId());
+    }
+}
@@ -14,6 +14,10 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * Creates the Postgres trigram and full-text objects that JPA cannot declare, then hands over to
+ * {@link SearchIndexService}, telling it whether the ranked full-text query is available.
+ */
 @Component
 public class SearchIndexInitializer implements ApplicationRunner {
 
@@ -30,29 +34,38 @@ public class SearchIndexInitializer implements ApplicationRunner {
             "CREATE INDEX IF NOT EXISTS idx_search_schema_name_trgm ON schema_artifact USING GIN (lower(name) gin_trgm_ops)",
             "CREATE INDEX IF NOT EXISTS idx_search_run_name_trgm ON prediction_run USING GIN (lower(name) gin_trgm_ops)",
             "CREATE INDEX IF NOT EXISTS idx_search_plugin_file_trgm ON plugin_metadata USING GIN (lower(file_name) gin_trgm_ops)",
-            "CREATE INDEX IF NOT EXISTS idx_search_plugin_kind_trgm ON plugin_metadata USING GIN (lower(kind) gin_trgm_ops)");
+            "CREATE INDEX IF NOT EXISTS idx_search_plugin_kind_trgm ON plugin_metadata USING GIN (lower(kind) gin_trgm_ops)",
+            "ALTER TABLE search_document ADD COLUMN IF NOT EXISTS search_vector tsvector "
+                    + "GENERATED ALWAYS AS (to_tsvector('simple', search_text)) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_search_document_text_trgm ON search_document USING GIN (search_text gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_search_document_vector ON search_document USING GIN (search_vector)");
 
     private final DataSource dataSource;
     private final JdbcTemplate jdbcTemplate;
+    private final SearchIndexService searchIndexService;
 
-    public SearchIndexInitializer(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+    public SearchIndexInitializer(DataSource dataSource, JdbcTemplate jdbcTemplate,
+            SearchIndexService searchIndexService) {
         this.dataSource = dataSource;
         this.jdbcTemplate = jdbcTemplate;
+        this.searchIndexService = searchIndexService;
     }
 
     @Override
     public void run(ApplicationArguments args) {
-        if (!isPostgres()) {
-            return;
-        }
+        searchIndexService.initialize(isPostgres() && createIndexes());
+    }
+
+    private boolean createIndexes() {
         for (String statement : STATEMENTS) {
             try {
                 jdbcTemplate.execute(statement);
             } catch (DataAccessException ex) {
                 log.warn("Could not initialize search index: {}", statement, ex);
-                return;
+                return false;
             }
         }
+        return true;
     }
 
     private boolean isPostgres() {
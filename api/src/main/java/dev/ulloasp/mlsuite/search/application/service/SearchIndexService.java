@@ -0,0 +1,319 @@
+package dev.ulloasp.mlsuite.search.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
+import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationRepository;
+import dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository.PluginMetadataRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaRepository;
+import dev.ulloasp.mlsuite.search.adapter.out.persistence.repository.SearchDocumentRepository;
+import dev.ulloasp.mlsuite.search.application.event.SearchIndexChangedEvent;
+import dev.ulloasp.mlsuite.search.application.service.SearchTextMatcher.SearchTextQuery;
+import dev.ulloasp.mlsuite.search.domain.model.SearchDocument;
+import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamRepository;
+
+/**
+ * Maintains and queries the {@code search_document} table. The {@link SearchIndexChangedEvent}s of a transaction are
+ * collected and applied together once it commits, in one transaction of their own, so a write touching many rows
+ * costs one index update instead of one per row. The index is rebuilt in the background when the table is empty at
+ * startup (or when {@code mlsuite.search.index.rebuild-on-startup} is set), which also repairs updates that were
+ * missed. Until that first rebuild finishes the index reports itself as not ready and callers keep using the
+ * per-table search.
+ *
+ * <p>On Postgres with {@code pg_trgm} the search is a single ranked query. Elsewhere (H2 in tests) candidates are
+ * fetched with a portable {@code LIKE} and ranked with {@link SearchTextMatcher}; both paths require every query
+ * token to occur in the normalized document text, so they return the same hits.
+ */
+@Service
+@Transactional
+public class SearchIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+
+    private static final int MAX_FALLBACK_CANDIDATES = 200;
+
+    private final SearchDocumentRepository documentRepository;
+    private final PredictionRunRepository predictionRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate indexTransaction;
+    private final boolean enabled;
+    private final boolean rebuildOnStartup;
+    private final int chunkSize;
+    private final Map<String, Source<?, ?>> sources = new LinkedHashMap<>();
+    private volatile boolean ready;
+    private volatile boolean fullText;
+
+    public SearchIndexService(
+            SearchDocumentRepository documentRepository,
+            OrganizationRepository organizationRepository,
+            TeamRepository teamRepository,
+            ModelRepository modelRepository,
+            SchemaRepository schemaRepository,
+            PredictionRunRepository predictionRunRepository,
+            PluginMetadataRepository pluginMetadataRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${mlsuite.search.index.enabled:true}") boolean enabled,
+            @Value("${mlsuite.search.index.rebuild-on-startup:false}") boolean rebuildOnStartup,
+            @Value("${mlsuite.search.index.chunk-size:200}") int chunkSize) {
+        this.documentRepository = documentRepository;
+        this.predictionRunRepository = predictionRunRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.indexTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.indexTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.chunkSize = Math.max(chunkSize, 1);
+        sources.put(SearchDocuments.ORGANIZATION,
+                new Source<>(organizationRepository, Long::valueOf, o -> o.getId(), SearchDocuments::of));
+        sources.put(SearchDocuments.TEAM,
+                new Source<>(teamRepository, Long::valueOf, t -> t.getId(), SearchDocuments::of));
+        sources.put(SearchDocuments.MODEL,
+                new Source<>(modelRepository, Long::valueOf, m -> m.getId(), SearchDocuments::of));
+        sources.put(SearchDocuments.SCHEMA,
+                new Source<>(schemaRepository, Long::valueOf, s -> s.getId(), SearchDocuments::of));
+        sources.put(SearchDocuments.PREDICTION_RUN,
+                new Source<>(predictionRunRepository, Long::valueOf, r -> r.getId(), SearchDocuments::of));
+        sources.put(SearchDocuments.PLUGIN,
+                new Source<>(pluginMetadataRepository, Function.identity(), p -> p.getId(), SearchDocuments::of));
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Called once the database objects exist. Marks the index ready right away when it already holds documents,
+     * otherwise rebuilds it on a virtual thread first.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void initialize(boolean fullTextAvailable) {
+        fullText = fullTextAvailable;
+        if (!enabled) {
+            return;
+        }
+        if (!rebuildOnStartup && documentRepository.count() > 0) {
+            ready = true;
+            return;
+        }
+        Thread.ofVirtual().name("search-index-rebuild").start(() -> {
+            try {
+                rebuild();
+                ready = true;
+            } catch (RuntimeException ex) {
+                log.warn("Search index rebuild failed; search keeps using the per-table queries", ex);
+            }
+        });
+    }
+
+    /** The best {@code perType} documents of each type, grouped by type and in rank order within each group. */
+    @Transactional(readOnly = true)
+    public List<SearchDocument> search(Long userId, Long organizationId, SearchTextQuery query, int perType) {
+        if (fullText) {
+            return documentRepository.searchRanked(
+                    userId,
+                    organizationId,
+                    query.prefilter(),
+                    query.normalized(),
+                    String.join(" ", query.tokens()),
+                    query.tokens().stream().map(token -> token + ":*").collect(Collectors.joining(" & ")),
+                    perType);
+        }
+        Map<String, List<RankedDocument>> byType = documentRepository.searchCandidates(
+                userId, organizationId, query.prefilter(),
+                PageRequest.of(0, MAX_FALLBACK_CANDIDATES))
+                .stream()
+                .map(document -> new RankedDocument(
+                        SearchTextMatcher.score(query, document.getSearchText()), document))
+                .filter(ranked -> ranked.rank() >= 0)
+                .collect(Collectors.groupingBy(ranked -> ranked.document().getDocType(), Collectors.toList()));
+        return byType.values().stream()
+                .flatMap(ranked -> ranked.stream()
+                        .sorted(Comparator
+                                .comparingInt(RankedDocument::rank)
+                                .thenComparing(r -> r.document().getUpdatedAt(),
+                                        Comparator.nullsLast(Comparator.reverseOrder()))
+                                .thenComparing(r -> r.document().getTitle(), String.CASE_INSENSITIVE_ORDER))
+                        .limit(perType))
+                .map(RankedDocument::document)
+                .toList();
+    }
+
+    /** Queues the change until the surrounding transaction commits, or applies it right away outside of one. */
+    @EventListener
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void onIndexChanged(SearchIndexChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().add(event);
+        } else {
+            index(List.of(event));
+        }
+    }
+
+    /** Reindexes every searchable entity, one chunk per transaction. Existing documents are updated in place. */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuild() {
+        log.info("Rebuilding search index in chunks of {}", chunkSize);
+        sources.forEach(this::rebuild);
+        log.info("Search index rebuilt with {} documents", documentRepository.count());
+    }
+
+    private PendingChanges pendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pending) {
+                return pending;
+            }
+        }
+        PendingChanges pending = new PendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void index(Collection<SearchIndexChangedEvent> changes) {
+        try {
+            indexTransaction.executeWithoutResult(status -> apply(changes));
+        } catch (DataAccessException ex) {
+            // The changes themselves have committed; missed updates are repaired by the next rebuild.
+            log.warn("Could not update {} search documents", changes.size(), ex);
+        }
+    }
+
+    private void apply(Collection<SearchIndexChangedEvent> changes) {
+        Map<String, List<String>> updated = new LinkedHashMap<>();
+        for (SearchIndexChangedEvent event : changes) {
+            if (!event.removed()) {
+                updated.computeIfAbsent(event.docType(), docType -> new ArrayList<>()).add(event.entityId());
+                continue;
+            }
+            documentRepository.deleteByDocTypeAndEntityId(event.docType(), event.entityId());
+            if (SearchDocuments.ORGANIZATION.equals(event.docType())) {
+                documentRepository.deleteByOrganizationId(Long.valueOf(event.entityId()));
+            }
+        }
+        updated.forEach((docType, entityIds) -> {
+            Source<?, ?> source = sources.get(docType);
+            if (source != null) {
+                reindex(docType, source, entityIds);
+            }
+            if (SearchDocuments.SCHEMA.equals(docType)) {
+                // Run documents carry their schema's name.
+                sync(SearchDocuments.PREDICTION_RUN, source(SearchDocuments.PREDICTION_RUN),
+                        predictionRunRepository.findBySchemaIdIn(entityIds.stream().map(Long::valueOf).toList()));
+            }
+        });
+    }
+
+    private <T, ID> void reindex(String docType, Source<T, ID> source, List<String> entityIds) {
+        for (int from = 0; from < entityIds.size(); from += chunkSize) {
+            List<String> chunk = entityIds.subList(from, Math.min(from + chunkSize, entityIds.size()));
+            List<T> entities = source.repository().findAllById(chunk.stream().map(source.parseId()).toList());
+            sync(docType, source, entities);
+            Set<String> found = entities.stream().map(source::entityId).collect(Collectors.toSet());
+            chunk.stream()
+                    .filter(entityId -> !found.contains(entityId))
+                    .forEach(entityId -> documentRepository.deleteByDocTypeAndEntityId(docType, entityId));
+        }
+    }
+
+    private <T, ID> void rebuild(String docType, Source<T, ID> source) {
+        int page = 0;
+        boolean more = true;
+        while (more) {
+            PageRequest request = PageRequest.of(page++, chunkSize, Sort.by("id"));
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Page<T> entities = source.repository().findAll(request);
+                sync(docType, source, entities.getContent());
+                return entities.hasNext();
+            }));
+        }
+    }
+
+    private <T> void sync(String docType, Source<T, ?> source, List<T> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        Map<String, SearchDocument> existing = documentRepository.findByDocTypeAndEntityIdIn(
+                docType, entities.stream().map(entity -> source.entityId(entity)).toList())
+                .stream()
+                .collect(Collectors.toMap(SearchDocument::getEntityId, Function.identity()));
+        for (T entity : entities) {
+            SearchDocument current = existing.get(source.entityId(entity));
+            Optional<SearchDocument> document = source.mapper().apply(entity);
+            if (document.isEmpty()) {
+                if (current != null) {
+                    documentRepository.delete(current);
+                }
+            } else if (current == null) {
+                documentRepository.save(document.get());
+            } else {
+                current.refreshFrom(document.get());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Source<T, ?> source(String docType) {
+        return (Source<T, ?>) sources.get(docType);
+    }
+
+    private record Source<T, ID>(
+            JpaRepository<T, ID> repository,
+            Function<String, ID> parseId,
+            Function<T, Object> idOf,
+            Function<T, Optional<SearchDocument>> mapper) {
+
+        private String entityId(T entity) {
+            return String.valueOf(Objects.requireNonNull(idOf.apply(entity)));
+        }
+    }
+
+    private record RankedDocument(int rank, SearchDocument document) {
+    }
+
+    /** The changes of one transaction, keyed by document so only the last change to each is applied. */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Map<String, SearchIndexChangedEvent> changes = new LinkedHashMap<>();
+
+        private void add(SearchIndexChangedEvent event) {
+            String key = event.docType() + ":" + event.entityId();
+            changes.remove(key);
+            changes.put(key, event);
+        }
+
+        @Override
+        public void afterCommit() {
+            index(List.copyOf(changes.values()));
+        }
+    }
+}
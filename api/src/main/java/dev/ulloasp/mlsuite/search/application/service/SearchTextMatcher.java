@@ -26,9 +26,7 @@ public final class SearchTextMatcher {
     }
 
     public static int score(SearchTextQuery query, String... terms) {
-        String text = normalize(String.join(" ", Arrays.stream(terms)
-                .filter(Objects::nonNull)
-                .toList()));
+        String text = indexText(terms);
         if (text.isBlank()) {
             return -1;
         }
@@ -44,6 +42,16 @@ public final class SearchTextMatcher {
         return score;
     }
 
+    /**
+     * The terms joined and normalized the same way queries are, as stored in {@code search_document.search_text}, so
+     * that scoring an indexed document gives the same result as scoring the entity's terms.
+     */
+    public static String indexText(String... terms) {
+        return normalize(String.join(" ", Arrays.stream(terms)
+                .filter(Objects::nonNull)
+                .toList()));
+    }
+
     private static int bestTokenScore(String queryToken, String text, List<String> candidateTokens) {
         if (candidateTokens.contains(queryToken)) {
             return 0;
@@ -1,37 +1,55 @@
 package dev.ulloasp.mlsuite.search.application.usecase;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
-import dev.ulloasp.mlsuite.model.domain.model.Model;
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationMembershipRepository;
 import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 import dev.ulloasp.mlsuite.organization.domain.model.OrganizationMembership;
 import dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository.PluginMetadataRepository;
-import dev.ulloasp.mlsuite.plugin.domain.model.PluginMetadata;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRepository;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaRepository;
-import dev.ulloasp.mlsuite.schema.domain.model.PredictionRun;
-import dev.ulloasp.mlsuite.schema.domain.model.Schema;
 import dev.ulloasp.mlsuite.search.application.dto.SearchGroupDto;
 import dev.ulloasp.mlsuite.search.application.dto.SearchResponseDto;
 import dev.ulloasp.mlsuite.search.application.dto.SearchResultDto;
 import dev.ulloasp.mlsuite.search.application.port.in.SearchWorkspaceUseCase;
+import dev.ulloasp.mlsuite.search.application.service.SearchDocuments;
+import dev.ulloasp.mlsuite.search.application.service.SearchIndexService;
 import dev.ulloasp.mlsuite.search.application.service.SearchTextMatcher;
 import dev.ulloasp.mlsuite.search.application.service.SearchTextMatcher.SearchTextQuery;
+import dev.ulloasp.mlsuite.search.domain.model.SearchDocument;
 import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamRepository;
-import dev.ulloasp.mlsuite.team.domain.model.Team;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 
 @Service
 public class SearchWorkspaceService implements SearchWorkspaceUseCase {
@@ -39,6 +57,7 @@ public class SearchWorkspaceService implements SearchWorkspaceUseCase {
     private static final int MIN_QUERY_LENGTH = 2;
     private static final int MAX_PER_GROUP = 5;
     private static final int MAX_CANDIDATES = 25;
+    private static final Map<String, String> GROUP_LABELS = orderedLabels();
 
     private final WorkspaceAccessService workspaceAccessService;
     private final WorkspaceAuthorizationService workspaceAuthorizationService;
@@ -48,6 +67,13 @@ public class SearchWorkspaceService implements SearchWorkspaceUseCase {
     private final SchemaRepository schemaRepository;
     private final PredictionRunRepository predictionRunRepository;
     private final PluginMetadataRepository pluginMetadataRepository;
+    private final SearchIndexService searchIndexService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean concurrent;
+    private final Duration latencyBudget;
+    private final Semaphore connectionPermits;
+    private final Counter timedOutGroups;
+    private final ExecutorService groupExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     public SearchWorkspaceService(
             WorkspaceAccessService workspaceAccessService,
@@ -57,7 +83,13 @@ public class SearchWorkspaceService implements SearchWorkspaceUseCase {
             ModelRepository modelRepository,
             SchemaRepository schemaRepository,
             PredictionRunRepository predictionRunRepository,
-            PluginMetadataRepository pluginMetadataRepository) {
+            PluginMetadataRepository pluginMetadataRepository,
+            SearchIndexService searchIndexService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${mlsuite.search.concurrent.enabled:true}") boolean concurrent,
+            @Value("${mlsuite.search.latency-budget:1s}") Duration latencyBudget,
+            @Value("${mlsuite.search.concurrent.max-connections:4}") int maxConnections) {
         this.workspaceAccessService = workspaceAccessService;
         this.workspaceAuthorizationService = workspaceAuthorizationService;
         this.membershipRepository = membershipRepository;
@@ -66,58 +98,161 @@ public class SearchWorkspaceService implements SearchWorkspaceUseCase {
         this.schemaRepository = schemaRepository;
         this.predictionRunRepository = predictionRunRepository;
         this.pluginMetadataRepository = pluginMetadataRepository;
+        this.searchIndexService = searchIndexService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout(Math.max(1, (int) Math.ceil(latencyBudget.toMillis() / 1000.0)));
+        this.concurrent = concurrent;
+        this.latencyBudget = latencyBudget;
+        this.connectionPermits = new Semaphore(Math.max(maxConnections, 1));
+        this.timedOutGroups = Counter.builder("mlsuite.search.groups.timed-out").register(meterRegistry);
     }
 
     @Override
     public SearchResponseDto search(Long userId, String query) {
         SearchTextQuery searchQuery = SearchTextMatcher.parse(query);
         if (searchQuery.tooShort(MIN_QUERY_LENGTH)) {
-            return new SearchResponseDto(searchQuery.raw(), List.of());
+            return new SearchResponseDto(searchQuery.raw(), List.of(), false);
         }
 
-        String prefilter = searchQuery.prefilter();
         Organization organization = workspaceAccessService.requireCurrentOrganization(userId);
+        workspaceAuthorizationService.requirePluginView(userId, organization.getId());
+        if (searchIndexService.isReady()) {
+            return new SearchResponseDto(searchQuery.raw(), indexedGroups(
+                    searchIndexService.search(userId, organization.getId(), searchQuery, MAX_PER_GROUP)), false);
+        }
+
+        List<GroupSearch> searches = groupSearches(userId, organization.getId(), searchQuery);
+        List<SearchGroupDto> groups = concurrent ? searchConcurrently(searches) : searchSequentially(searches);
+        return new SearchResponseDto(searchQuery.raw(), groups, groups.stream().anyMatch(SearchGroupDto::timedOut));
+    }
+
+    private List<GroupSearch> groupSearches(Long userId, Long organizationId, SearchTextQuery query) {
+        String prefilter = query.prefilter();
         Pageable candidates = PageRequest.of(0, MAX_CANDIDATES);
+        return List.of(
+                new GroupSearch(SearchDocuments.ORGANIZATION, () -> rank(
+                        membershipRepository.searchActiveByUserId(userId, prefilter, candidates)
+                                .stream()
+                                .map(OrganizationMembership::getOrganization)
+                                .toList(),
+                        query,
+                        SearchDocuments::of)),
+                new GroupSearch(SearchDocuments.TEAM, () -> rank(
+                        teamRepository.searchByOrganizationId(organizationId, prefilter, candidates),
+                        query,
+                        SearchDocuments::of)),
+                new GroupSearch(SearchDocuments.MODEL, () -> rank(
+                        modelRepository.searchByOrganizationId(organizationId, prefilter, candidates),
+                        query,
+                        SearchDocuments::of)),
+                new GroupSearch(SearchDocuments.SCHEMA, () -> rank(
+                        schemaRepository.searchByOrganizationId(organizationId, prefilter, candidates),
+                        query,
+                        SearchDocuments::of)),
+                new GroupSearch(SearchDocuments.PREDICTION_RUN, () -> rank(
+                        predictionRunRepository.searchByOrganizationId(organizationId, prefilter, candidates),
+                        query,
+                        SearchDocuments::of)),
+                new GroupSearch(SearchDocuments.PLUGIN, () -> rank(
+                        pluginMetadataRepository.searchByOrganizationId(organizationId, prefilter, candidates),
+                        query,
+                        SearchDocuments::of)));
+    }
 
+    private List<SearchGroupDto> searchSequentially(List<GroupSearch> searches) {
         List<SearchGroupDto> groups = new ArrayList<>();
-        addGroup(groups, "Organizations", rank(
-                membershipRepository.searchActiveByUserId(userId, prefilter, candidates)
-                        .stream()
-                        .map(OrganizationMembership::getOrganization)
-                        .toList(),
-                searchQuery,
-                this::toOrganizationMatch));
-        addGroup(groups, "Teams", rank(
-                teamRepository.searchByOrganizationId(organization.getId(), prefilter, candidates),
-                searchQuery,
-                this::toTeamMatch));
-        addGroup(groups, "Models", rank(
-                modelRepository.searchByOrganizationId(organization.getId(), prefilter, candidates),
-                searchQuery,
-                this::toModelMatch));
-        addGroup(groups, "Schemas", rank(
-                schemaRepository.searchByOrganizationId(organization.getId(), prefilter, candidates),
-                searchQuery,
-                this::toSchemaMatch));
-        addGroup(groups, "Prediction Runs", rank(
-                predictionRunRepository.searchByOrganizationId(organization.getId(), prefilter, candidates),
-                searchQuery,
-                this::toPredictionRunMatch));
-        workspaceAuthorizationService.requirePluginView(userId, organization.getId());
-        addGroup(groups, "Plugins", rank(
-                pluginMetadataRepository.searchByOrganizationId(organization.getId(), prefilter, candidates),
-                searchQuery,
-                this::toPluginMatch));
-        return new SearchResponseDto(searchQuery.raw(), groups);
+        searches.forEach(search -> addGroup(groups, search.type(), search.query().get()));
+        return groups;
+    }
+
+    /**
+     * Runs every group on its own virtual thread and read-only transaction, so the search takes as long as its
+     * slowest group. Groups still running when the latency budget is spent are cancelled and reported as timed out.
+     * Every transaction holds a pool connection, so across all searches at most
+     * {@code mlsuite.search.concurrent.max-connections} groups run at once; the rest wait for a permit within the
+     * same budget.
+     */
+    private List<SearchGroupDto> searchConcurrently(List<GroupSearch> searches) {
+        List<Callable<List<RankedResult>>> tasks = searches.stream()
+                .<Callable<List<RankedResult>>>map(search -> () -> {
+                    connectionPermits.acquire();
+                    try {
+                        return readOnlyTransaction.execute(status -> search.query().get());
+                    } finally {
+                        connectionPermits.release();
+                    }
+                })
+                .toList();
+        List<Future<List<RankedResult>>> futures;
+        try {
+            futures = groupExecutor.invokeAll(tasks, latencyBudget.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Search interrupted", ex);
+        }
+        List<SearchGroupDto> groups = new ArrayList<>();
+        for (int i = 0; i < searches.size(); i++) {
+            String type = searches.get(i).type();
+            Future<List<RankedResult>> future = futures.get(i);
+            if (future.isCancelled()) {
+                timedOutGroups.increment();
+                groups.add(new SearchGroupDto(GROUP_LABELS.get(type), List.of(), true));
+            } else {
+                addGroup(groups, type, await(future));
+            }
+        }
+        return groups;
+    }
+
+    private static List<RankedResult> await(Future<List<RankedResult>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Search interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        groupExecutor.close();
+    }
+
+    private static List<SearchGroupDto> indexedGroups(List<SearchDocument> documents) {
+        Map<String, List<SearchResultDto>> byType = new LinkedHashMap<>();
+        GROUP_LABELS.keySet().forEach(type -> byType.put(type, new ArrayList<>()));
+        documents.forEach(document -> byType.get(document.getDocType()).add(SearchDocuments.toResult(document)));
+        return byType.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(entry -> new SearchGroupDto(GROUP_LABELS.get(entry.getKey()), entry.getValue(), false))
+                .toList();
+    }
+
+    private static Map<String, String> orderedLabels() {
+        Map<String, String> labels = new LinkedHashMap<>();
+        labels.put(SearchDocuments.ORGANIZATION, "Organizations");
+        labels.put(SearchDocuments.TEAM, "Teams");
+        labels.put(SearchDocuments.MODEL, "Models");
+        labels.put(SearchDocuments.SCHEMA, "Schemas");
+        labels.put(SearchDocuments.PREDICTION_RUN, "Prediction Runs");
+        labels.put(SearchDocuments.PLUGIN, "Plugins");
+        return labels;
     }
 
     private <T> List<RankedResult> rank(
             List<T> items,
             SearchTextQuery query,
-            Function<T, Candidate> candidateFactory) {
+            Function<T, Optional<SearchDocument>> documentFactory) {
         return items.stream()
-                .map(candidateFactory)
-                .map(candidate -> candidate.toRanked(query))
+                .map(documentFactory)
+                .flatMap(Optional::stream)
+                .map(document -> RankedResult.of(document, query))
                 .filter(Objects::nonNull)
                 .sorted(Comparator
                         .comparingInt(RankedResult::rank)
@@ -127,123 +262,23 @@ public class SearchWorkspaceService implements SearchWorkspaceUseCase {
                 .toList();
     }
 
-    private void addGroup(List<SearchGroupDto> groups, String label, List<RankedResult> rankedResults) {
+    private void addGroup(List<SearchGroupDto> groups, String type, List<RankedResult> rankedResults) {
         if (rankedResults.isEmpty()) {
             return;
         }
-        groups.add(new SearchGroupDto(label, rankedResults.stream().map(RankedResult::result).toList()));
-    }
-
-    private Candidate toOrganizationMatch(Organization organization) {
-        return new Candidate(
-                new SearchResultDto(
-                        "organization",
-                        String.valueOf(organization.getId()),
-                        organization.getName(),
-                        organization.getSlug(),
-                        "/workspace/organizations/" + organization.getId(),
-                        organization.getId(),
-                        null,
-                        null),
-                organization.getUpdatedAt(),
-                organization.getName(),
-                organization.getSlug());
-    }
-
-    private Candidate toTeamMatch(Team team) {
-        return new Candidate(
-                new SearchResultDto(
-                        "team",
-                        String.valueOf(team.getId()),
-                        team.getName(),
-                        team.getSlug(),
-                        "/workspace/teams/" + team.getId(),
-                        team.getOrganization().getId(),
-                        team.getId(),
-                        null),
-                team.getUpdatedAt(),
-                team.getName(),
-                team.getSlug(),
-                team.getDescription());
-    }
-
-    private Candidate toModelMatch(Model model) {
-        return new Candidate(
-                new SearchResultDto(
-                        "model",
-                        String.valueOf(model.getId()),
-                        model.getName(),
-                        model.getType() + " / " + model.getSpecificType(),
-                        "/models/" + model.getId(),
-                        model.getOrganization() == null ? null : model.getOrganization().getId(),
-                        model.getTeam() == null ? null : model.getTeam().getId(),
-                        model.getId()),
-                model.getUpdatedAt(),
-                model.getName(),
-                model.getType(),
-                model.getSpecificType(),
-                model.getFileName());
-    }
-
-    private Candidate toSchemaMatch(Schema schema) {
-        return new Candidate(
-                new SearchResultDto(
-                        "schema",
-                        String.valueOf(schema.getId()),
-                        schema.getName(),
-                        schema.getDescription(),
-                        "/schemas/" + schema.getId(),
-                        schema.getOrganization().getId(),
-                        null,
-                        null),
-                schema.getUpdatedAt(),
-                schema.getName(),
-                schema.getDescription());
-    }
-
-    private Candidate toPredictionRunMatch(PredictionRun run) {
-        Schema schema = run.getSchemaVersion().getSchema();
-        return new Candidate(
-                new SearchResultDto(
-                        "predictionRun",
-                        String.valueOf(run.getId()),
-                        run.getName(),
-                        schema.getName() + " / " + run.getStatus(),
-                        "/schemas/" + schema.getId()
-                                + "/versions/" + run.getSchemaVersion().getId()
-                                + "/runs/" + run.getId(),
-                        schema.getOrganization().getId(),
-                        null,
-                        null),
-                run.getUpdatedAt(),
-                run.getName(),
-                schema.getName());
+        groups.add(new SearchGroupDto(
+                GROUP_LABELS.get(type), rankedResults.stream().map(RankedResult::result).toList(), false));
     }
 
-    private Candidate toPluginMatch(PluginMetadata plugin) {
-        return new Candidate(
-                new SearchResultDto(
-                        "plugin",
-                        plugin.getId(),
-                        plugin.getFileName(),
-                        plugin.getKind() == null ? "Plugin" : plugin.getKind(),
-                        "/plugins",
-                        plugin.getOrganization().getId(),
-                        null,
-                        null),
-                plugin.getUpdatedAt(),
-                plugin.getFileName(),
-                plugin.getPluginType(),
-                plugin.getKind());
-    }
-
-    private record Candidate(SearchResultDto result, OffsetDateTime updatedAt, String... terms) {
-        private RankedResult toRanked(SearchTextQuery query) {
-            int score = SearchTextMatcher.score(query, terms);
-            return score < 0 ? null : new RankedResult(score, updatedAt, result);
-        }
+    private record GroupSearch(String type, Supplier<List<RankedResult>> query) {
     }
 
     private record RankedResult(int rank, OffsetDateTime updatedAt, SearchResultDto result) {
+        private static RankedResult of(SearchDocument document, SearchTextQuery query) {
+            int score = SearchTextMatcher.score(query, document.getSearchText());
+            return score < 0
+                    ? null
+                    : new RankedResult(score, document.getUpdatedAt(), SearchDocuments.toResult(document));
+        }
     }
 }
@@ -0,0 +1,90 @@
+package dev.ulloasp.mlsuite.search.domain.model;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One searchable workspace entity, denormalized so that search is a single query over one table. {@code searchText}
+ * holds the entity's terms as normalized by {@code SearchTextMatcher}; on Postgres it also backs a trigram index and
+ * a generated {@code search_vector} column created by {@code SearchIndexInitializer}. Rows are maintained by
+ * {@code SearchIndexService}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "search_document",
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_document_entity", columnNames = { "doc_type", "entity_id" }),
+        indexes = @Index(name = "idx_search_document_org_type", columnList = "organization_id, doc_type"))
+public class SearchDocument {
+
+    public SearchDocument(String docType, String entityId, Long organizationId, Long teamId, Long modelId,
+            String title, String subtitle, String href, String searchText, OffsetDateTime updatedAt) {
+        this.docType = docType;
+        this.entityId = entityId;
+        this.organizationId = organizationId;
+        this.teamId = teamId;
+        this.modelId = modelId;
+        this.title = title;
+        this.subtitle = subtitle;
+        this.href = href;
+        this.searchText = searchText;
+        this.updatedAt = updatedAt;
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "doc_type", nullable = false, length = 32)
+    private String docType;
+
+    @Column(name = "entity_id", nullable = false, length = 64)
+    private String entityId;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(name = "model_id")
+    private Long modelId;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "subtitle", columnDefinition = "TEXT")
+    private String subtitle;
+
+    @Column(name = "href", nullable = false)
+    private String href;
+
+    @Column(name = "search_text", nullable = false, columnDefinition = "TEXT")
+    private String searchText;
+
+    @Column(name = "updated_at", columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime updatedAt;
+
+    public void refreshFrom(SearchDocument source) {
+        this.organizationId = source.organizationId;
+        this.teamId = source.teamId;
+        this.modelId = source.modelId;
+        this.title = source.title;
+        this.subtitle = source.subtitle;
+        this.href = source.href;
+        this.searchText = source.searchText;
+        this.updatedAt = source.updatedAt;
+    }
+}
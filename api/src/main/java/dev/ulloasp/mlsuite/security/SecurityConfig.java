@@ -23,11 +23,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import dev.ulloasp.mlsuite.security.identity.CurrentUserRefreshFilter;
+import dev.ulloasp.mlsuite.security.identity.CurrentUserSnapshotService;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -40,13 +44,16 @@ public class SecurityConfig {
         }
 
         @Bean
-        protected SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        protected SecurityFilterChain securityFilterChain(HttpSecurity http,
+                        CurrentUserSnapshotService currentUserSnapshotService) throws Exception {
 
                 http
                                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                                 .csrf(csrf -> csrf.disable())
                                 .sessionManagement(session -> session
                                                 .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+                                .addFilterAfter(new CurrentUserRefreshFilter(currentUserSnapshotService),
+                                                SecurityContextHolderFilter.class)
                                 .authorizeHttpRequests(authorize -> authorize
                                                 .requestMatchers("/actuator/**").permitAll()
                                                 .requestMatchers("/api/readiness").permitAll()
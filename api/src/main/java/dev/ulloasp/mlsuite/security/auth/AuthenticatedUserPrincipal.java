@@ -10,20 +10,35 @@ import org.springframework.security.core.userdetails.UserDetails;
 import dev.ulloasp.mlsuite.user.domain.model.SystemRole;
 import dev.ulloasp.mlsuite.user.domain.model.User;
 
+/**
+ * Immutable snapshot of the user stored in the HTTP session. {@code version} is the {@code UserContextVersions}
+ * stamp the snapshot was taken at and {@code takenAt} the epoch millis it was loaded; a principal built at login
+ * carries no stamp and is refreshed on its first request.
+ */
 public record AuthenticatedUserPrincipal(
         Long userId,
         String username,
         String password,
         SystemRole systemRole,
-        boolean enabled) implements UserDetails {
+        boolean enabled,
+        Long currentOrganizationId,
+        long version,
+        long takenAt) implements UserDetails {
 
     public static AuthenticatedUserPrincipal from(User user) {
+        return from(user, null, 0L);
+    }
+
+    public static AuthenticatedUserPrincipal from(User user, Long currentOrganizationId, long version) {
         return new AuthenticatedUserPrincipal(
                 user.getId(),
                 user.getEmail(),
                 user.getPasswordHash(),
                 user.getSystemRole(),
-                user.isEnabled());
+                user.isEnabled(),
+                currentOrganizationId,
+                version,
+                System.currentTimeMillis());
     }
 
     @Override
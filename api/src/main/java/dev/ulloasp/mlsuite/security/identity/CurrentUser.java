@@ -2,10 +2,19 @@ package dev.ulloasp.mlsuite.security.identity;
 
 import dev.ulloasp.mlsuite.user.domain.model.SystemRole;
 
-public record CurrentUser(Long userId, String username, SystemRole systemRole) {
+/**
+ * The authenticated user as captured in the session. {@code currentOrganizationId}, {@code version} and
+ * {@code takenAt} come from the principal snapshot; the snapshot may only be trusted while {@code version} is still
+ * the user's current {@code UserContextVersions} stamp and the snapshot is younger than its maximum age.
+ */
+public record CurrentUser(Long userId, String username, SystemRole systemRole, Long currentOrganizationId,
+        long version, long takenAt) {
+
+    public CurrentUser(Long userId, String username, SystemRole systemRole) {
+        this(userId, username, systemRole, null, 0L, 0L);
+    }
 
     public boolean isSuperadmin() {
         return systemRole == SystemRole.SUPERADMIN;
     }
 }
-
@@ -0,0 +1,66 @@
+package dev.ulloasp.mlsuite.security.identity;
+
+import java.io.IOException;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import dev.ulloasp.mlsuite.security.auth.AuthenticatedUserPrincipal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Keeps the session principal's snapshot current. Runs right after the security context is loaded from the session;
+ * a fresh snapshot costs one map lookup, a stale one is rebuilt and written back to the session. A user who was
+ * deleted or disabled meanwhile is signed out.
+ */
+public class CurrentUserRefreshFilter extends OncePerRequestFilter {
+
+    private final CurrentUserSnapshotService snapshotService;
+
+    public CurrentUserRefreshFilter(CurrentUserSnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUserPrincipal principal
+                && !snapshotService.isFresh(principal)) {
+            snapshotService.refresh(principal).ifPresentOrElse(
+                    refreshed -> store(request, authentication, refreshed),
+                    () -> signOut(request));
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static void store(HttpServletRequest request, Authentication previous,
+            AuthenticatedUserPrincipal principal) {
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities());
+        authentication.setDetails(previous.getDetails());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context);
+        }
+    }
+
+    private static void signOut(HttpServletRequest request) {
+        SecurityContextHolder.clearContext();
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+    }
+}
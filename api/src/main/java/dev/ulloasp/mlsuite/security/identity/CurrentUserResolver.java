@@ -1,6 +1,9 @@
 package dev.ulloasp.mlsuite.security.identity;
 
+import java.util.Optional;
+
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import dev.ulloasp.mlsuite.security.auth.AuthenticatedUserPrincipal;
@@ -18,10 +21,23 @@ public class CurrentUserResolver {
 
     public CurrentUser resolve(Authentication authentication) {
         if (authentication.getPrincipal() instanceof AuthenticatedUserPrincipal principal) {
-            return new CurrentUser(principal.userId(), principal.getUsername(), principal.systemRole());
+            return from(principal);
         }
         User user = userLookupService.requireByEmail(authentication.getName());
         return new CurrentUser(user.getId(), user.getUsername(), user.getSystemRole());
     }
-}
 
+    /** The session snapshot of the user behind the current request, without touching the database. */
+    public Optional<CurrentUser> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUserPrincipal principal) {
+            return Optional.of(from(principal));
+        }
+        return Optional.empty();
+    }
+
+    private static CurrentUser from(AuthenticatedUserPrincipal principal) {
+        return new CurrentUser(principal.userId(), principal.getUsername(), principal.systemRole(),
+                principal.currentOrganizationId(), principal.version(), principal.takenAt());
+    }
+}
@@ -0,0 +1,50 @@
+package dev.ulloasp.mlsuite.security.identity;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.ulloasp.mlsuite.security.auth.AuthenticatedUserPrincipal;
+import dev.ulloasp.mlsuite.user.adapter.out.persistence.repository.UserRepository;
+import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.workspace.application.service.UserContextVersions;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceBootstrapService;
+
+/**
+ * Rebuilds the session principal when its snapshot no longer matches the user's {@link UserContextVersions} stamp.
+ * This is the only place the request path pays for {@code requireById} and {@code ensureCurrentOrganization}; while
+ * the stamp holds, services read the snapshot instead.
+ */
+@Service
+public class CurrentUserSnapshotService {
+
+    private final UserRepository userRepository;
+    private final WorkspaceBootstrapService workspaceBootstrapService;
+    private final UserContextVersions userContextVersions;
+
+    public CurrentUserSnapshotService(
+            UserRepository userRepository,
+            WorkspaceBootstrapService workspaceBootstrapService,
+            UserContextVersions userContextVersions) {
+        this.userRepository = userRepository;
+        this.workspaceBootstrapService = workspaceBootstrapService;
+        this.userContextVersions = userContextVersions;
+    }
+
+    public boolean isFresh(AuthenticatedUserPrincipal principal) {
+        return principal.currentOrganizationId() != null
+                && userContextVersions.isCurrent(principal.userId(), principal.version(), principal.takenAt());
+    }
+
+    /** The refreshed principal, or empty when the user was deleted or disabled since the snapshot was taken. */
+    @Transactional
+    public Optional<AuthenticatedUserPrincipal> refresh(AuthenticatedUserPrincipal principal) {
+        // Read the stamp first: a change committing while we load moves it again and the next request reloads.
+        long version = userContextVersions.current(principal.userId());
+        return userRepository.findById(principal.userId())
+                .filter(User::isEnabled)
+                .map(user -> AuthenticatedUserPrincipal.from(user,
+                        workspaceBootstrapService.ensureCurrentOrganization(user).getId(), version));
+    }
+}
@@ -2,7 +2,9 @@ package dev.ulloasp.mlsuite.startup;
 
 import java.util.List;
 
-public record StartupReadinessDto(boolean ready, List<Dependency> dependencies) {
+import dev.ulloasp.mlsuite.analyzer.AnalyzerResilience.LaneState;
+
+public record StartupReadinessDto(boolean ready, List<Dependency> dependencies, List<LaneState> analyzerLanes) {
 
     public record Dependency(String name, boolean ready, String message) {
     }
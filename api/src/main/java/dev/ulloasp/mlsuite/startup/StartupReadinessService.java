@@ -8,6 +8,8 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 import dev.ulloasp.mlsuite.admin.infrastructure.OpsAgentProperties;
+import dev.ulloasp.mlsuite.analyzer.AnalyzerResilience;
+import dev.ulloasp.mlsuite.analyzer.AnalyzerResilience.LaneState;
 import dev.ulloasp.mlsuite.startup.StartupReadinessDto.Dependency;
 
 @Service
@@ -16,26 +18,30 @@ public class StartupReadinessService {
     private final JdbcTemplate jdbcTemplate;
     private final OpsAgentProperties opsAgentProperties;
     private final ServiceProbe serviceProbe;
+    private final AnalyzerResilience analyzerResilience;
     private final String analyzerUrl;
 
     public StartupReadinessService(
             JdbcTemplate jdbcTemplate,
             OpsAgentProperties opsAgentProperties,
             ServiceProbe serviceProbe,
+            AnalyzerResilience analyzerResilience,
             @Value("${analyzer.url}") String analyzerUrl) {
         this.jdbcTemplate = jdbcTemplate;
         this.opsAgentProperties = opsAgentProperties;
         this.serviceProbe = serviceProbe;
+        this.analyzerResilience = analyzerResilience;
         this.analyzerUrl = analyzerUrl;
     }
 
     public StartupReadinessDto check() {
+        List<LaneState> lanes = analyzerResilience.lanes();
         List<Dependency> dependencies = List.of(
                 database(),
-                probe("py-analyzer", analyzerUrl + "/health"),
+                analyzer(lanes),
                 probe("ops-agent", opsAgentProperties.baseUrl() + "/health"));
         boolean ready = dependencies.stream().allMatch(Dependency::ready);
-        return new StartupReadinessDto(ready, dependencies);
+        return new StartupReadinessDto(ready, dependencies, lanes);
     }
 
     private Dependency database() {
@@ -47,6 +53,22 @@ public class StartupReadinessService {
         }
     }
 
+    /**
+     * The health probe decides readiness; an open lane only degrades that kind of traffic, so it is reported in the
+     * message instead of failing the whole dependency.
+     */
+    private Dependency analyzer(List<LaneState> lanes) {
+        Dependency probe = probe("py-analyzer", analyzerUrl + "/health");
+        List<String> open = lanes.stream()
+                .filter(lane -> !"closed".equals(lane.circuit()))
+                .map(lane -> lane.name() + " " + lane.circuit().replace('_', '-'))
+                .toList();
+        if (!probe.ready() || open.isEmpty()) {
+            return probe;
+        }
+        return new Dependency(probe.name(), true, "degraded: " + String.join(", ", open));
+    }
+
     private Dependency probe(String name, String url) {
         try {
             serviceProbe.requireOk(url);
@@ -0,0 +1,134 @@
+package dev.ulloasp.mlsuite.storage;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Serves etag-pinned loads from a {@link LocalArtifactCache} and collapses concurrent misses for the same artifact
+ * into a single download. Every other operation goes straight to the delegate.
+ */
+class CachingObjectStorageService implements ObjectStorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingObjectStorageService.class);
+    private static final Pattern MD5_ETAG = Pattern.compile("[0-9a-f]{32}");
+
+    private final ObjectStorageService delegate;
+    private final LocalArtifactCache cache;
+    private final ConcurrentHashMap<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    CachingObjectStorageService(ObjectStorageService delegate, LocalArtifactCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public StoredObject store(String objectKey, String fileName, String contentType, InputStream inputStream,
+            long sizeBytes) {
+        return delegate.store(objectKey, fileName, contentType, inputStream, sizeBytes);
+    }
+
+    @Override
+    public byte[] load(String bucket, String objectKey) {
+        return delegate.load(bucket, objectKey);
+    }
+
+    @Override
+    public byte[] load(String bucket, String objectKey, @Nullable String etag) {
+        String normalizedEtag = normalizeEtag(etag);
+        if (normalizedEtag == null) {
+            return delegate.load(bucket, objectKey);
+        }
+
+        String key = LocalArtifactCache.key(bucket, objectKey, normalizedEtag);
+        byte[] cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<byte[]> download = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(key, download);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            byte[] bytes = delegate.load(bucket, objectKey);
+            if (matchesEtag(bytes, normalizedEtag)) {
+                cache.put(bucket, objectKey, key, bytes);
+            } else {
+                log.warn("Not caching {}/{}: content does not match etag {}", bucket, objectKey, normalizedEtag);
+            }
+            download.complete(bytes);
+            return bytes;
+        } catch (RuntimeException ex) {
+            download.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, download);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> loadOptional(String bucket, String objectKey) {
+        return delegate.loadOptional(bucket, objectKey);
+    }
+
+    @Override
+    public List<StoredObjectItem> list(String prefix) {
+        return delegate.list(prefix);
+    }
+
+    @Override
+    public void delete(String bucket, String objectKey) {
+        cache.invalidate(bucket, objectKey);
+        delegate.delete(bucket, objectKey);
+    }
+
+    private byte[] await(CompletableFuture<byte[]> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ObjectStorageException("No se pudo cargar el modelo desde MinIO", ex.getCause());
+        }
+    }
+
+    /**
+     * Single-part uploads carry the MD5 of the content as etag, so those can be verified before caching; multipart
+     * etags ("md5-parts") are opaque and trusted as-is.
+     */
+    private boolean matchesEtag(byte[] bytes, String etag) {
+        if (!MD5_ETAG.matcher(etag).matches()) {
+            return true;
+        }
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes)).equals(etag);
+        } catch (NoSuchAlgorithmException ex) {
+            return true;
+        }
+    }
+
+    private String normalizeEtag(@Nullable String etag) {
+        if (etag == null) {
+            return null;
+        }
+        String normalized = etag.replace("\"", "").strip().toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
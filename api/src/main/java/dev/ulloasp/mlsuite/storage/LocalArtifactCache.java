@@ -0,0 +1,297 @@
+package dev.ulloasp.mlsuite.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Two-tier (heap + local disk) LRU cache for immutable storage artifacts. Entries are addressed by the SHA-256 of
+ * bucket, object key and etag, so a replaced object can never resolve to stale bytes; each tier is bounded by
+ * total size and evicts least recently used entries first.
+ */
+class LocalArtifactCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalArtifactCache.class);
+    private static final String ENTRY_SUFFIX = ".bin";
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    private final Path directory;
+    private final long memoryMaxBytes;
+    private final long memoryMaxEntryBytes;
+    private final long diskMaxBytes;
+
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, String> keysByObject = new HashMap<>();
+    private long memoryBytes;
+    private long diskBytes;
+
+    private final Counter memoryHits;
+    private final Counter diskHits;
+    private final Counter misses;
+    private final Counter memoryEvictions;
+    private final Counter diskEvictions;
+
+    LocalArtifactCache(StorageProperties.Cache properties, MeterRegistry meterRegistry) {
+        this.memoryMaxBytes = Math.max(properties.getMemoryMaxSize().toBytes(), 0);
+        this.memoryMaxEntryBytes = Math.min(properties.getMemoryMaxEntrySize().toBytes(), memoryMaxBytes);
+        this.directory = prepareDirectory(properties.getDirectory(), properties.getDiskMaxSize().toBytes());
+        this.diskMaxBytes = directory == null ? 0 : properties.getDiskMaxSize().toBytes();
+
+        this.memoryHits = counter(meterRegistry, "mlsuite.storage.cache.hits", "memory");
+        this.diskHits = counter(meterRegistry, "mlsuite.storage.cache.hits", "disk");
+        this.misses = Counter.builder("mlsuite.storage.cache.misses").register(meterRegistry);
+        this.memoryEvictions = counter(meterRegistry, "mlsuite.storage.cache.evictions", "memory");
+        this.diskEvictions = counter(meterRegistry, "mlsuite.storage.cache.evictions", "disk");
+        Gauge.builder("mlsuite.storage.cache.size", this, LocalArtifactCache::memoryBytes)
+                .tag("tier", "memory")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("mlsuite.storage.cache.size", this, LocalArtifactCache::diskBytes)
+                .tag("tier", "disk")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        indexExistingEntries();
+    }
+
+    static String key(String bucket, String objectKey, String etag) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((bucket + '\n' + objectKey + '\n' + etag).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    byte[] get(String key) {
+        synchronized (this) {
+            byte[] cached = memory.get(key);
+            if (cached != null) {
+                memoryHits.increment();
+                return cached;
+            }
+            if (disk.get(key) == null) {
+                misses.increment();
+                return null;
+            }
+        }
+
+        byte[] bytes = readEntry(key);
+        if (bytes == null) {
+            misses.increment();
+            return null;
+        }
+        diskHits.increment();
+        synchronized (this) {
+            putInMemory(key, bytes);
+        }
+        return bytes;
+    }
+
+    void put(String bucket, String objectKey, String key, byte[] bytes) {
+        boolean written = writeEntry(key, bytes);
+        synchronized (this) {
+            String previous = keysByObject.put(objectRef(bucket, objectKey), key);
+            if (previous != null && !previous.equals(key)) {
+                removeEntry(previous);
+            }
+            putInMemory(key, bytes);
+            if (written) {
+                Long replaced = disk.put(key, (long) bytes.length);
+                diskBytes += bytes.length - (replaced == null ? 0 : replaced);
+                evictDisk();
+            }
+        }
+    }
+
+    synchronized void invalidate(String bucket, String objectKey) {
+        String key = keysByObject.remove(objectRef(bucket, objectKey));
+        if (key != null) {
+            removeEntry(key);
+        }
+    }
+
+    synchronized long memoryBytes() {
+        return memoryBytes;
+    }
+
+    synchronized long diskBytes() {
+        return diskBytes;
+    }
+
+    private void putInMemory(String key, byte[] bytes) {
+        if (bytes.length > memoryMaxEntryBytes) {
+            return;
+        }
+        byte[] replaced = memory.put(key, bytes);
+        memoryBytes += bytes.length - (replaced == null ? 0 : replaced.length);
+        Iterator<Map.Entry<String, byte[]>> eldest = memory.entrySet().iterator();
+        while (memoryBytes > memoryMaxBytes && eldest.hasNext()) {
+            memoryBytes -= eldest.next().getValue().length;
+            eldest.remove();
+            memoryEvictions.increment();
+        }
+    }
+
+    private void evictDisk() {
+        Iterator<Map.Entry<String, Long>> eldest = disk.entrySet().iterator();
+        while (diskBytes > diskMaxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            diskBytes -= entry.getValue();
+            eldest.remove();
+            deleteQuietly(entryPath(entry.getKey()));
+            diskEvictions.increment();
+        }
+    }
+
+    private void removeEntry(String key) {
+        byte[] cached = memory.remove(key);
+        if (cached != null) {
+            memoryBytes -= cached.length;
+        }
+        Long size = disk.remove(key);
+        if (size != null) {
+            diskBytes -= size;
+            deleteQuietly(entryPath(key));
+        }
+    }
+
+    private byte[] readEntry(String key) {
+        try {
+            return Files.readAllBytes(entryPath(key));
+        } catch (NoSuchFileException ex) {
+            forgetDiskEntry(key);
+            return null;
+        } catch (IOException ex) {
+            log.warn("Could not read cached artifact {}", key, ex);
+            forgetDiskEntry(key);
+            return null;
+        }
+    }
+
+    private synchronized void forgetDiskEntry(String key) {
+        Long size = disk.remove(key);
+        if (size != null) {
+            diskBytes -= size;
+        }
+    }
+
+    private boolean writeEntry(String key, byte[] bytes) {
+        if (directory == null || bytes.length > diskMaxBytes) {
+            return false;
+        }
+        Path partial = directory.resolve(key + "." + UUID.randomUUID() + PARTIAL_SUFFIX);
+        try {
+            Files.write(partial, bytes);
+            try {
+                Files.move(partial, entryPath(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(partial, entryPath(key), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException ex) {
+            log.warn("Could not write cached artifact {}", key, ex);
+            deleteQuietly(partial);
+            return false;
+        }
+    }
+
+    private void indexExistingEntries() {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> entries = files.filter(Files::isRegularFile).toList();
+            entries.stream()
+                    .filter(path -> path.getFileName().toString().endsWith(PARTIAL_SUFFIX))
+                    .forEach(this::deleteQuietly);
+            synchronized (this) {
+                entries.stream()
+                        .filter(path -> path.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                        .sorted(Comparator.comparing(this::lastModified))
+                        .forEach(path -> {
+                            String name = path.getFileName().toString();
+                            long size = size(path);
+                            disk.put(name.substring(0, name.length() - ENTRY_SUFFIX.length()), size);
+                            diskBytes += size;
+                        });
+                evictDisk();
+            }
+        } catch (IOException ex) {
+            log.warn("Could not index artifact cache directory {}", directory, ex);
+        }
+    }
+
+    private Path prepareDirectory(String configured, long maxBytes) {
+        if (configured == null || configured.isBlank() || maxBytes <= 0) {
+            return null;
+        }
+        try {
+            return Files.createDirectories(Path.of(configured));
+        } catch (IOException ex) {
+            log.warn("Artifact disk cache disabled, could not create {}", configured, ex);
+            return null;
+        }
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key + ENTRY_SUFFIX);
+    }
+
+    private FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException ex) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("Could not delete cached artifact {}", path, ex);
+        }
+    }
+
+    private static String objectRef(String bucket, String objectKey) {
+        return bucket + '\n' + objectKey;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String tier) {
+        return Counter.builder(name).tag("tier", tier).register(meterRegistry);
+    }
+}
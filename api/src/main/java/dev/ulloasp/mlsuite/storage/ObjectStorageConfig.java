@@ -4,6 +4,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.minio.MinioClient;
 
 @Configuration
@@ -11,7 +12,7 @@ import io.minio.MinioClient;
 public class ObjectStorageConfig {
 
     @Bean
-    ObjectStorageService objectStorageService(StorageProperties properties) {
+    ObjectStorageService objectStorageService(StorageProperties properties, MeterRegistry meterRegistry) {
         if (!properties.isEnabled()) {
             return new DisabledObjectStorageService();
         }
@@ -21,7 +22,12 @@ public class ObjectStorageConfig {
                 .credentials(properties.getAccessKey(), properties.getSecretKey())
                 .build();
 
-        return new MinioObjectStorageService(minioClient, properties);
+        ObjectStorageService storage = new MinioObjectStorageService(minioClient, properties);
+        if (!properties.getCache().isEnabled()) {
+            return storage;
+        }
+
+        return new CachingObjectStorageService(storage, new LocalArtifactCache(properties.getCache(), meterRegistry));
     }
 }
 
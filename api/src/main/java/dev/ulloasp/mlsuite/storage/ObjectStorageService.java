@@ -5,6 +5,8 @@ import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.annotation.Nullable;
+
 public interface ObjectStorageService {
 
     StoredObject store(String objectKey, String fileName, String contentType, InputStream inputStream, long sizeBytes);
@@ -15,6 +17,15 @@ public interface ObjectStorageService {
 
     byte[] load(String bucket, String objectKey);
 
+    /**
+     * Loads an object whose content is pinned by {@code etag}. Implementations may answer from a local cache, so
+     * the returned array must be treated as read-only. Without an etag the content cannot be validated and the call
+     * behaves like {@link #load(String, String)}.
+     */
+    default byte[] load(String bucket, String objectKey, @Nullable String etag) {
+        return load(bucket, objectKey);
+    }
+
     Optional<byte[]> loadOptional(String bucket, String objectKey);
 
     List<StoredObjectItem> list(String prefix);
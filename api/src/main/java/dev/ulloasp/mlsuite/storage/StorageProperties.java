@@ -1,6 +1,7 @@
 package dev.ulloasp.mlsuite.storage;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 @ConfigurationProperties(prefix = "storage")
 public class StorageProperties {
@@ -12,6 +13,7 @@ public class StorageProperties {
     private String bucket;
     private boolean autoCreateBucket;
     private boolean backfillOnStartup;
+    private final Cache cache = new Cache();
 
     public boolean isEnabled() {
         return enabled;
@@ -68,5 +70,57 @@ public class StorageProperties {
     public void setBackfillOnStartup(boolean backfillOnStartup) {
         this.backfillOnStartup = backfillOnStartup;
     }
-}
 
+    public Cache getCache() {
+        return cache;
+    }
+
+    public static class Cache {
+
+        private boolean enabled = true;
+        private String directory = System.getProperty("java.io.tmpdir") + "/mlsuite/artifact-cache";
+        private DataSize memoryMaxSize = DataSize.ofMegabytes(256);
+        private DataSize memoryMaxEntrySize = DataSize.ofMegabytes(128);
+        private DataSize diskMaxSize = DataSize.ofGigabytes(4);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public DataSize getMemoryMaxSize() {
+            return memoryMaxSize;
+        }
+
+        public void setMemoryMaxSize(DataSize memoryMaxSize) {
+            this.memoryMaxSize = memoryMaxSize;
+        }
+
+        public DataSize getMemoryMaxEntrySize() {
+            return memoryMaxEntrySize;
+        }
+
+        public void setMemoryMaxEntrySize(DataSize memoryMaxEntrySize) {
+            this.memoryMaxEntrySize = memoryMaxEntrySize;
+        }
+
+        public DataSize getDiskMaxSize() {
+            return diskMaxSize;
+        }
+
+        public void setDiskMaxSize(DataSize diskMaxSize) {
+            this.diskMaxSize = diskMaxSize;
+        }
+    }
+}
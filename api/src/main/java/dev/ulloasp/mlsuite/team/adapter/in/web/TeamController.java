@@ -10,10 +10,12 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import dev.ulloasp.mlsuite.team.application.dto.CreateTeamRequest;
 import dev.ulloasp.mlsuite.team.application.dto.TeamDetailDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamDto;
+import dev.ulloasp.mlsuite.team.application.dto.TeamMemberPageDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamMembershipDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamMembershipRowDto;
 import dev.ulloasp.mlsuite.team.application.dto.UpdateTeamMembershipRoleRequest;
@@ -46,6 +48,13 @@ public interface TeamController {
     @GetMapping("/api/teams/{teamId}/members")
     ResponseEntity<List<TeamMembershipRowDto>> listMembers(Authentication authentication, @PathVariable Long teamId);
 
+    @GetMapping("/api/teams/{teamId}/members/page")
+    ResponseEntity<TeamMemberPageDto> getMemberPage(
+            Authentication authentication,
+            @PathVariable Long teamId,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "50") int size);
+
     @PatchMapping("/api/teams/{teamId}/members/{membershipId}")
     ResponseEntity<TeamMembershipDto> updateMemberRole(
             Authentication authentication,
@@ -11,6 +11,7 @@ import dev.ulloasp.mlsuite.security.identity.CurrentUserResolver;
 import dev.ulloasp.mlsuite.team.application.dto.CreateTeamRequest;
 import dev.ulloasp.mlsuite.team.application.dto.TeamDetailDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamDto;
+import dev.ulloasp.mlsuite.team.application.dto.TeamMemberPageDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamMembershipDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamMembershipRowDto;
 import dev.ulloasp.mlsuite.team.application.dto.UpdateTeamMembershipRoleRequest;
@@ -63,6 +64,12 @@ public class TeamControllerImpl implements TeamController {
         return ResponseEntity.ok(teamManagementUseCase.listMembers(currentUserResolver.resolve(authentication).userId(), teamId));
     }
 
+    @Override
+    public ResponseEntity<TeamMemberPageDto> getMemberPage(Authentication authentication, Long teamId, int page, int size) {
+        return ResponseEntity.ok(teamManagementUseCase.getMemberPage(
+                currentUserResolver.resolve(authentication).userId(), teamId, page, size));
+    }
+
     @Override
     public ResponseEntity<TeamMembershipDto> updateMemberRole(
             Authentication authentication,
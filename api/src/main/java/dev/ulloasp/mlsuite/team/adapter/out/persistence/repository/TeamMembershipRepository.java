@@ -3,6 +3,9 @@ package dev.ulloasp.mlsuite.team.adapter.out.persistence.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,8 +15,12 @@ import dev.ulloasp.mlsuite.team.domain.model.TeamMembership;
 @Repository
 public interface TeamMembershipRepository extends JpaRepository<TeamMembership, Long> {
 
+    @EntityGraph(attributePaths = { "team", "user", "user.currentOrganization", "roleDefinition" })
     List<TeamMembership> findByTeamIdAndStatusOrderByCreatedAtAsc(Long teamId, MembershipStatus status);
 
+    @EntityGraph(attributePaths = { "team", "user", "user.currentOrganization", "roleDefinition" })
+    Page<TeamMembership> findPageByTeamIdAndStatus(Long teamId, MembershipStatus status, Pageable pageable);
+
     Optional<TeamMembership> findByTeamIdAndUserId(Long teamId, Long userId);
 
     long countByTeamIdAndStatus(Long teamId, MembershipStatus status);
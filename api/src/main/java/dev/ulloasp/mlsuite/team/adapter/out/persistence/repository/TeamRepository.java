@@ -26,6 +26,18 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
             """)
     List<Team> searchByOrganizationId(Long organizationId, String search, Pageable pageable);
 
+    /** Teams by name with their active member and model counts, computed in the same query. */
+    @Query("""
+            SELECT new dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamWithCounts(
+                t,
+                (SELECT count(tm) FROM TeamMembership tm WHERE tm.team.id = t.id AND tm.status = 'ACTIVE'),
+                (SELECT count(m) FROM Model m WHERE m.team.id = t.id))
+            FROM Team t
+            WHERE t.organization.id = :organizationId
+            ORDER BY t.name ASC
+            """)
+    List<TeamWithCounts> findWithCountsByOrganizationId(Long organizationId, Pageable pageable);
+
     boolean existsByOrganizationIdAndSlug(Long organizationId, String slug);
 
     long countByOrganizationId(Long organizationId);
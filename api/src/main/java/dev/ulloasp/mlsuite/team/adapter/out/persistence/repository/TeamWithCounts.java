@@ -0,0 +1,6 @@
+package dev.ulloasp.mlsuite.team.adapter.out.persistence.repository;
+
+import dev.ulloasp.mlsuite.team.domain.model.Team;
+
+public record TeamWithCounts(Team team, long memberCount, long modelCount) {
+}
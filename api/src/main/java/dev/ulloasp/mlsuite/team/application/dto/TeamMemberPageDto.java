@@ -0,0 +1,11 @@
+package dev.ulloasp.mlsuite.team.application.dto;
+
+import java.util.List;
+
+public record TeamMemberPageDto(
+        List<TeamMembershipRowDto> items,
+        int page,
+        int size,
+        long totalItems,
+        boolean hasNext) {
+}
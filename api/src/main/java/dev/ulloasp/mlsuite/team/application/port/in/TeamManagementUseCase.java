@@ -5,6 +5,7 @@ import java.util.List;
 import dev.ulloasp.mlsuite.team.application.dto.CreateTeamRequest;
 import dev.ulloasp.mlsuite.team.application.dto.TeamDetailDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamDto;
+import dev.ulloasp.mlsuite.team.application.dto.TeamMemberPageDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamMembershipDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamMembershipRowDto;
 import dev.ulloasp.mlsuite.team.application.dto.UpdateTeamMembershipRoleRequest;
@@ -24,6 +25,8 @@ public interface TeamManagementUseCase {
 
     List<TeamMembershipRowDto> listMembers(Long userId, Long teamId);
 
+    TeamMemberPageDto getMemberPage(Long userId, Long teamId, int page, int size);
+
     TeamMembershipDto updateMemberRole(Long userId, Long teamId, Long membershipId, UpdateTeamMembershipRoleRequest request);
 
     void removeMember(Long userId, Long teamId, Long membershipId);
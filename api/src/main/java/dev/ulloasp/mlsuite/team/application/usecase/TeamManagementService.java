@@ -2,9 +2,14 @@ package dev.ulloasp.mlsuite.team.application.usecase;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import dev.ulloasp.mlsuite.organization.application.event.OrganizationStatsChangedEvent;
 import dev.ulloasp.mlsuite.organization.domain.model.MembershipStatus;
 import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationMembershipRepository;
@@ -16,6 +21,7 @@ import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamRepositor
 import dev.ulloasp.mlsuite.team.application.dto.CreateTeamRequest;
 import dev.ulloasp.mlsuite.team.application.dto.TeamDetailDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamDto;
+import dev.ulloasp.mlsuite.team.application.dto.TeamMemberPageDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamMembershipDto;
 import dev.ulloasp.mlsuite.team.application.dto.TeamMembershipRowDto;
 import dev.ulloasp.mlsuite.team.application.dto.UpdateTeamMembershipRoleRequest;
@@ -25,6 +31,7 @@ import dev.ulloasp.mlsuite.team.domain.model.Team;
 import dev.ulloasp.mlsuite.team.domain.model.TeamMembership;
 import dev.ulloasp.mlsuite.team.domain.model.TeamRole;
 import dev.ulloasp.mlsuite.team.domain.model.TeamStatus;
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
 
@@ -40,6 +47,7 @@ public class TeamManagementService implements TeamManagementUseCase {
     private final ModelRepository modelRepository;
     private final RoleSeedService roleSeedService;
     private final RoleDefinitionRepository roleDefinitionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TeamManagementService(
             WorkspaceAccessService workspaceAccessService,
@@ -49,7 +57,8 @@ public class TeamManagementService implements TeamManagementUseCase {
             OrganizationMembershipRepository organizationMembershipRepository,
             ModelRepository modelRepository,
             RoleSeedService roleSeedService,
-            RoleDefinitionRepository roleDefinitionRepository) {
+            RoleDefinitionRepository roleDefinitionRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.workspaceAccessService = workspaceAccessService;
         this.workspaceAuthorizationService = workspaceAuthorizationService;
         this.teamRepository = teamRepository;
@@ -58,6 +67,7 @@ public class TeamManagementService implements TeamManagementUseCase {
         this.modelRepository = modelRepository;
         this.roleSeedService = roleSeedService;
         this.roleDefinitionRepository = roleDefinitionRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -84,6 +94,7 @@ public class TeamManagementService implements TeamManagementUseCase {
         applyTeamAdminFields(team, organizationId, request.leadMembershipId(), request.monthlyInferenceQuota(), null);
         Team saved = teamRepository.save(team);
         roleSeedService.ensureTeamRoles(saved);
+        eventPublisher.publishEvent(new OrganizationStatsChangedEvent(organizationId));
         return toTeamDto(saved);
     }
 
@@ -91,7 +102,6 @@ public class TeamManagementService implements TeamManagementUseCase {
     public TeamDetailDto getTeam(Long userId, Long teamId) {
         Team team = workspaceAccessService.requireTeamInAccessibleOrganization(userId, teamId);
         workspaceAuthorizationService.requireTeamView(userId, team);
-        roleSeedService.ensureTeamRoles(team);
         return TeamDetailDto.from(
                 team,
                 workspaceAuthorizationService.currentTeamRole(userId, teamId).map(Enum::name).orElse(null),
@@ -112,6 +122,7 @@ public class TeamManagementService implements TeamManagementUseCase {
                 request.leadMembershipId(),
                 request.monthlyInferenceQuota(),
                 request.status());
+        eventPublisher.publishEvent(new OrganizationStatsChangedEvent(team.getOrganization().getId()));
         return toTeamDto(teamRepository.save(team));
     }
 
@@ -120,21 +131,38 @@ public class TeamManagementService implements TeamManagementUseCase {
         Team team = workspaceAccessService.requireTeamInAccessibleOrganization(userId, teamId);
         workspaceAuthorizationService.requireTeamDelete(userId, team);
         teamRepository.delete(team);
+        eventPublisher.publishEvent(new OrganizationStatsChangedEvent(team.getOrganization().getId()));
     }
 
     @Override
     public List<TeamMembershipRowDto> listMembers(Long userId, Long teamId) {
         Team team = workspaceAccessService.requireTeamInAccessibleOrganization(userId, teamId);
         workspaceAuthorizationService.requireTeamView(userId, team);
-        roleSeedService.ensureTeamRoles(team);
+        var actions = workspaceAuthorizationService.teamMemberActions(userId, team);
         return teamMembershipRepository.findByTeamIdAndStatusOrderByCreatedAtAsc(team.getId(), MembershipStatus.ACTIVE)
                 .stream()
-                .map(membership -> TeamMembershipRowDto.from(
-                        membership,
-                        workspaceAuthorizationService.teamMemberActions(userId, team, membership)))
+                .map(membership -> TeamMembershipRowDto.from(membership, actions.apply(membership)))
                 .toList();
     }
 
+    @Override
+    public TeamMemberPageDto getMemberPage(Long userId, Long teamId, int page, int size) {
+        Team team = workspaceAccessService.requireTeamInAccessibleOrganization(userId, teamId);
+        workspaceAuthorizationService.requireTeamView(userId, team);
+        var actions = workspaceAuthorizationService.teamMemberActions(userId, team);
+        Page<TeamMembership> members = teamMembershipRepository.findPageByTeamIdAndStatus(
+                team.getId(),
+                MembershipStatus.ACTIVE,
+                PageRequest.of(Math.max(page, 0), normalizePageSize(size), Sort.by("createdAt", "id")));
+        return new TeamMemberPageDto(
+                members.map(membership -> TeamMembershipRowDto.from(membership, actions.apply(membership)))
+                        .getContent(),
+                members.getNumber(),
+                members.getSize(),
+                members.getTotalElements(),
+                members.hasNext());
+    }
+
     @Override
     public TeamMembershipDto updateMemberRole(Long userId, Long teamId, Long membershipId, UpdateTeamMembershipRoleRequest request) {
         Team team = workspaceAccessService.requireTeamInAccessibleOrganization(userId, teamId);
@@ -156,6 +184,7 @@ public class TeamManagementService implements TeamManagementUseCase {
         if (nextRole.getSystemKey() != null) {
             membership.setRole(TeamRole.valueOf(nextRole.getSystemKey()));
         }
+        eventPublisher.publishEvent(PermissionsChangedEvent.member(team.getOrganization().getId(), membership.getUser().getId()));
         return TeamMembershipDto.from(teamMembershipRepository.save(membership));
     }
 
@@ -173,6 +202,14 @@ public class TeamManagementService implements TeamManagementUseCase {
         }
         membership.setStatus(MembershipStatus.REMOVED);
         teamMembershipRepository.save(membership);
+        eventPublisher.publishEvent(PermissionsChangedEvent.member(team.getOrganization().getId(), membership.getUser().getId()));
+    }
+
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return 50;
+        }
+        return Math.min(size, 200);
     }
 
     private String normalizeSlug(String rawSlug, String rawName) {
@@ -5,10 +5,14 @@ Copyright (c) 2025 Pablo Ulloa Santin
 
 package dev.ulloasp.mlsuite.user.adapter.out.persistence.repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -40,4 +44,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findEnabledUsersOutsideOrganization(
             @Param("organizationId") Long organizationId,
             @Param("status") MembershipStatus status);
+
+    @Query("""
+            SELECT u.id FROM User u
+            WHERE u.modelsMigratedAt IS NULL
+            AND u.currentOrganization IS NOT NULL
+            AND u.id > :afterId
+            ORDER BY u.id ASC
+            """)
+    List<Long> findIdsPendingModelMigration(@Param("afterId") Long afterId, Pageable pageable);
+
+    long countByModelsMigratedAtIsNullAndCurrentOrganizationIsNotNull();
+
+    @Modifying
+    @Query("UPDATE User u SET u.modelsMigratedAt = :migratedAt WHERE u.id IN :ids")
+    int markModelsMigrated(@Param("ids") Collection<Long> ids, @Param("migratedAt") OffsetDateTime migratedAt);
 }
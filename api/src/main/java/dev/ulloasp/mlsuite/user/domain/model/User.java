@@ -76,6 +76,10 @@ public class User {
     @JoinColumn(name = "current_organization_id")
     private Organization currentOrganization;
 
+    /** Set once this user's models from before organizations existed have been moved into one. */
+    @Column(name = "models_migrated_at", columnDefinition = "TIMESTAMPTZ")
+    private OffsetDateTime modelsMigratedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
     private OffsetDateTime createdAt;
@@ -0,0 +1,67 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+package dev.ulloasp.mlsuite.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the expression indexes behind the case-insensitive name sort of the catalogs. JPA can only declare plain
+ * column indexes, so without these a {@link KeysetCursor} page by name would sort every row of the organization.
+ */
+@Component
+public class CatalogIndexInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogIndexInitializer.class);
+
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_model_org_name ON model (organization_id, lower(name), id)",
+            "CREATE INDEX IF NOT EXISTS idx_schema_artifact_org_name ON schema_artifact (organization_id, lower(name), id)",
+            "CREATE INDEX IF NOT EXISTS idx_plugin_metadata_org_name "
+                    + "ON plugin_metadata (organization_id, lower(coalesce(kind, file_name)), id)");
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogIndexInitializer(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!isPostgres()) {
+            return;
+        }
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException ex) {
+                log.warn("Could not create catalog index: {}", statement, ex);
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgresql");
+        } catch (SQLException ex) {
+            log.warn("Could not detect database product for catalog indexes.", ex);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+package dev.ulloasp.mlsuite.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque position of a keyset page: the sort mode it was issued for, and the sort key and id of the last row
+ * returned. The next page starts strictly after that row, so its cost does not grow with how deep the client has
+ * scrolled.
+ */
+public record KeysetCursor(String sort, String key, String id) {
+
+    private static final String SEPARATOR = "\n";
+
+    public static KeysetCursor after(String sort, Object key, Object id) {
+        return new KeysetCursor(sort, String.valueOf(key), String.valueOf(id));
+    }
+
+    /** The decoded cursor, or {@code null} when the client asked for the first page. */
+    public static KeysetCursor decode(String token, String expectedSort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, 3);
+            if (parts.length == 3 && parts[0].equals(expectedSort)) {
+                return new KeysetCursor(parts[0], parts[2], parts[1]);
+            }
+        } catch (IllegalArgumentException ex) {
+            // Falls through to the generic message below.
+        }
+        throw new IllegalArgumentException("Invalid page cursor.");
+    }
+
+    public String encode() {
+        // The key goes last because it is the only part that may contain the separator.
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((sort + SEPARATOR + id + SEPARATOR + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public OffsetDateTime timestampKey() {
+        try {
+            return OffsetDateTime.parse(key);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid page cursor.", ex);
+        }
+    }
+
+    public Long longId() {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid page cursor.", ex);
+        }
+    }
+}
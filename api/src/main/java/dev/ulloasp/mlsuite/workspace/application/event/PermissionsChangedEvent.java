@@ -0,0 +1,26 @@
+package dev.ulloasp.mlsuite.workspace.application.event;
+
+/**
+ * Published whenever a change can alter what someone is allowed to do: membership role or status changes, role
+ * permission edits, system role changes. A null field means "any", so {@code organization(41)} covers every user of
+ * organization 41 and {@code user(7)} covers user 7 in every organization.
+ */
+public record PermissionsChangedEvent(Long organizationId, Long userId) {
+
+    public static PermissionsChangedEvent member(Long organizationId, Long userId) {
+        return new PermissionsChangedEvent(organizationId, userId);
+    }
+
+    public static PermissionsChangedEvent organization(Long organizationId) {
+        return new PermissionsChangedEvent(organizationId, null);
+    }
+
+    public static PermissionsChangedEvent user(Long userId) {
+        return new PermissionsChangedEvent(null, userId);
+    }
+
+    public boolean covers(Long organizationId, Long userId) {
+        return (this.organizationId == null || this.organizationId.equals(organizationId))
+                && (this.userId == null || this.userId.equals(userId));
+    }
+}
@@ -0,0 +1,130 @@
+package dev.ulloasp.mlsuite.workspace.application.service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
+import dev.ulloasp.mlsuite.search.application.event.SearchIndexChangedEvent;
+import dev.ulloasp.mlsuite.search.application.service.SearchDocuments;
+import dev.ulloasp.mlsuite.user.adapter.out.persistence.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * One-off background migration that moves models created before organizations existed into their owner's current
+ * organization. Users are processed in id order, one chunk per transaction, and each chunk stamps
+ * {@code User.modelsMigratedAt}, so an interrupted run resumes where it stopped and finished users are never
+ * revisited. Progress is logged per chunk and exposed as {@code mlsuite.workspace.model-migration.*} meters. The
+ * moved models are reindexed for search once their chunk commits, since the bulk update bypasses the index listener.
+ */
+@Component
+public class ModelOwnershipMigration implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ModelOwnershipMigration.class);
+
+    private final UserRepository userRepository;
+    private final ModelRepository modelRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final AtomicLong remaining = new AtomicLong();
+    private final Counter migratedUsers;
+    private final Counter migratedModels;
+    private volatile boolean running;
+    private volatile boolean stopRequested;
+    private Thread thread;
+
+    public ModelOwnershipMigration(UserRepository userRepository, ModelRepository modelRepository,
+            TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${mlsuite.workspace.model-migration.enabled:true}") boolean enabled,
+            @Value("${mlsuite.workspace.model-migration.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.modelRepository = modelRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.migratedUsers = Counter.builder("mlsuite.workspace.model-migration.users").register(meterRegistry);
+        this.migratedModels = Counter.builder("mlsuite.workspace.model-migration.models").register(meterRegistry);
+        Gauge.builder("mlsuite.workspace.model-migration.remaining", remaining, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (enabled) {
+            thread = Thread.ofVirtual().name("model-ownership-migration").start(this::migrate);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopRequested = true;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void migrate() {
+        try {
+            long pending = userRepository.countByModelsMigratedAtIsNullAndCurrentOrganizationIsNotNull();
+            remaining.set(pending);
+            if (pending == 0) {
+                return;
+            }
+            log.info("Migrating model ownership for {} users in chunks of {}", pending, chunkSize);
+            long afterId = 0;
+            long users = 0;
+            long models = 0;
+            while (!stopRequested) {
+                List<Long> ids = userRepository.findIdsPendingModelMigration(afterId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                int moved = transactionTemplate.execute(status -> {
+                    List<Long> modelIds = modelRepository.findUnownedModelIdsByUserIdIn(ids);
+                    int updated = modelRepository.assignUnownedModelsToCurrentOrganization(ids);
+                    modelIds.forEach(id -> eventPublisher.publishEvent(
+                            new SearchIndexChangedEvent(SearchDocuments.MODEL, String.valueOf(id), false)));
+                    userRepository.markModelsMigrated(ids, OffsetDateTime.now());
+                    return updated;
+                });
+                afterId = ids.getLast();
+                users += ids.size();
+                models += moved;
+                migratedUsers.increment(ids.size());
+                migratedModels.increment(moved);
+                remaining.set(Math.max(pending - users, 0));
+                log.info("Model ownership migration: {}/{} users, {} models moved", users, pending, models);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Model ownership migration stopped; it resumes on the next start", ex);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package dev.ulloasp.mlsuite.workspace.application.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Effective permission masks ({@code PermissionBits}) per (user, organization) and (user, team). Answers are memoized
+ * for the current HTTP request and kept across requests in a bounded LRU with a TTL; {@link PermissionsChangedEvent}s
+ * evict the affected entries once the change commits. Only granted lookups are cached: a denial is recomputed every
+ * time, so a fresh membership takes effect without waiting for an event.
+ */
+@Component
+public class PermissionCache {
+
+    private static final String REQUEST_ATTRIBUTE = PermissionCache.class.getName() + ".memo";
+
+    private final long ttlNanos;
+    private final Shared shared;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter requestHits;
+    private final Counter sharedHits;
+    private final Counter misses;
+
+    public PermissionCache(
+            MeterRegistry meterRegistry,
+            @Value("${mlsuite.permissions.cache.max-entries:10000}") int maxEntries,
+            @Value("${mlsuite.permissions.cache.ttl:5m}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.shared = new Shared(Math.max(maxEntries, 0));
+        this.requestHits = requests(meterRegistry, "hit", "request");
+        this.sharedHits = requests(meterRegistry, "hit", "shared");
+        this.misses = requests(meterRegistry, "miss", "none");
+        Gauge.builder("mlsuite.permissions.cache.entries", shared, Shared::size)
+                .register(meterRegistry);
+    }
+
+    public long organization(Long userId, Long organizationId, LongSupplier loader) {
+        return get(new Key(userId, organizationId, null), loader);
+    }
+
+    public long team(Long userId, Long organizationId, Long teamId, LongSupplier loader) {
+        return get(new Key(userId, organizationId, teamId), loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPermissionsChanged(PermissionsChangedEvent event) {
+        generation.incrementAndGet();
+        shared.evict(event);
+        Map<Key, Long> memo = requestMemo(false);
+        if (memo != null) {
+            memo.keySet().removeIf(key -> event.covers(key.organizationId(), key.userId()));
+        }
+    }
+
+    private long get(Key key, LongSupplier loader) {
+        Map<Key, Long> memo = requestMemo(true);
+        Long permissions = memo == null ? null : memo.get(key);
+        if (permissions != null) {
+            requestHits.increment();
+            return permissions;
+        }
+        permissions = shared.get(key, System.nanoTime());
+        if (permissions != null) {
+            sharedHits.increment();
+        } else {
+            misses.increment();
+            long seen = generation.get();
+            permissions = loader.getAsLong();
+            // A change that committed while we were loading may not be reflected in what we read.
+            if (generation.get() == seen) {
+                shared.put(key, permissions, System.nanoTime() + ttlNanos);
+            }
+        }
+        if (memo != null) {
+            memo.put(key, permissions);
+        }
+        return permissions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Key, Long> requestMemo(boolean create) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object memo = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null && create) {
+            memo = new HashMap<Key, Long>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<Key, Long>) memo;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result, String tier) {
+        return Counter.builder("mlsuite.permissions.cache.requests")
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    private record Key(Long userId, Long organizationId, Long teamId) {
+    }
+
+    /** Access-ordered LRU shared by all requests; expired entries are dropped on access. */
+    private static final class Shared {
+
+        private final int maxEntries;
+        private final LinkedHashMap<Key, Entry> entries;
+
+        private Shared(int maxEntries) {
+            this.maxEntries = maxEntries;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized Long get(Key key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now - entry.expiresAt >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.permissions;
+        }
+
+        synchronized void put(Key key, long permissions, long expiresAt) {
+            if (maxEntries > 0) {
+                entries.put(key, new Entry(permissions, expiresAt));
+            }
+        }
+
+        synchronized void evict(PermissionsChangedEvent event) {
+            entries.keySet().removeIf(key -> event.covers(key.organizationId(), key.userId()));
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        private record Entry(long permissions, long expiresAt) {
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package dev.ulloasp.mlsuite.workspace.application.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
+
+/**
+ * Version stamps for the user snapshot kept in the session principal (system role, current organization). Every
+ * {@link PermissionsChangedEvent} moves the stamp of the users it covers; a snapshot taken at an older stamp is
+ * stale and gets reloaded. Stamps move when the event is published, so the rest of the changing request already
+ * stops trusting the snapshot, and again once the change commits, so a reload that raced the commit is not kept.
+ * <p>
+ * Stamps live in this instance only, so a change handled by another instance never moves them. A snapshot is
+ * therefore also stale once it is older than the permission cache TTL, which bounds how long either instance keeps
+ * serving a revoked role.
+ */
+@Component
+public class UserContextVersions {
+
+    // Seeded from the clock so snapshots left in sessions by a previous run never match.
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+    private final Map<Long, Long> users = new ConcurrentHashMap<>();
+    private volatile long global = clock.get();
+    private final long maxAgeMillis;
+
+    public UserContextVersions(@Value("${mlsuite.permissions.cache.ttl:5m}") Duration maxAge) {
+        this.maxAgeMillis = maxAge.toMillis();
+    }
+
+    public long current(Long userId) {
+        Long stamp = users.get(userId);
+        return stamp == null ? global : Math.max(stamp, global);
+    }
+
+    /** Whether a snapshot taken at {@code version}, loaded at epoch millis {@code takenAt}, may still be trusted. */
+    public boolean isCurrent(Long userId, long version, long takenAt) {
+        return version == current(userId) && System.currentTimeMillis() - takenAt < maxAgeMillis;
+    }
+
+    @EventListener
+    public void onPermissionsChanging(PermissionsChangedEvent event) {
+        advance(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPermissionsChanged(PermissionsChangedEvent event) {
+        advance(event);
+    }
+
+    private void advance(PermissionsChangedEvent event) {
+        long stamp = clock.incrementAndGet();
+        if (event.userId() == null) {
+            global = stamp;
+            users.clear();
+        } else {
+            users.merge(event.userId(), stamp, Math::max);
+        }
+    }
+}
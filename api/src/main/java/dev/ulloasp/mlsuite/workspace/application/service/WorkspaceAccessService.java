@@ -1,5 +1,7 @@
 package dev.ulloasp.mlsuite.workspace.application.service;
 
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,6 +12,8 @@ import dev.ulloasp.mlsuite.organization.domain.exception.OrganizationNotFoundExc
 import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 import dev.ulloasp.mlsuite.organization.domain.model.OrganizationMembership;
 import dev.ulloasp.mlsuite.organization.domain.model.OrganizationRole;
+import dev.ulloasp.mlsuite.security.identity.CurrentUser;
+import dev.ulloasp.mlsuite.security.identity.CurrentUserResolver;
 import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamRepository;
 import dev.ulloasp.mlsuite.team.domain.exception.TeamNotFoundException;
 import dev.ulloasp.mlsuite.team.domain.model.Team;
@@ -17,6 +21,11 @@ import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
 import dev.ulloasp.mlsuite.user.domain.model.SystemRole;
 import dev.ulloasp.mlsuite.user.domain.model.User;
 
+/**
+ * Resolves the acting user, their current organization and their memberships. While the session principal's
+ * snapshot is current (see {@link UserContextVersions}), the current organization and system role are read from it
+ * and the {@code requireById} / {@code ensureCurrentOrganization} round trip is skipped.
+ */
 @Service
 @Transactional(readOnly = true)
 public class WorkspaceAccessService {
@@ -26,18 +35,24 @@ public class WorkspaceAccessService {
     private final OrganizationRepository organizationRepository;
     private final OrganizationMembershipRepository membershipRepository;
     private final TeamRepository teamRepository;
+    private final CurrentUserResolver currentUserResolver;
+    private final UserContextVersions userContextVersions;
 
     public WorkspaceAccessService(
             UserLookupService userLookupService,
             WorkspaceBootstrapService workspaceBootstrapService,
             OrganizationRepository organizationRepository,
             OrganizationMembershipRepository membershipRepository,
-            TeamRepository teamRepository) {
+            TeamRepository teamRepository,
+            CurrentUserResolver currentUserResolver,
+            UserContextVersions userContextVersions) {
         this.userLookupService = userLookupService;
         this.workspaceBootstrapService = workspaceBootstrapService;
         this.organizationRepository = organizationRepository;
         this.membershipRepository = membershipRepository;
         this.teamRepository = teamRepository;
+        this.currentUserResolver = currentUserResolver;
+        this.userContextVersions = userContextVersions;
     }
 
     public User requireUser(Long userId) {
@@ -47,6 +62,10 @@ public class WorkspaceAccessService {
     }
 
     public Organization requireCurrentOrganization(Long userId) {
+        Optional<CurrentUser> snapshot = snapshot(userId);
+        if (snapshot.isPresent()) {
+            return organizationRepository.getReferenceById(snapshot.get().currentOrganizationId());
+        }
         return workspaceBootstrapService.ensureCurrentOrganization(requireUser(userId));
     }
 
@@ -94,7 +113,19 @@ public class WorkspaceAccessService {
     }
 
     public boolean isSuperadmin(Long userId) {
-        return isSuperadmin(userLookupService.requireById(userId));
+        return snapshot(userId)
+                .map(CurrentUser::isSuperadmin)
+                .orElseGet(() -> isSuperadmin(userLookupService.requireById(userId)));
+    }
+
+    private Optional<CurrentUser> snapshot(Long userId) {
+        return currentUserResolver.current()
+                .filter(currentUser -> currentUser.userId().equals(userId) && isFresh(currentUser));
+    }
+
+    private boolean isFresh(CurrentUser currentUser) {
+        return currentUser.currentOrganizationId() != null
+                && userContextVersions.isCurrent(currentUser.userId(), currentUser.version(), currentUser.takenAt());
     }
 
     private boolean isSuperadmin(User user) {
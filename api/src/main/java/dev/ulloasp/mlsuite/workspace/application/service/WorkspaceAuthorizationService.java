@@ -2,7 +2,7 @@ package dev.ulloasp.mlsuite.workspace.application.service;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.Function;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,7 +14,7 @@ import dev.ulloasp.mlsuite.organization.domain.model.OrganizationRole;
 import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleDefinitionRepository;
 import dev.ulloasp.mlsuite.role.application.dto.RoleSummaryDto;
 import dev.ulloasp.mlsuite.role.application.service.LegacyRolePermissionMapper;
-import dev.ulloasp.mlsuite.role.application.service.RoleSeedService;
+import dev.ulloasp.mlsuite.role.domain.model.PermissionBits;
 import dev.ulloasp.mlsuite.role.domain.model.PermissionKey;
 import dev.ulloasp.mlsuite.role.domain.model.RoleDefinition;
 import dev.ulloasp.mlsuite.role.domain.model.RoleScope;
@@ -31,33 +31,32 @@ import dev.ulloasp.mlsuite.workspace.application.dto.WorkspacePermissionsDto;
 @Transactional
 public class WorkspaceAuthorizationService {
 
+    private static final MembershipActionsDto NO_ACTIONS = new MembershipActionsDto(false, false, List.of());
+
     private final WorkspaceAccessService workspaceAccessService;
     private final OrganizationMembershipRepository organizationMembershipRepository;
     private final TeamMembershipRepository teamMembershipRepository;
     private final RoleDefinitionRepository roleDefinitionRepository;
-    private final RoleSeedService roleSeedService;
     private final LegacyRolePermissionMapper legacyRolePermissionMapper;
+    private final PermissionCache permissionCache;
 
     public WorkspaceAuthorizationService(
             WorkspaceAccessService workspaceAccessService,
             OrganizationMembershipRepository organizationMembershipRepository,
             TeamMembershipRepository teamMembershipRepository,
             RoleDefinitionRepository roleDefinitionRepository,
-            RoleSeedService roleSeedService,
-            LegacyRolePermissionMapper legacyRolePermissionMapper) {
+            LegacyRolePermissionMapper legacyRolePermissionMapper,
+            PermissionCache permissionCache) {
         this.workspaceAccessService = workspaceAccessService;
         this.organizationMembershipRepository = organizationMembershipRepository;
         this.teamMembershipRepository = teamMembershipRepository;
         this.roleDefinitionRepository = roleDefinitionRepository;
-        this.roleSeedService = roleSeedService;
         this.legacyRolePermissionMapper = legacyRolePermissionMapper;
+        this.permissionCache = permissionCache;
     }
 
     public WorkspacePermissionsDto workspacePermissions(Long userId, Long organizationId) {
-        if (workspaceAccessService.isSuperadmin(userId)) {
-            return new WorkspacePermissionsDto(true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true, true);
-        }
-        Set<PermissionKey> permissions = effectiveOrganizationPermissions(userId, organizationId);
+        long permissions = effectiveOrganizationPermissions(userId, organizationId);
         return new WorkspacePermissionsDto(
                 has(permissions, PermissionKey.VIEW_WORKSPACE),
                 has(permissions, PermissionKey.VIEW_ORGANIZATION),
@@ -85,17 +84,22 @@ public class WorkspaceAuthorizationService {
                 has(permissions, PermissionKey.MANAGE_PLUGINS));
     }
 
-    public Set<PermissionKey> effectiveOrganizationPermissions(Long userId, Long organizationId) {
+    /** {@link PermissionBits} mask of what the user may do in the organization. */
+    public long effectiveOrganizationPermissions(Long userId, Long organizationId) {
+        return permissionCache.organization(userId, organizationId,
+                () -> loadOrganizationPermissions(userId, organizationId));
+    }
+
+    private long loadOrganizationPermissions(Long userId, Long organizationId) {
         if (workspaceAccessService.isSuperadmin(userId)) {
-            return legacyRolePermissionMapper.all();
+            return PermissionBits.ALL;
         }
         User user = workspaceAccessService.requireUser(userId);
         OrganizationMembership membership = requireOrganizationMembership(user, organizationId);
-        roleSeedService.ensureOrganizationRoles(membership.getOrganization());
         if (membership.getRoleDefinition() != null) {
-            return membership.getRoleDefinition().getPermissions();
+            return membership.getRoleDefinition().getPermissionBits();
         }
-        return legacyRolePermissionMapper.organization(membership.getRole());
+        return legacyRolePermissionMapper.organizationBits(membership.getRole());
     }
 
     public TeamPermissionsDto teamPermissions(Long userId, Team team) {
@@ -106,7 +110,7 @@ public class WorkspaceAuthorizationService {
         if (workspace.canEditTeams()) {
             return new TeamPermissionsDto(true, true, false, true, true, true);
         }
-        Set<PermissionKey> permissions = effectiveTeamPermissions(userId, team);
+        long permissions = effectiveTeamPermissions(userId, team);
         if (has(permissions, PermissionKey.EDIT_TEAMS) && has(permissions, PermissionKey.MANAGE_MEMBER_ROLES)) {
             return new TeamPermissionsDto(true, true, false, true, true, true);
         }
@@ -116,18 +120,22 @@ public class WorkspaceAuthorizationService {
         throw new OrganizationAccessDeniedException(team.getOrganization().getId());
     }
 
-    public Set<PermissionKey> effectiveTeamPermissions(Long userId, Team team) {
+    public long effectiveTeamPermissions(Long userId, Team team) {
+        return permissionCache.team(userId, team.getOrganization().getId(), team.getId(),
+                () -> loadTeamPermissions(userId, team));
+    }
+
+    private long loadTeamPermissions(Long userId, Team team) {
         if (workspaceAccessService.isSuperadmin(userId)) {
-            return legacyRolePermissionMapper.all();
+            return PermissionBits.ALL;
         }
-        roleSeedService.ensureTeamRoles(team);
         TeamMembership membership = teamMembershipRepository.findByTeamIdAndUserId(team.getId(), userId)
                 .filter(candidate -> candidate.getStatus() == dev.ulloasp.mlsuite.organization.domain.model.MembershipStatus.ACTIVE)
                 .orElseThrow(() -> new OrganizationAccessDeniedException(team.getOrganization().getId()));
         if (membership.getRoleDefinition() != null) {
-            return membership.getRoleDefinition().getPermissions();
+            return membership.getRoleDefinition().getPermissionBits();
         }
-        return legacyRolePermissionMapper.team(membership.getRole());
+        return legacyRolePermissionMapper.teamBits(membership.getRole());
     }
 
     public Optional<TeamRole> currentTeamRole(Long userId, Long teamId) {
@@ -228,34 +236,43 @@ public class WorkspaceAuthorizationService {
     }
 
     public MembershipActionsDto organizationMemberActions(Long actorUserId, Long organizationId, OrganizationMembership target) {
+        return organizationMemberActions(actorUserId, organizationId).apply(target);
+    }
+
+    /**
+     * Actions the actor may take on memberships of the organization. The actor's permissions and the assignable roles
+     * are resolved once, so a whole listing is evaluated in memory.
+     */
+    public Function<OrganizationMembership, MembershipActionsDto> organizationMemberActions(Long actorUserId, Long organizationId) {
         WorkspacePermissionsDto workspace = workspacePermissions(actorUserId, organizationId);
-        if (!workspace.canViewMembers() || actorUserId.equals(target.getUser().getId()) || isOwner(target)) {
-            return new MembershipActionsDto(false, false, List.of());
-        }
-        if (!workspace.canManageMemberRoles()) {
-            return new MembershipActionsDto(false, false, List.of());
+        if (!workspace.canViewMembers() || !workspace.canManageMemberRoles()) {
+            return target -> NO_ACTIONS;
         }
-        var roles = roleDefinitionRepository.findByOrganizationIdAndScopeOrderByLockedDescNameAsc(organizationId, RoleScope.ORGANIZATION)
-                .stream()
-                .filter(role -> !OrganizationRole.OWNER.name().equals(role.getSystemKey()))
-                .map(RoleSummaryDto::from)
-                .toList();
-        return new MembershipActionsDto(true, workspace.canRemoveMembers(), roles);
+        var allowed = new MembershipActionsDto(true, workspace.canRemoveMembers(),
+                roleDefinitionRepository.findByOrganizationIdAndScopeOrderByLockedDescNameAsc(organizationId, RoleScope.ORGANIZATION)
+                        .stream()
+                        .filter(role -> !OrganizationRole.OWNER.name().equals(role.getSystemKey()))
+                        .map(RoleSummaryDto::from)
+                        .toList());
+        return target -> actorUserId.equals(target.getUser().getId()) || isOwner(target) ? NO_ACTIONS : allowed;
     }
 
     public MembershipActionsDto teamMemberActions(Long actorUserId, Team team, TeamMembership target) {
+        return teamMemberActions(actorUserId, team).apply(target);
+    }
+
+    /** Team counterpart of {@link #organizationMemberActions(Long, Long)}. */
+    public Function<TeamMembership, MembershipActionsDto> teamMemberActions(Long actorUserId, Team team) {
         TeamPermissionsDto permissions = teamPermissions(actorUserId, team);
-        if (actorUserId.equals(target.getUser().getId()) || !permissions.canViewTeamMembers()) {
-            return new MembershipActionsDto(false, false, List.of());
-        }
-        if (!permissions.canManageTeamMemberRoles()) {
-            return new MembershipActionsDto(false, false, List.of());
+        if (!permissions.canViewTeamMembers() || !permissions.canManageTeamMemberRoles()) {
+            return target -> NO_ACTIONS;
         }
-        var roles = roleDefinitionRepository.findByTeamIdAndScopeOrderByLockedDescNameAsc(team.getId(), RoleScope.TEAM)
-                .stream()
-                .map(RoleSummaryDto::from)
-                .toList();
-        return new MembershipActionsDto(true, permissions.canRemoveTeamMembers(), roles);
+        var allowed = new MembershipActionsDto(true, permissions.canRemoveTeamMembers(),
+                roleDefinitionRepository.findByTeamIdAndScopeOrderByLockedDescNameAsc(team.getId(), RoleScope.TEAM)
+                        .stream()
+                        .map(RoleSummaryDto::from)
+                        .toList());
+        return target -> actorUserId.equals(target.getUser().getId()) ? NO_ACTIONS : allowed;
     }
 
     public void requireOwnershipTransfer(Long userId, Long organizationId) {
@@ -270,8 +287,8 @@ public class WorkspaceAuthorizationService {
                 .orElseThrow(() -> new OrganizationAccessDeniedException(organizationId));
     }
 
-    private boolean has(Set<PermissionKey> permissions, PermissionKey key) {
-        return permissions.contains(key);
+    private boolean has(long permissions, PermissionKey key) {
+        return PermissionBits.has(permissions, key);
     }
 
     private String systemKey(RoleDefinition role) {
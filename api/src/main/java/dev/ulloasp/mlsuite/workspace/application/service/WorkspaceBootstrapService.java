@@ -1,12 +1,13 @@
 package dev.ulloasp.mlsuite.workspace.application.service;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
-import dev.ulloasp.mlsuite.model.domain.model.Model;
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationMembershipRepository;
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationRepository;
 import dev.ulloasp.mlsuite.organization.domain.model.MembershipStatus;
@@ -14,9 +15,16 @@ import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 import dev.ulloasp.mlsuite.organization.domain.model.OrganizationMembership;
 import dev.ulloasp.mlsuite.organization.domain.model.OrganizationRole;
 import dev.ulloasp.mlsuite.role.application.service.RoleSeedService;
+import dev.ulloasp.mlsuite.search.application.event.SearchIndexChangedEvent;
+import dev.ulloasp.mlsuite.search.application.service.SearchDocuments;
 import dev.ulloasp.mlsuite.user.adapter.out.persistence.repository.UserRepository;
 import dev.ulloasp.mlsuite.user.domain.model.User;
 
+/**
+ * Gives every user a current organization. Once that is set this is a field read on the already loaded user; the
+ * one-off work (picking or creating the organization, adopting models from before organizations existed) only runs
+ * the first time. Users who already had a current organization are migrated by {@link ModelOwnershipMigration}.
+ */
 @Service
 @Transactional
 public class WorkspaceBootstrapService {
@@ -26,23 +34,25 @@ public class WorkspaceBootstrapService {
     private final UserRepository userRepository;
     private final ModelRepository modelRepository;
     private final RoleSeedService roleSeedService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public WorkspaceBootstrapService(
             OrganizationRepository organizationRepository,
             OrganizationMembershipRepository membershipRepository,
             UserRepository userRepository,
             ModelRepository modelRepository,
-            RoleSeedService roleSeedService) {
+            RoleSeedService roleSeedService,
+            ApplicationEventPublisher eventPublisher) {
         this.organizationRepository = organizationRepository;
         this.membershipRepository = membershipRepository;
         this.userRepository = userRepository;
         this.modelRepository = modelRepository;
         this.roleSeedService = roleSeedService;
+        this.eventPublisher = eventPublisher;
     }
 
     public Organization ensureCurrentOrganization(User user) {
         if (user.getCurrentOrganization() != null) {
-            backfillModels(user, user.getCurrentOrganization());
             return user.getCurrentOrganization();
         }
 
@@ -50,8 +60,8 @@ public class WorkspaceBootstrapService {
         if (!memberships.isEmpty()) {
             Organization current = memberships.get(0).getOrganization();
             user.setCurrentOrganization(current);
-            userRepository.save(user);
             backfillModels(user, current);
+            userRepository.save(user);
             return current;
         }
 
@@ -63,21 +73,27 @@ public class WorkspaceBootstrapService {
                 user));
         roleSeedService.ensureOrganizationRoles(organization);
         roleSeedService.externalReviewerRole(organization);
-        membershipRepository.save(new OrganizationMembership(
+        OrganizationMembership membership = new OrganizationMembership(
                 organization,
                 user,
                 OrganizationRole.OWNER,
-                MembershipStatus.ACTIVE));
+                MembershipStatus.ACTIVE);
+        membership.setRoleDefinition(roleSeedService.orgRole(organization, OrganizationRole.OWNER));
+        membershipRepository.save(membership);
         user.setCurrentOrganization(organization);
-        userRepository.save(user);
         backfillModels(user, organization);
+        userRepository.save(user);
         return organization;
     }
 
     private void backfillModels(User user, Organization organization) {
-        for (Model model : modelRepository.findByUserIdAndOrganizationIdIsNull(user.getId())) {
-            model.setOrganization(organization);
-            modelRepository.save(model);
+        if (user.getModelsMigratedAt() == null) {
+            List<Long> modelIds = modelRepository.findUnownedModelIds(user.getId());
+            modelRepository.assignUnownedModels(user.getId(), organization);
+            // The bulk update bypasses the search index listener.
+            modelIds.forEach(id -> eventPublisher.publishEvent(
+                    new SearchIndexChangedEvent(SearchDocuments.MODEL, String.valueOf(id), false)));
+            user.setModelsMigratedAt(OffsetDateTime.now());
         }
     }
 
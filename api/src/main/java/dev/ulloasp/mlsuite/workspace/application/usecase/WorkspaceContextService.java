@@ -1,6 +1,7 @@
 package dev.ulloasp.mlsuite.workspace.application.usecase;
 
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +19,7 @@ import dev.ulloasp.mlsuite.user.adapter.out.persistence.repository.UserRepositor
 import dev.ulloasp.mlsuite.workspace.application.dto.SelectOrganizationRequest;
 import dev.ulloasp.mlsuite.workspace.application.dto.WorkspaceContextDto;
 import dev.ulloasp.mlsuite.workspace.application.dto.WorkspaceUserDto;
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
 import dev.ulloasp.mlsuite.workspace.application.port.in.WorkspaceContextUseCase;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
@@ -33,6 +35,7 @@ public class WorkspaceContextService implements WorkspaceContextUseCase {
     private final TeamRepository teamRepository;
     private final InvitationRepository invitationRepository;
     private final WorkspaceAuthorizationService workspaceAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public WorkspaceContextService(
             WorkspaceAccessService workspaceAccessService,
@@ -41,7 +44,8 @@ public class WorkspaceContextService implements WorkspaceContextUseCase {
             OrganizationMembershipRepository membershipRepository,
             TeamRepository teamRepository,
             InvitationRepository invitationRepository,
-            WorkspaceAuthorizationService workspaceAuthorizationService) {
+            WorkspaceAuthorizationService workspaceAuthorizationService,
+            ApplicationEventPublisher eventPublisher) {
         this.workspaceAccessService = workspaceAccessService;
         this.userRepository = userRepository;
         this.organizationRepository = organizationRepository;
@@ -49,6 +53,7 @@ public class WorkspaceContextService implements WorkspaceContextUseCase {
         this.teamRepository = teamRepository;
         this.invitationRepository = invitationRepository;
         this.workspaceAuthorizationService = workspaceAuthorizationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -93,6 +98,7 @@ public class WorkspaceContextService implements WorkspaceContextUseCase {
         var membership = workspaceAccessService.requireMembership(userId, request.organizationId());
         user.setCurrentOrganization(membership.getOrganization());
         userRepository.save(user);
+        eventPublisher.publishEvent(PermissionsChangedEvent.user(userId));
         return getContext(userId);
     }
 }
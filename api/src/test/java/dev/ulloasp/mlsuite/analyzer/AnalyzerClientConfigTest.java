@@ -0,0 +1,151 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AnalyzerClientConfigTest {
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private AnalyzerClientProperties properties;
+    private AnalyzerResilienceProperties resilienceProperties;
+    private volatile String lastRequestBody;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new AnalyzerClientProperties();
+        resilienceProperties = new AnalyzerResilienceProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void analyzerRestTemplate_StreamsMultipartBodiesOverPooledConnections() {
+        RestTemplate restTemplate = restTemplate();
+        LinkedMultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("model_file", new ByteArrayResource("model-bytes".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "model.joblib";
+            }
+        });
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+        restTemplate.postForObject(url("/metadata"), new HttpEntity<>(body, headers), Map.class);
+        Map<?, ?> response = restTemplate.postForObject(url("/metadata"), new HttpEntity<>(body, headers), Map.class);
+
+        assertEquals("ok", response.get("status"));
+        assertTrue(lastRequestBody.contains("model-bytes"));
+        assertEquals(1.0, meterRegistry.get("mlsuite.analyzer.client.connections").tag("state", "idle").gauge()
+                .value());
+    }
+
+    @Test
+    void analyzerRestTemplate_AppliesReadTimeoutPerEndpoint() {
+        properties.setReadTimeout(Duration.ofMillis(100));
+        properties.getEndpointReadTimeouts().put("explain", Duration.ofSeconds(5));
+        RestTemplate restTemplate = restTemplate();
+
+        assertThrows(ResourceAccessException.class,
+                () -> restTemplate.postForObject(url("/models/m1-abc/predict?delay=400"), "{}", Map.class));
+        Map<?, ?> response = restTemplate.postForObject(url("/models/m1-abc/explain?delay=400"), "{}", Map.class);
+
+        assertEquals("ok", response.get("status"));
+    }
+
+    @Test
+    void analyzerRestTemplate_ShedsOnlyTheFailingLaneOnceItsCircuitOpens() {
+        AnalyzerResilienceProperties.Lane predict = new AnalyzerResilienceProperties.Lane();
+        predict.setSlidingWindowSize(4);
+        predict.setMinimumCalls(4);
+        resilienceProperties.getLanes().put("predict", predict);
+        RestTemplate restTemplate = restTemplate();
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpServerErrorException.InternalServerError.class,
+                    () -> restTemplate.postForObject(url("/predict?status=500"), "{}", Map.class));
+        }
+        lastRequestBody = null;
+        HttpServerErrorException shed = assertThrows(HttpServerErrorException.ServiceUnavailable.class,
+                () -> restTemplate.postForObject(url("/predict"), "{}", Map.class));
+        Map<?, ?> schema = restTemplate.postForObject(url("/build_schema"), "{}", Map.class);
+
+        assertTrue(shed.getResponseBodyAsString().contains("circuit is open"));
+        assertEquals("30", shed.getResponseHeaders().getFirst("Retry-After"));
+        assertEquals("ok", schema.get("status"));
+        assertEquals("{}", lastRequestBody);
+        assertEquals(1.0, meterRegistry.get("mlsuite.analyzer.lane.rejected")
+                .tags("lane", "predict", "reason", "circuit_open").counter().count());
+    }
+
+    @Test
+    void endpointKey_ResolvesResidentModelRoutes() {
+        assertEquals("explain", OkHttpRequestFactory.endpointKey(URI.create("http://analyzer/explain")));
+        assertEquals("explain", OkHttpRequestFactory.endpointKey(URI.create("http://analyzer/models/m1-abc/explain")));
+        assertEquals("models", OkHttpRequestFactory.endpointKey(URI.create("http://analyzer/models/m1-abc")));
+        assertEquals("build_schema", OkHttpRequestFactory.endpointKey(URI.create("http://analyzer/build_schema/")));
+    }
+
+    private RestTemplate restTemplate() {
+        return new AnalyzerClientConfig().analyzerRestTemplate(new RestTemplateBuilder(), properties,
+                new AnalyzerResilience(resilienceProperties, meterRegistry), meterRegistry);
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        lastRequestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null && query.startsWith("delay=")) {
+            try {
+                Thread.sleep(Long.parseLong(query.substring("delay=".length())));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        int status = query != null && query.startsWith("status=")
+                ? Integer.parseInt(query.substring("status=".length()))
+                : 200;
+        byte[] response = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+}
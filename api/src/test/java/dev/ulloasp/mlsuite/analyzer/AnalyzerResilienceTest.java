@@ -0,0 +1,140 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AnalyzerResilienceTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void circuitBreaker_OpensOnFailureRateAndClosesAfterSuccessfulProbes() {
+        CircuitBreaker breaker = new CircuitBreaker(0.5, 4, 4, 1_000 * MS, 2);
+        long now = 0;
+        for (boolean success : new boolean[] { true, false, true, false }) {
+            breaker.record(breaker.tryAcquire(now), success, now);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state(now));
+        assertEquals(CircuitBreaker.Admission.REJECTED, breaker.tryAcquire(500 * MS));
+
+        now = 1_000 * MS;
+        CircuitBreaker.Admission first = breaker.tryAcquire(now);
+        CircuitBreaker.Admission second = breaker.tryAcquire(now);
+        assertEquals(CircuitBreaker.Admission.PROBE, first);
+        assertEquals(CircuitBreaker.Admission.REJECTED, breaker.tryAcquire(now));
+        breaker.record(first, true, now);
+        breaker.record(second, true, now);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state(now));
+        assertEquals(CircuitBreaker.Admission.ADMITTED, breaker.tryAcquire(now));
+    }
+
+    @Test
+    void circuitBreaker_ReopensWhenAProbeFails() {
+        CircuitBreaker breaker = new CircuitBreaker(0.5, 2, 2, 100 * MS, 1);
+        breaker.record(breaker.tryAcquire(0), false, 0);
+        breaker.record(breaker.tryAcquire(0), false, 0);
+
+        CircuitBreaker.Admission probe = breaker.tryAcquire(100 * MS);
+        breaker.record(probe, false, 150 * MS);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state(150 * MS));
+        assertEquals(CircuitBreaker.Admission.REJECTED, breaker.tryAcquire(200 * MS));
+    }
+
+    @Test
+    void limiter_GrowsWhileLatencyHoldsAndBacksOffWhenItQueues() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 8);
+        for (int i = 0; i < 6; i++) {
+            fill(limiter);
+            release(limiter, 10 * MS);
+        }
+        int grown = limiter.limit();
+
+        fill(limiter);
+        limiter.release(40 * MS, false);
+        limiter.release(40 * MS, false);
+
+        assertEquals(8, grown);
+        assertEquals(6, limiter.limit());
+    }
+
+    @Test
+    void limiter_CutsTheLimitMultiplicativelyOnFailures() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 8);
+
+        assertTrue(limiter.acquire(0));
+        limiter.release(10 * MS, true);
+
+        assertEquals(7, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void limiter_ShedsOnceTheBulkheadIsFull() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 2);
+
+        assertTrue(limiter.acquire(0));
+        assertTrue(limiter.acquire(0));
+        assertFalse(limiter.acquire(MS));
+        limiter.cancel();
+        assertTrue(limiter.acquire(0));
+    }
+
+    @Test
+    void lane_RejectsWithRetryAfterWhileOpenAndKeepsOtherLanesAvailable() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        AnalyzerResilienceProperties properties = new AnalyzerResilienceProperties();
+        AnalyzerResilienceProperties.Lane predict = new AnalyzerResilienceProperties.Lane();
+        predict.setSlidingWindowSize(2);
+        predict.setMinimumCalls(2);
+        predict.setOpenDuration(Duration.ofSeconds(10));
+        properties.getLanes().put("predict", predict);
+        AnalyzerResilience resilience = new AnalyzerResilience(properties, new SimpleMeterRegistry(), clock::get);
+
+        AnalyzerLane lane = resilience.laneFor("predict_batch");
+        lane.acquire().fail();
+        lane.acquire().complete(502);
+
+        AnalyzerLane.Rejected rejected = assertThrows(AnalyzerLane.Rejected.class, lane::acquire);
+        assertEquals(10, rejected.retryAfterSeconds());
+        resilience.laneFor("build_schema").acquire().complete(200);
+        assertEquals("open", resilience.lanes().stream()
+                .filter(state -> state.name().equals("predict"))
+                .findFirst()
+                .orElseThrow()
+                .circuit());
+    }
+
+    @Test
+    void laneFor_KeepsModelUploadsOutOfThePredictLane() {
+        AnalyzerResilience resilience = new AnalyzerResilience(new AnalyzerResilienceProperties(),
+                new SimpleMeterRegistry());
+
+        assertEquals("upload", resilience.laneFor("models").name());
+        assertEquals("predict", resilience.laneFor("predict").name());
+    }
+
+    private static void fill(AdaptiveConcurrencyLimiter limiter) {
+        while (limiter.acquire(0)) {
+            // take every slot the current limit allows
+        }
+    }
+
+    private static void release(AdaptiveConcurrencyLimiter limiter, long rtt) {
+        for (int inFlight = limiter.inFlight(); inFlight > 0; inFlight--) {
+            limiter.release(rtt, false);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package dev.ulloasp.mlsuite.analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import dev.ulloasp.mlsuite.model.domain.exception.AnalyzerServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PredictionCoalescerTest {
+
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger singleCalls = new AtomicInteger();
+    private PredictionCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.close();
+        }
+    }
+
+    @Test
+    void submit_SendsConcurrentRowsAsOneBatchAndSplitsResults() throws Exception {
+        coalescer = new PredictionCoalescer(true, Duration.ofSeconds(5), 4, new SimpleMeterRegistry());
+
+        List<Map<String, Object>> results = submitConcurrently("a", "b", "c", "d");
+
+        assertEquals(List.of("a", "b", "c", "d"), results.stream().map(r -> r.get("row")).toList());
+        assertEquals(1, batches.size());
+        assertEquals(0, singleCalls.get());
+    }
+
+    @Test
+    void submit_FlushesPartialBatchWhenWindowElapses() throws Exception {
+        coalescer = new PredictionCoalescer(true, Duration.ofMillis(20), 64, new SimpleMeterRegistry());
+
+        List<Map<String, Object>> results = submitConcurrently("a", "b");
+
+        assertEquals(2, results.size());
+        assertEquals(2, batches.stream().mapToInt(List::size).sum() + singleCalls.get());
+    }
+
+    @Test
+    void submit_RetriesRowsTheBatchCouldNotAnswer() {
+        coalescer = new PredictionCoalescer(true, Duration.ofSeconds(5), 2, new SimpleMeterRegistry());
+        PredictionCoalescer.BatchCall rejectSecond = payloads -> {
+            batches.add(payloads);
+            List<Map<String, Object>> results = new ArrayList<>();
+            results.add(Map.of("row", payloads.get(0)));
+            results.add(null);
+            return results;
+        };
+        PredictionCoalescer.SingleCall failing = payload -> {
+            singleCalls.incrementAndGet();
+            throw new AnalyzerServiceException(400, "/predict", "bad row", "", HttpHeaders.EMPTY);
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<String, Object>> first = executor.submit(
+                    () -> coalescer.submit("m1", "a", rejectSecond, failing));
+            Future<Map<String, Object>> second = executor.submit(
+                    () -> coalescer.submit("m1", "b", rejectSecond, failing));
+
+            Map<String, Object> answered = safeGet(first) != null ? safeGet(first) : safeGet(second);
+            assertEquals(Map.of("row", batches.getFirst().getFirst()), answered);
+            assertEquals(1, singleCalls.get());
+        }
+    }
+
+    @Test
+    void submit_FailsEveryRowWhenAnalyzerIsUnreachable() {
+        coalescer = new PredictionCoalescer(true, Duration.ofSeconds(5), 2, new SimpleMeterRegistry());
+        PredictionCoalescer.BatchCall unreachable = payloads -> {
+            throw new AnalyzerServiceException(0, "/predict_batch", "Analyzer service unreachable", "",
+                    HttpHeaders.EMPTY);
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<String, Object>> first = executor.submit(
+                    () -> coalescer.submit("m1", "a", unreachable, this::single));
+            Future<Map<String, Object>> second = executor.submit(
+                    () -> coalescer.submit("m1", "b", unreachable, this::single));
+
+            assertThrows(Exception.class, first::get);
+            assertThrows(Exception.class, second::get);
+            assertEquals(0, singleCalls.get());
+        }
+    }
+
+    @Test
+    void submit_FailsEveryRowWithoutRetryingWhenTheBatchIsShed() {
+        coalescer = new PredictionCoalescer(true, Duration.ofSeconds(5), 2, new SimpleMeterRegistry());
+        PredictionCoalescer.BatchCall shed = payloads -> {
+            throw new AnalyzerServiceException(503, "/predict_batch", "Analyzer lane predict is saturated", "",
+                    HttpHeaders.EMPTY);
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<String, Object>> first = executor.submit(
+                    () -> coalescer.submit("m1", "a", shed, this::single));
+            Future<Map<String, Object>> second = executor.submit(
+                    () -> coalescer.submit("m1", "b", shed, this::single));
+
+            assertThrows(Exception.class, first::get);
+            assertThrows(Exception.class, second::get);
+            assertEquals(0, singleCalls.get());
+        }
+    }
+
+    @Test
+    void submit_RetriesEveryRowAloneWhenTheBatchIsRejectedAsInvalid() throws Exception {
+        coalescer = new PredictionCoalescer(true, Duration.ofSeconds(5), 2, new SimpleMeterRegistry());
+        PredictionCoalescer.BatchCall invalid = payloads -> {
+            throw new AnalyzerServiceException(422, "/predict_batch", "invalid row", "", HttpHeaders.EMPTY);
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<String, Object>> first = executor.submit(
+                    () -> coalescer.submit("m1", "a", invalid, this::single));
+            Future<Map<String, Object>> second = executor.submit(
+                    () -> coalescer.submit("m1", "b", invalid, this::single));
+
+            assertEquals(Map.of("row", "a"), first.get());
+            assertEquals(Map.of("row", "b"), second.get());
+            assertEquals(2, singleCalls.get());
+        }
+    }
+
+    @Test
+    void submit_RetriesRowsAloneWhenOneRowBreaksInference() throws Exception {
+        coalescer = new PredictionCoalescer(true, Duration.ofSeconds(5), 3, new SimpleMeterRegistry());
+        PredictionCoalescer.BatchCall inferenceError = payloads -> {
+            batches.add(payloads);
+            throw new AnalyzerServiceException(500, "/predict_batch", "Error during inference", "",
+                    HttpHeaders.EMPTY);
+        };
+        PredictionCoalescer.SingleCall rejectBad = payload -> {
+            singleCalls.incrementAndGet();
+            if (payload.equals("bad")) {
+                throw new AnalyzerServiceException(500, "/predict", "Error during inference", "", HttpHeaders.EMPTY);
+            }
+            return Map.of("row", payload);
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<String, Object>> first = executor.submit(
+                    () -> coalescer.submit("m1", "a", inferenceError, rejectBad));
+            Future<Map<String, Object>> bad = executor.submit(
+                    () -> coalescer.submit("m1", "bad", inferenceError, rejectBad));
+            Future<Map<String, Object>> third = executor.submit(
+                    () -> coalescer.submit("m1", "c", inferenceError, rejectBad));
+
+            assertEquals(Map.of("row", "a"), first.get());
+            assertEquals(Map.of("row", "c"), third.get());
+            assertThrows(Exception.class, bad::get);
+            assertEquals(1, batches.size());
+            assertEquals(3, singleCalls.get());
+        }
+    }
+
+    @Test
+    void submit_FailsEveryRowWithoutRetryingOnABadGateway() {
+        coalescer = new PredictionCoalescer(true, Duration.ofSeconds(5), 2, new SimpleMeterRegistry());
+        PredictionCoalescer.BatchCall badGateway = payloads -> {
+            throw new AnalyzerServiceException(502, "/predict_batch", "Bad Gateway", "", HttpHeaders.EMPTY);
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<String, Object>> first = executor.submit(
+                    () -> coalescer.submit("m1", "a", badGateway, this::single));
+            Future<Map<String, Object>> second = executor.submit(
+                    () -> coalescer.submit("m1", "b", badGateway, this::single));
+
+            assertThrows(Exception.class, first::get);
+            assertThrows(Exception.class, second::get);
+            assertEquals(0, singleCalls.get());
+        }
+    }
+
+    @Test
+    void submit_CallsAnalyzerDirectlyWhenDisabled() {
+        coalescer = new PredictionCoalescer(false, Duration.ofMillis(5), 64, new SimpleMeterRegistry());
+
+        assertEquals(Map.of("row", "a"), coalescer.submit("m1", "a", this::batch, this::single));
+        assertEquals(1, singleCalls.get());
+        assertEquals(0, batches.size());
+    }
+
+    private List<Map<String, Object>> submitConcurrently(String... payloads) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Map<String, Object>>> futures = new ArrayList<>();
+            for (String payload : payloads) {
+                futures.add(executor.submit(() -> coalescer.submit("m1", payload, this::batch, this::single)));
+            }
+            List<Map<String, Object>> results = new ArrayList<>();
+            for (Future<Map<String, Object>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private List<Map<String, Object>> batch(List<String> payloads) {
+        batches.add(payloads);
+        return payloads.stream().<Map<String, Object>>map(payload -> Map.of("row", payload)).toList();
+    }
+
+    private Map<String, Object> single(String payload) {
+        singleCalls.incrementAndGet();
+        return Map.of("row", payload);
+    }
+
+    private Map<String, Object> safeGet(Future<Map<String, Object>> future) {
+        try {
+            return future.get();
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package dev.ulloasp.mlsuite.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import dev.ulloasp.mlsuite.audit.adapter.out.persistence.repository.AuditEventRepository;
+import dev.ulloasp.mlsuite.audit.application.service.AuditLogService;
+import dev.ulloasp.mlsuite.audit.domain.model.AuditEvent;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.util.KeysetCursor;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogServiceTest {
+
+    @Mock
+    private AuditEventRepository auditEventRepository;
+
+    @Mock
+    private WorkspaceAccessService workspaceAccessService;
+
+    @Mock
+    private WorkspaceAuthorizationService authorizationService;
+
+    private AuditLogService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AuditLogService(auditEventRepository, workspaceAccessService, authorizationService);
+    }
+
+    @Test
+    void page_ReturnsTheTotalAndACursorOnTheFirstPage() {
+        AuditEvent newest = event(30L, OffsetDateTime.of(2026, 4, 17, 12, 0, 0, 0, ZoneOffset.UTC));
+        AuditEvent older = event(29L, OffsetDateTime.of(2026, 4, 17, 11, 0, 0, 0, ZoneOffset.UTC));
+        when(auditEventRepository.findPageByOrganizationId(41L, PageRequest.ofSize(2)))
+                .thenReturn(List.of(newest, older));
+        when(auditEventRepository.countByOrganizationId(41L)).thenReturn(2L);
+
+        var page = service.page(7L, 41L, null, 1, true);
+
+        assertEquals(List.of(30L), page.items().stream().map(item -> item.id()).toList());
+        assertEquals(2L, page.totalItems());
+        assertTrue(page.hasNext());
+        KeysetCursor cursor = KeysetCursor.decode(page.nextCursor(), "created");
+        assertEquals(newest.getCreatedAt(), cursor.timestampKey());
+        assertEquals(30L, cursor.longId());
+        verify(authorizationService).requireOrganizationRead(7L, 41L);
+    }
+
+    @Test
+    void page_SeeksPastCursorWithoutCounting() {
+        OffsetDateTime after = OffsetDateTime.of(2026, 4, 17, 12, 0, 0, 0, ZoneOffset.UTC);
+        AuditEvent older = event(29L, after.minusHours(1));
+        when(auditEventRepository.findPageByOrganizationIdAfter(41L, after, 30L, PageRequest.ofSize(11)))
+                .thenReturn(List.of(older));
+
+        var page = service.page(7L, 41L, KeysetCursor.after("created", after, 30L).encode(), 10, false);
+
+        assertEquals(List.of(29L), page.items().stream().map(item -> item.id()).toList());
+        assertNull(page.totalItems());
+        assertNull(page.nextCursor());
+        verify(auditEventRepository, never()).countByOrganizationId(41L);
+    }
+
+    @Test
+    void page_RejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> service.page(7L, 41L, "not a cursor", 10, false));
+
+        verifyNoInteractions(auditEventRepository);
+    }
+
+    private AuditEvent event(Long id, OffsetDateTime createdAt) {
+        Organization organization = new Organization();
+        organization.setId(41L);
+        User actor = new User();
+        actor.setId(7L);
+        actor.setFullName("Admin");
+        actor.setEmail("admin@example.com");
+        AuditEvent event = new AuditEvent(organization, actor, "member.invited", "invitation", "12", null);
+        event.setId(id);
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+}
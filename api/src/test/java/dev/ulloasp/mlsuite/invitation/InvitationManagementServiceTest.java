@@ -1,13 +1,17 @@
 package dev.ulloasp.mlsuite.invitation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import dev.ulloasp.mlsuite.audit.application.service.AuditLogService;
 import dev.ulloasp.mlsuite.invitation.adapter.out.persistence.repository.InvitationRepository;
@@ -39,6 +45,7 @@ import dev.ulloasp.mlsuite.user.adapter.out.persistence.repository.UserRepositor
 import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
 import dev.ulloasp.mlsuite.user.domain.model.SystemRole;
 import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.util.KeysetCursor;
 import dev.ulloasp.mlsuite.workspace.application.dto.WorkspacePermissionsDto;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
@@ -79,6 +86,9 @@ class InvitationManagementServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private InvitationManagementService service;
 
     @BeforeEach
@@ -94,7 +104,8 @@ class InvitationManagementServiceTest {
                 auditLogService,
                 roleSeedService,
                 roleDefinitionRepository,
-                userRepository);
+                userRepository,
+                eventPublisher);
     }
 
     @Test
@@ -210,12 +221,48 @@ class InvitationManagementServiceTest {
         verifyNoInteractions(userRepository);
     }
 
+    @Test
+    void getInvitationPage_SeeksPastCursorWithoutCounting() {
+        Organization org = organization();
+        Invitation newest = invitation(org, 12L, OffsetDateTime.of(2026, 4, 17, 12, 0, 0, 0, ZoneOffset.UTC));
+        Invitation older = invitation(org, 11L, OffsetDateTime.of(2026, 4, 16, 12, 0, 0, 0, ZoneOffset.UTC));
+        when(invitationRepository.findPageByOrganizationId(41L, PageRequest.ofSize(2)))
+                .thenReturn(List.of(newest, older));
+        when(invitationRepository.findPageByOrganizationIdAfter(41L, newest.getCreatedAt(), 12L, PageRequest.ofSize(2)))
+                .thenReturn(List.of(older));
+
+        var first = service.getInvitationPage(7L, 41L, null, 1, false);
+        var second = service.getInvitationPage(7L, 41L, first.nextCursor(), 1, false);
+
+        assertEquals(List.of(12L), first.items().stream().map(item -> item.id()).toList());
+        assertEquals(List.of(11L), second.items().stream().map(item -> item.id()).toList());
+        assertNull(second.nextCursor());
+        verify(invitationRepository, never()).countByOrganizationId(41L);
+    }
+
+    @Test
+    void getInvitationPage_RejectsCursorIssuedForAnotherListing() {
+        String cursor = KeysetCursor.after("name", "demo", 3L).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> service.getInvitationPage(7L, 41L, cursor, 10, false));
+
+        verifyNoInteractions(invitationRepository);
+    }
+
     private OrganizationMembership membership(Organization org, User user, OrganizationRole role) {
         OrganizationMembership membership = new OrganizationMembership(org, user, role, MembershipStatus.ACTIVE);
         membership.setId(9L);
         return membership;
     }
 
+    private Invitation invitation(Organization org, Long id, OffsetDateTime createdAt) {
+        Invitation invitation = new Invitation(org, null, "user" + id + "@example.com", OrganizationRole.VIEWER, null,
+                "token-" + id, user(7L), createdAt.plusDays(7));
+        invitation.setId(id);
+        invitation.setCreatedAt(createdAt);
+        return invitation;
+    }
+
     private Organization organization() {
         Organization organization = new Organization();
         organization.setId(41L);
@@ -89,12 +89,12 @@ class AnalyzerControllerTest {
 
     @Test
     void predict_UsesInternalUserId() {
-        when(analyzerUseCase.predict(5L, 11L, Map.of("x", 1))).thenReturn(Map.of("prediction", 1));
+        when(analyzerUseCase.predict(5L, 11L, Map.of("x", 1), false)).thenReturn(Map.of("prediction", 1));
 
-        ResponseEntity<Map<String, Object>> response = controller.predict(authentication, 11L, Map.of("x", 1));
+        ResponseEntity<Map<String, Object>> response = controller.predict(authentication, 11L, Map.of("x", 1), false);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(analyzerUseCase).predict(5L, 11L, Map.of("x", 1));
+        verify(analyzerUseCase).predict(5L, 11L, Map.of("x", 1), false);
     }
 
     @Test
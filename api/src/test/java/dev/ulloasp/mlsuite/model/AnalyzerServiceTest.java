@@ -4,11 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.lenient;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,8 +23,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
@@ -30,12 +35,16 @@ import org.mockito.ArgumentCaptor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import dev.ulloasp.mlsuite.analyzer.PredictionCoalescer;
 import dev.ulloasp.mlsuite.model.domain.model.Model;
 import dev.ulloasp.mlsuite.model.domain.exception.AnalyzerServiceException;
 import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 import dev.ulloasp.mlsuite.model.domain.exception.ModelDoesNotExistsException;
 import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
 import dev.ulloasp.mlsuite.model.application.service.AnalyzerServiceImpl;
+import dev.ulloasp.mlsuite.model.application.service.PredictionCache;
 import dev.ulloasp.mlsuite.storage.ObjectStorageException;
 import dev.ulloasp.mlsuite.storage.ObjectStorageService;
 import dev.ulloasp.mlsuite.user.domain.model.User;
@@ -75,7 +84,10 @@ class AnalyzerServiceTest {
                 objectStorageService,
                 userLookupService,
                 workspaceAccessService,
-                objectMapper);
+                objectMapper,
+                new PredictionCoalescer(false, Duration.ZERO, 1, new SimpleMeterRegistry()),
+                new PredictionCache(null, null, new SimpleMeterRegistry(), false, 0, Duration.ZERO, false,
+                        Duration.ZERO));
         ReflectionTestUtils.setField(service, "analyzerUrl", "http://py-analyzer:8000");
         lenient().when(workspaceAccessService.requireCurrentOrganization(3L)).thenReturn(organization());
     }
@@ -184,19 +196,40 @@ class AnalyzerServiceTest {
     }
 
     @Test
-    void predict_UsesOwnerScopedModelAndObjectStorage() {
+    void predict_UsesResidentModelHandleWithoutShippingArtifact() {
         User user = user();
         Model model = model(user);
         lenient().when(userLookupService.requireById(3L)).thenReturn(user);
         when(modelRepository.findByIdAndOrganizationId(11L, 5L)).thenReturn(Optional.of(model));
-        when(objectStorageService.load("bucket", "key")).thenReturn(new byte[] { 1, 2, 3 });
-        when(restTemplate.postForObject(eq("http://py-analyzer:8000/predict"), any(), eq(Map.class)))
+        when(restTemplate.postForObject(eq("http://py-analyzer:8000/models/m11-etag/predict"), any(), eq(Map.class)))
                 .thenReturn(Map.of("prediction", 1));
 
         Map<String, Object> result = service.predict(3L, 11L, Map.of("x", 1));
 
         assertEquals(1, result.get("prediction"));
         verify(modelRepository).findByIdAndOrganizationId(11L, 5L);
+        verify(objectStorageService, never()).load(any(), any(), any());
+    }
+
+    @Test
+    void predict_RegistersModelAgainWhenHandleIsUnknown() {
+        User user = user();
+        Model model = model(user);
+        lenient().when(userLookupService.requireById(3L)).thenReturn(user);
+        when(modelRepository.findByIdAndOrganizationId(11L, 5L)).thenReturn(Optional.of(model));
+        when(objectStorageService.load("bucket", "key", "etag")).thenReturn(new byte[] { 1, 2, 3 });
+        when(restTemplate.postForObject(eq("http://py-analyzer:8000/models/m11-etag/predict"), any(), eq(Map.class)))
+                .thenThrow(unknownHandle())
+                .thenReturn(Map.of("prediction", 1));
+        when(restTemplate.postForObject(eq("http://py-analyzer:8000/models/m11-etag"), any(), eq(Map.class)))
+                .thenReturn(Map.of("handle", "m11-etag"));
+
+        Map<String, Object> result = service.predict(3L, 11L, Map.of("x", 1));
+
+        assertEquals(1, result.get("prediction"));
+        verify(restTemplate).postForObject(eq("http://py-analyzer:8000/models/m11-etag"), any(), eq(Map.class));
+        verify(restTemplate, times(2))
+                .postForObject(eq("http://py-analyzer:8000/models/m11-etag/predict"), any(), eq(Map.class));
     }
 
     @Test
@@ -206,13 +239,48 @@ class AnalyzerServiceTest {
         model.setModelFile(new byte[] { 9, 8, 7 });
         lenient().when(userLookupService.requireById(3L)).thenReturn(user);
         when(modelRepository.findByIdAndOrganizationId(11L, 5L)).thenReturn(Optional.of(model));
-        when(objectStorageService.load("bucket", "key")).thenThrow(new ObjectStorageException("down"));
+        when(objectStorageService.load("bucket", "key", "etag")).thenThrow(new ObjectStorageException("down"));
+        when(restTemplate.postForObject(eq("http://py-analyzer:8000/models/m11-etag/predict"), any(), eq(Map.class)))
+                .thenThrow(unknownHandle())
+                .thenReturn(Map.of("prediction", 1));
+        when(restTemplate.postForObject(eq("http://py-analyzer:8000/models/m11-etag"), any(), eq(Map.class)))
+                .thenReturn(Map.of("handle", "m11-etag"));
+
+        assertEquals(1, service.predict(3L, 11L, Map.of("x", 1)).get("prediction"));
+    }
+
+    @Test
+    void predict_ShipsInlineArtifactWhenModelHasNoEtag() {
+        User user = user();
+        Model model = model(user);
+        model.setStorageEtag(null);
+        lenient().when(userLookupService.requireById(3L)).thenReturn(user);
+        when(modelRepository.findByIdAndOrganizationId(11L, 5L)).thenReturn(Optional.of(model));
+        when(objectStorageService.load("bucket", "key", null)).thenReturn(new byte[] { 1, 2, 3 });
         when(restTemplate.postForObject(eq("http://py-analyzer:8000/predict"), any(), eq(Map.class)))
                 .thenReturn(Map.of("prediction", 1));
 
         assertEquals(1, service.predict(3L, 11L, Map.of("x", 1)).get("prediction"));
     }
 
+    @Test
+    void predict_PropagatesNotFoundThatIsNotAnUnknownHandle() {
+        User user = user();
+        Model model = model(user);
+        lenient().when(userLookupService.requireById(3L)).thenReturn(user);
+        when(modelRepository.findByIdAndOrganizationId(11L, 5L)).thenReturn(Optional.of(model));
+        when(restTemplate.postForObject(eq("http://py-analyzer:8000/models/m11-etag/predict"), any(), eq(Map.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY,
+                        "{\"detail\":\"Not Found\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+
+        AnalyzerServiceException ex = assertThrows(
+                AnalyzerServiceException.class,
+                () -> service.predict(3L, 11L, Map.of("x", 1)));
+
+        assertEquals(404, ex.getStatus());
+        verify(objectStorageService, never()).load(any(), any(), any());
+    }
+
     @Test
     void predict_ThrowsWhenOwnerScopedModelMissing() {
         lenient().when(userLookupService.requireById(3L)).thenReturn(user());
@@ -234,6 +302,7 @@ class AnalyzerServiceTest {
         model.setUser(user);
         model.setStorageBucket("bucket");
         model.setStorageObjectKey("key");
+        model.setStorageEtag("etag");
         return model;
     }
 
@@ -243,6 +312,15 @@ class AnalyzerServiceTest {
         return organization;
     }
 
+    private HttpClientErrorException unknownHandle() {
+        return HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND,
+                "Not Found",
+                HttpHeaders.EMPTY,
+                "{\"detail\":\"Unknown model handle\"}".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8);
+    }
+
     private RestClientResponseException restError(int status, String body) {
         return new RestClientResponseException(
                 "bad",
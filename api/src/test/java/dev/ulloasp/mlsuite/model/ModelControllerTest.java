@@ -67,11 +67,12 @@ class ModelControllerTest {
 
     @Test
     void getModelPage_UsesInternalUserId() {
-        when(modelCatalogUseCase.getModelPage(4L, 2, 5, "rf", "name", "archived"))
-                .thenReturn(new ModelPageDto(List.of(), 2, 5, 0, false));
+        when(modelCatalogUseCase.getModelPage(4L, 2, 5, "rf", "name", "archived", null, true))
+                .thenReturn(new ModelPageDto(List.of(), 2, 5, 0L, false, null));
 
-        assertEquals(2, controller.getModelPage(authentication, 2, 5, "rf", "name", "archived").getBody().page());
-        verify(modelCatalogUseCase).getModelPage(4L, 2, 5, "rf", "name", "archived");
+        assertEquals(2, controller.getModelPage(authentication, 2, 5, "rf", "name", "archived", null, true)
+                .getBody().page());
+        verify(modelCatalogUseCase).getModelPage(4L, 2, 5, "rf", "name", "archived", null, true);
     }
 
     @Test
@@ -1,6 +1,7 @@
 package dev.ulloasp.mlsuite.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -11,6 +12,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +31,7 @@ import dev.ulloasp.mlsuite.model.application.dto.CreateModelDto;
 import dev.ulloasp.mlsuite.model.application.port.in.AnalyzerUseCase;
 import dev.ulloasp.mlsuite.model.application.port.in.ModelCatalogUseCase;
 import dev.ulloasp.mlsuite.model.application.service.ModelCreationService;
+import dev.ulloasp.mlsuite.model.application.upload.SpooledMultipartFile;
 import dev.ulloasp.mlsuite.model.domain.model.Model;
 import dev.ulloasp.mlsuite.storage.ObjectStorageService;
 import jakarta.transaction.Transactional;
@@ -88,6 +94,28 @@ class ModelCreationServiceTest {
         verify(objectStorageService, never()).delete(any(), any());
     }
 
+    @Test
+    void create_SpoolsLargeUploadsToDiskAndRemovesSpoolAfterwards() throws Exception {
+        byte[] content = new byte[(int) SpooledMultipartFile.DEFAULT_MEMORY_THRESHOLD + 1];
+        MockMultipartFile modelFile = new MockMultipartFile("model", "model.joblib", "application/octet-stream", content);
+        Model model = storedModel();
+        List<Path> spoolFiles = new ArrayList<>();
+        when(modelCatalogUseCase.createModel(eq(4L), eq("demo"), any(MultipartFile.class))).thenAnswer(invocation -> {
+            MultipartFile reusable = invocation.getArgument(2);
+            spoolFiles.add(reusable.getResource().getFile().toPath());
+            assertEquals("model.joblib", reusable.getResource().getFilename());
+            assertEquals(content.length, reusable.getInputStream().readAllBytes().length);
+            return model;
+        });
+        when(analyzerUseCase.generateInputSchema(eq(4L), any(MultipartFile.class), eq(null), eq("__")))
+                .thenReturn(Map.of());
+
+        service.create(4L, "demo", modelFile, null, "__");
+
+        assertEquals(1, spoolFiles.size());
+        assertFalse(Files.exists(spoolFiles.get(0)));
+    }
+
     @Test
     void create_DeletesStoredObjectWhenSchemaGenerationFails() {
         MockMultipartFile modelFile = new MockMultipartFile("model", "model.joblib", "application/octet-stream", "x".getBytes());
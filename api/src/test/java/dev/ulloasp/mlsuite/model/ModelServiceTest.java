@@ -1,8 +1,10 @@
 package dev.ulloasp.mlsuite.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -10,6 +12,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +22,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -70,6 +75,9 @@ class ModelServiceTest {
     @Mock
     private WorkspaceAuthorizationService workspaceAuthorizationService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private ModelServiceImpl service;
 
     @BeforeEach
@@ -81,7 +89,8 @@ class ModelServiceTest {
                 bindingRepository,
                 resultRepository,
                 workspaceAccessService,
-                workspaceAuthorizationService);
+                workspaceAuthorizationService,
+                eventPublisher);
         ReflectionTestUtils.setField(service, "restTemplate", restTemplate);
         ReflectionTestUtils.setField(service, "analyzerUrl", "http://analyzer");
         when(workspaceAccessService.requireCurrentOrganization(3L)).thenReturn(organization());
@@ -100,12 +109,34 @@ class ModelServiceTest {
         when(modelRepository.findCatalogPage(eq(41L), eq("rf"), eq(false), eq(false), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(model)));
 
-        var page = service.getModelPage(3L, 0, 24, " rf ", "updated", "active");
+        var page = service.getModelPage(3L, 2, 24, " rf ", "updated", "active", null, true);
 
         assertEquals(1, page.items().size());
         assertEquals("demo", page.items().getFirst().name());
     }
 
+    @Test
+    void getModelPage_SeeksPastCursorWithoutCounting() {
+        Model last = model("demo");
+        Model extra = model("other");
+        extra.setId(8L);
+        OffsetDateTime updatedAt = last.getUpdatedAt();
+        when(modelRepository.findCatalogByUpdated(eq(41L), eq(""), eq(false), eq(false), any(Pageable.class)))
+                .thenReturn(List.of(last, extra));
+        when(modelRepository.findCatalogByUpdatedAfter(eq(41L), eq(""), eq(false), eq(false), eq(updatedAt), eq(9L),
+                any(Pageable.class)))
+                .thenReturn(List.of(extra));
+
+        var first = service.getModelPage(3L, 0, 1, "", "updated", "active", null, false);
+        var second = service.getModelPage(3L, 0, 1, "", "updated", "active", first.nextCursor(), false);
+
+        assertEquals(List.of("demo"), first.items().stream().map(item -> item.name()).toList());
+        assertEquals(List.of("other"), second.items().stream().map(item -> item.name()).toList());
+        assertNull(second.nextCursor());
+        assertNull(second.totalItems());
+        verify(modelRepository, never()).countCatalog(anyLong(), anyString(), anyBoolean(), anyBoolean());
+    }
+
     @Test
     void createModel_ThrowsWhenNameExistsInOrganization() {
         when(userLookupService.requireById(3L)).thenReturn(user());
@@ -152,11 +183,12 @@ class ModelServiceTest {
         Model source = model("demo");
         source.setStorageBucket("bucket");
         source.setStorageObjectKey("old-key");
+        source.setStorageEtag("old-etag");
         when(userLookupService.requireById(3L)).thenReturn(user());
         when(workspaceAuthorizationService.workspacePermissions(3L, 41L)).thenReturn(allPermissions());
         when(modelRepository.findByIdAndOrganizationId(9L, 41L)).thenReturn(java.util.Optional.of(source));
         when(modelRepository.existsByNameAndOrganizationId("copy", 41L)).thenReturn(false);
-        when(objectStorageService.load("bucket", "old-key")).thenReturn("bytes".getBytes());
+        when(objectStorageService.load("bucket", "old-key", "old-etag")).thenReturn("bytes".getBytes());
         when(objectStorageService.store(any(), eq("model.pkl"), eq("application/octet-stream"), any(byte[].class)))
                 .thenReturn(new StoredObject("bucket", "new-key", 5L, "etag"));
         when(modelRepository.save(any(Model.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -173,9 +205,9 @@ class ModelServiceTest {
         when(modelRepository.existsByNameAndOrganizationId("demo", 41L)).thenReturn(false);
         when(restTemplate.postForObject(anyString(), any(), eq(Map.class)))
                 .thenReturn(Map.of("type", "clf", "specificType", "rf", "fileName", "model.pkl"));
-        when(modelFile.getBytes()).thenReturn("x".getBytes());
-        when(modelFile.getName()).thenReturn("modelFile");
-        when(modelFile.getOriginalFilename()).thenReturn("model.pkl");
+        when(modelFile.getResource()).thenReturn(new ByteArrayResource("x".getBytes()));
+        when(modelFile.getInputStream()).thenReturn(new ByteArrayInputStream("x".getBytes()));
+        when(modelFile.getSize()).thenReturn(1L);
         when(modelFile.getContentType()).thenReturn("application/octet-stream");
         when(objectStorageService.store(any(), any(), any(), any(), anyLong()))
                 .thenReturn(new StoredObject("bucket", "key", 1L, "etag"));
@@ -194,9 +226,9 @@ class ModelServiceTest {
         when(modelRepository.existsByNameAndOrganizationId("demo", 41L)).thenReturn(false);
         when(restTemplate.postForObject(anyString(), any(), eq(Map.class)))
                 .thenReturn(Map.of("type", "clf", "specificType", "rf", "fileName", "model.pkl"));
-        when(modelFile.getBytes()).thenReturn("x".getBytes());
-        when(modelFile.getName()).thenReturn("modelFile");
-        when(modelFile.getOriginalFilename()).thenReturn("model.pkl");
+        when(modelFile.getResource()).thenReturn(new ByteArrayResource("x".getBytes()));
+        when(modelFile.getInputStream()).thenReturn(new ByteArrayInputStream("x".getBytes()));
+        when(modelFile.getSize()).thenReturn(1L);
         when(modelFile.getContentType()).thenReturn("application/octet-stream");
         when(objectStorageService.store(any(), any(), any(), any(), anyLong()))
                 .thenReturn(new StoredObject("bucket", "key", 1L, "etag"));
@@ -0,0 +1,147 @@
+package dev.ulloasp.mlsuite.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.CachedPredictionRepository;
+import dev.ulloasp.mlsuite.model.application.service.PredictionCache;
+import dev.ulloasp.mlsuite.model.domain.model.CachedPrediction;
+import dev.ulloasp.mlsuite.model.domain.model.Model;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class PredictionCacheTest {
+
+    @Mock
+    private CachedPredictionRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void key_IgnoresKeyOrderAndNumberRepresentation() {
+        Map<String, Object> ordered = new LinkedHashMap<>();
+        ordered.put("age", 52);
+        ordered.put("income", 1.5);
+        ordered.put("tags", List.of(1, 2));
+        Map<String, Object> shuffled = new LinkedHashMap<>();
+        shuffled.put("tags", List.of(1L, 2.0));
+        shuffled.put("income", new BigDecimal("1.50"));
+        shuffled.put("age", 52.0);
+
+        assertEquals(PredictionCache.key("etag-1", ordered), PredictionCache.key("etag-1", shuffled));
+        assertNotEquals(PredictionCache.key("etag-1", ordered), PredictionCache.key("etag-2", ordered));
+        assertNotEquals(PredictionCache.key("etag-1", Map.of("tags", List.of(1, 2))),
+                PredictionCache.key("etag-1", Map.of("tags", List.of(2, 1))));
+    }
+
+    @Test
+    void get_AsksTheAnalyzerOncePerModelVersionAndInput() {
+        PredictionCache cache = cache(false);
+        AtomicInteger calls = new AtomicInteger();
+
+        Map<String, Object> first = cache.get(model("etag-1"), Map.of("x", 1), false,
+                () -> Map.of("prediction", calls.incrementAndGet()));
+        Map<String, Object> second = cache.get(model("etag-1"), Map.of("x", 1.0), false,
+                () -> Map.of("prediction", calls.incrementAndGet()));
+        cache.get(model("etag-2"), Map.of("x", 1), false, () -> Map.of("prediction", calls.incrementAndGet()));
+
+        assertEquals(first, second);
+        assertEquals(2, calls.get());
+        assertEquals(1.0 / 3, meterRegistry.get("mlsuite.prediction.cache.hit.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void get_BypassRefreshesTheCachedAnswer() {
+        PredictionCache cache = cache(false);
+        cache.get(model("etag-1"), Map.of("x", 1), false, () -> Map.of("prediction", 1));
+
+        Map<String, Object> fresh = cache.get(model("etag-1"), Map.of("x", 1), true, () -> Map.of("prediction", 2));
+        Map<String, Object> cached = cache.get(model("etag-1"), Map.of("x", 1), false,
+                () -> Map.of("prediction", 3));
+
+        assertEquals(Map.of("prediction", 2), fresh);
+        assertEquals(Map.of("prediction", 2), cached);
+        assertEquals(1.0, meterRegistry.get("mlsuite.prediction.cache.requests").tag("result", "bypass").counter()
+                .count());
+    }
+
+    @Test
+    void get_NeverCachesModelsWithoutEtag() {
+        PredictionCache cache = cache(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get(model(null), Map.of("x", 1), false, () -> Map.of("prediction", calls.incrementAndGet()));
+        cache.get(model(null), Map.of("x", 1), false, () -> Map.of("prediction", calls.incrementAndGet()));
+
+        assertEquals(2, calls.get());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void get_ReadsThroughThePersistentTierBeforeAskingTheAnalyzer() {
+        PredictionCache cache = cache(true);
+        String key = PredictionCache.key("etag-1", Map.of("x", 1));
+        when(repository.findByCacheKeyAndExpiresAtAfter(eq(key), any(OffsetDateTime.class)))
+                .thenReturn(Optional.of(new CachedPrediction(key, 11L, Map.of("prediction", 7),
+                        OffsetDateTime.now().plusDays(1))));
+
+        Map<String, Object> result = cache.get(model("etag-1"), Map.of("x", 1), false, () -> {
+            throw new AssertionError("analyzer must not be called");
+        });
+        cache.get(model("etag-1"), Map.of("x", 1), false, () -> {
+            throw new AssertionError("analyzer must not be called");
+        });
+
+        assertEquals(Map.of("prediction", 7), result);
+        verify(repository).findByCacheKeyAndExpiresAtAfter(eq(key), any(OffsetDateTime.class));
+    }
+
+    @Test
+    void get_ReturnsTheAnswerWhenAnotherInstanceStoredTheKeyFirst() {
+        PredictionCache cache = cache(true);
+        doThrow(new DataIntegrityViolationException("duplicate key")).when(repository).save(any());
+
+        Map<String, Object> result = cache.get(model("etag-1"), Map.of("x", 1), false,
+                () -> Map.of("prediction", 3));
+
+        assertEquals(Map.of("prediction", 3), result);
+        verify(transactionManager).rollback(any());
+    }
+
+    private PredictionCache cache(boolean persistent) {
+        return new PredictionCache(repository, transactionManager, meterRegistry, true, 100, Duration.ofMinutes(10), persistent,
+                Duration.ofDays(7));
+    }
+
+    private Model model(String etag) {
+        Model model = new Model();
+        model.setId(11L);
+        model.setStorageEtag(etag);
+        return model;
+    }
+}
@@ -14,14 +14,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import dev.ulloasp.mlsuite.invitation.adapter.out.persistence.repository.InvitationRepository;
-import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationMembershipRepository;
 import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationRepository;
-import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamMembershipRepository;
 import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamRepository;
 import dev.ulloasp.mlsuite.organization.application.dto.TransferOrganizationOwnershipRequest;
+import dev.ulloasp.mlsuite.organization.application.service.OrganizationStatsService;
 import dev.ulloasp.mlsuite.organization.application.dto.UpdateOrganizationMembershipRoleRequest;
 import dev.ulloasp.mlsuite.organization.application.usecase.OrganizationManagementService;
 import dev.ulloasp.mlsuite.organization.domain.exception.OrganizationAccessDeniedException;
@@ -37,6 +37,7 @@ import dev.ulloasp.mlsuite.role.domain.model.RoleDefinition;
 import dev.ulloasp.mlsuite.role.domain.model.RoleScope;
 import dev.ulloasp.mlsuite.user.domain.model.User;
 import dev.ulloasp.mlsuite.workspace.application.dto.MembershipActionsDto;
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
 
@@ -59,19 +60,19 @@ class OrganizationManagementServiceTest {
     private TeamRepository teamRepository;
 
     @Mock
-    private TeamMembershipRepository teamMembershipRepository;
+    private InvitationRepository invitationRepository;
 
     @Mock
-    private ModelRepository modelRepository;
+    private RoleSeedService roleSeedService;
 
     @Mock
-    private InvitationRepository invitationRepository;
+    private RoleDefinitionRepository roleDefinitionRepository;
 
     @Mock
-    private RoleSeedService roleSeedService;
+    private ApplicationEventPublisher eventPublisher;
 
     @Mock
-    private RoleDefinitionRepository roleDefinitionRepository;
+    private OrganizationStatsService organizationStatsService;
 
     private OrganizationManagementService service;
 
@@ -83,11 +84,11 @@ class OrganizationManagementServiceTest {
                 organizationRepository,
                 membershipRepository,
                 teamRepository,
-                teamMembershipRepository,
-                modelRepository,
                 invitationRepository,
                 roleSeedService,
-                roleDefinitionRepository);
+                roleDefinitionRepository,
+                eventPublisher,
+                organizationStatsService);
     }
 
     @Test
@@ -106,6 +107,8 @@ class OrganizationManagementServiceTest {
         assertEquals(OrganizationRole.OWNER, target.getRole());
         assertEquals(2L, result.id());
         verify(workspaceAuthorizationService).requireOwnershipTransfer(7L, 41L);
+        verify(eventPublisher).publishEvent(PermissionsChangedEvent.member(41L, 1L));
+        verify(eventPublisher).publishEvent(PermissionsChangedEvent.member(41L, 2L));
     }
 
     @Test
@@ -0,0 +1,84 @@
+package dev.ulloasp.mlsuite.organization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationStatsRepository;
+import dev.ulloasp.mlsuite.organization.application.dto.OrganizationAdminStatsDto;
+import dev.ulloasp.mlsuite.organization.application.event.OrganizationStatsChangedEvent;
+import dev.ulloasp.mlsuite.organization.application.service.OrganizationStatsService;
+import dev.ulloasp.mlsuite.organization.domain.model.OrganizationStats;
+
+@ExtendWith(MockitoExtension.class)
+class OrganizationStatsServiceTest {
+
+    @Mock
+    private OrganizationStatsRepository statsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void stats_ServesFreshMaterializedRowWithoutAggregating() {
+        OrganizationStats row = stats(41L, 3, OffsetDateTime.now().minusMinutes(1));
+        when(statsRepository.findById(41L)).thenReturn(Optional.of(row));
+
+        OrganizationAdminStatsDto stats = service(true).stats(41L);
+
+        assertEquals(3, stats.totalTeams());
+        verify(statsRepository, never()).aggregate(any());
+    }
+
+    @Test
+    void stats_RecomputesRowOlderThanMaxAge() {
+        when(statsRepository.findById(41L)).thenReturn(Optional.of(stats(41L, 3, OffsetDateTime.now().minusHours(1))));
+        when(statsRepository.aggregate(41L)).thenReturn(Optional.of(stats(41L, 4, null)));
+        when(statsRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        OrganizationAdminStatsDto stats = service(true).stats(41L);
+
+        assertEquals(4, stats.totalTeams());
+    }
+
+    @Test
+    void stats_AggregatesLiveWhenNotMaterialized() {
+        when(statsRepository.aggregate(41L)).thenReturn(Optional.of(stats(41L, 2, null)));
+
+        assertEquals(2, service(false).stats(41L).totalTeams());
+        verify(statsRepository, never()).save(any());
+    }
+
+    @Test
+    void onStatsChanged_DropsRowOfDeletedOrganization() {
+        when(statsRepository.aggregate(41L)).thenReturn(Optional.empty());
+
+        service(true).onStatsChanged(new OrganizationStatsChangedEvent(41L));
+
+        verify(statsRepository).deleteById(41L);
+    }
+
+    private OrganizationStatsService service(boolean materialized) {
+        return new OrganizationStatsService(
+                statsRepository, new TransactionTemplate(transactionManager), materialized, Duration.ofMinutes(10));
+    }
+
+    private static OrganizationStats stats(Long organizationId, long teams, OffsetDateTime refreshedAt) {
+        OrganizationStats stats = new OrganizationStats(organizationId, teams, teams, 5, 7, 1);
+        stats.setRefreshedAt(refreshedAt);
+        return stats;
+    }
+}
@@ -1,6 +1,7 @@
 package dev.ulloasp.mlsuite.plugin;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
@@ -21,9 +23,12 @@ import org.springframework.security.core.Authentication;
 import dev.ulloasp.mlsuite.plugin.adapter.in.web.PluginControllerImpl;
 import dev.ulloasp.mlsuite.plugin.application.dto.PluginDto;
 import dev.ulloasp.mlsuite.plugin.application.dto.PluginPageDto;
+import dev.ulloasp.mlsuite.plugin.application.dto.PluginSourceDto;
 import dev.ulloasp.mlsuite.plugin.application.dto.PluginStatsDto;
 import dev.ulloasp.mlsuite.plugin.application.port.in.DeletePluginUseCase;
+import dev.ulloasp.mlsuite.plugin.application.port.in.GetPluginSourceUseCase;
 import dev.ulloasp.mlsuite.plugin.application.port.in.GetPluginStatsUseCase;
+import dev.ulloasp.mlsuite.plugin.application.port.in.GetPluginUseCase;
 import dev.ulloasp.mlsuite.plugin.application.port.in.ListPluginsUseCase;
 import dev.ulloasp.mlsuite.plugin.application.port.in.UploadPluginUseCase;
 import dev.ulloasp.mlsuite.security.identity.CurrentUser;
@@ -41,6 +46,12 @@ class PluginControllerTest {
     @Mock
     private ListPluginsUseCase listPluginsUseCase;
 
+    @Mock
+    private GetPluginUseCase getPluginUseCase;
+
+    @Mock
+    private GetPluginSourceUseCase getPluginSourceUseCase;
+
     @Mock
     private GetPluginStatsUseCase getPluginStatsUseCase;
 
@@ -59,12 +70,14 @@ class PluginControllerTest {
                 currentUserResolver,
                 uploadPluginUseCase,
                 listPluginsUseCase,
+                getPluginUseCase,
+                getPluginSourceUseCase,
                 getPluginStatsUseCase,
                 deletePluginUseCase);
         dto = new PluginDto("item-1", "plugin.ts", "application/typescript", 10,
                 OffsetDateTime.of(2026, 4, 17, 12, 0, 0, 0, ZoneOffset.UTC),
                 OffsetDateTime.of(2026, 4, 17, 12, 0, 0, 0, ZoneOffset.UTC),
-                "src", "field", "custom-field");
+                "src", "field", "custom-field", "abc123");
     }
 
     @Test
@@ -82,14 +95,50 @@ class PluginControllerTest {
     @Test
     void getAll_UsesInternalUserIdAndPagination() {
         when(currentUserResolver.resolve(authentication)).thenReturn(new CurrentUser(7L, "alice", dev.ulloasp.mlsuite.user.domain.model.SystemRole.USER));
-        when(listPluginsUseCase.list(7L, 2, 5, "field", "custom", "name"))
-                .thenReturn(new PluginPageDto(List.of(dto), 2, 5, 1, false));
+        when(listPluginsUseCase.list(7L, 2, 5, "field", "custom", "name", null))
+                .thenReturn(new PluginPageDto(List.of(dto), 2, 5, 1L, false, null));
 
-        ResponseEntity<PluginPageDto> response = controller.getAll(authentication, 2, 5, "field", "custom", "name");
+        ResponseEntity<PluginPageDto> response = controller.getAll(authentication, 2, 5, "field", "custom", "name", null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, response.getBody().items().size());
-        verify(listPluginsUseCase).list(7L, 2, 5, "field", "custom", "name");
+        verify(listPluginsUseCase).list(7L, 2, 5, "field", "custom", "name", null);
+    }
+
+    @Test
+    void get_ReturnsThePluginWithItsSource() {
+        when(currentUserResolver.resolve(authentication)).thenReturn(new CurrentUser(7L, "alice", dev.ulloasp.mlsuite.user.domain.model.SystemRole.USER));
+        when(getPluginUseCase.get(7L, "item-1")).thenReturn(dto);
+
+        ResponseEntity<PluginDto> response = controller.get(authentication, "item-1");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("src", response.getBody().source());
+    }
+
+    @Test
+    void source_ServesGzipWithStrongEtagAndImmutableCaching() {
+        when(currentUserResolver.resolve(authentication)).thenReturn(new CurrentUser(7L, "alice", dev.ulloasp.mlsuite.user.domain.model.SystemRole.USER));
+        when(getPluginSourceUseCase.source(7L, "abc123", true))
+                .thenReturn(new PluginSourceDto("abc123", new byte[] { 1, 2 }, true));
+
+        ResponseEntity<byte[]> response = controller.source(authentication, "abc123", null, "br, gzip;q=0.8");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"abc123-gzip\"", response.getHeaders().getETag());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("max-age=31536000, private, immutable", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void source_AnswersNotModifiedWithoutLoadingTheSource() {
+        when(currentUserResolver.resolve(authentication)).thenReturn(new CurrentUser(7L, "alice", dev.ulloasp.mlsuite.user.domain.model.SystemRole.USER));
+
+        ResponseEntity<byte[]> response = controller.source(authentication, "abc123", "\"abc123\"", "identity");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(getPluginSourceUseCase).requireSource(7L, "abc123");
+        verify(getPluginSourceUseCase, never()).source(7L, "abc123", false);
     }
 
     @Test
@@ -1,13 +1,16 @@
 package dev.ulloasp.mlsuite.plugin;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,19 +18,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 import dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository.PluginMetadataRepository;
+import dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository.PluginTypeCount;
+import dev.ulloasp.mlsuite.plugin.application.dto.PluginDto;
 import dev.ulloasp.mlsuite.plugin.application.dto.PluginPageDto;
+import dev.ulloasp.mlsuite.plugin.application.dto.PluginSourceDto;
 import dev.ulloasp.mlsuite.plugin.application.service.PluginServiceImpl;
+import dev.ulloasp.mlsuite.plugin.application.service.PluginSourceStore;
+import dev.ulloasp.mlsuite.plugin.domain.exception.PluginNotFoundException;
+import dev.ulloasp.mlsuite.plugin.domain.model.PluginMetadata;
 import dev.ulloasp.mlsuite.plugin.domain.model.StoredPlugin;
 import dev.ulloasp.mlsuite.storage.ObjectStorageService;
 import dev.ulloasp.mlsuite.storage.StorageProperties;
-import dev.ulloasp.mlsuite.storage.StoredObjectItem;
-import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
 
@@ -37,80 +45,130 @@ class PluginServiceImplTest {
     @Mock
     private ObjectStorageService objectStorageService;
     @Mock
-    private UserLookupService userLookupService;
-    @Mock
     private WorkspaceAccessService workspaceAccessService;
     @Mock
     private WorkspaceAuthorizationService workspaceAuthorizationService;
     @Mock
     private PluginMetadataRepository pluginMetadataRepository;
+    @Mock
+    private PluginSourceStore pluginSourceStore;
 
     private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final Organization organization = new Organization();
     private PluginServiceImpl service;
-    private Map<String, byte[]> objects;
 
     @BeforeEach
-    void setUp() throws Exception {
+    void setUp() {
         StorageProperties storageProperties = new StorageProperties();
         storageProperties.setBucket("bucket");
         service = new PluginServiceImpl(
                 objectStorageService,
                 storageProperties,
                 objectMapper,
-                userLookupService,
                 workspaceAccessService,
                 workspaceAuthorizationService,
-                pluginMetadataRepository);
-        objects = Map.of(
-                "organizations/41/plugins/items/field.json", bytes(plugin(
-                        "field", "alpha.ts", "export default defineFieldKind({ kind: \"alpha-field\" });")),
-                "organizations/41/plugins/items/report.json", bytes(plugin(
-                        "report", "zeta.ts", "export default defineReportKind({ kind: \"zeta-report\" });")),
-                "organizations/41/plugins/items/invalid.json", bytes(plugin(
-                        "invalid", "invalid.ts", "not a plugin")));
-        Organization organization = new Organization();
+                pluginMetadataRepository,
+                pluginSourceStore);
         organization.setId(41L);
         when(workspaceAccessService.requireCurrentOrganization(7L)).thenReturn(organization);
-        when(objectStorageService.list("organizations/41/plugins/items/"))
-                .thenReturn(objects.keySet().stream()
-                        .map(key -> new StoredObjectItem("bucket", key, objects.get(key).length, "etag", now()))
-                        .toList());
-        when(objectStorageService.loadOptional(eq("bucket"), anyString()))
-                .thenAnswer(invocation -> Optional.ofNullable(objects.get(invocation.getArgument(1))));
     }
 
     @Test
-    void list_FiltersSearchesAndPaginatesPlugins() {
-        PluginPageDto page = service.list(7L, 0, 10, "report", "zeta", "updated");
+    void list_QueriesMetadataWithNormalizedFiltersAndNeverReadsStorage() {
+        when(pluginMetadataRepository.countCatalog(41L, "report", "zeta")).thenReturn(1L);
+        when(pluginMetadataRepository.findCatalogByUpdated(41L, "report", "zeta", PageRequest.ofSize(11)))
+                .thenReturn(List.of(metadata("report", "zeta.ts", "report", "zeta-report")));
+
+        PluginPageDto page = service.list(7L, 0, 10, "report", "  Zeta ", "updated", null);
 
         assertEquals(1, page.items().size());
         assertEquals("zeta-report", page.items().getFirst().kind());
         assertEquals("report", page.items().getFirst().pluginType());
-        assertEquals(1, page.totalItems());
+        assertNull(page.items().getFirst().source());
+        assertEquals("hash-report", page.items().getFirst().sourceHash());
+        assertEquals(1L, page.totalItems());
+        assertFalse(page.hasNext());
+        verifyNoInteractions(objectStorageService);
+    }
+
+    @Test
+    void list_ContinuesFromCursorWithoutOverlap() {
+        when(pluginMetadataRepository.countCatalog(41L, null, "")).thenReturn(3L);
+        when(pluginMetadataRepository.findCatalogByName(41L, null, "", PageRequest.ofSize(3)))
+                .thenReturn(List.of(
+                        metadata("field", "alpha.ts", "field", "alpha-field"),
+                        metadata("invalid", "Invalid.ts", "invalid", null),
+                        metadata("report", "zeta.ts", "report", "zeta-report")));
+        when(pluginMetadataRepository.findCatalogByNameAfter(
+                41L, null, "", "invalid.ts", "invalid", PageRequest.ofSize(3)))
+                .thenReturn(List.of(metadata("report", "zeta.ts", "report", "zeta-report")));
+
+        PluginPageDto first = service.list(7L, 0, 2, "all", "", "name", null);
+        PluginPageDto second = service.list(7L, 0, 2, "all", "", "name", first.nextCursor());
+
+        assertTrue(first.hasNext());
+        assertEquals(List.of("field", "invalid"), first.items().stream().map(PluginDto::id).toList());
+        assertEquals(List.of("zeta-report"), second.items().stream().map(PluginDto::kind).toList());
+        assertFalse(second.hasNext());
+        assertNull(second.nextCursor());
     }
 
     @Test
-    void stats_CountsPluginTypesSeparatelyFromPagedList() {
+    void stats_CountsPluginTypesFromGroupedQuery() {
+        when(pluginMetadataRepository.countByType(41L)).thenReturn(List.of(
+                new PluginTypeCount("field", 4L),
+                new PluginTypeCount("invalid", 2L)));
+
         var stats = service.stats(7L);
 
-        assertEquals(1, stats.fieldPlugins());
-        assertEquals(1, stats.reportPlugins());
+        assertEquals(4, stats.fieldPlugins());
+        assertEquals(0, stats.reportPlugins());
+    }
+
+    @Test
+    void get_LoadsOnlyTheOpenedPlugin() throws Exception {
+        StoredPlugin stored = new StoredPlugin("field", "alpha.ts", "application/typescript", 10, now(), now(),
+                "export default defineFieldKind({ kind: \"alpha-field\" });");
+        when(pluginMetadataRepository.findByIdAndOrganizationId("field", 41L))
+                .thenReturn(Optional.of(metadata("field", "alpha.ts", "field", "alpha-field")));
+        when(objectStorageService.loadOptional("bucket", "organizations/41/plugins/items/field.json"))
+                .thenReturn(Optional.of(objectMapper.writeValueAsBytes(stored)));
+
+        PluginDto dto = service.get(7L, "field");
+
+        assertEquals("alpha-field", dto.kind());
+        assertEquals(stored.source(), dto.source());
+        verify(objectStorageService).loadOptional("bucket", "organizations/41/plugins/items/field.json");
+    }
+
+    @Test
+    void get_RejectsPluginsOutsideTheCatalog() {
+        when(pluginMetadataRepository.findByIdAndOrganizationId("other", 41L)).thenReturn(Optional.empty());
+
+        assertThrows(PluginNotFoundException.class, () -> service.get(7L, "other"));
+        verifyNoInteractions(objectStorageService);
     }
 
     @Test
-    void list_SortsByBackendDisplayName() {
-        PluginPageDto page = service.list(7L, 0, 10, "all", "", "name");
+    void source_ServesPrecompressedSourceOfAReferencedHash() {
+        PluginSourceDto compressed = new PluginSourceDto("abc", new byte[] { 1, 2 }, true);
+        when(pluginMetadataRepository.existsByOrganizationIdAndSourceHash(41L, "abc")).thenReturn(true);
+        when(pluginSourceStore.load(41L, "abc", true)).thenReturn(Optional.of(compressed));
 
-        assertEquals(List.of("alpha-field", "invalid.ts", "zeta-report"),
-                page.items().stream().map(item -> item.kind() == null ? item.fileName() : item.kind()).toList());
+        assertEquals(compressed, service.source(7L, "abc", true));
     }
 
-    private byte[] bytes(StoredPlugin plugin) throws Exception {
-        return objectMapper.writeValueAsBytes(plugin);
+    @Test
+    void source_RejectsHashesNoPluginOfTheOrganizationReferences() {
+        when(pluginMetadataRepository.existsByOrganizationIdAndSourceHash(41L, "abc")).thenReturn(false);
+
+        assertThrows(PluginNotFoundException.class, () -> service.source(7L, "abc", true));
+        verifyNoInteractions(pluginSourceStore);
     }
 
-    private StoredPlugin plugin(String id, String fileName, String source) {
-        return new StoredPlugin(id, fileName, "application/typescript", source.length(), now(), now(), source);
+    private PluginMetadata metadata(String id, String fileName, String pluginType, String kind) {
+        return new PluginMetadata(id, organization, "organizations/41/plugins/items/" + id + ".json", fileName,
+                "application/typescript", 10, now(), now(), pluginType, kind, "hash-" + id);
     }
 
     private OffsetDateTime now() {
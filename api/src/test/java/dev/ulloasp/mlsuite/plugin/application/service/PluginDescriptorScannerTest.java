@@ -0,0 +1,71 @@
+package dev.ulloasp.mlsuite.plugin.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PluginDescriptorScannerTest {
+
+    @Test
+    void scan_ReadsTheKindOfAFieldDefinition() {
+        PluginDescriptor descriptor = PluginDescriptorScanner.scan(
+                "export default defineFieldKind({ kind: 'risk-slider', render: (props) => props });");
+
+        assertEquals("field", descriptor.type());
+        assertEquals("risk-slider", descriptor.kind());
+        assertEquals(List.of("default"), descriptor.exports());
+    }
+
+    @Test
+    void scan_PrefersFieldDefinitionsAndKeepsEveryKindInOrder() {
+        PluginDescriptor descriptor = PluginDescriptorScanner.scan("""
+                export const summary = defineReportDefinition({ kind: "summary" });
+                export const slider = defineFieldKind({
+                    render: (props) => format(props.value),
+                    "kind": "slider",
+                });
+                const hidden = defineFieldKind({ kind: `not-${"static"}` });
+                """);
+
+        assertEquals("field", descriptor.type());
+        assertEquals("slider", descriptor.kind());
+        assertEquals(List.of("summary", "slider"), descriptor.kinds());
+        assertEquals(List.of("summary", "slider"), descriptor.exports());
+    }
+
+    @Test
+    void scan_IgnoresDefinitionsInCommentsAndStrings() {
+        PluginDescriptor descriptor = PluginDescriptorScanner.scan("""
+                // defineFieldKind({ kind: "commented" })
+                /* defineReportKind({ kind: "block" }) */
+                const text = "defineFieldKind({ kind: 'quoted' })";
+                export { text as label, type Options };
+                """);
+
+        assertEquals("invalid", descriptor.type());
+        assertNull(descriptor.kind());
+        assertEquals(List.of(), descriptor.kinds());
+        assertEquals(List.of("label", "Options"), descriptor.exports());
+    }
+
+    @Test
+    void scan_OnlyTakesKindFromTheTopLevelOfTheDefinition() {
+        PluginDescriptor descriptor = PluginDescriptorScanner.scan(
+                "defineReportKind({ meta: { kind: 'nested' }, kind: 'outer' })");
+
+        assertEquals("report", descriptor.type());
+        assertEquals("outer", descriptor.kind());
+    }
+
+    @Test
+    void scan_FinishesOnLargeUnterminatedInput() {
+        String source = "defineFieldKind({ kind" + " ".repeat(200_000) + "'" + "a".repeat(200_000);
+
+        PluginDescriptor descriptor = PluginDescriptorScanner.scan(source);
+
+        assertEquals("invalid", descriptor.type());
+    }
+}
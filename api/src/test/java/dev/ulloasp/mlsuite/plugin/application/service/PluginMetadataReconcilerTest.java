@@ -0,0 +1,170 @@
+package dev.ulloasp.mlsuite.plugin.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationRepository;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository.PluginMetadataRepository;
+import dev.ulloasp.mlsuite.plugin.domain.model.PluginMetadata;
+import dev.ulloasp.mlsuite.plugin.domain.model.StoredPlugin;
+import dev.ulloasp.mlsuite.storage.ObjectStorageService;
+import dev.ulloasp.mlsuite.storage.StorageProperties;
+import dev.ulloasp.mlsuite.storage.StoredObjectItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class PluginMetadataReconcilerTest {
+
+    private static final String PREFIX = "organizations/41/plugins/items/";
+    private static final String SOURCES = "organizations/41/plugins/sources/";
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private PluginMetadataRepository pluginMetadataRepository;
+
+    @Mock
+    private ObjectStorageService objectStorageService;
+
+    @Mock
+    private PluginSourceStore pluginSourceStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void reconcile_IndexesUntrackedObjectsAndDropsOrphanedRows() throws Exception {
+        Organization organization = new Organization();
+        organization.setId(41L);
+        PluginMetadata orphan = new PluginMetadata();
+        StoredPlugin stored = new StoredPlugin("new", "new.ts", "application/typescript", 10, now(), now(),
+                "export default defineReportKind({ kind: \"new-report\" });");
+        when(organizationRepository.findIdsAfter(0L, PageRequest.of(0, 100))).thenReturn(List.of(41L));
+        when(organizationRepository.findIdsAfter(41L, PageRequest.of(0, 100))).thenReturn(List.of());
+        when(organizationRepository.getReferenceById(41L)).thenReturn(organization);
+        when(pluginMetadataRepository.findIdsByOrganizationId(41L)).thenReturn(List.of("kept", "gone"));
+        when(objectStorageService.list(PREFIX)).thenReturn(List.of(item("kept.json"), item("new.json")));
+        when(objectStorageService.loadOptional("bucket", PREFIX + "new.json"))
+                .thenReturn(Optional.of(objectMapper.writeValueAsBytes(stored)));
+        when(pluginMetadataRepository.findAllById(List.of("gone"))).thenReturn(List.of(orphan));
+        when(pluginSourceStore.store(41L, stored.source())).thenReturn("hash-new");
+
+        reconciler().reconcile();
+
+        ArgumentCaptor<PluginMetadata> saved = ArgumentCaptor.forClass(PluginMetadata.class);
+        verify(pluginMetadataRepository).save(saved.capture());
+        assertEquals("new", saved.getValue().getId());
+        assertEquals("report", saved.getValue().getPluginType());
+        assertEquals("new-report", saved.getValue().getKind());
+        assertEquals("hash-new", saved.getValue().getSourceHash());
+        assertEquals(PluginDescriptorScanner.VERSION, saved.getValue().getDescriptorVersion());
+        verify(pluginMetadataRepository).deleteAll(List.of(orphan));
+        assertEquals(1.0, meterRegistry.get("mlsuite.plugin.reconcile.indexed").counter().count());
+        assertEquals(1.0, meterRegistry.get("mlsuite.plugin.reconcile.dropped").counter().count());
+    }
+
+    @Test
+    void reconcile_LeavesOrganizationsInSyncUntouched() {
+        when(organizationRepository.findIdsAfter(0L, PageRequest.of(0, 100))).thenReturn(List.of(41L));
+        when(organizationRepository.findIdsAfter(41L, PageRequest.of(0, 100))).thenReturn(List.of());
+        when(pluginMetadataRepository.findIdsByOrganizationId(41L)).thenReturn(List.of("kept"));
+        when(objectStorageService.list(PREFIX)).thenReturn(List.of(item("kept.json")));
+
+        reconciler().reconcile();
+
+        verify(pluginMetadataRepository, never()).save(any());
+        verify(pluginMetadataRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void reconcile_BackfillsSourcesAndReanalyzesOlderRows() throws Exception {
+        PluginMetadata row = new PluginMetadata();
+        row.setObjectKey(PREFIX + "kept.json");
+        row.setPluginType("invalid");
+        String source = "export const slider = defineFieldKind({ kind: \"slider\" });";
+        StoredPlugin stored = new StoredPlugin("kept", "kept.ts", "application/typescript", 10, now(), now(), source);
+        when(organizationRepository.findIdsAfter(0L, PageRequest.of(0, 100))).thenReturn(List.of(41L));
+        when(organizationRepository.findIdsAfter(41L, PageRequest.of(0, 100))).thenReturn(List.of());
+        when(pluginMetadataRepository.findIdsByOrganizationId(41L)).thenReturn(List.of("kept"));
+        when(objectStorageService.list(PREFIX)).thenReturn(List.of(item("kept.json")));
+        when(pluginMetadataRepository.findStale(41L, PluginDescriptorScanner.VERSION)).thenReturn(List.of(row));
+        when(objectStorageService.loadOptional("bucket", PREFIX + "kept.json"))
+                .thenReturn(Optional.of(objectMapper.writeValueAsBytes(stored)));
+        when(pluginSourceStore.store(41L, source)).thenReturn("hash-kept");
+
+        reconciler().reconcile();
+
+        assertEquals("hash-kept", row.getSourceHash());
+        assertEquals("field", row.getPluginType());
+        assertEquals(List.of("slider"), row.getKinds());
+        assertEquals(List.of("slider"), row.getExportedSymbols());
+        assertEquals(PluginDescriptorScanner.VERSION, row.getDescriptorVersion());
+    }
+
+    @Test
+    void reconcile_DeletesSourcesUnreferencedForLongerThanTheGracePeriod() {
+        OffsetDateTime old = OffsetDateTime.now().minusHours(2);
+        when(organizationRepository.findIdsAfter(0L, PageRequest.of(0, 100))).thenReturn(List.of(41L));
+        when(organizationRepository.findIdsAfter(41L, PageRequest.of(0, 100))).thenReturn(List.of());
+        when(objectStorageService.list(PREFIX)).thenReturn(List.of());
+        when(objectStorageService.list(SOURCES)).thenReturn(List.of(
+                source("kept.ts", old),
+                source("gone.ts", old),
+                source("gone.ts.gz", old),
+                source("fresh.ts", OffsetDateTime.now())));
+        when(pluginMetadataRepository.findSourceHashesByOrganizationId(41L)).thenReturn(List.of("kept"));
+
+        reconciler().reconcile();
+
+        verify(objectStorageService).delete("bucket", SOURCES + "gone.ts");
+        verify(objectStorageService).delete("bucket", SOURCES + "gone.ts.gz");
+        verify(objectStorageService, never()).delete("bucket", SOURCES + "kept.ts");
+        verify(objectStorageService, never()).delete("bucket", SOURCES + "fresh.ts");
+        assertEquals(2.0, meterRegistry.get("mlsuite.plugin.reconcile.sources-deleted").counter().count());
+    }
+
+    private PluginMetadataReconciler reconciler() {
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.setBucket("bucket");
+        return new PluginMetadataReconciler(organizationRepository, pluginMetadataRepository, objectStorageService,
+                storageProperties, objectMapper, pluginSourceStore, new TransactionTemplate(transactionManager),
+                meterRegistry, true, Duration.ofMinutes(15), Duration.ofHours(1));
+    }
+
+    private StoredObjectItem item(String name) {
+        return new StoredObjectItem("bucket", PREFIX + name, 10, "etag", now());
+    }
+
+    private StoredObjectItem source(String name, OffsetDateTime lastModified) {
+        return new StoredObjectItem("bucket", SOURCES + name, 10, "etag", lastModified);
+    }
+
+    private OffsetDateTime now() {
+        return OffsetDateTime.parse("2026-06-14T12:00:00Z");
+    }
+}
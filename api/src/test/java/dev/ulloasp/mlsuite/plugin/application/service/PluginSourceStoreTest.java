@@ -0,0 +1,74 @@
+package dev.ulloasp.mlsuite.plugin.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.ulloasp.mlsuite.plugin.application.dto.PluginSourceDto;
+import dev.ulloasp.mlsuite.storage.ObjectStorageService;
+import dev.ulloasp.mlsuite.storage.StorageProperties;
+
+@ExtendWith(MockitoExtension.class)
+class PluginSourceStoreTest {
+
+    private static final String SOURCE = "export default defineFieldKind({ kind: \"alpha\" });";
+    private static final String HASH = PluginSourceStore.hash(SOURCE.getBytes(StandardCharsets.UTF_8));
+
+    @Mock
+    private ObjectStorageService objectStorageService;
+
+    private PluginSourceStore store;
+
+    @BeforeEach
+    void setUp() {
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.setBucket("bucket");
+        store = new PluginSourceStore(objectStorageService, storageProperties);
+    }
+
+    @Test
+    void store_WritesSourceAndGzipCopyUnderItsHash() throws Exception {
+        String hash = store.store(41L, SOURCE);
+
+        ArgumentCaptor<byte[]> compressed = ArgumentCaptor.forClass(byte[].class);
+        assertEquals(HASH, hash);
+        assertEquals(64, hash.length());
+        verify(objectStorageService).store(eq("organizations/41/plugins/sources/" + hash + ".ts"), any(),
+                eq(PluginSourceStore.CONTENT_TYPE), eq(SOURCE.getBytes(StandardCharsets.UTF_8)));
+        verify(objectStorageService).store(eq("organizations/41/plugins/sources/" + hash + ".ts.gz"), any(),
+                eq("application/gzip"), compressed.capture());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.getValue()))) {
+            assertEquals(SOURCE, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void load_FallsBackToIdentityWhenNoGzipCopyExists() {
+        byte[] bytes = SOURCE.getBytes(StandardCharsets.UTF_8);
+        when(objectStorageService.loadOptional("bucket", "organizations/41/plugins/sources/" + HASH + ".ts.gz"))
+                .thenReturn(Optional.empty());
+        when(objectStorageService.loadOptional("bucket", "organizations/41/plugins/sources/" + HASH + ".ts"))
+                .thenReturn(Optional.of(bytes));
+
+        PluginSourceDto source = store.load(41L, HASH, true).orElseThrow();
+
+        assertFalse(source.gzipped());
+        assertArrayEquals(bytes, source.content());
+    }
+}
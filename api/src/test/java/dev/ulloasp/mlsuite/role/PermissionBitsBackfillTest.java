@@ -0,0 +1,63 @@
+package dev.ulloasp.mlsuite.role;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleDefinitionRepository;
+import dev.ulloasp.mlsuite.role.application.service.PermissionBitsBackfill;
+import dev.ulloasp.mlsuite.role.domain.model.PermissionBits;
+import dev.ulloasp.mlsuite.role.domain.model.PermissionKey;
+import dev.ulloasp.mlsuite.role.domain.model.RoleDefinition;
+import dev.ulloasp.mlsuite.role.domain.model.RoleScope;
+
+@ExtendWith(MockitoExtension.class)
+class PermissionBitsBackfillTest {
+
+    @Mock
+    private RoleDefinitionRepository roleDefinitionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void start_BackfillsPermissionBitsOfRolesStoredWithoutThem() {
+        Organization organization = new Organization();
+        organization.setId(41L);
+        RoleDefinition legacy = new RoleDefinition(organization, null, RoleScope.ORGANIZATION, "Analyst", "analyst",
+                null);
+        legacy.setPermissions(Set.of(PermissionKey.VIEW_MODELS, PermissionKey.RUN_PREDICTIONS));
+        ReflectionTestUtils.setField(legacy, "permissionBits", PermissionBits.NONE);
+        when(roleDefinitionRepository.findByPermissionBits(PermissionBits.NONE)).thenReturn(List.of(legacy));
+        PermissionBitsBackfill backfill = new PermissionBitsBackfill(roleDefinitionRepository,
+                new TransactionTemplate(transactionManager));
+
+        backfill.start();
+
+        assertTrue(backfill.isRunning());
+        assertEquals(Set.of(PermissionKey.VIEW_MODELS, PermissionKey.RUN_PREDICTIONS),
+                PermissionBits.toSet(legacy.getPermissionBits()));
+    }
+
+    @Test
+    void getPhase_StartsBeforeTheWebServer() {
+        PermissionBitsBackfill backfill = new PermissionBitsBackfill(roleDefinitionRepository,
+                new TransactionTemplate(transactionManager));
+
+        // The servlet web server starts one 1024 step below the graceful shutdown phase.
+        assertTrue(backfill.getPhase() < WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024);
+    }
+}
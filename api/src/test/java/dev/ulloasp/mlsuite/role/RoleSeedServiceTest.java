@@ -0,0 +1,148 @@
+package dev.ulloasp.mlsuite.role;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationMembershipRepository;
+import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationRepository;
+import dev.ulloasp.mlsuite.organization.domain.model.MembershipStatus;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.organization.domain.model.OrganizationMembership;
+import dev.ulloasp.mlsuite.organization.domain.model.OrganizationRole;
+import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleDefinitionRepository;
+import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleSeedStateRepository;
+import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleTemplateRepository;
+import dev.ulloasp.mlsuite.role.application.service.LegacyRolePermissionMapper;
+import dev.ulloasp.mlsuite.role.application.service.RoleSeedService;
+import dev.ulloasp.mlsuite.role.domain.model.RoleDefinition;
+import dev.ulloasp.mlsuite.role.domain.model.RoleScope;
+import dev.ulloasp.mlsuite.role.domain.model.RoleSeedState;
+import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamMembershipRepository;
+import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamRepository;
+import dev.ulloasp.mlsuite.user.domain.model.SystemRole;
+import dev.ulloasp.mlsuite.user.domain.model.User;
+
+@ExtendWith(MockitoExtension.class)
+class RoleSeedServiceTest {
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private OrganizationMembershipRepository membershipRepository;
+
+    @Mock
+    private TeamMembershipRepository teamMembershipRepository;
+
+    @Mock
+    private RoleDefinitionRepository roleDefinitionRepository;
+
+    @Mock
+    private RoleTemplateRepository roleTemplateRepository;
+
+    @Mock
+    private RoleSeedStateRepository seedStateRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final LegacyRolePermissionMapper mapper = new LegacyRolePermissionMapper();
+
+    private RoleSeedService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RoleSeedService(
+                organizationRepository,
+                teamRepository,
+                membershipRepository,
+                teamMembershipRepository,
+                roleDefinitionRepository,
+                roleTemplateRepository,
+                seedStateRepository,
+                mapper,
+                eventPublisher);
+    }
+
+    @Test
+    void ensureOrganizationRoles_SkipSeedingOnceMarkerIsCurrent() {
+        Organization organization = organization();
+        when(seedStateRepository.findByScopeAndTargetId(RoleScope.ORGANIZATION, 41L))
+                .thenReturn(Optional.of(state(RoleSeedService.ROLE_SET_VERSION)));
+
+        service.ensureOrganizationRoles(organization);
+        service.ensureOrganizationRoles(organization);
+
+        verify(seedStateRepository, times(1)).findByScopeAndTargetId(RoleScope.ORGANIZATION, 41L);
+        verifyNoInteractions(roleDefinitionRepository, membershipRepository);
+    }
+
+    @Test
+    void ensureOrganizationRoles_SeedAndMarkStaleOrganization() {
+        Organization organization = organization();
+        RoleSeedState stale = state(RoleSeedService.ROLE_SET_VERSION - 1);
+        when(seedStateRepository.findByScopeAndTargetId(RoleScope.ORGANIZATION, 41L)).thenReturn(Optional.of(stale));
+        when(roleDefinitionRepository.findByOrganizationIdAndSystemKey(anyLong(), anyString()))
+                .thenAnswer(invocation -> {
+                    OrganizationRole role = OrganizationRole.valueOf(invocation.getArgument(1));
+                    RoleDefinition definition = new RoleDefinition(organization, null, RoleScope.ORGANIZATION,
+                            role.name(), role.name().toLowerCase(), role.name());
+                    definition.setPermissions(mapper.organization(role));
+                    return Optional.of(definition);
+                });
+        OrganizationMembership legacy = new OrganizationMembership(organization, user(3L), OrganizationRole.VIEWER,
+                MembershipStatus.ACTIVE);
+        when(membershipRepository.findByOrganizationIdAndStatusOrderByCreatedAtAsc(41L, MembershipStatus.ACTIVE))
+                .thenReturn(List.of(legacy));
+        when(seedStateRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.ensureOrganizationRoles(organization);
+
+        assertEquals(OrganizationRole.VIEWER.name(), legacy.getRoleDefinition().getSystemKey());
+        verify(membershipRepository, times(1))
+                .findByOrganizationIdAndStatusOrderByCreatedAtAsc(41L, MembershipStatus.ACTIVE);
+        ArgumentCaptor<RoleSeedState> saved = ArgumentCaptor.forClass(RoleSeedState.class);
+        verify(seedStateRepository).save(saved.capture());
+        assertSame(stale, saved.getValue());
+        assertEquals(RoleSeedService.ROLE_SET_VERSION, saved.getValue().getVersion());
+    }
+
+    private RoleSeedState state(int version) {
+        RoleSeedState state = new RoleSeedState(RoleScope.ORGANIZATION, 41L);
+        state.setVersion(version);
+        return state;
+    }
+
+    private Organization organization() {
+        Organization organization = new Organization("acme", "Acme", "", null, user(1L));
+        organization.setId(41L);
+        return organization;
+    }
+
+    private User user(Long id) {
+        User user = new User("user" + id, "user" + id + "@example.com", null, "User " + id, SystemRole.USER);
+        user.setId(id);
+        return user;
+    }
+}
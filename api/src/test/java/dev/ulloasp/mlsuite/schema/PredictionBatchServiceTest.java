@@ -0,0 +1,201 @@
+package dev.ulloasp.mlsuite.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import dev.ulloasp.mlsuite.model.application.port.in.AnalyzerUseCase;
+import dev.ulloasp.mlsuite.model.domain.exception.AnalyzerServiceException;
+import dev.ulloasp.mlsuite.model.domain.model.Model;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionResultRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaModelBindingRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaVersionRepository;
+import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionBatchRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunDto;
+import dev.ulloasp.mlsuite.schema.application.service.PredictionBatchServiceImpl;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionResult;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionResultStatus;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionRun;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionRunStatus;
+import dev.ulloasp.mlsuite.schema.domain.model.Schema;
+import dev.ulloasp.mlsuite.schema.domain.model.SchemaModelBinding;
+import dev.ulloasp.mlsuite.schema.domain.model.SchemaVersion;
+import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
+import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
+
+@ExtendWith(MockitoExtension.class)
+class PredictionBatchServiceTest {
+
+    @Mock
+    private UserLookupService userLookupService;
+    @Mock
+    private SchemaVersionRepository versionRepository;
+    @Mock
+    private SchemaModelBindingRepository bindingRepository;
+    @Mock
+    private PredictionRunRepository runRepository;
+    @Mock
+    private PredictionResultRepository resultRepository;
+    @Mock
+    private WorkspaceAccessService workspaceAccessService;
+    @Mock
+    private WorkspaceAuthorizationService authorizationService;
+    @Mock
+    private AnalyzerUseCase analyzerUseCase;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SchemaVersion version;
+
+    @BeforeEach
+    void setUp() {
+        version = version();
+        when(userLookupService.requireById(7L)).thenReturn(new User());
+        when(workspaceAccessService.requireCurrentOrganization(7L)).thenReturn(organization());
+    }
+
+    @Test
+    void createBatch_FansOutEveryRowToEveryBindingAndPersistsOnce() {
+        Model first = model(11L);
+        Model second = model(12L);
+        stubVersion(List.of(new SchemaModelBinding(version, first, Map.of()),
+                new SchemaModelBinding(version, second, Map.of())));
+        when(analyzerUseCase.predict(eq(first), anyMap())).thenReturn(Map.of("reports", List.of()));
+        when(analyzerUseCase.predict(eq(second), anyMap()))
+                .thenReturn(Map.of("reports", List.of()))
+                .thenThrow(new AnalyzerServiceException(422, "/predict", "bad input", "", HttpHeaders.EMPTY));
+
+        List<PredictionRunDto> runs = service(8).createBatch(7L, 9L, new CreatePredictionBatchRequest("cohort",
+                List.of(Map.of("age", 52), Map.of("age", 61))));
+
+        assertEquals(List.of("cohort #1", "cohort #2"), runs.stream().map(PredictionRunDto::name).toList());
+        assertEquals(2, runs.get(0).results().size());
+        ArgumentCaptor<List<PredictionRun>> savedRuns = captor();
+        ArgumentCaptor<List<PredictionResult>> savedResults = captor();
+        verify(runRepository).saveAll(savedRuns.capture());
+        verify(resultRepository).saveAll(savedResults.capture());
+        assertEquals(2, savedRuns.getValue().size());
+        assertEquals(4, savedResults.getValue().size());
+        long failed = savedResults.getValue().stream()
+                .filter(result -> result.getStatus() == PredictionResultStatus.FAILED)
+                .count();
+        assertEquals(1, failed);
+        assertEquals(1, savedRuns.getValue().stream()
+                .filter(run -> run.getStatus() == PredictionRunStatus.PARTIAL_SUCCESS)
+                .count());
+        verify(authorizationService).requireOrganizationOperate(7L, 41L);
+    }
+
+    @Test
+    void createBatch_BoundsConcurrentAnalyzerCalls() throws Exception {
+        List<SchemaModelBinding> bindings = List.of(
+                new SchemaModelBinding(version, model(11L), Map.of()),
+                new SchemaModelBinding(version, model(12L), Map.of()),
+                new SchemaModelBinding(version, model(13L), Map.of()));
+        stubVersion(bindings);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        when(analyzerUseCase.predict(any(Model.class), anyMap())).thenAnswer(invocation -> {
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            started.countDown();
+            started.await(1, TimeUnit.SECONDS);
+            active.decrementAndGet();
+            return Map.of();
+        });
+
+        service(2).createBatch(7L, 9L, new CreatePredictionBatchRequest("cohort",
+                List.of(Map.of("age", 52), Map.of("age", 61), Map.of("age", 70))));
+
+        assertEquals(2, peak.get());
+    }
+
+    @Test
+    void createBatch_RejectsNamesThatCollideWithExistingRuns() {
+        when(versionRepository.findByIdAndOrganizationId(9L, 41L)).thenReturn(Optional.of(version));
+        when(bindingRepository.findBySchemaVersionId(9L))
+                .thenReturn(List.of(new SchemaModelBinding(version, model(11L), Map.of())));
+        when(runRepository.findExistingNames(eq(9L), anyList())).thenReturn(List.of("cohort"));
+
+        assertThrows(ResponseStatusException.class, () -> service(8).createBatch(7L, 9L,
+                new CreatePredictionBatchRequest("cohort", List.of(Map.of("age", 52)))));
+        verify(analyzerUseCase, never()).predict(any(Model.class), anyMap());
+    }
+
+    @Test
+    void createBatch_RejectsBatchesOverTheRowLimit() {
+        PredictionBatchServiceImpl service = new PredictionBatchServiceImpl(userLookupService, versionRepository,
+                bindingRepository, runRepository, resultRepository, workspaceAccessService, authorizationService,
+                analyzerUseCase, new TransactionTemplate(transactionManager), 8, 1);
+
+        assertThrows(ResponseStatusException.class, () -> service.createBatch(7L, 9L,
+                new CreatePredictionBatchRequest("cohort", List.of(Map.of("age", 52), Map.of("age", 61)))));
+        verify(analyzerUseCase, never()).predict(any(Model.class), anyMap());
+    }
+
+    private void stubVersion(List<SchemaModelBinding> bindings) {
+        when(versionRepository.findByIdAndOrganizationId(9L, 41L)).thenReturn(Optional.of(version));
+        when(bindingRepository.findBySchemaVersionId(9L)).thenReturn(bindings);
+        when(runRepository.findExistingNames(eq(9L), anyList())).thenReturn(List.of());
+    }
+
+    private PredictionBatchServiceImpl service(int maxConcurrency) {
+        return new PredictionBatchServiceImpl(userLookupService, versionRepository, bindingRepository,
+                runRepository, resultRepository, workspaceAccessService, authorizationService, analyzerUseCase,
+                new TransactionTemplate(transactionManager), maxConcurrency, 1000);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <T> ArgumentCaptor<List<T>> captor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+
+    private SchemaVersion version() {
+        Schema schema = new Schema(organization(), "Risk", null);
+        schema.setId(5L);
+        SchemaVersion version = new SchemaVersion(schema, 1, "v1", Map.of());
+        version.setId(9L);
+        return version;
+    }
+
+    private Model model(Long id) {
+        Model model = new Model();
+        model.setId(id);
+        model.setOrganization(organization());
+        return model;
+    }
+
+    private Organization organization() {
+        Organization organization = new Organization();
+        organization.setId(41L);
+        return organization;
+    }
+}
@@ -0,0 +1,261 @@
+package dev.ulloasp.mlsuite.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
+import dev.ulloasp.mlsuite.model.application.port.in.AnalyzerUseCase;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionJobRepository;
+import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionBatchRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionJobDto;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunDto;
+import dev.ulloasp.mlsuite.schema.application.event.PredictionJobUpdatedEvent;
+import dev.ulloasp.mlsuite.schema.application.port.in.PredictionBatchExecutionUseCase;
+import dev.ulloasp.mlsuite.schema.application.service.PredictionJobRelay;
+import dev.ulloasp.mlsuite.schema.application.service.PredictionJobServiceImpl;
+import dev.ulloasp.mlsuite.schema.application.service.PredictionJobWorker;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJob;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJobStatus;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionJobType;
+import dev.ulloasp.mlsuite.schema.domain.model.PredictionRunStatus;
+import dev.ulloasp.mlsuite.schema.domain.model.Schema;
+import dev.ulloasp.mlsuite.schema.domain.model.SchemaModelBinding;
+import dev.ulloasp.mlsuite.schema.domain.model.SchemaVersion;
+import dev.ulloasp.mlsuite.user.application.service.UserLookupService;
+import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
+
+@ExtendWith(MockitoExtension.class)
+class PredictionJobServiceTest {
+
+    private static final CreatePredictionBatchRequest REQUEST = new CreatePredictionBatchRequest("cohort",
+            List.of(Map.of("age", 52), Map.of("age", 61)));
+
+    @Mock
+    private UserLookupService userLookupService;
+    @Mock
+    private WorkspaceAccessService workspaceAccessService;
+    @Mock
+    private WorkspaceAuthorizationService authorizationService;
+    @Mock
+    private PredictionJobRepository jobRepository;
+    @Mock
+    private ModelRepository modelRepository;
+    @Mock
+    private PredictionBatchExecutionUseCase batchService;
+    @Mock
+    private AnalyzerUseCase analyzerUseCase;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void submitBatch_PersistsPendingJobAndPublishesIt() {
+        User user = user();
+        SchemaVersion version = version();
+        when(userLookupService.requireById(7L)).thenReturn(user);
+        when(workspaceAccessService.requireCurrentOrganization(7L)).thenReturn(organization());
+        when(batchService.plan(41L, 9L, REQUEST)).thenReturn(plan(version));
+        when(jobRepository.save(any(PredictionJob.class))).thenAnswer(invocation -> {
+            PredictionJob job = invocation.getArgument(0);
+            job.setId(100L);
+            return job;
+        });
+
+        PredictionJobDto job = service().submitBatch(7L, 9L, REQUEST);
+
+        assertEquals(PredictionJobStatus.PENDING, job.status());
+        assertEquals(2, job.totalItems());
+        assertEquals(9L, job.schemaVersionId());
+        verify(authorizationService).requireOrganizationOperate(7L, 41L);
+        verify(eventPublisher).publishEvent(new PredictionJobUpdatedEvent(7L, job));
+        verify(batchService, never()).execute(any(), any());
+    }
+
+    @Test
+    void submitBatch_RejectsInvalidBatchesBeforeQueueing() {
+        when(userLookupService.requireById(7L)).thenReturn(user());
+        when(workspaceAccessService.requireCurrentOrganization(7L)).thenReturn(organization());
+        when(batchService.plan(41L, 9L, REQUEST)).thenThrow(new ResponseStatusException(
+                HttpStatus.CONFLICT, "Prediction run name already exists"));
+
+        assertThrows(ResponseStatusException.class, () -> service().submitBatch(7L, 9L, REQUEST));
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void worker_RunsClaimedJobOutsideRequestAndMarksItDone() {
+        SchemaVersion version = version();
+        PredictionJob job = new PredictionJob(organization(), user(), PredictionJobType.BATCH,
+                objectMapper.convertValue(REQUEST, Map.class), 2);
+        job.setId(100L);
+        job.setSchemaVersion(version);
+        PredictionBatchExecutionUseCase.BatchPlan plan = plan(version);
+        when(jobRepository.findNextForUpdate(eq(PredictionJobStatus.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(job))
+                .thenReturn(List.of());
+        when(jobRepository.findById(100L)).thenReturn(Optional.of(job));
+        when(batchService.plan(41L, 9L, REQUEST)).thenReturn(plan);
+        when(batchService.execute(eq(plan), any())).thenAnswer(invocation -> {
+            Runnable onItemDone = invocation.getArgument(1);
+            onItemDone.run();
+            onItemDone.run();
+            return List.of(run(501L), run(502L));
+        });
+        List<PredictionJobStatus> published = new ArrayList<>();
+        ArgumentCaptor<PredictionJobUpdatedEvent> events = ArgumentCaptor.forClass(PredictionJobUpdatedEvent.class);
+
+        PredictionJobWorker worker = new PredictionJobWorker(jobRepository, batchService, analyzerUseCase,
+                new TransactionTemplate(transactionManager), eventPublisher, objectMapper, 1, Duration.ofMillis(20),
+                Duration.ofMinutes(1), 3);
+        worker.start();
+        try {
+            verify(eventPublisher, timeout(2_000).times(2)).publishEvent(events.capture());
+        } finally {
+            worker.stop();
+        }
+
+        events.getAllValues().forEach(event -> published.add(event.job().status()));
+        assertEquals(List.of(PredictionJobStatus.RUNNING, PredictionJobStatus.DONE), published);
+        assertEquals(PredictionJobStatus.DONE, job.getStatus());
+        assertEquals(2, job.getCompletedItems());
+        assertEquals(Map.of("runIds", List.of(501L, 502L)), job.getResult());
+        verify(jobRepository, never()).updateProgress(eq(100L), anyInt(), any());
+    }
+
+    @Test
+    void worker_CompletesRequeuedJobFromRunsAnEarlierAttemptStored() {
+        PredictionJob job = new PredictionJob(organization(), user(), PredictionJobType.BATCH,
+                objectMapper.convertValue(REQUEST, Map.class), 2);
+        job.setId(100L);
+        job.setSchemaVersion(version());
+        job.setAttempts(1);
+        when(jobRepository.findNextForUpdate(eq(PredictionJobStatus.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(job))
+                .thenReturn(List.of());
+        when(jobRepository.findById(100L)).thenReturn(Optional.of(job));
+        when(batchService.findStoredRunIds(9L, REQUEST)).thenReturn(List.of(501L, 502L));
+
+        PredictionJobWorker worker = new PredictionJobWorker(jobRepository, batchService, analyzerUseCase,
+                new TransactionTemplate(transactionManager), eventPublisher, objectMapper, 1, Duration.ofMillis(20),
+                Duration.ofMinutes(1), 3);
+        worker.start();
+        try {
+            verify(eventPublisher, timeout(2_000).times(2)).publishEvent(any(PredictionJobUpdatedEvent.class));
+        } finally {
+            worker.stop();
+        }
+
+        assertEquals(PredictionJobStatus.DONE, job.getStatus());
+        assertEquals(2, job.getAttempts());
+        assertEquals(Map.of("runIds", List.of(501L, 502L)), job.getResult());
+        verify(batchService, never()).plan(any(), any(), any());
+        verify(batchService, never()).execute(any(), any());
+    }
+
+    @Test
+    void worker_FailsExpiredJobsThatUsedUpTheirAttemptsBeforeRequeueingTheRest() {
+        PredictionJobWorker worker = new PredictionJobWorker(jobRepository, batchService, analyzerUseCase,
+                new TransactionTemplate(transactionManager), eventPublisher, objectMapper, 1, Duration.ofSeconds(5),
+                Duration.ofMinutes(1), 3);
+        worker.start();
+        worker.stop();
+
+        var inOrder = inOrder(jobRepository);
+        inOrder.verify(jobRepository).failExhausted(any(), eq(3), any());
+        inOrder.verify(jobRepository).requeueExpired(any());
+    }
+
+    @Test
+    void relay_RepublishesJobsUpdatedOnAnotherInstanceOnce() {
+        PredictionJob job = new PredictionJob(organization(), user(), PredictionJobType.EXPLAIN, Map.of(), 1);
+        job.setId(100L);
+        job.setStatus(PredictionJobStatus.RUNNING);
+        job.setLockedBy("other-instance");
+        job.setUpdatedAt(OffsetDateTime.now());
+        when(jobRepository.findUpdatedElsewhereSince(any(), any())).thenReturn(List.of(job));
+        PredictionJobWorker worker = new PredictionJobWorker(jobRepository, batchService, analyzerUseCase,
+                new TransactionTemplate(transactionManager), eventPublisher, objectMapper, 0, Duration.ofSeconds(5),
+                Duration.ofMinutes(1), 3);
+        PredictionJobRelay relay = new PredictionJobRelay(jobRepository, worker, eventPublisher, Duration.ofMillis(10));
+
+        relay.start();
+        try {
+            verify(jobRepository, timeout(2_000).atLeast(3)).findUpdatedElsewhereSince(any(), any());
+        } finally {
+            relay.stop();
+        }
+
+        verify(eventPublisher).publishEvent(new PredictionJobUpdatedEvent(7L, PredictionJobDto.from(job)));
+    }
+
+    private PredictionJobServiceImpl service() {
+        return new PredictionJobServiceImpl(userLookupService, workspaceAccessService, authorizationService,
+                jobRepository, modelRepository, batchService, eventPublisher, objectMapper);
+    }
+
+    private PredictionBatchExecutionUseCase.BatchPlan plan(SchemaVersion version) {
+        return new PredictionBatchExecutionUseCase.BatchPlan(version,
+                List.of(new SchemaModelBinding(version, null, Map.of())),
+                List.of("cohort #1", "cohort #2"), REQUEST.rows());
+    }
+
+    private PredictionRunDto run(Long id) {
+        return new PredictionRunDto(id, 9L, "cohort", Map.of(), PredictionRunStatus.SUCCESS, List.of(), null,
+                null);
+    }
+
+    private SchemaVersion version() {
+        Schema schema = new Schema(organization(), "Risk", null);
+        schema.setId(5L);
+        SchemaVersion version = new SchemaVersion(schema, 1, "v1", Map.of());
+        version.setId(9L);
+        return version;
+    }
+
+    private User user() {
+        User user = new User();
+        user.setId(7L);
+        return user;
+    }
+
+    private Organization organization() {
+        Organization organization = new Organization();
+        organization.setId(41L);
+        return organization;
+    }
+}
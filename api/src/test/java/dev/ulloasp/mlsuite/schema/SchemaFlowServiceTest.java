@@ -1,13 +1,19 @@
 package dev.ulloasp.mlsuite.schema;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -15,6 +21,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
@@ -29,6 +36,7 @@ import dev.ulloasp.mlsuite.organization.domain.model.Organization;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionResultFeedbackRepository;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionResultRepository;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRow;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaModelBindingRepository;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaRepository;
 import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaVersionRepository;
@@ -39,6 +47,9 @@ import dev.ulloasp.mlsuite.schema.application.dto.CreatePredictionRunRequest;
 import dev.ulloasp.mlsuite.schema.application.dto.CreateSchemaModelBindingRequest;
 import dev.ulloasp.mlsuite.schema.application.dto.CreateSchemaRequest;
 import dev.ulloasp.mlsuite.schema.application.dto.CreateSchemaVersionRequest;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionResultDto;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunDto;
+import dev.ulloasp.mlsuite.schema.application.dto.PredictionRunPageDto;
 import dev.ulloasp.mlsuite.schema.application.dto.SchemaPageDto;
 import dev.ulloasp.mlsuite.schema.application.service.PredictionRunServiceImpl;
 import dev.ulloasp.mlsuite.schema.application.service.PredictionResultFeedbackService;
@@ -58,6 +69,7 @@ import dev.ulloasp.mlsuite.user.domain.model.User;
 import dev.ulloasp.mlsuite.workspace.application.dto.WorkspacePermissionsDto;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
+import dev.ulloasp.mlsuite.util.KeysetCursor;
 
 @ExtendWith(MockitoExtension.class)
 class SchemaFlowServiceTest {
@@ -98,7 +110,7 @@ class SchemaFlowServiceTest {
         versionService = new SchemaVersionServiceImpl(userLookupService, schemaRepository, versionRepository,
                 bindingRepository, modelRepository, workspaceAccessService, authorizationService);
         runService = new PredictionRunServiceImpl(userLookupService, versionRepository, bindingRepository,
-                runRepository, resultRepository, modelRepository, workspaceAccessService, authorizationService);
+                runRepository, resultRepository, workspaceAccessService, authorizationService);
         feedbackService = new PredictionResultFeedbackService(userLookupService, workspaceAccessService,
                 authorizationService, resultRepository, feedbackRepository);
         when(userLookupService.requireById(7L)).thenReturn(user());
@@ -119,11 +131,11 @@ class SchemaFlowServiceTest {
     @Test
     void getSchemaPage_ReturnsPagedSchemas() {
         when(schemaRepository.findCatalogPage(any(), any(), any(Boolean.class), any(Boolean.class), any()))
-                .thenReturn(new PageImpl<>(List.of(schema()), PageRequest.of(0, 24), 1));
+                .thenReturn(new PageImpl<>(List.of(schema()), PageRequest.of(1, 24), 25));
 
-        SchemaPageDto page = schemaService.getSchemaPage(7L, 0, 24, "risk", "updated", "active");
+        SchemaPageDto page = schemaService.getSchemaPage(7L, 1, 24, "risk", "updated", "active", null, true);
 
-        assertEquals(1, page.totalItems());
+        assertEquals(25L, page.totalItems());
         assertEquals("Risk", page.items().get(0).name());
         verify(authorizationService).requireOrganizationRead(7L, 41L);
     }
@@ -220,14 +232,14 @@ class SchemaFlowServiceTest {
 
     @Test
     void createRun_PersistsPartialSuccessWhenEachBindingHasAResult() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PredictionResult>> results = ArgumentCaptor.forClass(List.class);
         SchemaVersion version = version();
         when(versionRepository.findByIdAndOrganizationId(9L, 41L)).thenReturn(Optional.of(version));
-        when(bindingRepository.findBySchemaVersionId(9L)).thenReturn(List.of(
+        when(bindingRepository.findWithModelsBySchemaVersionId(9L)).thenReturn(List.of(
                 binding(version, 11L),
                 binding(version, 12L)));
         when(runRepository.save(any(PredictionRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(modelRepository.findByIdAndOrganizationId(11L, 41L)).thenReturn(Optional.of(model(11L)));
-        when(modelRepository.findByIdAndOrganizationId(12L, 41L)).thenReturn(Optional.of(model(12L)));
 
         PredictionRun run = runService.createRun(7L, 9L, new CreatePredictionRunRequest("case-1",
                 Map.of("age", 52),
@@ -236,14 +248,17 @@ class SchemaFlowServiceTest {
                         result(12L, PredictionResultStatus.FAILED))));
 
         assertEquals(PredictionRunStatus.PARTIAL_SUCCESS, run.getStatus());
-        verify(resultRepository, times(2)).save(any());
+        verify(resultRepository).saveAll(results.capture());
+        assertEquals(List.of(11L, 12L), results.getValue().stream().map(r -> r.getModel().getId()).toList());
+        verify(resultRepository, never()).save(any());
+        verifyNoInteractions(modelRepository);
     }
 
     @Test
     void createRun_RejectsUnboundResult() {
         SchemaVersion version = version();
         when(versionRepository.findByIdAndOrganizationId(9L, 41L)).thenReturn(Optional.of(version));
-        when(bindingRepository.findBySchemaVersionId(9L)).thenReturn(List.of(binding(version, 11L)));
+        when(bindingRepository.findWithModelsBySchemaVersionId(9L)).thenReturn(List.of(binding(version, 11L)));
 
         CreatePredictionRunRequest request = new CreatePredictionRunRequest("case-1", Map.of("age", 52),
                 List.of(result(12L, PredictionResultStatus.SUCCESS)));
@@ -255,7 +270,7 @@ class SchemaFlowServiceTest {
     void createRun_RejectsMissingBoundResult() {
         SchemaVersion version = version();
         when(versionRepository.findByIdAndOrganizationId(9L, 41L)).thenReturn(Optional.of(version));
-        when(bindingRepository.findBySchemaVersionId(9L)).thenReturn(List.of(
+        when(bindingRepository.findWithModelsBySchemaVersionId(9L)).thenReturn(List.of(
                 binding(version, 11L),
                 binding(version, 12L)));
 
@@ -265,6 +280,43 @@ class SchemaFlowServiceTest {
         assertThrows(ResponseStatusException.class, () -> runService.createRun(7L, 9L, request));
     }
 
+    @Test
+    void listRuns_LoadsResultsOfThePageInOneQuery() {
+        OffsetDateTime now = OffsetDateTime.parse("2025-05-01T10:00:00Z");
+        when(versionRepository.findByIdAndOrganizationId(9L, 41L)).thenReturn(Optional.of(version()));
+        when(runRepository.findRowsBySchemaVersionId(9L, PageRequest.ofSize(3))).thenReturn(List.of(
+                runRow(32L, now), runRow(31L, now.minusMinutes(1)), runRow(30L, now.minusMinutes(2))));
+        when(resultRepository.findDtosByRunIdIn(List.of(32L, 31L))).thenReturn(List.of(
+                resultDto(1L, 31L, 11L), resultDto(2L, 32L, 11L), resultDto(3L, 32L, 12L)));
+
+        PredictionRunPageDto page = runService.listRuns(7L, 9L, 2, null, false);
+
+        assertEquals(List.of(32L, 31L), page.items().stream().map(PredictionRunDto::id).toList());
+        assertEquals(2, page.items().getFirst().results().size());
+        assertEquals(1, page.items().get(1).results().size());
+        assertTrue(page.hasNext());
+        KeysetCursor next = KeysetCursor.decode(page.nextCursor(), "created");
+        assertEquals(31L, next.longId());
+        assertEquals(now.minusMinutes(1), next.timestampKey());
+        verify(resultRepository, never()).findByRunIdOrderByIdAsc(any());
+    }
+
+    @Test
+    void listRuns_SummaryLeavesResultsOut() {
+        OffsetDateTime now = OffsetDateTime.parse("2025-05-01T10:00:00Z");
+        String cursor = KeysetCursor.after("created", now, 40L).encode();
+        when(versionRepository.findByIdAndOrganizationId(9L, 41L)).thenReturn(Optional.of(version()));
+        when(runRepository.findRowsBySchemaVersionIdAfter(9L, now, 40L, PageRequest.ofSize(101)))
+                .thenReturn(List.of(runRow(39L, now)));
+
+        PredictionRunPageDto page = runService.listRuns(7L, 9L, 0, cursor, true);
+
+        assertNull(page.items().getFirst().results());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+        verifyNoInteractions(resultRepository);
+    }
+
     @Test
     void getLastPredictionRunId_ReturnsRepositoryMaxAfterOperateCheck() {
         when(runRepository.findLastPredictionRunId()).thenReturn(41L);
@@ -300,6 +352,16 @@ class SchemaFlowServiceTest {
                         JsonNodeFactory.instance.objectNode())));
     }
 
+    private PredictionRunRow runRow(Long id, OffsetDateTime createdAt) {
+        return new PredictionRunRow(id, 9L, "case-" + id, Map.of(), PredictionRunStatus.SUCCESS, createdAt,
+                createdAt);
+    }
+
+    private PredictionResultDto resultDto(Long id, Long runId, Long modelId) {
+        return new PredictionResultDto(id, runId, modelId, Map.of(), Map.of(), PredictionResultStatus.SUCCESS, null,
+                null, null);
+    }
+
     private CreatePredictionResultRequest result(Long modelId, PredictionResultStatus status) {
         return new CreatePredictionResultRequest(modelId, Map.of("age", 52),
                 status == PredictionResultStatus.SUCCESS ? Map.of("reports", List.of()) : Map.of(),
@@ -54,7 +54,8 @@ class SearchControllerTest {
                         "/workspace/organizations/41",
                         41L,
                         null,
-                        null)))));
+                        null)), false)),
+                false);
         when(currentUserResolver.resolve(authentication)).thenReturn(new CurrentUser(7L, "alice", dev.ulloasp.mlsuite.user.domain.model.SystemRole.USER));
         when(searchWorkspaceUseCase.search(7L, "ac")).thenReturn(response);
 
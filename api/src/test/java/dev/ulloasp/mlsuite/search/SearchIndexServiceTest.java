@@ -0,0 +1,188 @@
+package dev.ulloasp.mlsuite.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
+import dev.ulloasp.mlsuite.model.domain.model.Model;
+import dev.ulloasp.mlsuite.organization.adapter.out.persistence.repository.OrganizationRepository;
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.plugin.adapter.out.persistence.repository.PluginMetadataRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.PredictionRunRepository;
+import dev.ulloasp.mlsuite.schema.adapter.out.persistence.repository.SchemaRepository;
+import dev.ulloasp.mlsuite.search.adapter.out.persistence.repository.SearchDocumentRepository;
+import dev.ulloasp.mlsuite.search.application.event.SearchIndexChangedEvent;
+import dev.ulloasp.mlsuite.search.application.service.SearchDocuments;
+import dev.ulloasp.mlsuite.search.application.service.SearchIndexService;
+import dev.ulloasp.mlsuite.search.application.service.SearchTextMatcher;
+import dev.ulloasp.mlsuite.search.domain.model.SearchDocument;
+import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexServiceTest {
+
+    @Mock
+    private SearchDocumentRepository documentRepository;
+    @Mock
+    private OrganizationRepository organizationRepository;
+    @Mock
+    private TeamRepository teamRepository;
+    @Mock
+    private ModelRepository modelRepository;
+    @Mock
+    private SchemaRepository schemaRepository;
+    @Mock
+    private PredictionRunRepository predictionRunRepository;
+    @Mock
+    private PluginMetadataRepository pluginMetadataRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SearchIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SearchIndexService(
+                documentRepository,
+                organizationRepository,
+                teamRepository,
+                modelRepository,
+                schemaRepository,
+                predictionRunRepository,
+                pluginMetadataRepository,
+                new TransactionTemplate(transactionManager),
+                true,
+                false,
+                200);
+    }
+
+    @Test
+    void onIndexChanged_InsertsDocumentOfNewEntity() {
+        Organization organization = organization();
+        when(organizationRepository.findAllById(List.of(41L))).thenReturn(List.of(organization));
+        when(documentRepository.findByDocTypeAndEntityIdIn("organization", List.of("41"))).thenReturn(List.of());
+
+        service.onIndexChanged(new SearchIndexChangedEvent(SearchDocuments.ORGANIZATION, "41", false));
+
+        ArgumentCaptor<SearchDocument> saved = ArgumentCaptor.forClass(SearchDocument.class);
+        verify(documentRepository).save(saved.capture());
+        assertEquals("acme corp acme", saved.getValue().getSearchText());
+        assertEquals("/workspace/organizations/41", saved.getValue().getHref());
+    }
+
+    @Test
+    void onIndexChanged_DropsDocumentOfArchivedModel() {
+        Model model = model(organization());
+        SearchDocument indexed = SearchDocuments.of(model).orElseThrow();
+        model.setArchivedAt(now());
+        when(modelRepository.findAllById(List.of(11L))).thenReturn(List.of(model));
+        when(documentRepository.findByDocTypeAndEntityIdIn("model", List.of("11"))).thenReturn(List.of(indexed));
+
+        service.onIndexChanged(new SearchIndexChangedEvent(SearchDocuments.MODEL, "11", false));
+
+        verify(documentRepository).delete(indexed);
+    }
+
+    @Test
+    void onIndexChanged_DropsEveryDocumentOfDeletedOrganization() {
+        service.onIndexChanged(new SearchIndexChangedEvent(SearchDocuments.ORGANIZATION, "41", true));
+
+        verify(documentRepository).deleteByDocTypeAndEntityId("organization", "41");
+        verify(documentRepository).deleteByOrganizationId(41L);
+    }
+
+    @Test
+    void onIndexChanged_IndexesTheChangesOfATransactionTogetherOnceItCommits() {
+        Model first = model(organization());
+        Model second = model(organization());
+        second.setId(12L);
+        when(modelRepository.findAllById(List.of(12L, 11L))).thenReturn(List.of(second, first));
+        when(documentRepository.findByDocTypeAndEntityIdIn("model", List.of("12", "11"))).thenReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.onIndexChanged(new SearchIndexChangedEvent(SearchDocuments.MODEL, "11", false));
+            service.onIndexChanged(new SearchIndexChangedEvent(SearchDocuments.MODEL, "12", false));
+            service.onIndexChanged(new SearchIndexChangedEvent(SearchDocuments.MODEL, "11", false));
+            verify(modelRepository, never()).findAllById(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(documentRepository, times(2)).save(any(SearchDocument.class));
+    }
+
+    @Test
+    void onIndexChanged_DropsDocumentOfEntityThatNoLongerExists() {
+        when(modelRepository.findAllById(List.of(11L))).thenReturn(List.of());
+
+        service.onIndexChanged(new SearchIndexChangedEvent(SearchDocuments.MODEL, "11", false));
+
+        verify(documentRepository).deleteByDocTypeAndEntityId("model", "11");
+    }
+
+    @Test
+    void search_RanksFallbackCandidatesWithMatcherAndRequiresEveryToken() {
+        Organization organization = organization();
+        Model exact = model(organization);
+        exact.setName("RandomForestClassifier");
+        Model partial = model(organization);
+        partial.setId(12L);
+        partial.setName("Random Baseline");
+        when(documentRepository.searchCandidates(eq(7L), eq(41L), eq("random"), any(Pageable.class)))
+                .thenReturn(List.of(
+                        SearchDocuments.of(partial).orElseThrow(),
+                        SearchDocuments.of(exact).orElseThrow()));
+
+        List<SearchDocument> documents = service.search(7L, 41L, SearchTextMatcher.parse("random forest"), 5);
+
+        assertEquals(List.of("11"), documents.stream().map(SearchDocument::getEntityId).toList());
+    }
+
+    private OffsetDateTime now() {
+        return OffsetDateTime.parse("2026-04-28T12:00:00Z");
+    }
+
+    private Organization organization() {
+        Organization organization = new Organization();
+        organization.setId(41L);
+        organization.setSlug("acme");
+        organization.setName("Acme Corp");
+        organization.setUpdatedAt(now());
+        return organization;
+    }
+
+    private Model model(Organization organization) {
+        Model model = new Model();
+        model.setId(11L);
+        model.setOrganization(organization);
+        model.setName("Acme Model");
+        model.setType("clf");
+        model.setSpecificType("rf");
+        model.setFileName("acme.pkl");
+        model.setUpdatedAt(now());
+        return model;
+    }
+}
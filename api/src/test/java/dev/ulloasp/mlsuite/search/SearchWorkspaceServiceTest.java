@@ -1,21 +1,29 @@
 package dev.ulloasp.mlsuite.search;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
 import dev.ulloasp.mlsuite.model.domain.model.Model;
@@ -33,12 +41,15 @@ import dev.ulloasp.mlsuite.schema.domain.model.PredictionRunStatus;
 import dev.ulloasp.mlsuite.schema.domain.model.Schema;
 import dev.ulloasp.mlsuite.schema.domain.model.SchemaVersion;
 import dev.ulloasp.mlsuite.search.application.dto.SearchResponseDto;
+import dev.ulloasp.mlsuite.search.application.service.SearchDocuments;
+import dev.ulloasp.mlsuite.search.application.service.SearchIndexService;
 import dev.ulloasp.mlsuite.search.application.usecase.SearchWorkspaceService;
 import dev.ulloasp.mlsuite.team.adapter.out.persistence.repository.TeamRepository;
 import dev.ulloasp.mlsuite.team.domain.model.Team;
 import dev.ulloasp.mlsuite.user.domain.model.User;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class SearchWorkspaceServiceTest {
@@ -59,12 +70,29 @@ class SearchWorkspaceServiceTest {
     private PredictionRunRepository predictionRunRepository;
     @Mock
     private PluginMetadataRepository pluginMetadataRepository;
+    @Mock
+    private SearchIndexService searchIndexService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     private SearchWorkspaceService service;
 
     @BeforeEach
     void setUp() {
-        service = new SearchWorkspaceService(
+        service = service(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    private SearchWorkspaceService service(Duration latencyBudget) {
+        return service(latencyBudget, 6);
+    }
+
+    private SearchWorkspaceService service(Duration latencyBudget, int maxConnections) {
+        return new SearchWorkspaceService(
                 workspaceAccessService,
                 workspaceAuthorizationService,
                 membershipRepository,
@@ -72,7 +100,13 @@ class SearchWorkspaceServiceTest {
                 modelRepository,
                 schemaRepository,
                 predictionRunRepository,
-                pluginMetadataRepository);
+                pluginMetadataRepository,
+                searchIndexService,
+                transactionManager,
+                new SimpleMeterRegistry(),
+                true,
+                latencyBudget,
+                maxConnections);
     }
 
     @Test
@@ -105,7 +139,8 @@ class SearchWorkspaceServiceTest {
                 now(),
                 now(),
                 "report",
-                "acme-plugin")));
+                "acme-plugin",
+                null)));
 
         SearchResponseDto response = service.search(7L, "ac");
 
@@ -186,6 +221,81 @@ class SearchWorkspaceServiceTest {
         assertEquals("audit-tool.zip", response.groups().getFirst().results().getFirst().title());
     }
 
+    @Test
+    void search_ServesReadyIndexInGroupOrderWithoutPerTableQueries() {
+        Organization organization = organization();
+        when(workspaceAccessService.requireCurrentOrganization(7L)).thenReturn(organization);
+        when(searchIndexService.isReady()).thenReturn(true);
+        when(searchIndexService.search(eq(7L), eq(41L), any(), eq(5))).thenReturn(List.of(
+                SearchDocuments.of(plugin(organization, "acme-tool.zip", "Schema Report")).orElseThrow(),
+                SearchDocuments.of(organization).orElseThrow()));
+
+        SearchResponseDto response = service.search(7L, "acme");
+
+        assertEquals(List.of("Organizations", "Plugins"),
+                response.groups().stream().map(group -> group.label()).toList());
+        assertEquals("/workspace/organizations/41", response.groups().getFirst().results().getFirst().href());
+        verify(workspaceAuthorizationService).requirePluginView(7L, 41L);
+        verifyNoInteractions(membershipRepository, teamRepository, modelRepository, schemaRepository,
+                predictionRunRepository, pluginMetadataRepository);
+    }
+
+    @Test
+    void search_FlagsGroupsThatMissTheLatencyBudget() {
+        Organization organization = organization();
+        when(workspaceAccessService.requireCurrentOrganization(7L)).thenReturn(organization);
+        when(membershipRepository.searchActiveByUserId(eq(7L), eq("acme"), any(Pageable.class)))
+                .thenReturn(List.of(membership(organization)));
+        when(teamRepository.searchByOrganizationId(eq(41L), eq("acme"), any(Pageable.class)))
+                .thenReturn(List.of(team(organization)));
+        when(pluginMetadataRepository.searchByOrganizationId(eq(41L), eq("acme"), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(10_000);
+                    return List.of();
+                });
+        service.close();
+        service = service(Duration.ofMillis(300));
+
+        long started = System.nanoTime();
+        SearchResponseDto response = service.search(7L, "acme");
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(5)) < 0);
+        assertTrue(response.partial());
+        assertEquals(List.of("Organizations", "Teams", "Plugins"),
+                response.groups().stream().map(group -> group.label()).toList());
+        assertTrue(response.groups().getLast().timedOut());
+        assertTrue(response.groups().getLast().results().isEmpty());
+        assertFalse(response.groups().getFirst().timedOut());
+    }
+
+    @Test
+    void search_RunsNoMoreGroupsAtOnceThanTheConnectionPermits() {
+        when(workspaceAccessService.requireCurrentOrganization(7L)).thenReturn(organization());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Answer<List<?>> tracked = invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return List.of();
+        };
+        when(membershipRepository.searchActiveByUserId(eq(7L), eq("acme"), any(Pageable.class))).thenAnswer(tracked);
+        when(teamRepository.searchByOrganizationId(eq(41L), eq("acme"), any(Pageable.class))).thenAnswer(tracked);
+        when(modelRepository.searchByOrganizationId(eq(41L), eq("acme"), any(Pageable.class))).thenAnswer(tracked);
+        when(schemaRepository.searchByOrganizationId(eq(41L), eq("acme"), any(Pageable.class))).thenAnswer(tracked);
+        when(predictionRunRepository.searchByOrganizationId(eq(41L), eq("acme"), any(Pageable.class)))
+                .thenAnswer(tracked);
+        when(pluginMetadataRepository.searchByOrganizationId(eq(41L), eq("acme"), any(Pageable.class)))
+                .thenAnswer(tracked);
+        service.close();
+        service = service(Duration.ofSeconds(5), 2);
+
+        SearchResponseDto response = service.search(7L, "acme");
+
+        assertFalse(response.partial());
+        assertEquals(2, peak.get());
+    }
+
     private void stubSearches(
             String prefilter,
             Organization organization,
@@ -289,7 +399,8 @@ class SearchWorkspaceServiceTest {
                 now(),
                 now(),
                 kind,
-                "custom-report");
+                "custom-report",
+                null);
     }
 
 }
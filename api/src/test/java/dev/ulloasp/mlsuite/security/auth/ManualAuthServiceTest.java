@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import dev.ulloasp.mlsuite.admin.AdminCreateUserRequest;
@@ -39,6 +40,9 @@ class ManualAuthServiceTest {
     @Mock
     private CurrentUserResolver currentUserResolver;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private AuthService authService;
     private AdminUserService adminUserService;
 
@@ -52,7 +56,8 @@ class ManualAuthServiceTest {
         adminUserService = new AdminUserService(
                 userRepository,
                 passwordEncoder,
-                workspaceBootstrapService);
+                workspaceBootstrapService,
+                eventPublisher);
     }
 
     @Test
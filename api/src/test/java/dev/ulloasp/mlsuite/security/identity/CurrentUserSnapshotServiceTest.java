@@ -0,0 +1,128 @@
+package dev.ulloasp.mlsuite.security.identity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.ulloasp.mlsuite.organization.domain.model.Organization;
+import dev.ulloasp.mlsuite.security.auth.AuthenticatedUserPrincipal;
+import dev.ulloasp.mlsuite.user.adapter.out.persistence.repository.UserRepository;
+import dev.ulloasp.mlsuite.user.domain.model.SystemRole;
+import dev.ulloasp.mlsuite.user.domain.model.User;
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
+import dev.ulloasp.mlsuite.workspace.application.service.UserContextVersions;
+import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceBootstrapService;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentUserSnapshotServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WorkspaceBootstrapService workspaceBootstrapService;
+
+    private UserContextVersions versions;
+
+    private CurrentUserSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        versions = new UserContextVersions(Duration.ofMinutes(5));
+        service = new CurrentUserSnapshotService(userRepository, workspaceBootstrapService, versions);
+    }
+
+    @Test
+    void isFresh_RejectsLoginPrincipalWithoutSnapshot() {
+        AuthenticatedUserPrincipal principal = AuthenticatedUserPrincipal.from(user(7L, true));
+
+        assertFalse(service.isFresh(principal));
+        verifyNoInteractions(userRepository, workspaceBootstrapService);
+    }
+
+    @Test
+    void refresh_SnapshotsCurrentOrganizationAtCurrentVersion() {
+        User user = user(7L, true);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(workspaceBootstrapService.ensureCurrentOrganization(user)).thenReturn(organization(41L, user));
+
+        AuthenticatedUserPrincipal refreshed = service.refresh(AuthenticatedUserPrincipal.from(user)).orElseThrow();
+
+        assertEquals(41L, refreshed.currentOrganizationId());
+        assertEquals(versions.current(7L), refreshed.version());
+        assertTrue(service.isFresh(refreshed));
+    }
+
+    @Test
+    void isFresh_TurnsStaleOnlyForUsersCoveredByEvent() {
+        AuthenticatedUserPrincipal alice = snapshot(user(7L, true), 41L);
+        AuthenticatedUserPrincipal bob = snapshot(user(8L, true), 41L);
+
+        versions.onPermissionsChanging(PermissionsChangedEvent.member(41L, 7L));
+
+        assertFalse(service.isFresh(alice));
+        assertTrue(service.isFresh(bob));
+
+        versions.onPermissionsChanged(PermissionsChangedEvent.organization(41L));
+
+        assertFalse(service.isFresh(bob));
+    }
+
+    @Test
+    void isFresh_StaysStaleWhenChangeCommitsAfterRefreshStarted() {
+        User user = user(7L, true);
+        versions.onPermissionsChanging(PermissionsChangedEvent.user(7L));
+        AuthenticatedUserPrincipal refreshedMidTransaction = snapshot(user, 41L);
+
+        versions.onPermissionsChanged(PermissionsChangedEvent.user(7L));
+
+        assertFalse(service.isFresh(refreshedMidTransaction));
+    }
+
+    @Test
+    void isFresh_ExpiresSnapshotOlderThanMaxAgeEvenWithCurrentStamp() {
+        AuthenticatedUserPrincipal current = snapshot(user(7L, true), 41L);
+        AuthenticatedUserPrincipal old = new AuthenticatedUserPrincipal(current.userId(), current.username(),
+                current.password(), current.systemRole(), true, 41L, current.version(),
+                System.currentTimeMillis() - Duration.ofMinutes(6).toMillis());
+
+        assertTrue(service.isFresh(current));
+        assertFalse(service.isFresh(old));
+    }
+
+    @Test
+    void refresh_DropsDisabledUser() {
+        User user = user(7L, false);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        assertTrue(service.refresh(AuthenticatedUserPrincipal.from(user)).isEmpty());
+    }
+
+    private AuthenticatedUserPrincipal snapshot(User user, Long organizationId) {
+        return AuthenticatedUserPrincipal.from(user, organizationId, versions.current(user.getId()));
+    }
+
+    private static User user(Long id, boolean enabled) {
+        User user = new User("user" + id, "user" + id + "@example.com", "hash", "User " + id, SystemRole.USER);
+        user.setId(id);
+        user.setEnabled(enabled);
+        return user;
+    }
+
+    private static Organization organization(Long id, User owner) {
+        Organization organization = new Organization("org-" + id, "Org " + id, "", null, owner);
+        organization.setId(id);
+        return organization;
+    }
+}
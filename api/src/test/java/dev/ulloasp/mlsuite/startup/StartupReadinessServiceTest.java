@@ -14,6 +14,9 @@ import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import dev.ulloasp.mlsuite.admin.infrastructure.OpsAgentProperties;
+import dev.ulloasp.mlsuite.analyzer.AnalyzerResilience;
+import dev.ulloasp.mlsuite.analyzer.AnalyzerResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class StartupReadinessServiceTest {
 
@@ -29,6 +32,7 @@ class StartupReadinessServiceTest {
                 jdbcTemplate,
                 new OpsAgentProperties("http://ops-agent:8091", "secret"),
                 serviceProbe,
+                new AnalyzerResilience(new AnalyzerResilienceProperties(), new SimpleMeterRegistry()),
                 "http://py-analyzer:8000");
         when(jdbcTemplate.queryForObject("SELECT 1", Integer.class)).thenReturn(1);
     }
@@ -39,6 +43,7 @@ class StartupReadinessServiceTest {
 
         assertTrue(readiness.ready());
         assertTrue(readiness.dependencies().stream().allMatch(StartupReadinessDto.Dependency::ready));
+        assertTrue(readiness.analyzerLanes().stream().allMatch(lane -> lane.circuit().equals("closed")));
     }
 
     @Test
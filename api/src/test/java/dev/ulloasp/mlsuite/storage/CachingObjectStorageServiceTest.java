@@ -0,0 +1,128 @@
+package dev.ulloasp.mlsuite.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CachingObjectStorageServiceTest {
+
+    @Mock
+    private ObjectStorageService delegate;
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StorageProperties.Cache properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new StorageProperties.Cache();
+        properties.setDirectory(cacheDirectory.toString());
+    }
+
+    @Test
+    void load_ServesRepeatedEtagPinnedLoadsFromMemory() throws Exception {
+        byte[] bytes = { 1, 2, 3 };
+        when(delegate.load("bucket", "key")).thenReturn(bytes);
+        CachingObjectStorageService service = service();
+
+        assertArrayEquals(bytes, service.load("bucket", "key", md5(bytes)));
+        assertArrayEquals(bytes, service.load("bucket", "key", md5(bytes)));
+
+        verify(delegate, times(1)).load("bucket", "key");
+        assertEquals(1.0, meterRegistry.get("mlsuite.storage.cache.hits").tag("tier", "memory").counter().count());
+        assertEquals(1.0, meterRegistry.get("mlsuite.storage.cache.misses").counter().count());
+    }
+
+    @Test
+    void load_ReusesDiskEntriesAcrossInstances() throws Exception {
+        byte[] bytes = { 4, 5, 6 };
+        when(delegate.load("bucket", "key")).thenReturn(bytes);
+        service().load("bucket", "key", md5(bytes));
+
+        assertArrayEquals(bytes, service().load("bucket", "key", md5(bytes)));
+
+        verify(delegate, times(1)).load("bucket", "key");
+        assertEquals(1.0, meterRegistry.get("mlsuite.storage.cache.hits").tag("tier", "disk").counter().count());
+    }
+
+    @Test
+    void load_BypassesCacheWithoutEtag() {
+        when(delegate.load("bucket", "key")).thenReturn(new byte[] { 1 });
+        CachingObjectStorageService service = service();
+
+        service.load("bucket", "key", null);
+        service.load("bucket", "key", " ");
+
+        verify(delegate, times(2)).load("bucket", "key");
+    }
+
+    @Test
+    void load_DoesNotCacheContentThatMismatchesEtag() {
+        when(delegate.load("bucket", "key")).thenReturn(new byte[] { 1 });
+        CachingObjectStorageService service = service();
+        String wrongEtag = "0123456789abcdef0123456789abcdef";
+
+        service.load("bucket", "key", wrongEtag);
+        service.load("bucket", "key", wrongEtag);
+
+        verify(delegate, times(2)).load("bucket", "key");
+    }
+
+    @Test
+    void load_EvictsLeastRecentlyUsedEntriesBeyondMemoryBudget() {
+        properties.setMemoryMaxSize(DataSize.ofBytes(4));
+        properties.setDiskMaxSize(DataSize.ofBytes(0));
+        when(delegate.load("bucket", "a")).thenReturn(new byte[] { 1, 1, 1 });
+        when(delegate.load("bucket", "b")).thenReturn(new byte[] { 2, 2, 2 });
+        CachingObjectStorageService service = service();
+
+        service.load("bucket", "a", "a-1");
+        service.load("bucket", "b", "b-1");
+        service.load("bucket", "a", "a-1");
+
+        verify(delegate, times(2)).load("bucket", "a");
+        assertEquals(2.0, meterRegistry.get("mlsuite.storage.cache.evictions").tag("tier", "memory").counter().count());
+    }
+
+    @Test
+    void delete_InvalidatesCachedEntries() throws Exception {
+        byte[] bytes = { 7 };
+        when(delegate.load("bucket", "key")).thenReturn(bytes);
+        CachingObjectStorageService service = service();
+        service.load("bucket", "key", md5(bytes));
+
+        service.delete("bucket", "key");
+        service.load("bucket", "key", md5(bytes));
+
+        verify(delegate).delete("bucket", "key");
+        verify(delegate, times(2)).load("bucket", "key");
+    }
+
+    private CachingObjectStorageService service() {
+        return new CachingObjectStorageService(delegate, new LocalArtifactCache(properties, meterRegistry));
+    }
+
+    private String md5(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes));
+    }
+}
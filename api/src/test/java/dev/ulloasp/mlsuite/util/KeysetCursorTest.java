@@ -0,0 +1,69 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+package dev.ulloasp.mlsuite.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    void decode_ReturnsTheTimestampAndIdThatWereEncoded() {
+        OffsetDateTime updatedAt = OffsetDateTime.of(2026, 4, 17, 12, 30, 0, 123_000_000, ZoneOffset.UTC);
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.after("updated", updatedAt, 42L).encode(), "updated");
+
+        assertEquals(updatedAt, cursor.timestampKey());
+        assertEquals(42L, cursor.longId());
+    }
+
+    @Test
+    void decode_KeepsNameKeysThatContainTheSeparator() {
+        String encoded = KeysetCursor.after("name", "first line\nsecond line", 7L).encode();
+
+        KeysetCursor cursor = KeysetCursor.decode(encoded, "name");
+
+        assertEquals("first line\nsecond line", cursor.key());
+        assertEquals(7L, cursor.longId());
+    }
+
+    @Test
+    void decode_ReturnsNullForTheFirstPage() {
+        assertNull(KeysetCursor.decode(null, "created"));
+        assertNull(KeysetCursor.decode(" ", "created"));
+    }
+
+    @Test
+    void decode_RejectsACursorIssuedForAnotherSort() {
+        String encoded = KeysetCursor.after("name", "demo", 7L).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encoded, "updated"));
+    }
+
+    @Test
+    void decode_RejectsMalformedTokens() {
+        String missingParts = Base64.getUrlEncoder().encodeToString("updated".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not base64!", "updated"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(missingParts, "updated"));
+    }
+
+    @Test
+    void keys_RejectValuesThatDoNotParse() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.after("created", "yesterday", "x").encode(), "created");
+
+        assertThrows(IllegalArgumentException.class, cursor::timestampKey);
+        assertThrows(IllegalArgumentException.class, cursor::longId);
+    }
+}
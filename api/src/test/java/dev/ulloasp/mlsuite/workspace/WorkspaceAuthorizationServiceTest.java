@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 
@@ -23,7 +26,6 @@ import dev.ulloasp.mlsuite.organization.domain.model.OrganizationMembership;
 import dev.ulloasp.mlsuite.organization.domain.model.OrganizationRole;
 import dev.ulloasp.mlsuite.role.adapter.out.persistence.repository.RoleDefinitionRepository;
 import dev.ulloasp.mlsuite.role.application.service.LegacyRolePermissionMapper;
-import dev.ulloasp.mlsuite.role.application.service.RoleSeedService;
 import dev.ulloasp.mlsuite.role.domain.model.PermissionKey;
 import dev.ulloasp.mlsuite.role.domain.model.RoleDefinition;
 import dev.ulloasp.mlsuite.role.domain.model.RoleScope;
@@ -33,8 +35,11 @@ import dev.ulloasp.mlsuite.team.domain.model.TeamMembership;
 import dev.ulloasp.mlsuite.team.domain.model.TeamRole;
 import dev.ulloasp.mlsuite.user.domain.model.User;
 import dev.ulloasp.mlsuite.workspace.application.dto.MembershipActionsDto;
+import dev.ulloasp.mlsuite.workspace.application.event.PermissionsChangedEvent;
+import dev.ulloasp.mlsuite.workspace.application.service.PermissionCache;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAccessService;
 import dev.ulloasp.mlsuite.workspace.application.service.WorkspaceAuthorizationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class WorkspaceAuthorizationServiceTest {
@@ -51,20 +56,20 @@ class WorkspaceAuthorizationServiceTest {
     @Mock
     private RoleDefinitionRepository roleDefinitionRepository;
 
-    @Mock
-    private RoleSeedService roleSeedService;
+    private PermissionCache permissionCache;
 
     private WorkspaceAuthorizationService service;
 
     @BeforeEach
     void setUp() {
+        permissionCache = new PermissionCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
         service = new WorkspaceAuthorizationService(
                 workspaceAccessService,
                 organizationMembershipRepository,
                 teamMembershipRepository,
                 roleDefinitionRepository,
-                roleSeedService,
-                new LegacyRolePermissionMapper());
+                new LegacyRolePermissionMapper(),
+                permissionCache);
     }
 
     @Test
@@ -146,6 +151,26 @@ class WorkspaceAuthorizationServiceTest {
         assertFalse(permissions.canManagePlugins());
     }
 
+    @Test
+    void workspacePermissions_ReuseCachedPermissionsUntilMembershipChanges() {
+        OrganizationMembership membership = organizationMembership(OrganizationRole.VIEWER, 6L);
+        when(workspaceAccessService.requireUser(6L)).thenReturn(user(6L));
+        when(workspaceAccessService.isSuperadmin(6L)).thenReturn(false);
+        when(organizationMembershipRepository.findByOrganizationIdAndUserId(41L, 6L))
+                .thenReturn(Optional.of(membership));
+
+        service.requireOrganizationRead(6L, 41L);
+        assertFalse(service.workspacePermissions(6L, 41L).canCreateModels());
+        verify(organizationMembershipRepository, times(1)).findByOrganizationIdAndUserId(41L, 6L);
+
+        membership.setRole(OrganizationRole.MEMBER);
+        permissionCache.onPermissionsChanged(PermissionsChangedEvent.organization(99L));
+        assertFalse(service.workspacePermissions(6L, 41L).canCreateModels());
+        permissionCache.onPermissionsChanged(PermissionsChangedEvent.member(41L, 6L));
+        assertTrue(service.workspacePermissions(6L, 41L).canCreateModels());
+        verify(organizationMembershipRepository, times(2)).findByOrganizationIdAndUserId(41L, 6L);
+    }
+
     @Test
     void reviewLinkChecks_ReturnFalseForUsersOutsideOrganization() {
         when(workspaceAccessService.requireUser(17L)).thenReturn(user(17L));
@@ -203,6 +228,27 @@ class WorkspaceAuthorizationServiceTest {
         assertEquals(3, memberActions.assignableRoles().size());
     }
 
+    @Test
+    void organizationMemberActions_LoadActorContextOnceForWholeListing() {
+        when(workspaceAccessService.requireUser(9L)).thenReturn(user(9L));
+        when(workspaceAccessService.isSuperadmin(9L)).thenReturn(false);
+        when(organizationMembershipRepository.findByOrganizationIdAndUserId(41L, 9L))
+                .thenReturn(Optional.of(organizationMembership(OrganizationRole.ADMIN, 9L)));
+        when(roleDefinitionRepository.findByOrganizationIdAndScopeOrderByLockedDescNameAsc(41L, RoleScope.ORGANIZATION))
+                .thenReturn(java.util.List.of(roleDefinition(2L, "Member", "MEMBER")));
+
+        var actions = service.organizationMemberActions(9L, 41L);
+        var rows = java.util.stream.LongStream.rangeClosed(10, 60)
+                .mapToObj(id -> actions.apply(organizationMembership(OrganizationRole.MEMBER, id)))
+                .toList();
+
+        assertTrue(rows.stream().allMatch(MembershipActionsDto::canChangeRole));
+        assertFalse(actions.apply(organizationMembership(OrganizationRole.ADMIN, 9L)).canChangeRole());
+        verify(organizationMembershipRepository, times(1)).findByOrganizationIdAndUserId(41L, 9L);
+        verify(roleDefinitionRepository, times(1))
+                .findByOrganizationIdAndScopeOrderByLockedDescNameAsc(41L, RoleScope.ORGANIZATION);
+    }
+
     @Test
     void teamPermissions_AllowTeamAdminOnlyInsideTeam() {
         Team team = team(77L);
@@ -0,0 +1,80 @@
+package dev.ulloasp.mlsuite.workspace.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.ulloasp.mlsuite.model.adapter.out.persistence.repository.ModelRepository;
+import dev.ulloasp.mlsuite.search.application.event.SearchIndexChangedEvent;
+import dev.ulloasp.mlsuite.user.adapter.out.persistence.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ModelOwnershipMigrationTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ModelRepository modelRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void migrate_MovesModelsChunkByChunkAndMarksUsers() {
+        when(userRepository.countByModelsMigratedAtIsNullAndCurrentOrganizationIsNotNull()).thenReturn(3L);
+        when(userRepository.findIdsPendingModelMigration(0L, PageRequest.of(0, 2))).thenReturn(List.of(4L, 9L));
+        when(userRepository.findIdsPendingModelMigration(9L, PageRequest.of(0, 2))).thenReturn(List.of(12L));
+        when(userRepository.findIdsPendingModelMigration(12L, PageRequest.of(0, 2))).thenReturn(List.of());
+        when(modelRepository.assignUnownedModelsToCurrentOrganization(List.of(4L, 9L))).thenReturn(5);
+        when(modelRepository.assignUnownedModelsToCurrentOrganization(List.of(12L))).thenReturn(1);
+        when(modelRepository.findUnownedModelIdsByUserIdIn(List.of(4L, 9L))).thenReturn(List.of(30L, 31L));
+        when(modelRepository.findUnownedModelIdsByUserIdIn(List.of(12L))).thenReturn(List.of(32L));
+
+        migration(2).migrate();
+
+        verify(userRepository).markModelsMigrated(eq(List.of(4L, 9L)), any(OffsetDateTime.class));
+        verify(userRepository).markModelsMigrated(eq(List.of(12L)), any(OffsetDateTime.class));
+        verify(eventPublisher).publishEvent(new SearchIndexChangedEvent("model", "31", false));
+        verify(eventPublisher).publishEvent(new SearchIndexChangedEvent("model", "32", false));
+        assertEquals(3.0, meterRegistry.get("mlsuite.workspace.model-migration.users").counter().count());
+        assertEquals(6.0, meterRegistry.get("mlsuite.workspace.model-migration.models").counter().count());
+        assertEquals(0.0, meterRegistry.get("mlsuite.workspace.model-migration.remaining").gauge().value());
+    }
+
+    @Test
+    void migrate_DoesNothingOnceEveryUserIsMigrated() {
+        when(userRepository.countByModelsMigratedAtIsNullAndCurrentOrganizationIsNotNull()).thenReturn(0L);
+
+        migration(2).migrate();
+
+        verify(userRepository, never()).findIdsPendingModelMigration(any(), any());
+        verify(modelRepository, never()).assignUnownedModelsToCurrentOrganization(any());
+    }
+
+    private ModelOwnershipMigration migration(int chunkSize) {
+        return new ModelOwnershipMigration(userRepository, modelRepository,
+                new TransactionTemplate(transactionManager), eventPublisher, meterRegistry, true, chunkSize);
+    }
+}
@@ -8,6 +8,7 @@ from .routers.artifact import router as artifact_router
 from .routers.explain import router as explain_router
 from .routers.health import router as health_router
 from .routers.metadata import router as metadata_router
+from .routers.models import router as models_router
 from .routers.predict import router as predict_router
 from .routers.schema import router as schema_router
 
@@ -27,4 +28,5 @@ def create_app() -> FastAPI:
     app.include_router(schema_router)
     app.include_router(predict_router)
     app.include_router(explain_router)
+    app.include_router(models_router)
     return app
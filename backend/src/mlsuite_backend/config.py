@@ -8,5 +8,11 @@ def _split_csv(name: str) -> list[str]:
     return [item.strip() for item in value.split(",") if item.strip()]
 
 
+def _int(name: str, default: int) -> int:
+    value = os.environ.get(name, "").strip()
+    return int(value) if value else default
+
+
 CORS_ALLOW_ORIGINS = _split_csv("CORS_ALLOW_ORIGINS")
 JOBLIB_SUFFIX = ".joblib"
+MODEL_REGISTRY_CAPACITY = _int("MODEL_REGISTRY_CAPACITY", 32)
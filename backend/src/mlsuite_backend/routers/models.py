@@ -0,0 +1,36 @@
+from fastapi import APIRouter, File, Form, UploadFile
+
+from ..services.explanation_service import explain_with_runtime
+from ..services.model_registry import register_model, resident_model
+from ..services.prediction_service import predict_batch_with_runtime, predict_with_runtime
+
+router = APIRouter(prefix="/models")
+
+
+@router.post("/{handle}")
+async def register_model_route(
+    handle: str,
+    model_file: UploadFile = File(..., media_type="application/octet-stream"),
+) -> dict[str, str]:
+    return await register_model(handle, model_file)
+
+
+@router.post("/{handle}/predict")
+def predict_resident_route(handle: str, data: str = Form(...)) -> dict[str, object]:
+    return predict_with_runtime(resident_model(handle), data)
+
+
+@router.post("/{handle}/predict_batch")
+def predict_batch_resident_route(
+    handle: str, data: str = Form(...)
+) -> dict[str, list[dict[str, object] | None]]:
+    return predict_batch_with_runtime(resident_model(handle), data)
+
+
+@router.post("/{handle}/explain")
+def explain_resident_route(
+    handle: str,
+    data: str = Form(...),
+    traces: str = Form(default="[]"),
+) -> dict[str, list[dict[str, str]]]:
+    return explain_with_runtime(resident_model(handle), data, traces)
@@ -0,0 +1,61 @@
+"""Resident models registered once and reused by handle across requests."""
+
+import re
+import threading
+from collections import OrderedDict
+
+from fastapi import UploadFile
+
+from ..config import MODEL_REGISTRY_CAPACITY
+from ..model_adapters import RuntimeModel, load_runtime_model_from_upload
+from ..utils.errors import bad_request, not_found
+
+UNKNOWN_HANDLE = "Unknown model handle"
+HANDLE_PATTERN = re.compile(r"[A-Za-z0-9_.-]{1,128}")
+
+
+class ModelRegistry:
+    """Bounded LRU of deserialized models; evicted handles must be registered again."""
+
+    def __init__(self, capacity: int) -> None:
+        self._capacity = max(capacity, 1)
+        self._models: OrderedDict[str, RuntimeModel] = OrderedDict()
+        self._lock = threading.Lock()
+
+    def put(self, handle: str, runtime: RuntimeModel) -> None:
+        with self._lock:
+            self._models[handle] = runtime
+            self._models.move_to_end(handle)
+            while len(self._models) > self._capacity:
+                self._models.popitem(last=False)
+
+    def get(self, handle: str) -> RuntimeModel:
+        with self._lock:
+            runtime = self._models.get(handle)
+            if runtime is None:
+                raise not_found(UNKNOWN_HANDLE)
+            self._models.move_to_end(handle)
+            return runtime
+
+
+registry = ModelRegistry(MODEL_REGISTRY_CAPACITY)
+
+
+def validate_handle(handle: str) -> str:
+    if not HANDLE_PATTERN.fullmatch(handle):
+        raise bad_request("Invalid model handle")
+    return handle
+
+
+async def register_model(handle: str, upload: UploadFile) -> dict[str, str]:
+    runtime = await load_runtime_model_from_upload(upload)
+    registry.put(validate_handle(handle), runtime)
+    return {
+        "handle": handle,
+        "type": runtime.kind,
+        "specificType": runtime.specific_type,
+    }
+
+
+def resident_model(handle: str) -> RuntimeModel:
+    return registry.get(validate_handle(handle))
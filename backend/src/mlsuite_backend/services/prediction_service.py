@@ -1,17 +1,54 @@
+import json
 import time
 
 from fastapi import UploadFile
 
-from ..model_adapters import load_runtime_model_from_upload
-from ..utils.dataframe import build_prediction_dataframe, parse_record_json
-from ..utils.errors import internal_runtime_error
+from ..model_adapters import RuntimeModel, load_runtime_model_from_upload
+from ..utils.coercion import coerce_record_values
+from ..utils.dataframe import (
+    build_batch_prediction_dataframe,
+    build_prediction_dataframe,
+    parse_record_json,
+)
+from ..utils.errors import bad_request, internal_runtime_error
 
 
 async def predict(model_upload: UploadFile, data: str) -> dict[str, object]:
-    runtime = await load_runtime_model_from_upload(model_upload)
+    return predict_with_runtime(await load_runtime_model_from_upload(model_upload), data)
+
+
+def predict_with_runtime(runtime: RuntimeModel, data: str) -> dict[str, object]:
     record = parse_record_json(data, "Invalid JSON")
     frame = build_prediction_dataframe(runtime.model, record)
+    return _row_reports(runtime, frame)[0]
+
+
+def predict_batch_with_runtime(
+    runtime: RuntimeModel, data: str
+) -> dict[str, list[dict[str, object] | None]]:
+    """Predicts a JSON array of records in one vectorized call.
+
+    Each result has the same shape as a single-row prediction. Records that are
+    not objects, or whose keys do not fit the batch frame, come back as null so
+    the caller can retry them one by one and get the single-row error.
+    """
+    try:
+        records = json.loads(data)
+    except json.JSONDecodeError as exc:
+        raise bad_request(f"Invalid JSON: {exc}") from exc
+    if not isinstance(records, list):
+        raise bad_request("Invalid JSON: JSON must be an array")
 
+    parsed = [coerce_record_values(r) if isinstance(r, dict) else None for r in records]
+    frame, positions = build_batch_prediction_dataframe(runtime.model, parsed)
+    results: list[dict[str, object] | None] = [None] * len(records)
+    if positions:
+        for position, report in zip(positions, _row_reports(runtime, frame)):
+            results[position] = report
+    return {"results": results}
+
+
+def _row_reports(runtime: RuntimeModel, frame) -> list[dict[str, object]]:
     if runtime.kind != "classifier" and runtime.kind != "regressor":
         raise internal_runtime_error(f"Unsupported model kind: {runtime.kind}")
 
@@ -22,33 +59,39 @@ async def predict(model_upload: UploadFile, data: str) -> dict[str, object]:
             execution_time = time.perf_counter() - started
         except Exception as exc:
             raise internal_runtime_error(f"Error during inference: {exc}") from exc
-        return {
-            "reports": [
-                {
-                    "kind": "classifier",
-                    "execution_time": execution_time,
-                    "label": "Predicted class",
-                    "mapping": runtime.class_labels(),
-                    "probabilities": probabilities,
-                    "showClassProbabilities": True,
-                }
-            ]
-        }
-    if runtime.kind == "regressor":
-        try:
-            started = time.perf_counter()
-            predictions = runtime.predict_regressor(frame)
-            execution_time = time.perf_counter() - started
-        except Exception as exc:
-            raise internal_runtime_error(f"Error during inference: {exc}") from exc
+        mapping = runtime.class_labels()
+        return [
+            {
+                "reports": [
+                    {
+                        "kind": "classifier",
+                        "execution_time": execution_time,
+                        "label": "Predicted class",
+                        "mapping": mapping,
+                        "probabilities": [row],
+                        "showClassProbabilities": True,
+                    }
+                ]
+            }
+            for row in probabilities
+        ]
 
-        return {
+    try:
+        started = time.perf_counter()
+        predictions = runtime.predict_regressor(frame)
+        execution_time = time.perf_counter() - started
+    except Exception as exc:
+        raise internal_runtime_error(f"Error during inference: {exc}") from exc
+    return [
+        {
             "reports": [
                 {
                     "kind": "regressor",
                     "execution_time": execution_time,
                     "label": "Predicted value",
-                    "values": predictions,
+                    "values": [value],
                 }
             ]
         }
+        for value in predictions
+    ]
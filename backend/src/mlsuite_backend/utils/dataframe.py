@@ -32,3 +32,23 @@ def build_prediction_dataframe(
     if require_all_features and missing:
         raise bad_request(f"Missing features: {missing}")
     return pd.DataFrame([record], columns=expected_columns)
+
+
+def build_batch_prediction_dataframe(
+    model: object,
+    records: list[dict[str, object] | None],
+) -> tuple[pd.DataFrame, list[int]]:
+    """Builds one frame for a batch and returns the positions of the rows it holds.
+
+    Without fitted feature names the first record fixes the columns, and records
+    with a different key set are left out instead of being silently padded.
+    """
+    valid = [(i, r) for i, r in enumerate(records) if r is not None]
+    if not valid:
+        return pd.DataFrame(), []
+    expected_columns = get_expected_columns(model, valid[0][1])
+    if not hasattr(model, "feature_names_in_"):
+        keys = set(expected_columns)
+        valid = [(i, r) for i, r in valid if set(r.keys()) == keys]
+    frame = pd.DataFrame([r for _, r in valid], columns=expected_columns)
+    return frame, [i for i, _ in valid]
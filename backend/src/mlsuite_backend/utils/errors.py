@@ -5,5 +5,9 @@ def bad_request(detail: str) -> HTTPException:
     return HTTPException(status_code=400, detail=detail)
 
 
+def not_found(detail: str) -> HTTPException:
+    return HTTPException(status_code=404, detail=detail)
+
+
 def internal_runtime_error(detail: str) -> HTTPException:
     return HTTPException(status_code=500, detail=detail)
@@ -339,3 +339,63 @@ def test_explain_falls_back_when_crystal_tree_returns_none(monkeypatch) -> None:
     payload = response.json()
     assert response.status_code == 200
     assert payload["reports"][0]["explanation"].startswith("Prediction path")
+
+
+def test_resident_model_predicts_by_handle() -> None:
+    registered = client.post(
+        "/models/m1-abc",
+        files={"model_file": serialize_joblib(make_classifier(), "model.joblib")},
+    )
+    assert registered.status_code == 200
+    assert registered.json()["type"] == "classifier"
+
+    response = client.post(
+        "/models/m1-abc/predict",
+        data={"data": json.dumps({"age": 40, "income": 55_000})},
+    )
+    payload = response.json()
+    assert response.status_code == 200
+    assert payload["reports"][0]["kind"] == "classifier"
+
+
+def test_resident_model_explains_by_handle() -> None:
+    client.post(
+        "/models/m2-abc",
+        files={"model_file": serialize_joblib(make_tree(), "model.joblib")},
+    )
+    response = client.post(
+        "/models/m2-abc/explain",
+        data={"data": json.dumps({"age": 40, "income": 55_000}), "traces": "[]"},
+    )
+    assert response.status_code == 200
+    assert response.json()["reports"][0]["explanation"]
+
+
+def test_resident_model_rejects_unknown_handle() -> None:
+    response = client.post(
+        "/models/missing/predict",
+        data={"data": json.dumps({"age": 40})},
+    )
+    assert response.status_code == 404
+    assert response.json()["detail"] == "Unknown model handle"
+
+
+def test_resident_model_predicts_batch_in_order() -> None:
+    client.post(
+        "/models/m3-abc",
+        files={"model_file": serialize_joblib(make_classifier(), "model.joblib")},
+    )
+    response = client.post(
+        "/models/m3-abc/predict_batch",
+        data={
+            "data": json.dumps(
+                [{"age": 40, "income": 55_000}, "not-a-record", {"age": 25, "income": 20_000}]
+            )
+        },
+    )
+    results = response.json()["results"]
+    assert response.status_code == 200
+    assert len(results) == 3
+    assert results[1] is None
+    assert len(results[0]["reports"][0]["probabilities"]) == 1
+    assert results[2]["reports"][0]["kind"] == "classifier"
@@ -70,3 +70,16 @@ export async function appFetch<T = unknown>(path: string, init?: RequestInit): P
     throw new HttpError(fabricateNetworkDto(path));
   }
 }
+
+/** Like `appFetch`, for endpoints that answer with plain text rather than JSON. */
+export async function appFetchText(path: string, init?: RequestInit): Promise<string> {
+  try {
+    const res = await fetch(toUrl(path), buildInit(init));
+    if (res.ok) return await res.text();
+    if (isJson(res)) throw new HttpError((await res.json()) as ErrorDto);
+    throw new HttpError(fabricateDto(res, path, res.statusText || "Request error"));
+  } catch (e) {
+    if (isHttpError(e)) throw e;
+    throw new HttpError(fabricateNetworkDto(path));
+  }
+}
@@ -1,3 +1,3 @@
-export { appFetch, HttpError, isHttpError } from "./app-fetch";
+export { appFetch, appFetchText, HttpError, isHttpError } from "./app-fetch";
 export { json } from "./json";
 export type { ErrorDto } from "../dtos";
@@ -9,6 +9,7 @@ export interface ModelPageDto {
   items: ModelDto[];
   page: number;
   size: number;
-  totalItems: number;
+  totalItems: number | null;
   hasNext: boolean;
+  nextCursor: string | null;
 }
@@ -4,6 +4,8 @@ Copyright (c) 2025 Pablo Ulloa Santin
 */
 
 export interface ModelPageRequest {
+  cursor?: string | null;
+  includeTotal?: boolean;
   page: number;
   search?: string;
   size: number;
@@ -7,6 +7,8 @@ import { appFetch } from "../../core/services/app-fetch";
 import type { ModelPageDto, ModelPageRequest } from "../dtos";
 
 export const getModelPage = async ({
+  cursor,
+  includeTotal = true,
   page,
   search = "",
   size,
@@ -19,6 +21,10 @@ export const getModelPage = async ({
     size: String(size),
     sort,
     status,
+    includeTotal: String(includeTotal),
   });
+  if (cursor) {
+    params.set("cursor", cursor);
+  }
   return appFetch<ModelPageDto>(`/api/models?${params.toString()}`);
 };
@@ -1,4 +1,4 @@
-export type { PluginDto } from "./plugin-dto";
+export type { PluginDto, PluginSummaryDto } from "./plugin-dto";
 export type { PluginPageDto } from "./plugin-page-dto";
 export type { PluginStatsDto } from "./plugin-stats-dto";
 export type { PluginPageRequest } from "./plugin-page-request";
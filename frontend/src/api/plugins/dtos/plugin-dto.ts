@@ -13,4 +13,9 @@ export interface PluginDto {
   source: string;
   pluginType: "field" | "report" | "invalid";
   kind: string | null;
+  /** SHA-256 of the source, served immutable by `getPluginSource`; null until the backend backfills it. */
+  sourceHash: string | null;
 }
+
+/** Catalog page entry; the source is fetched per plugin with `getPlugin`. */
+export type PluginSummaryDto = Omit<PluginDto, "source">;
@@ -3,10 +3,10 @@ SPDX-License-Identifier: MIT
 Copyright (c) 2025 Pablo Ulloa Santin
 */
 
-import type { PluginDto } from "./index";
+import type { PluginSummaryDto } from "./index";
 
 export interface PluginPageDto {
-  items: PluginDto[];
+  items: PluginSummaryDto[];
   page: number;
   size: number;
   totalItems: number;
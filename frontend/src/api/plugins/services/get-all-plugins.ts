@@ -3,17 +3,24 @@ SPDX-License-Identifier: MIT
 Copyright (c) 2025 Pablo Ulloa Santin
 */
 
-import type { PluginDto } from "../dtos";
+import type { PluginDto, PluginSummaryDto } from "../dtos";
+import { getPlugin } from "./get-plugin";
 import { getPluginPage } from "./get-plugin-page";
+import { getPluginSource } from "./get-plugin-source";
+
+const withSource = async (item: PluginSummaryDto): Promise<PluginDto> =>
+  item.sourceHash
+    ? { ...item, source: await getPluginSource(item.sourceHash) }
+    : getPlugin(item.id);
 
 export const getAllPlugins = async (size = 100): Promise<PluginDto[]> => {
-  const items: PluginDto[] = [];
+  const items: PluginSummaryDto[] = [];
   let page = 0;
   while (true) {
     const response = await getPluginPage({ page, size });
     items.push(...response.items);
     if (!response.hasNext) {
-      return items;
+      return Promise.all(items.map(withSource));
     }
     page += 1;
   }
@@ -0,0 +1,9 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+import { appFetchText } from "../../core/services/app-fetch";
+
+export const getPluginSource = async (sourceHash: string): Promise<string> =>
+  appFetchText(`/api/plugins/source/${encodeURIComponent(sourceHash)}`);
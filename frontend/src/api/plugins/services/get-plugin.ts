@@ -0,0 +1,10 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+import { appFetch } from "../../core/services/app-fetch";
+import type { PluginDto } from "../dtos";
+
+export const getPlugin = async (id: string): Promise<PluginDto> =>
+  appFetch<PluginDto>(`/api/plugins/item?id=${encodeURIComponent(id)}`);
@@ -1,4 +1,6 @@
 export { getPluginPage } from "./get-plugin-page";
+export { getPlugin } from "./get-plugin";
+export { getPluginSource } from "./get-plugin-source";
 export { getPluginStats } from "./get-plugin-stats";
 export { getAllPlugins } from "./get-all-plugins";
 export { uploadPlugin } from "./upload-plugin";
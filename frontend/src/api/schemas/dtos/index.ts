@@ -13,6 +13,8 @@ export type { PredictionResultFeedbackDto } from "./prediction-result-feedback-d
 export type { CreatePredictionResultFeedbackRequest } from "./create-prediction-result-feedback-request";
 export type { UpdatePredictionResultFeedbackRequest } from "./update-prediction-result-feedback-request";
 export type { PredictionRunDto } from "./prediction-run-dto";
+export type { PredictionRunPageDto } from "./prediction-run-page-dto";
+export type { PredictionRunPageRequest } from "./prediction-run-page-request";
 export type { CreateSchemaRequest } from "./create-schema-request";
 export type { CreateSchemaVersionRequest } from "./create-schema-version-request";
 export type { CreatePredictionRunRequest } from "./create-prediction-run-request";
@@ -0,0 +1,13 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+import type { PredictionRunDto } from "./index";
+
+export interface PredictionRunPageDto {
+  items: PredictionRunDto[];
+  size: number;
+  hasNext: boolean;
+  nextCursor: string | null;
+}
@@ -0,0 +1,11 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+export interface PredictionRunPageRequest {
+  versionId: string;
+  size: number;
+  cursor?: string | null;
+  view?: "full" | "summary";
+}
@@ -9,6 +9,7 @@ export interface SchemaPageDto {
   items: SchemaDto[];
   page: number;
   size: number;
-  totalItems: number;
+  totalItems: number | null;
   hasNext: boolean;
+  nextCursor: string | null;
 }
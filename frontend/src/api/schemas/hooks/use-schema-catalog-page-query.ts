@@ -3,7 +3,8 @@ SPDX-License-Identifier: MIT
 Copyright (c) 2025 Pablo Ulloa Santin
 */
 
-import { keepPreviousData, useQuery } from "@tanstack/react-query";
+import { keepPreviousData, useQuery, useQueryClient } from "@tanstack/react-query";
+import type { SchemaPageDto } from "../dtos";
 import { getSchemaPage } from "../services";
 import { SCHEMA_CATALOG_PAGE_SIZE, schemaCatalogPageQueryKey } from "./query-keys";
 
@@ -14,10 +15,32 @@ export const useSchemaCatalogPageQuery = (
   sort: string,
   status: string,
 ) => {
+  const queryClient = useQueryClient();
   return useQuery({
     queryKey: schemaCatalogPageQueryKey(organizationId, page, search, sort, status),
     enabled: Boolean(organizationId),
     placeholderData: keepPreviousData,
-    queryFn: () => getSchemaPage({ page, search, size: SCHEMA_CATALOG_PAGE_SIZE, sort, status }),
+    queryFn: async () => {
+      // Walk forward from the previous page's cursor and reuse the first page's total, so paging
+      // neither scans past rows with OFFSET nor recounts the catalog. Without a cached previous
+      // page, fall back to the page number.
+      const cached = (index: number) =>
+        queryClient.getQueryData<SchemaPageDto>(
+          schemaCatalogPageQueryKey(organizationId, index, search, sort, status),
+        );
+      const cursor = page > 0 ? cached(page - 1)?.nextCursor : null;
+      const firstPageTotal = page > 0 ? cached(0)?.totalItems : null;
+      const includeTotal = !cursor || firstPageTotal == null;
+      const result = await getSchemaPage({
+        cursor,
+        includeTotal,
+        page,
+        search,
+        size: SCHEMA_CATALOG_PAGE_SIZE,
+        sort,
+        status,
+      });
+      return includeTotal ? result : { ...result, totalItems: firstPageTotal ?? null };
+    },
   });
 };
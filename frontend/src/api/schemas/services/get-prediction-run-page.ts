@@ -0,0 +1,22 @@
+/*
+SPDX-License-Identifier: MIT
+Copyright (c) 2025 Pablo Ulloa Santin
+*/
+
+import { appFetch } from "../../core/services/app-fetch";
+import type { PredictionRunPageDto, PredictionRunPageRequest } from "../dtos";
+
+export const getPredictionRunPage = ({
+  versionId,
+  size,
+  cursor,
+  view = "full",
+}: PredictionRunPageRequest): Promise<PredictionRunPageDto> => {
+  const params = new URLSearchParams({ size: String(size), view });
+  if (cursor) {
+    params.set("cursor", cursor);
+  }
+  return appFetch<PredictionRunPageDto>(
+    `/api/schema-versions/${encodeURIComponent(versionId)}/runs?${params.toString()}`,
+  );
+};
@@ -3,8 +3,18 @@ SPDX-License-Identifier: MIT
 Copyright (c) 2025 Pablo Ulloa Santin
 */
 
-import { appFetch } from "../../core/services/app-fetch";
 import type { PredictionRunDto } from "../dtos";
+import { getPredictionRunPage } from "./get-prediction-run-page";
 
-export const getPredictionRuns = (versionId: string): Promise<PredictionRunDto[]> =>
-  appFetch<PredictionRunDto[]>(`/api/schema-versions/${encodeURIComponent(versionId)}/runs`);
+export const getPredictionRuns = async (versionId: string, size = 500): Promise<PredictionRunDto[]> => {
+  const runs: PredictionRunDto[] = [];
+  let cursor: string | null = null;
+  while (true) {
+    const response = await getPredictionRunPage({ versionId, size, cursor });
+    runs.push(...response.items);
+    if (!response.hasNext) {
+      return runs;
+    }
+    cursor = response.nextCursor;
+  }
+};
@@ -7,6 +7,8 @@ import { appFetch } from "../../core/services/app-fetch";
 import type { SchemaPageDto, SchemaPageRequest } from "../dtos";
 
 export const getSchemaPage = ({
+  cursor,
+  includeTotal = true,
   page,
   search = "",
   size,
@@ -19,6 +21,10 @@ export const getSchemaPage = ({
     size: String(size),
     sort,
     status,
+    includeTotal: String(includeTotal),
   });
+  if (cursor) {
+    params.set("cursor", cursor);
+  }
   return appFetch<SchemaPageDto>(`/api/schemas?${params.toString()}`);
 };
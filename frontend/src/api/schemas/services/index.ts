@@ -11,6 +11,7 @@ export { getSchemaVersions } from "./get-schema-versions";
 export { getSchemaVersion } from "./get-schema-version";
 export { createPredictionRun } from "./create-prediction-run";
 export { getPredictionRun } from "./get-prediction-run";
+export { getPredictionRunPage } from "./get-prediction-run-page";
 export { getPredictionRuns } from "./get-prediction-runs";
 export { getLastPredictionRunId } from "./get-last-prediction-run-id";
 export { createPredictionResultFeedback } from "./create-prediction-result-feedback";
@@ -8,4 +8,5 @@ import type { SearchResultDto } from "./index";
 export interface SearchGroupDto {
   label: string;
   results: SearchResultDto[];
+  timedOut: boolean;
 }
@@ -8,4 +8,5 @@ import type { SearchGroupDto } from "./index";
 export interface SearchResponseDto {
   query: string;
   groups: SearchGroupDto[];
+  partial: boolean;
 }